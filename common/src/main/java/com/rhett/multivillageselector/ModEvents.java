@@ -1,7 +1,15 @@
 package com.rhett.multivillageselector;
 
 import com.rhett.multivillageselector.commands.MVSCommands;
+import com.rhett.multivillageselector.config.ConfigReloader;
+import com.rhett.multivillageselector.config.ConfigWatcher;
 import com.rhett.multivillageselector.config.MVSConfig;
+import com.rhett.multivillageselector.placement.RingPositions;
+import com.rhett.multivillageselector.strategy.SameStructureSpacing;
+import com.rhett.multivillageselector.util.LocateHelper;
+import com.rhett.multivillageselector.util.PatternMatcher;
+import com.rhett.multivillageselector.util.PlacementResolver;
+import com.rhett.multivillageselector.util.RegistryIds;
 import dev.architectury.event.events.common.LifecycleEvent;
 import dev.architectury.event.events.common.PlayerEvent;
 import net.minecraft.ChatFormatting;
@@ -14,6 +22,7 @@ import net.minecraft.network.chat.Style;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.level.levelgen.structure.Structure;
+import net.minecraft.world.level.levelgen.structure.StructureSet;
 import com.rhett.multivillageselector.util.MVSStructureAccessor;
 
 /**
@@ -40,11 +49,17 @@ public class ModEvents {
             net.minecraft.core.RegistryAccess registryAccess = server.registryAccess();
             Registry<Structure> structureRegistry =
                 registryAccess.registryOrThrow(Registries.STRUCTURE);
+
+            // Dense ids for structures, structure sets, biomes and biome tags of this server
+            RegistryIds.useRegistries(registryAccess);
             MVSConfig.discoverStructures(registryAccess, structureRegistry);
 
             // v0.4.0: Inject structure IDs into Structure instances for StructureMixin
             // This allows Structure.biomes() intercept to know which structure it's handling
             initializeStructureIds(structureRegistry, registryAccess);
+
+            // Start computing concentric ring positions in the background (like vanilla strongholds)
+            prefetchRingPositions(server, registryAccess);
         });
 
         // Server starting - command registration only
@@ -61,6 +76,22 @@ public class ModEvents {
             }
         });
 
+        // Server started - watch the config file if auto_reload is on
+        LifecycleEvent.SERVER_STARTED.register(ConfigWatcher::update);
+
+        // Server stopped - ring positions and neighbor selections are per world seed,
+        // registry ids and the biome tag table per registry snapshot
+        LifecycleEvent.SERVER_STOPPED.register(server -> {
+            ConfigWatcher.stop();
+            ConfigReloader.cancel();
+            RingPositions.clearCaches();
+            SameStructureSpacing.clearCaches();
+            PatternMatcher.clearCaches();
+            RegistryIds.clear();
+            // Don't keep the stopped server's registries reachable through the snapshot
+            MVSConfig.refreshRuntime();
+        });
+
         // Player join - show launch message if configured
         // Only shown to operators who can run /mvs commands
         PlayerEvent.PLAYER_JOIN.register(ModEvents::onPlayerJoin);
@@ -92,6 +123,31 @@ public class ModEvents {
         }
     }
 
+    /**
+     * Start async ring position computation for intercepted concentric_rings sets,
+     * so the first chunk that needs them rarely has to wait.
+     */
+    private static void prefetchRingPositions(MinecraftServer server, net.minecraft.core.RegistryAccess registryAccess) {
+        if (!MVSConfig.enabled) {
+            return;
+        }
+
+        Registry<StructureSet> structureSetRegistry = registryAccess.registryOrThrow(Registries.STRUCTURE_SET);
+        long seed = server.getWorldData().worldGenOptions().seed();
+
+        for (String structureSetId : MVSConfig.interceptStructureSets) {
+            PlacementResolver.ResolvedPlacement resolved = PlacementResolver.resolve(structureSetId, structureSetRegistry);
+            if (resolved.isConcentricRings()
+                    && resolved.toStrategy() instanceof LocateHelper.ConcentricRingsPlacement rings) {
+                rings.prefetch(seed);
+                if (MVSConfig.debugLogging) {
+                    MVSCommon.LOGGER.info("[MVS] Prefetching ring positions for {} (distance={}, spread={}, count={})",
+                        structureSetId, resolved.distance, resolved.spread, resolved.count);
+                }
+            }
+        }
+    }
+
     /**
      * Send launch message to operators when they join, if configured.
      * Guides new users to run /mvs generate or /mvs help.
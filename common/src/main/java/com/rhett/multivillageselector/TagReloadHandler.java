@@ -0,0 +1,54 @@
+package com.rhett.multivillageselector;
+
+import com.rhett.multivillageselector.config.ConfigReloader;
+import com.rhett.multivillageselector.config.MVSConfig;
+import com.rhett.multivillageselector.util.RegistryGeneration;
+import com.rhett.multivillageselector.util.RegistryIds;
+import net.minecraft.server.MinecraftServer;
+
+/**
+ * Datapack /reload: registry tags were rebound, so biome tag membership may have changed.
+ * Called from the platform tag-reload events (Fabric END_DATA_PACK_RELOAD, NeoForge TagsUpdatedEvent)
+ * on the server thread.
+ *
+ * Bumps RegistryGeneration and rediscovers the pool in the background from the config
+ * that is already applied - the config file is not read again. The job indexes the new
+ * tags into its own biome table; the table is installed with the pool and snapshot in
+ * commitReload(), so worldgen keeps a consistent table, pool and snapshot until then.
+ */
+public class TagReloadHandler {
+
+    private static final ConfigReloader.Listener LISTENER = new ConfigReloader.Listener() {
+        @Override
+        public void progress(String message) {
+            if (MVSConfig.debugLogging) {
+                MVSCommon.LOGGER.info("[MVS] Tag reload: {}", message);
+            }
+        }
+
+        @Override
+        public void applied(MVSConfig.PreparedReload reload) {
+            MVSCommon.LOGGER.info("[MVS] Tag reload: structure pool rediscovered in {} ms ({} entries rebuilt)",
+                reload.totalMillis(), reload.rebuiltEntries);
+        }
+
+        @Override
+        public void failed(Exception e) {
+            MVSCommon.LOGGER.warn("[MVS] Tag reload: rediscovery failed, pool weights keep the previous tags - {}",
+                e.getMessage());
+        }
+    };
+
+    public static void onTagsReloaded(MinecraftServer server) {
+        int generation = RegistryGeneration.bump();
+
+        if (server == null || RegistryIds.current() == RegistryIds.EMPTY) {
+            return; // Initial tag load - discovery at SERVER_BEFORE_START sees the final tags
+        }
+
+        // A reload already running notices the new generation before committing and starts over
+        ConfigReloader.rediscover(server, LISTENER);
+        MVSCommon.LOGGER.info("[MVS] Registry tags reloaded (generation {}) - rediscovering structure pool in the background",
+            generation);
+    }
+}
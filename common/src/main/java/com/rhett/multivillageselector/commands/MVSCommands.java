@@ -6,6 +6,7 @@ import com.rhett.multivillageselector.commands.debug.DebugCommands;
 import com.rhett.multivillageselector.commands.generate.GenerateCommands;
 import com.rhett.multivillageselector.commands.locate.LocateCommands;
 import com.rhett.multivillageselector.commands.model.CommandModels.*;
+import com.rhett.multivillageselector.commands.config.AnalyzeCommands;
 import com.rhett.multivillageselector.commands.config.PlacementCommands;
 import com.rhett.multivillageselector.commands.config.ReloadCommands;
 import com.rhett.multivillageselector.commands.profiler.ProfilerCommands;
@@ -73,7 +74,10 @@ public class MVSCommands {
                 .executes(MVSCommands::executeInfoCommand)
             )
             .then(Commands.literal("generate")
-                .executes(GenerateCommands::execute)
+                .executes(ctx -> GenerateCommands.execute(ctx, false))
+                .then(Commands.literal("rescan")
+                    .executes(ctx -> GenerateCommands.execute(ctx, true))
+                )
             )
             .then(Commands.literal("config")
                 .then(Commands.literal("reload")
@@ -82,6 +86,12 @@ public class MVSCommands {
                 .then(Commands.literal("fill-placements")
                     .executes(PlacementCommands::executeFillPlacements)
                 )
+                .then(Commands.literal("analyze")
+                    .executes(ctx -> AnalyzeCommands.execute(ctx, false))
+                    .then(Commands.literal("full")
+                        .executes(ctx -> AnalyzeCommands.execute(ctx, true))
+                    )
+                )
             )
             .then(Commands.literal("biome")
                 .executes(BiomeCommands::executeCurrent)
@@ -189,9 +199,15 @@ public class MVSCommands {
             mvsCommand = mvsCommand.then(Commands.literal("debug")
                 .executes(DebugCommands::executeHelp)
                 .then(Commands.literal("mod-scan")
-                    .executes(ctx -> DebugCommands.executeModScan(ctx, false))
+                    .executes(ctx -> DebugCommands.executeModScan(ctx, false, false))
+                    .then(Commands.literal("rescan")
+                        .executes(ctx -> DebugCommands.executeModScan(ctx, false, true))
+                    )
                     .then(Commands.literal("all")
-                        .executes(ctx -> DebugCommands.executeModScan(ctx, true))
+                        .executes(ctx -> DebugCommands.executeModScan(ctx, true, false))
+                        .then(Commands.literal("rescan")
+                            .executes(ctx -> DebugCommands.executeModScan(ctx, true, true))
+                        )
                     )
                 )
                 .then(Commands.literal("placement")
@@ -255,13 +271,14 @@ public class MVSCommands {
         source.sendSuccess(() -> Component.literal("── Core ──").withStyle(ChatFormatting.YELLOW), false);
 
         helpEntry(source, "/mvs info", "Show MVS status and placement settings");
-        helpEntry(source, "/mvs generate", "Generate config from installed mods");
+        helpEntry(source, "/mvs generate [rescan]", "Generate config from installed mods");
 
         source.sendSuccess(() -> Component.literal(""), false);
         source.sendSuccess(() -> Component.literal("── Config ──").withStyle(ChatFormatting.YELLOW), false);
 
         helpEntry(source, "/mvs config reload", "Reload config without restart");
         helpEntry(source, "/mvs config fill-placements", "Write registry placement values to config");
+        helpEntry(source, "/mvs config analyze [full]", "Show pruned rules and pool size per biome");
 
         source.sendSuccess(() -> Component.literal(""), false);
         source.sendSuccess(() -> Component.literal("── Biome ──").withStyle(ChatFormatting.YELLOW), false);
@@ -302,7 +319,7 @@ public class MVSCommands {
             source.sendSuccess(() -> Component.literal(""), false);
             source.sendSuccess(() -> Component.literal("── Debug ──").withStyle(ChatFormatting.YELLOW), false);
 
-            helpEntry(source, "/mvs debug mod-scan [all]", "Scan mods for structures");
+            helpEntry(source, "/mvs debug mod-scan [all] [rescan]", "Scan mods for structures");
             helpEntry(source, "/mvs debug placement [set]", "Show resolved placement values");
             helpEntry(source, "/mvs debug profiler [start|stop|stats]", "Performance profiling");
         }
@@ -563,7 +580,7 @@ public class MVSCommands {
      * Handle /mvs generate command
      * Generates a smart config file based on installed mods and structures
      */
-    public static int executeGenerateCommand(CommandContext<CommandSourceStack> context) {
+    public static int executeGenerateCommand(CommandContext<CommandSourceStack> context, boolean rescan) {
         CommandSourceStack source = context.getSource();
 
         try {
@@ -573,7 +590,7 @@ public class MVSCommands {
             // ===========================================
             // UNIFIED DATA COLLECTION (using unified scan)
             // ===========================================
-            ScanResult scan = StructureScanner.scanAllStructures(source.getServer());
+            ScanResult scan = StructureScanner.scanAllStructures(source.getServer(), rescan);
 
             // ===========================================
             // GENERATE CONFIG
@@ -1154,6 +1171,9 @@ public class MVSCommands {
             .append(Component.literal(" - Scan ALL structures (unfiltered)")
                 .withStyle(ChatFormatting.GRAY)), false);
 
+        source.sendSuccess(() -> Component.literal("  Add 'rescan' to ignore the scan cache and re-read every mod")
+            .withStyle(ChatFormatting.DARK_GRAY), false);
+
         source.sendSuccess(() -> Component.literal("  Shows registry state AND datapack/JAR definitions")
             .withStyle(ChatFormatting.DARK_GRAY), false);
 
@@ -1182,8 +1202,9 @@ public class MVSCommands {
      * Handle /mvs debug mod-scan command
      * Scans all mods/datapacks for village structures and outputs comprehensive report
      * @param showAll if true, shows ALL structures (unfiltered); if false, shows only village-related
+     * @param rescan if true, ignores the scan cache and re-reads every mod and datapack
      */
-    public static int executeModScanCommand(CommandContext<CommandSourceStack> context, boolean showAll) {
+    public static int executeModScanCommand(CommandContext<CommandSourceStack> context, boolean showAll, boolean rescan) {
         CommandSourceStack source = context.getSource();
 
         String scanType = showAll ? "ALL structures (unfiltered)" : "village structures";
@@ -1202,7 +1223,7 @@ public class MVSCommands {
             // ===========================================
             // UNIFIED DATA COLLECTION (ONE PASS)
             // ===========================================
-            ScanResult scan = StructureScanner.scanAllStructures(source.getServer());
+            ScanResult scan = StructureScanner.scanAllStructures(source.getServer(), rescan);
 
             // ===========================================
             // OUTPUT GENERATION
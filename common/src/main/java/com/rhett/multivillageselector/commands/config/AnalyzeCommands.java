@@ -0,0 +1,167 @@
+package com.rhett.multivillageselector.commands.config;
+
+import com.mojang.brigadier.context.CommandContext;
+import com.rhett.multivillageselector.MVSCommon;
+import com.rhett.multivillageselector.config.MVSConfig;
+import com.rhett.multivillageselector.strategy.BandedSelector;
+import com.rhett.multivillageselector.strategy.SelectorReport;
+import net.minecraft.ChatFormatting;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.network.chat.ClickEvent;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.chat.HoverEvent;
+import net.minecraft.network.chat.Style;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Handles /mvs config analyze [full] command.
+ * Shows what compiling the config pruned (never-drawable pool entries, biome_frequency
+ * rules that decide no biome) and the resulting pool per biome.
+ */
+public class AnalyzeCommands {
+
+    private static final int MAX_LINES = 10;
+
+    public static int execute(CommandContext<CommandSourceStack> context, boolean showFull) {
+        CommandSourceStack source = context.getSource();
+
+        try {
+            BandedSelector selector = MVSConfig.runtime().selector();
+            SelectorReport report = SelectorReport.of(selector);
+            int maxLines = showFull ? Integer.MAX_VALUE : MAX_LINES;
+
+            String headerSuffix = showFull ? " (full)" : "";
+            source.sendSuccess(() -> Component.literal("=== MVS Config Analysis" + headerSuffix + " ===")
+                .withStyle(ChatFormatting.GOLD), false);
+
+            // Pruned pool entries
+            final int compiled = selector.getPool().size();
+            final int pruned = report.prunedEntries.size();
+            source.sendSuccess(() -> Component.literal("Pool: " + compiled + " entries compiled, " + pruned
+                    + " pruned (never selectable)")
+                .withStyle(pruned > 0 ? ChatFormatting.YELLOW : ChatFormatting.GREEN), false);
+            for (int i = 0; i < Math.min(pruned, maxLines); i++) {
+                MVSConfig.ConfiguredStructure configured = report.prunedEntries.get(i);
+                final String line = "  - " + (configured.isEmpty ? "(empty)" : configured.structure.toString())
+                    + ": " + SelectorReport.pruneReason(configured);
+                source.sendSuccess(() -> Component.literal(line).withStyle(ChatFormatting.GRAY), false);
+            }
+            sendMore(source, pruned - maxLines, "pruned entries");
+
+            // biome_frequency rules that decide no biome
+            int bandCount = report.biomePools.size();
+            for (int band = 0; band < bandCount; band++) {
+                List<SelectorReport.UnreachableRule> rules = report.unreachableFrequencyRules.get(band);
+                if (rules.isEmpty()) {
+                    continue;
+                }
+                final String header = "biome_frequency" + bandLabel(band, bandCount) + ": " + rules.size()
+                    + " rule(s) decide no biome";
+                source.sendSuccess(() -> Component.literal(header).withStyle(ChatFormatting.YELLOW), false);
+                for (int i = 0; i < Math.min(rules.size(), maxLines); i++) {
+                    SelectorReport.UnreachableRule rule = rules.get(i);
+                    final String line = "  - " + rule.pattern()
+                        + (rule.matchesNothing() ? " (matches no biome)" : " (shadowed by more specific rules)");
+                    source.sendSuccess(() -> Component.literal(line).withStyle(ChatFormatting.GRAY), false);
+                }
+                sendMore(source, rules.size() - maxLines, "rules");
+            }
+
+            // Per-biome pools
+            for (int band = 0; band < bandCount; band++) {
+                sendBiomePools(source, report.biomePools.get(band), bandLabel(band, bandCount), showFull, maxLines);
+            }
+
+            if (!showFull) {
+                Component expandLink = Component.literal("Show every biome")
+                    .withStyle(Style.EMPTY
+                        .withColor(ChatFormatting.AQUA)
+                        .withUnderlined(true)
+                        .withClickEvent(new ClickEvent(ClickEvent.Action.RUN_COMMAND, "/mvs config analyze full"))
+                        .withHoverEvent(new HoverEvent(HoverEvent.Action.SHOW_TEXT,
+                            Component.literal("Click to list the pool of every biome"))));
+                source.sendSuccess(() -> expandLink, false);
+            }
+            return 1;
+        } catch (Exception e) {
+            source.sendFailure(Component.literal("Error: " + e.getMessage()));
+            MVSCommon.LOGGER.error("Error in config analyze command", e);
+            return 0;
+        }
+    }
+
+    private static void sendBiomePools(CommandSourceStack source, List<SelectorReport.BiomePool> pools,
+                                       String bandLabel, boolean showFull, int maxLines) {
+        if (pools.isEmpty()) {
+            source.sendSuccess(() -> Component.literal("Biomes" + bandLabel + ": no biome registry snapshot")
+                .withStyle(ChatFormatting.GRAY), false);
+            return;
+        }
+
+        List<Integer> sizes = new ArrayList<>();
+        List<SelectorReport.BiomePool> noStructure = new ArrayList<>();
+        List<SelectorReport.BiomePool> mostlyEmpty = new ArrayList<>();
+        for (SelectorReport.BiomePool pool : pools) {
+            sizes.add(pool.entries() - pool.emptyEntries());
+            if (pool.noStructure()) {
+                noStructure.add(pool);
+            } else if (pool.mostlyEmpty()) {
+                mostlyEmpty.add(pool);
+            }
+        }
+        sizes.sort(Comparator.naturalOrder());
+
+        final String summary = String.format("Biomes%s: %d, structures per biome min %d / median %d / max %d",
+            bandLabel, pools.size(), sizes.get(0), sizes.get(sizes.size() / 2), sizes.get(sizes.size() - 1));
+        source.sendSuccess(() -> Component.literal(summary).withStyle(ChatFormatting.AQUA), false);
+
+        if (showFull) {
+            for (SelectorReport.BiomePool pool : pools) {
+                sendPool(source, pool, ChatFormatting.GRAY);
+            }
+            return;
+        }
+
+        if (!noStructure.isEmpty()) {
+            final int count = noStructure.size();
+            source.sendSuccess(() -> Component.literal("  No structure can spawn: " + count + " biome(s)")
+                .withStyle(ChatFormatting.YELLOW), false);
+            for (int i = 0; i < Math.min(count, maxLines); i++) {
+                sendPool(source, noStructure.get(i), ChatFormatting.GRAY);
+            }
+            sendMore(source, count - maxLines, "biomes");
+        }
+        if (!mostlyEmpty.isEmpty()) {
+            mostlyEmpty.sort(Comparator.comparingDouble(SelectorReport.BiomePool::emptyShare).reversed());
+            final int count = mostlyEmpty.size();
+            source.sendSuccess(() -> Component.literal("  Mostly empty (empty entries hold over half the weight): "
+                    + count + " biome(s)")
+                .withStyle(ChatFormatting.YELLOW), false);
+            for (int i = 0; i < Math.min(count, maxLines); i++) {
+                sendPool(source, mostlyEmpty.get(i), ChatFormatting.GRAY);
+            }
+            sendMore(source, count - maxLines, "biomes");
+        }
+    }
+
+    private static void sendPool(CommandSourceStack source, SelectorReport.BiomePool pool, ChatFormatting color) {
+        final String line = String.format("  %s: %d structure(s), %d empty (%.0f%% empty weight), frequency %.2f",
+            pool.biome(), pool.entries() - pool.emptyEntries(), pool.emptyEntries(),
+            pool.emptyShare() * 100.0, pool.frequency());
+        source.sendSuccess(() -> Component.literal(line).withStyle(color), false);
+    }
+
+    private static void sendMore(CommandSourceStack source, int remaining, String what) {
+        if (remaining > 0) {
+            source.sendSuccess(() -> Component.literal("  ... and " + remaining + " more " + what)
+                .withStyle(ChatFormatting.DARK_GRAY), false);
+        }
+    }
+
+    private static String bandLabel(int band, int bandCount) {
+        return bandCount > 1 ? " (band " + band + ")" : "";
+    }
+}
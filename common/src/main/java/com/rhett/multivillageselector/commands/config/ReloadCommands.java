@@ -1,42 +1,70 @@
 package com.rhett.multivillageselector.commands.config;
 
 import com.mojang.brigadier.context.CommandContext;
-import com.rhett.multivillageselector.MVSCommon;
+import com.rhett.multivillageselector.config.ConfigReloader;
 import com.rhett.multivillageselector.config.MVSConfig;
+import com.rhett.multivillageselector.config.RuntimeConfig;
 import net.minecraft.ChatFormatting;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.network.chat.Component;
 
 /**
- * Handles /mvs reload command
+ * Handles /mvs reload command.
+ * Runs the reload in the background (ConfigReloader) and reports progress to the operator.
  */
 public class ReloadCommands {
 
     public static int execute(CommandContext<CommandSourceStack> context) {
         CommandSourceStack source = context.getSource();
 
-        try {
-            source.sendSuccess(() -> Component.literal("Reloading MVS config...")
-                .withStyle(ChatFormatting.YELLOW), false);
+        boolean started = ConfigReloader.start(source.getServer(), new ConfigReloader.Listener() {
+            @Override
+            public void progress(String message) {
+                source.sendSuccess(() -> Component.literal("  " + message)
+                    .withStyle(ChatFormatting.GRAY), false);
+            }
 
-            MVSConfig.load();
+            @Override
+            public void applied(MVSConfig.PreparedReload reload) {
+                RuntimeConfig config = reload.runtime();
+                source.sendSuccess(() -> Component.literal("✅ Config reloaded in " + reload.totalMillis() + " ms")
+                    .withStyle(ChatFormatting.GREEN), false);
 
-            source.sendSuccess(() -> Component.literal("✅ Config reloaded successfully!")
-                .withStyle(ChatFormatting.GREEN), false);
+                source.sendSuccess(() -> Component.literal("Changes: " + reload.diff.summary())
+                    .withStyle(ChatFormatting.GRAY), false);
+                source.sendSuccess(() -> Component.literal("Rebuilt " + reload.rebuiltEntries + " pool entries, reused "
+                        + reload.reusedEntries + "; selector " + (config.isSelectorReused() ? "reused" : "rebuilt"))
+                    .withStyle(ChatFormatting.GRAY), false);
+                source.sendSuccess(() -> Component.literal("Enabled: " + config.enabled)
+                    .withStyle(ChatFormatting.GRAY), false);
+                source.sendSuccess(() -> Component.literal("Structure pool: " + config.structurePool.size() + " entries")
+                    .withStyle(ChatFormatting.GRAY), false);
+                source.sendSuccess(() -> Component.literal("Biome frequency rules: " + MVSConfig.biomeFrequency.size() + " entries")
+                    .withStyle(ChatFormatting.GRAY), false);
+                if (!reload.validationWarnings().isEmpty()) {
+                    source.sendSuccess(() -> Component.literal("⚠ " + reload.validationWarnings().size()
+                            + " validation warning(s) - see server log")
+                        .withStyle(ChatFormatting.YELLOW), false);
+                }
+            }
 
-            source.sendSuccess(() -> Component.literal("Enabled: " + MVSConfig.enabled)
-                .withStyle(ChatFormatting.GRAY), false);
-            source.sendSuccess(() -> Component.literal("Structure pool: " + MVSConfig.structurePool.size() + " entries")
-                .withStyle(ChatFormatting.GRAY), false);
-            source.sendSuccess(() -> Component.literal("Biome frequency rules: " + MVSConfig.biomeFrequency.size() + " entries")
-                .withStyle(ChatFormatting.GRAY), false);
+            @Override
+            public void failed(Exception e) {
+                source.sendFailure(Component.literal("❌ Failed to reload config: " + e.getMessage())
+                    .withStyle(ChatFormatting.RED));
+                source.sendFailure(Component.literal("Previous config is still active")
+                    .withStyle(ChatFormatting.GRAY));
+            }
+        });
 
-            return 1;
-        } catch (Exception e) {
-            source.sendFailure(Component.literal("❌ Failed to reload config: " + e.getMessage())
+        if (!started) {
+            source.sendFailure(Component.literal("A config reload is already running")
                 .withStyle(ChatFormatting.RED));
-            MVSCommon.LOGGER.error("Error reloading config", e);
             return 0;
         }
+
+        source.sendSuccess(() -> Component.literal("Reloading MVS config in the background...")
+            .withStyle(ChatFormatting.YELLOW), false);
+        return 1;
     }
 }
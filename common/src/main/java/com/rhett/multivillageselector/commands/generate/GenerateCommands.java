@@ -9,9 +9,9 @@ import net.minecraft.commands.CommandSourceStack;
  */
 public class GenerateCommands {
 
-    public static int execute(CommandContext<CommandSourceStack> context) {
+    public static int execute(CommandContext<CommandSourceStack> context, boolean rescan) {
         // TODO: Extract ~627 lines of generate logic from MVSCommands
         // For now, delegate back to MVSCommands to keep build working
-        return com.rhett.multivillageselector.commands.MVSCommands.executeGenerateCommand(context);
+        return com.rhett.multivillageselector.commands.MVSCommands.executeGenerateCommand(context, rescan);
     }
 }
@@ -120,10 +120,8 @@ public class LocateCommands {
 
             // Calculate dynamic search radius based on spacing
             // Ensures ~5 cells in each direction regardless of placement config
-            int spacing = 34; // default
-            if (strategy instanceof LocateHelper.RandomSpreadPlacement rsp) {
-                spacing = rsp.spacing;
-            }
+            // (approximate spacing: grid spacing for random_spread, ring arc length for concentric_rings)
+            int spacing = strategy.getApproximateSpacing();
             int searchRadius = Math.max(MIN_SEARCH_RADIUS, spacing * CELLS_TO_SEARCH);
 
             // Debug logging to help diagnose placement mismatches
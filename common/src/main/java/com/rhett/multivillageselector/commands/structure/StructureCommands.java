@@ -217,6 +217,8 @@ public class StructureCommands {
             // Build complete structure list
             int totalCount = 0;
             int filteredCount = 0;
+            var filterPattern = filter != null && !filter.isEmpty()
+                ? com.rhett.multivillageselector.util.PatternMatcher.compile(filter) : null;
 
             for (var entry : structureRegistry.entrySet()) {
                 ResourceLocation structureId = entry.getKey().location();
@@ -228,8 +230,8 @@ public class StructureCommands {
                 totalCount++;
 
                 // Apply filter if provided
-                if (filter != null && !filter.isEmpty()) {
-                    if (!com.rhett.multivillageselector.util.PatternMatcher.matches(structureIdStr, filter)) {
+                if (filterPattern != null) {
+                    if (!filterPattern.matches(structureIdStr)) {
                         continue;
                     }
                 }
@@ -603,9 +605,10 @@ public class StructureCommands {
 
         // Case 2: Biome ID pattern (contains * but no #)
         if (tagOrPattern.contains("*")) {
+            var compiled = com.rhett.multivillageselector.util.PatternMatcher.compile(tagOrPattern);
             for (var entry : biomeRegistry.entrySet()) {
                 String biomeId = entry.getKey().location().toString();
-                if (com.rhett.multivillageselector.util.PatternMatcher.matches(biomeId, tagOrPattern)) {
+                if (compiled.matches(biomeId)) {
                     biomes.add(biomeId);
                 }
             }
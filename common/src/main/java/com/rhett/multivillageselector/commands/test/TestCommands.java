@@ -4,7 +4,7 @@ import com.mojang.brigadier.context.CommandContext;
 import com.mojang.brigadier.arguments.StringArgumentType;
 import com.rhett.multivillageselector.MVSCommon;
 import com.rhett.multivillageselector.config.MVSConfig;
-import com.rhett.multivillageselector.util.BiomeRules;
+import com.rhett.multivillageselector.strategy.BandedSelector;
 import net.minecraft.ChatFormatting;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.network.chat.Component;
@@ -268,6 +268,11 @@ public class TestCommands {
 
         source.sendSuccess(() -> Component.literal(""), false);
 
+        // Show resolved biome_frequency (spawn chance per placement attempt)
+        showFrequency(source, biomeHolder);
+
+        source.sendSuccess(() -> Component.literal(""), false);
+
         // MVS Strategy: Filter-first (only strategy)
         com.rhett.multivillageselector.strategy.StructurePicker picker =
             new com.rhett.multivillageselector.strategy.StructurePicker(MVSConfig.structurePool);
@@ -289,7 +294,7 @@ public class TestCommands {
         } else {
             source.sendSuccess(() -> Component.literal("Result: " + finalSelected.structure.toString())
                 .withStyle(ChatFormatting.GREEN), false);
-            int weight = finalSelected.biomes.values().stream().max(Integer::compare).orElse(0);
+            int weight = finalSelected.getBiomeWeights().maxWeight();
             final int finalWeight = weight;
             source.sendSuccess(() -> Component.literal("  Weight: " + finalWeight)
                 .withStyle(ChatFormatting.GRAY), false);
@@ -298,6 +303,38 @@ public class TestCommands {
         return 1;
     }
 
+    /**
+     * Show biome_frequency as resolved for this biome (per distance band if configured)
+     */
+    private static void showFrequency(CommandSourceStack source, net.minecraft.core.Holder<net.minecraft.world.level.biome.Biome> biomeHolder) {
+        BandedSelector selector = MVSConfig.getSelector();
+        if (!selector.hasFrequency()) {
+            source.sendSuccess(() -> Component.literal("Biome frequency: 100% (no biome_frequency rules)")
+                .withStyle(ChatFormatting.YELLOW), false);
+            return;
+        }
+
+        if (selector.getBandCount() == 1) {
+            final String line = String.format("Biome frequency: %.1f%%", selector.frequency(biomeHolder, 0) * 100.0);
+            source.sendSuccess(() -> Component.literal(line)
+                .withStyle(ChatFormatting.YELLOW), false);
+            return;
+        }
+
+        source.sendSuccess(() -> Component.literal("Biome frequency by distance band:")
+            .withStyle(ChatFormatting.YELLOW), false);
+        for (int band = 0; band < selector.getBandCount(); band++) {
+            String range = band == 0 ? "< " + MVSConfig.distanceBands[0]
+                : band < MVSConfig.distanceBands.length
+                    ? MVSConfig.distanceBands[band - 1] + "-" + MVSConfig.distanceBands[band]
+                    : ">= " + MVSConfig.distanceBands[band - 1];
+            final String line = String.format("    Band %d (%s chunks): %.1f%%",
+                band, range, selector.frequency(biomeHolder, band) * 100.0);
+            source.sendSuccess(() -> Component.literal(line)
+                .withStyle(ChatFormatting.GRAY), false);
+        }
+    }
+
     /**
      * Show MVS pool (FILTERED structures matching this biome)
      */
@@ -310,9 +347,8 @@ public class TestCommands {
         int totalWeight = 0;
 
         for (MVSConfig.ConfiguredStructure configured : MVSConfig.structurePool) {
-            // Use BiomeRules for weight calculation (eliminates duplicate logic)
-            BiomeRules rules = BiomeRules.fromMVSConfig(configured);
-            int weight = rules.getWeightForBiome(biomeHolder);
+            // Same weight BiomeRules reports, from the entry's compact per-biome weights
+            int weight = configured.getWeight(biomeHolder);
 
             if (weight > 0) {
                 filteredPool.add(configured);
@@ -336,9 +372,8 @@ public class TestCommands {
         int limit = Math.min(20, filteredPool.size());
         for (int i = 0; i < limit; i++) {
             MVSConfig.ConfiguredStructure structure = filteredPool.get(i);
-            // Use BiomeRules for weight calculation (eliminates duplicate logic)
-            BiomeRules rules = BiomeRules.fromMVSConfig(structure);
-            int weight = rules.getWeightForBiome(biomeHolder);
+            // Same weight BiomeRules reports, from the entry's compact per-biome weights
+            int weight = structure.getWeight(biomeHolder);
             String name = structure.isEmpty ? "(empty)" : structure.structure.toString();
 
             double percentage = (weight * 100.0) / finalTotalWeight;
@@ -0,0 +1,105 @@
+package com.rhett.multivillageselector.config;
+
+import java.util.*;
+import java.util.function.BiPredicate;
+
+/**
+ * What changed between two parsed configs, per structure_pool entry,
+ * per placement key and per biome_frequency rule.
+ * Drives incremental reloads and the reload report.
+ */
+public final class ConfigDiff {
+
+    public final int poolUnchanged;                  // Entries also present in the previous config
+    public final int poolChanged;                    // New or edited entries (rediscovered)
+    public final int poolRemoved;                    // Previous entries no longer present
+    public final Set<String> placementChanged;       // Structure set IDs added, removed or edited
+    public final Set<String> frequencyChanged;       // biome_frequency patterns added, removed or edited
+    public final boolean distanceBandsChanged;
+
+    private ConfigDiff(int poolUnchanged, int poolChanged, int poolRemoved,
+                       Set<String> placementChanged, Set<String> frequencyChanged, boolean distanceBandsChanged) {
+        this.poolUnchanged = poolUnchanged;
+        this.poolChanged = poolChanged;
+        this.poolRemoved = poolRemoved;
+        this.placementChanged = Collections.unmodifiableSet(placementChanged);
+        this.frequencyChanged = Collections.unmodifiableSet(frequencyChanged);
+        this.distanceBandsChanged = distanceBandsChanged;
+    }
+
+    /**
+     * Diff two parsed configs.
+     *
+     * @param previous Config currently applied (null on first load - everything counts as changed)
+     * @param next Newly parsed config
+     */
+    public static ConfigDiff between(ConfigState previous, ConfigState next) {
+        if (previous == null) {
+            return new ConfigDiff(0, next.structurePoolRaw.size(), 0,
+                new TreeSet<>(next.placement.keySet()), new TreeSet<>(frequencyKeys(next)), true);
+        }
+
+        // Pool entries as a multiset (the same entry may be listed twice)
+        Map<MVSConfig.RawConfigEntry, Integer> remaining = new HashMap<>();
+        for (MVSConfig.RawConfigEntry entry : previous.structurePoolRaw) {
+            remaining.merge(entry, 1, Integer::sum);
+        }
+        int unchanged = 0;
+        for (MVSConfig.RawConfigEntry entry : next.structurePoolRaw) {
+            Integer count = remaining.get(entry);
+            if (count != null && count > 0) {
+                remaining.put(entry, count - 1);
+                unchanged++;
+            }
+        }
+
+        Set<String> placementChanged = changedKeys(previous.placement, next.placement, Objects::equals);
+
+        Set<String> frequencyChanged = changedKeys(previous.biomeFrequency, next.biomeFrequency, Objects::equals);
+        frequencyChanged.addAll(changedKeys(previous.biomeFrequencyBands, next.biomeFrequencyBands, Arrays::equals));
+
+        return new ConfigDiff(unchanged, next.structurePoolRaw.size() - unchanged,
+            previous.structurePoolRaw.size() - unchanged, placementChanged, frequencyChanged,
+            !Arrays.equals(previous.distanceBands, next.distanceBands));
+    }
+
+    private static Set<String> frequencyKeys(ConfigState state) {
+        Set<String> keys = new HashSet<>(state.biomeFrequency.keySet());
+        keys.addAll(state.biomeFrequencyBands.keySet());
+        return keys;
+    }
+
+    private static <V> Set<String> changedKeys(Map<String, V> previous, Map<String, V> next, BiPredicate<V, V> same) {
+        Set<String> changed = new TreeSet<>();
+        for (Map.Entry<String, V> entry : next.entrySet()) {
+            if (!previous.containsKey(entry.getKey()) || !same.test(previous.get(entry.getKey()), entry.getValue())) {
+                changed.add(entry.getKey());
+            }
+        }
+        for (String key : previous.keySet()) {
+            if (!next.containsKey(key)) {
+                changed.add(key);
+            }
+        }
+        return changed;
+    }
+
+    public boolean isEmpty() {
+        return poolChanged == 0 && poolRemoved == 0 && placementChanged.isEmpty()
+            && frequencyChanged.isEmpty() && !distanceBandsChanged;
+    }
+
+    /**
+     * One-line summary for logs and the reload report.
+     */
+    public String summary() {
+        if (isEmpty()) {
+            return "no structure_pool, placement or biome_frequency changes";
+        }
+        return String.format("structure_pool: %d changed, %d removed, %d unchanged; placement: %s; biome_frequency: %s%s",
+            poolChanged, poolRemoved, poolUnchanged,
+            placementChanged.isEmpty() ? "unchanged" : String.join(", ", placementChanged),
+            frequencyChanged.isEmpty() ? "unchanged" : frequencyChanged.size() + " rule(s) changed",
+            distanceBandsChanged ? "; distance_bands changed" : "");
+    }
+}
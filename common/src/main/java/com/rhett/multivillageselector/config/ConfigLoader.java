@@ -34,6 +34,13 @@ public class ConfigLoader {
         }
     }
 
+    /**
+     * Path of the config file (may not exist yet).
+     */
+    public static Path configFile() {
+        return Platform.getConfigFolder().resolve(CONFIG_FILENAME);
+    }
+
     /**
      * Loads config file, creating default if it doesn't exist.
      * Pure I/O - no parsing.
@@ -43,7 +50,7 @@ public class ConfigLoader {
      */
     public static LoadResult loadOrCreate() throws IOException {
         Path configDir = Platform.getConfigFolder();
-        Path configFile = configDir.resolve(CONFIG_FILENAME);
+        Path configFile = configFile();
 
         MVSCommon.LOGGER.info("MVS: Config directory: {}", configDir);
         MVSCommon.LOGGER.info("MVS: Looking for config at: {}", configFile);
@@ -1,6 +1,9 @@
 package com.rhett.multivillageselector.config;
 
 import com.rhett.multivillageselector.config.MVSConfig;
+import com.rhett.multivillageselector.placement.HierarchicalGrid;
+import com.rhett.multivillageselector.placement.SpreadDistribution;
+import com.rhett.multivillageselector.placement.TableSpreadDistribution;
 
 import de.marhali.json5.Json5;
 import de.marhali.json5.Json5Array;
@@ -91,9 +94,32 @@ public class ConfigParser {
                 throw new ConfigParseException("'structure_pool' is empty - no villages can spawn!");
             }
 
-            List<MVSConfig.RawConfigEntry> rawPool = parseStructurePool(poolArray, warnings);
+            // Parse distance_bands (optional) - needed before band_weights and per-band frequencies
+            int[] distanceBands = new int[0];
+            if (json.has("distance_bands")) {
+                distanceBands = parseDistanceBands(json.get("distance_bands"), warnings);
+                builder.distanceBands(distanceBands);
+            }
+            int bandCount = distanceBands.length + 1;
+
+            List<MVSConfig.RawConfigEntry> rawPool = parseStructurePool(poolArray, bandCount, warnings);
             builder.structurePoolRaw(rawPool);
 
+            // Parse min_distance_groups (optional) - distances for pool entry groups
+            Map<String, Integer> minDistanceGroups = new LinkedHashMap<>();
+            if (json.has("min_distance_groups")) {
+                minDistanceGroups = parseMinDistanceGroups(json.get("min_distance_groups").getAsJson5Object(), warnings);
+                builder.minDistanceGroups(minDistanceGroups);
+            }
+            for (MVSConfig.RawConfigEntry entry : rawPool) {
+                if (entry.group != null && !minDistanceGroups.containsKey(entry.group)) {
+                    warnings.add(String.format(
+                        "structure_pool entry (%s): group '%s' has no min_distance_groups entry - no group distance applied",
+                        entry.structure, entry.group
+                    ));
+                }
+            }
+
             // Parse blacklisted_structures (optional)
             if (json.has("blacklisted_structures")) {
                 List<String> blacklist = parseStringArray(json.get("blacklisted_structures").getAsJson5Array());
@@ -102,8 +128,11 @@ public class ConfigParser {
 
             // Parse biome_frequency (optional)
             if (json.has("biome_frequency")) {
-                Map<String, Double> biomeFrequency = parseBiomeFrequency(json.get("biome_frequency").getAsJson5Object(), warnings);
+                Map<String, double[]> biomeFrequencyBands = new LinkedHashMap<>();
+                Map<String, Double> biomeFrequency = parseBiomeFrequency(
+                    json.get("biome_frequency").getAsJson5Object(), bandCount, biomeFrequencyBands, warnings);
                 builder.biomeFrequency(biomeFrequency);
+                builder.biomeFrequencyBands(biomeFrequencyBands);
             }
 
             // Parse relaxed_biome_validation (optional, defaults to false)
@@ -113,9 +142,23 @@ public class ConfigParser {
                 builder.relaxedBiomeValidation(json.get("relaxed_biome_validation").getAsBoolean());
             }
 
+            // Parse auto_reload (optional, defaults to false)
+            // When true, edits to the config file are reloaded in the background (ConfigWatcher)
+            if (json.has("auto_reload")) {
+                builder.autoReload(json.get("auto_reload").getAsBoolean());
+            }
+
+            // Parse spread_types (optional) - before placement, which may reference them
+            Map<String, SpreadDistribution> spreadTypes = new LinkedHashMap<>();
+            if (json.has("spread_types")) {
+                spreadTypes = parseSpreadTypes(json.get("spread_types").getAsJson5Object(), warnings);
+                builder.spreadTypes(spreadTypes);
+            }
+
             // Parse placement (optional)
             if (json.has("placement")) {
-                Map<String, PlacementRule> placement = parsePlacement(json.get("placement").getAsJson5Object(), warnings);
+                Map<String, PlacementRule> placement = parsePlacement(json.get("placement").getAsJson5Object(),
+                    spreadTypes.keySet(), warnings);
                 builder.placement(placement);
             }
 
@@ -134,7 +177,7 @@ public class ConfigParser {
      * Parses structure_pool array into RawConfigEntry list.
      * Validates biome weights (must be > 0), collects warnings for invalid entries.
      */
-    private static List<MVSConfig.RawConfigEntry> parseStructurePool(Json5Array poolArray, List<String> warnings) throws ConfigParseException {
+    private static List<MVSConfig.RawConfigEntry> parseStructurePool(Json5Array poolArray, int bandCount, List<String> warnings) throws ConfigParseException {
         List<MVSConfig.RawConfigEntry> rawPool = new ArrayList<>();
 
         int entryIndex = 0;
@@ -187,11 +230,68 @@ public class ConfigParser {
                 continue; // Skip entire entry
             }
 
+            // Parse min_distance_same (optional) - chunks between two of this structure
+            int minDistanceSame = 0;
+            if (entryObj.has("min_distance_same")) {
+                try {
+                    int value = entryObj.get("min_distance_same").getAsInt();
+                    if (hasEmpty) {
+                        warnings.add(String.format(
+                            "structure_pool entry #%d (%s): min_distance_same has no effect on empty entries - ignored",
+                            entryIndex, structureName
+                        ));
+                    } else if (value < 0 || value > MAX_MIN_DISTANCE) {
+                        warnings.add(String.format(
+                            "structure_pool entry #%d (%s): min_distance_same %d is invalid (must be 0-%d chunks) - ignored",
+                            entryIndex, structureName, value, MAX_MIN_DISTANCE
+                        ));
+                    } else {
+                        minDistanceSame = value;
+                    }
+                } catch (Exception e) {
+                    warnings.add(String.format(
+                        "structure_pool entry #%d (%s): min_distance_same must be an integer - ignored",
+                        entryIndex, structureName
+                    ));
+                }
+            }
+
+            // Parse group (optional) - shares a min_distance_groups distance with other entries
+            String group = null;
+            if (entryObj.has("group") && !hasEmpty) {
+                try {
+                    String value = entryObj.get("group").getAsString();
+                    if (value.isEmpty()) {
+                        warnings.add(String.format(
+                            "structure_pool entry #%d (%s): group is empty - ignored",
+                            entryIndex, structureName
+                        ));
+                    } else {
+                        group = value.toLowerCase();
+                    }
+                } catch (Exception e) {
+                    warnings.add(String.format(
+                        "structure_pool entry #%d (%s): group must be a string - ignored",
+                        entryIndex, structureName
+                    ));
+                }
+            }
+
+            // Parse band_weights (optional) - weight multiplier per distance band
+            double[] bandWeights = null;
+            if (entryObj.has("band_weights")) {
+                String context = String.format("structure_pool entry #%d (%s): band_weights", entryIndex, structureName);
+                bandWeights = parseBandValues(entryObj.get("band_weights"), bandCount, 0.0, MAX_BAND_WEIGHT, context, warnings);
+            }
+
             // Create raw config entry
             MVSConfig.RawConfigEntry rawEntry = new MVSConfig.RawConfigEntry(
                 hasEmpty,
                 hasStructure ? entryObj.get("structure").getAsString() : null,
-                biomes
+                biomes,
+                minDistanceSame,
+                group,
+                bandWeights
             );
 
             rawPool.add(rawEntry);
@@ -200,6 +300,131 @@ public class ConfigParser {
         return rawPool;
     }
 
+    /**
+     * Largest min_distance_same / min_distance_groups value in chunks.
+     * Bounds how many neighboring placements a spawn has to evaluate.
+     */
+    static final int MAX_MIN_DISTANCE = 256;
+
+    /**
+     * Most distance band boundaries (bands = boundaries + 1).
+     */
+    static final int MAX_DISTANCE_BANDS = 8;
+
+    /**
+     * Largest band boundary in chunks (world border).
+     */
+    static final int MAX_BAND_DISTANCE = 1_875_000;
+
+    /**
+     * Largest band_weights multiplier.
+     */
+    static final double MAX_BAND_WEIGHT = 100.0;
+
+    /**
+     * Parses distance_bands array into band boundaries (chunks from origin).
+     * Format: [64, 192] = bands [0, 64), [64, 192), [192, ...)
+     * Any invalid value drops all bands (per-band arrays would no longer line up).
+     */
+    private static int[] parseDistanceBands(Json5Element element, List<String> warnings) {
+        if (!element.isJson5Array()) {
+            warnings.add("distance_bands: must be an array of chunk distances - ignored");
+            return new int[0];
+        }
+
+        Json5Array array = element.getAsJson5Array();
+        if (array.size() > MAX_DISTANCE_BANDS) {
+            warnings.add(String.format(
+                "distance_bands: %d boundaries (max %d) - ignored", array.size(), MAX_DISTANCE_BANDS));
+            return new int[0];
+        }
+
+        int[] bands = new int[array.size()];
+        for (int i = 0; i < bands.length; i++) {
+            try {
+                bands[i] = array.get(i).getAsInt();
+            } catch (Exception e) {
+                warnings.add(String.format("distance_bands[%d]: expected integer - ignored", i));
+                return new int[0];
+            }
+            if (bands[i] < 1 || bands[i] > MAX_BAND_DISTANCE) {
+                warnings.add(String.format(
+                    "distance_bands[%d]: %d is invalid (must be 1-%d chunks) - ignored", i, bands[i], MAX_BAND_DISTANCE));
+                return new int[0];
+            }
+            if (i > 0 && bands[i] <= bands[i - 1]) {
+                warnings.add(String.format(
+                    "distance_bands[%d]: %d must be greater than %d - ignored", i, bands[i], bands[i - 1]));
+                return new int[0];
+            }
+        }
+        return bands;
+    }
+
+    /**
+     * Parses a per-band value array (band_weights, per-band biome_frequency).
+     * Must have exactly one value per band.
+     *
+     * @return Values, or null if invalid (warning added)
+     */
+    private static double[] parseBandValues(Json5Element element, int bandCount, double min, double max,
+                                            String context, List<String> warnings) {
+        if (bandCount == 1) {
+            warnings.add(context + " requires distance_bands - ignored");
+            return null;
+        }
+        if (!element.isJson5Array() || element.getAsJson5Array().size() != bandCount) {
+            warnings.add(String.format("%s must be an array of %d values (one per distance band) - ignored", context, bandCount));
+            return null;
+        }
+
+        Json5Array array = element.getAsJson5Array();
+        double[] values = new double[bandCount];
+        for (int i = 0; i < bandCount; i++) {
+            try {
+                values[i] = array.get(i).getAsDouble();
+            } catch (Exception e) {
+                warnings.add(String.format("%s[%d]: expected number - ignored", context, i));
+                return null;
+            }
+            if (!(values[i] >= min && values[i] <= max)) {
+                warnings.add(String.format("%s[%d]: %.2f is invalid (must be %.1f-%.1f) - ignored", context, i, values[i], min, max));
+                return null;
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Parses min_distance_groups object into Map<String, Integer> (group -> chunks).
+     * Format: { "group": chunks, ... }
+     * Example: { "ctov": 40 }
+     */
+    private static Map<String, Integer> parseMinDistanceGroups(Json5Object groupsObj, List<String> warnings) {
+        Map<String, Integer> result = new LinkedHashMap<>();
+
+        for (String group : groupsObj.keySet()) {
+            try {
+                int distance = groupsObj.get(group).getAsInt();
+                if (distance < 0 || distance > MAX_MIN_DISTANCE) {
+                    warnings.add(String.format(
+                        "min_distance_groups[%s]: %d is invalid (must be 0-%d chunks) - entry skipped",
+                        group, distance, MAX_MIN_DISTANCE
+                    ));
+                    continue;
+                }
+                result.put(group.toLowerCase(), distance);
+            } catch (Exception e) {
+                warnings.add(String.format(
+                    "min_distance_groups[%s]: invalid type (expected integer) - entry skipped",
+                    group
+                ));
+            }
+        }
+
+        return result;
+    }
+
     /**
      * Parses JSON array into String list.
      */
@@ -214,14 +439,28 @@ public class ConfigParser {
     /**
      * Parses biome_frequency object into Map<String, Double>.
      * Validates frequency range (0.0 to 1.0), collects warnings for invalid entries.
-     * Format: { "pattern": frequency, ... }
-     * Example: { "#minecraft:is_plains": 1.0, "#*:*": 0.5 }
+     * Format: { "pattern": frequency | [frequency per band], ... }
+     * Example: { "#minecraft:is_plains": 1.0, "#*:*": [1.0, 0.5, 0.2] }
+     * Per-band values go to bandsOut; the scalar map gets the first band's value.
      */
-    private static Map<String, Double> parseBiomeFrequency(Json5Object frequencyObj, List<String> warnings) throws ConfigParseException {
+    private static Map<String, Double> parseBiomeFrequency(Json5Object frequencyObj, int bandCount,
+                                                           Map<String, double[]> bandsOut,
+                                                           List<String> warnings) throws ConfigParseException {
         Map<String, Double> result = new LinkedHashMap<>();
 
         for (String pattern : frequencyObj.keySet()) {
-            double frequency = frequencyObj.get(pattern).getAsDouble();
+            Json5Element value = frequencyObj.get(pattern);
+            if (value.isJson5Array()) {
+                double[] perBand = parseBandValues(value, bandCount, 0.0, 1.0,
+                    String.format("biome_frequency pattern '%s'", pattern), warnings);
+                if (perBand != null) {
+                    bandsOut.put(pattern, perBand);
+                    result.put(pattern, perBand[0]);
+                }
+                continue;
+            }
+
+            double frequency = value.getAsDouble();
 
             // Validate frequency range (0.0 to 1.0)
             if (frequency < 0.0 || frequency > 1.0) {
@@ -242,22 +481,123 @@ public class ConfigParser {
      * Valid spread types for placement configuration.
      */
     private static final java.util.Set<String> VALID_SPREAD_TYPES = java.util.Set.of(
-        "linear", "triangular", "edge_biased", "corner_biased", "gaussian", "fixed_center"
+        "linear", "triangular", "edge_biased", "corner_biased", "gaussian", "fixed_center", "blue_noise"
     );
 
+    /**
+     * Parses spread_types object into compiled custom distributions.
+     * Invalid entries are skipped with a warning.
+     * Format: { "name": { weights: [...] } | { weights: [[...], ...] } | { curve: "gaussian" }, ... }
+     * - 1D weights: same density on X and Z independently
+     * - 2D weights: joint density, rows = Z (north to south), columns = X (west to east)
+     * - curve: one of TableSpreadDistribution.CURVES
+     */
+    private static Map<String, SpreadDistribution> parseSpreadTypes(Json5Object spreadTypesObj, List<String> warnings) {
+        Map<String, SpreadDistribution> result = new LinkedHashMap<>();
+
+        for (String rawName : spreadTypesObj.keySet()) {
+            String name = rawName.toLowerCase();
+            Json5Element element = spreadTypesObj.get(rawName);
+
+            if (VALID_SPREAD_TYPES.contains(name)) {
+                warnings.add(String.format(
+                    "spread_types[%s]: name conflicts with a built-in spread type - entry skipped", rawName
+                ));
+                continue;
+            }
+            if (!element.isJson5Object()) {
+                warnings.add(String.format(
+                    "spread_types[%s]: expected object with 'weights' or 'curve' - entry skipped", rawName
+                ));
+                continue;
+            }
+
+            Json5Object definition = element.getAsJson5Object();
+            try {
+                if (definition.has("weights") && definition.has("curve")) {
+                    warnings.add(String.format(
+                        "spread_types[%s]: specify either 'weights' or 'curve', not both - entry skipped", rawName
+                    ));
+                } else if (definition.has("curve")) {
+                    String curve = definition.get("curve").getAsString().toLowerCase();
+                    if (!TableSpreadDistribution.CURVES.contains(curve)) {
+                        warnings.add(String.format(
+                            "spread_types[%s].curve: '%s' is not valid (expected one of: %s) - entry skipped",
+                            rawName, curve, String.join(", ", TableSpreadDistribution.CURVES)
+                        ));
+                    } else {
+                        result.put(name, TableSpreadDistribution.curve(name, curve));
+                    }
+                } else if (definition.has("weights")) {
+                    result.put(name, parseSpreadWeights(name, definition.get("weights").getAsJson5Array()));
+                } else {
+                    warnings.add(String.format(
+                        "spread_types[%s]: requires 'weights' or 'curve' - entry skipped", rawName
+                    ));
+                }
+            } catch (IllegalArgumentException e) {
+                warnings.add(String.format("spread_types[%s]: %s - entry skipped", rawName, e.getMessage()));
+            } catch (Exception e) {
+                warnings.add(String.format(
+                    "spread_types[%s].weights: expected array of numbers or array of rows - entry skipped", rawName
+                ));
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Max points per axis in a spread_types weight grid.
+     */
+    private static final int MAX_SPREAD_WEIGHTS = 64;
+
+    private static SpreadDistribution parseSpreadWeights(String name, Json5Array weightsArray) {
+        if (weightsArray.isEmpty()) {
+            throw new IllegalArgumentException("weights must not be empty");
+        }
+        if (weightsArray.size() > MAX_SPREAD_WEIGHTS) {
+            throw new IllegalArgumentException("at most " + MAX_SPREAD_WEIGHTS + " weights per axis");
+        }
+
+        if (weightsArray.get(0).isJson5Array()) {
+            double[][] grid = new double[weightsArray.size()][];
+            for (int z = 0; z < grid.length; z++) {
+                grid[z] = parseDoubleArray(weightsArray.get(z).getAsJson5Array());
+                if (grid[z].length > MAX_SPREAD_WEIGHTS) {
+                    throw new IllegalArgumentException("at most " + MAX_SPREAD_WEIGHTS + " weights per axis");
+                }
+            }
+            return TableSpreadDistribution.joint(name, grid);
+        }
+        return TableSpreadDistribution.separable(name, parseDoubleArray(weightsArray));
+    }
+
+    private static double[] parseDoubleArray(Json5Array array) {
+        double[] result = new double[array.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = array.get(i).getAsDouble();
+        }
+        return result;
+    }
+
     /**
      * Valid strategy types for placement configuration.
      */
     private static final java.util.Set<String> VALID_STRATEGIES = java.util.Set.of(
-        "random_spread", "concentric_rings"
+        "random_spread", "concentric_rings", "hierarchical_grid"
     );
 
     /**
      * Parses placement object into Map<String, PlacementRule>.
      * Validates placement values, collects warnings for invalid entries.
      * Format: { "structure_set_id": { spacing: N, separation: N, salt: N, spreadType: "type", strategy: "type" }, ... }
+     * spreadType may name a built-in type or an entry from spread_types (customSpreadTypes).
+     * concentric_rings entries use distance/spread/count (vanilla's names and ranges) instead of spacing/separation.
+     * hierarchical_grid entries use super_cell/grid_levels/level_by/level_distances instead of spacing/separation.
      */
-    private static Map<String, PlacementRule> parsePlacement(Json5Object placementObj, List<String> warnings) throws ConfigParseException {
+    private static Map<String, PlacementRule> parsePlacement(Json5Object placementObj, java.util.Set<String> customSpreadTypes,
+                                                             List<String> warnings) throws ConfigParseException {
         Map<String, PlacementRule> result = new LinkedHashMap<>();
 
         for (String structureSetId : placementObj.keySet()) {
@@ -358,10 +698,13 @@ public class ConfigParser {
                             "placement[%s].spreadType: empty string is invalid - using inherited value",
                             structureSetId
                         ));
-                    } else if (!VALID_SPREAD_TYPES.contains(spreadType.toLowerCase())) {
+                    } else if (!VALID_SPREAD_TYPES.contains(spreadType.toLowerCase())
+                            && !customSpreadTypes.contains(spreadType.toLowerCase())) {
+                        List<String> expected = new ArrayList<>(VALID_SPREAD_TYPES);
+                        expected.addAll(customSpreadTypes);
                         warnings.add(String.format(
                             "placement[%s].spreadType: '%s' is not valid (expected one of: %s) - using inherited value",
-                            structureSetId, spreadType, String.join(", ", VALID_SPREAD_TYPES)
+                            structureSetId, spreadType, String.join(", ", expected)
                         ));
                     } else {
                         ruleBuilder.spreadType(spreadType.toLowerCase());
@@ -443,8 +786,39 @@ public class ConfigParser {
                 }
             }
 
+            // Parse concentric ring fields (optional, concentric_rings only)
+            ruleBuilder.distance(parseRingField(ruleObj, structureSetId, "distance", 1, 1023, warnings));
+            ruleBuilder.spread(parseRingField(ruleObj, structureSetId, "spread", 1, 1023, warnings));
+            ruleBuilder.count(parseRingField(ruleObj, structureSetId, "count", 1, 4095, warnings));
+
+            // Parse hierarchical grid fields (optional, hierarchical_grid only)
+            if (ruleObj.has("super_cell") || ruleObj.has("grid_levels")) {
+                ruleBuilder.grid(parseHierarchicalGrid(ruleObj, structureSetId, warnings));
+            }
+
             PlacementRule rule = ruleBuilder.build();
 
+            if ("hierarchical_grid".equals(rule.strategy) && rule.grid == null) {
+                warnings.add(String.format(
+                    "placement[%s]: strategy 'hierarchical_grid' requires a valid super_cell and grid_levels - using inherited value",
+                    structureSetId
+                ));
+                rule = ruleBuilder.strategy(null).grid(null).build();
+            } else if (rule.grid != null && !"hierarchical_grid".equals(rule.strategy)) {
+                warnings.add(String.format(
+                    "placement[%s]: super_cell/grid_levels only apply to strategy 'hierarchical_grid' - ignored",
+                    structureSetId
+                ));
+                rule = ruleBuilder.grid(null).build();
+            }
+
+            if (rule.hasRingFields() && "random_spread".equals(rule.strategy)) {
+                warnings.add(String.format(
+                    "placement[%s]: distance/spread/count only apply to strategy 'concentric_rings' - ignored for random_spread",
+                    structureSetId
+                ));
+            }
+
             // Cross-field validation: separation must be < spacing if both specified
             if (rule.spacing != null && rule.separation != null) {
                 if (rule.separation >= rule.spacing) {
@@ -462,6 +836,110 @@ public class ConfigParser {
         return result;
     }
 
+    /**
+     * Parses hierarchical_grid fields into a grid.
+     * Format: super_cell: N, grid_levels: [{spacing: N, separation: N}, ...],
+     *         level_by: "distance" | "hash", level_distances: [N, ...] (distance only, one fewer than levels)
+     * @return The grid, or null if any field is invalid (warning added)
+     */
+    private static HierarchicalGrid parseHierarchicalGrid(Json5Object ruleObj, String structureSetId,
+                                                          List<String> warnings) {
+        try {
+            if (!ruleObj.has("super_cell") || !ruleObj.has("grid_levels")) {
+                warnings.add(String.format(
+                    "placement[%s]: hierarchical_grid requires both 'super_cell' and 'grid_levels' - ignored",
+                    structureSetId
+                ));
+                return null;
+            }
+            int superCell = ruleObj.get("super_cell").getAsInt();
+
+            Json5Array levels = ruleObj.get("grid_levels").getAsJson5Array();
+            int[] spacing = new int[levels.size()];
+            int[] separation = new int[levels.size()];
+            for (int i = 0; i < levels.size(); i++) {
+                Json5Object level = levels.get(i).getAsJson5Object();
+                if (!level.has("spacing") || !level.has("separation")) {
+                    warnings.add(String.format(
+                        "placement[%s].grid_levels[%d]: requires both 'spacing' and 'separation' - ignored",
+                        structureSetId, i
+                    ));
+                    return null;
+                }
+                spacing[i] = level.get("spacing").getAsInt();
+                separation[i] = level.get("separation").getAsInt();
+            }
+
+            String levelBy = ruleObj.has("level_by") ? ruleObj.get("level_by").getAsString().toLowerCase() : "distance";
+            if (!"distance".equals(levelBy) && !"hash".equals(levelBy)) {
+                warnings.add(String.format(
+                    "placement[%s].level_by: '%s' is not valid (expected one of: distance, hash) - ignored",
+                    structureSetId, levelBy
+                ));
+                return null;
+            }
+            boolean byHash = "hash".equals(levelBy);
+            if (byHash && ruleObj.has("level_distances")) {
+                warnings.add(String.format(
+                    "placement[%s].level_distances: only used with level_by 'distance' - ignored", structureSetId
+                ));
+            }
+
+            int[] levelDistances = new int[0];
+            if (!byHash && ruleObj.has("level_distances")) {
+                Json5Array distances = ruleObj.get("level_distances").getAsJson5Array();
+                levelDistances = new int[distances.size()];
+                for (int i = 0; i < levelDistances.length; i++) {
+                    levelDistances[i] = distances.get(i).getAsInt();
+                }
+            }
+
+            return new HierarchicalGrid(superCell, spacing, separation, byHash, levelDistances);
+        } catch (NumberFormatException e) {
+            warnings.add(String.format(
+                "placement[%s]: hierarchical_grid values must be integers - ignored", structureSetId
+            ));
+            return null;
+        } catch (IllegalArgumentException e) {
+            warnings.add(String.format("placement[%s]: %s - ignored", structureSetId, e.getMessage()));
+            return null;
+        } catch (Exception e) {
+            warnings.add(String.format(
+                "placement[%s]: invalid hierarchical_grid format (expected super_cell integer and grid_levels array of {spacing, separation}) - ignored",
+                structureSetId
+            ));
+            return null;
+        }
+    }
+
+    /**
+     * Parses an optional integer ring field within [min, max].
+     * @return The value, or null if absent or invalid (warning added)
+     */
+    private static Integer parseRingField(Json5Object ruleObj, String structureSetId, String field,
+                                          int min, int max, List<String> warnings) {
+        if (!ruleObj.has(field)) {
+            return null;
+        }
+        try {
+            int value = ruleObj.get(field).getAsInt();
+            if (value < min || value > max) {
+                warnings.add(String.format(
+                    "placement[%s].%s: %d is invalid (must be %d-%d) - using inherited value",
+                    structureSetId, field, value, min, max
+                ));
+                return null;
+            }
+            return value;
+        } catch (Exception e) {
+            warnings.add(String.format(
+                "placement[%s].%s: invalid type (expected integer) - using inherited value",
+                structureSetId, field
+            ));
+            return null;
+        }
+    }
+
     /**
      * Custom exception for config parsing errors.
      */
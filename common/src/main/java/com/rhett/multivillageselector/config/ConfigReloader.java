@@ -0,0 +1,148 @@
+package com.rhett.multivillageselector.config;
+
+import com.rhett.multivillageselector.MVSCommon;
+import com.rhett.multivillageselector.util.RegistryGeneration;
+import net.minecraft.server.MinecraftServer;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Background config reload: read, parse, rediscover and compile on a worker thread,
+ * then swap the finished snapshot in on the server thread (next tick).
+ * The server tick never waits on file I/O, discovery or compilation.
+ *
+ * One reload at a time (released on the server thread, when the result is committed
+ * or reported); listeners are always called on the server thread. A reload prepared
+ * against registry tags that were reloaded meanwhile (RegistryGeneration) is prepared again.
+ */
+public final class ConfigReloader {
+
+    private static final AtomicBoolean running = new AtomicBoolean(false);
+
+    private ConfigReloader() {}
+
+    /**
+     * Reload progress callbacks (server thread).
+     */
+    public interface Listener {
+        /** A pipeline step finished (parse, discovery, compile). */
+        void progress(String message);
+
+        /** The new config is live. */
+        void applied(MVSConfig.PreparedReload reload);
+
+        /** The reload failed - the previous config stays active. */
+        void failed(Exception e);
+    }
+
+    /**
+     * What a reload runs against: the server in production, a scripted stand-in in tests.
+     */
+    interface Host {
+        /** Read, discover and compile the config (worker thread). */
+        MVSConfig.PreparedReload prepare(Consumer<String> progress) throws Exception;
+
+        /** Make a prepared reload live (server thread). */
+        void commit(MVSConfig.PreparedReload reload);
+
+        /** Run a task on the server thread, between ticks. */
+        void execute(Runnable task);
+
+        /** Run a task on a new background thread. */
+        void startWorker(Runnable task);
+    }
+
+    /**
+     * Start a background reload.
+     *
+     * @param server Running server (registries to discover against, thread to commit on)
+     * @param listener Progress / result callbacks, run on the server thread
+     * @return false if a reload is already running (nothing started)
+     */
+    public static boolean start(MinecraftServer server, Listener listener) {
+        return start(new ServerHost(server, true), listener);
+    }
+
+    /**
+     * Start a background rediscovery of the applied config (registry tags were reloaded).
+     * The config file is not read - see MVSConfig.prepareRediscovery().
+     *
+     * @return false if a reload is already running (it notices the new tags and starts over)
+     */
+    public static boolean rediscover(MinecraftServer server, Listener listener) {
+        return start(new ServerHost(server, false), listener);
+    }
+
+    static boolean start(Host host, Listener listener) {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        host.startWorker(() -> run(host, listener));
+        return true;
+    }
+
+    /**
+     * Forget a reload whose commit can no longer run (server stopped).
+     */
+    public static void cancel() {
+        running.set(false);
+    }
+
+    private static void run(Host host, Listener listener) {
+        int generation = RegistryGeneration.current();
+        try {
+            MVSConfig.PreparedReload reload = host.prepare(message -> host.execute(() -> listener.progress(message)));
+
+            // Commit between ticks - worldgen sees the old snapshot or the new one.
+            // Tag reloads also run on the server thread, so the generation can't move during the commit.
+            host.execute(() -> {
+                if (generation != RegistryGeneration.current()) {
+                    // Tags were reloaded while preparing - prepare again against the new ones
+                    listener.progress("Registry tags reloaded meanwhile - rediscovering");
+                    host.startWorker(() -> run(host, listener));
+                    return;
+                }
+                running.set(false);
+                host.commit(reload);
+                listener.applied(reload);
+            });
+        } catch (Exception e) {
+            MVSCommon.LOGGER.error("[MVS] Config reload failed - keeping the current config", e);
+            host.execute(() -> {
+                running.set(false);
+                listener.failed(e);
+            });
+        }
+    }
+
+    /**
+     * Production host: the running server's registries and thread, daemon worker threads.
+     * readFile: reload the config file, or rediscover the applied config.
+     */
+    private record ServerHost(MinecraftServer server, boolean readFile) implements Host {
+        @Override
+        public MVSConfig.PreparedReload prepare(Consumer<String> progress) throws Exception {
+            return readFile ? MVSConfig.prepareReload(server.registryAccess(), progress)
+                : MVSConfig.prepareRediscovery(server.registryAccess(), progress);
+        }
+
+        @Override
+        public void commit(MVSConfig.PreparedReload reload) {
+            MVSConfig.commitReload(reload);
+            ConfigWatcher.update(server); // auto_reload may have been switched on or off
+        }
+
+        @Override
+        public void execute(Runnable task) {
+            server.execute(task);
+        }
+
+        @Override
+        public void startWorker(Runnable task) {
+            Thread worker = new Thread(task, "MVS-Config-Reload");
+            worker.setDaemon(true);
+            worker.start();
+        }
+    }
+}
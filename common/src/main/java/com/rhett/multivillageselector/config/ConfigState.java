@@ -1,6 +1,7 @@
 package com.rhett.multivillageselector.config;
 
 import com.rhett.multivillageselector.config.MVSConfig;
+import com.rhett.multivillageselector.placement.SpreadDistribution;
 
 import java.util.List;
 import java.util.Map;
@@ -36,9 +37,24 @@ public class ConfigState {
     // Relaxed biome validation (bypasses vanilla's placement-point biome check for 3D biome mods)
     public final boolean relaxedBiomeValidation;
 
+    // Reload automatically when the config file changes
+    public final boolean autoReload;
+
     // Placement rules (per-structure-set placement configuration)
     public final Map<String, PlacementRule> placement;
 
+    // Custom spread distributions (name -> compiled distribution)
+    public final Map<String, SpreadDistribution> spreadTypes;
+
+    // Minimum distance in chunks between structures of the same group (group -> chunks)
+    public final Map<String, Integer> minDistanceGroups;
+
+    // Distance band boundaries in chunks from origin (empty = single band)
+    public final int[] distanceBands;
+
+    // biome_frequency patterns with per-band values (pattern -> one value per band)
+    public final Map<String, double[]> biomeFrequencyBands;
+
     // Validation warnings (non-fatal issues found during parsing)
     public final List<String> validationWarnings;
 
@@ -58,7 +74,12 @@ public class ConfigState {
             List<String> blacklistedStructures,
             Map<String, Double> biomeFrequency,
             boolean relaxedBiomeValidation,
+            boolean autoReload,
             Map<String, PlacementRule> placement,
+            Map<String, SpreadDistribution> spreadTypes,
+            Map<String, Integer> minDistanceGroups,
+            int[] distanceBands,
+            Map<String, double[]> biomeFrequencyBands,
             List<String> validationWarnings) {
 
         this.enabled = enabled;
@@ -74,7 +95,12 @@ public class ConfigState {
         this.blacklistedStructures = Collections.unmodifiableList(List.copyOf(blacklistedStructures));
         this.biomeFrequency = Collections.unmodifiableMap(Map.copyOf(biomeFrequency));
         this.relaxedBiomeValidation = relaxedBiomeValidation;
+        this.autoReload = autoReload;
         this.placement = Collections.unmodifiableMap(Map.copyOf(placement));
+        this.spreadTypes = Collections.unmodifiableMap(Map.copyOf(spreadTypes));
+        this.minDistanceGroups = Collections.unmodifiableMap(Map.copyOf(minDistanceGroups));
+        this.distanceBands = distanceBands.clone();
+        this.biomeFrequencyBands = Collections.unmodifiableMap(Map.copyOf(biomeFrequencyBands));
         this.validationWarnings = Collections.unmodifiableList(List.copyOf(validationWarnings));
     }
 
@@ -93,7 +119,12 @@ public class ConfigState {
         private List<String> blacklistedStructures = List.of();
         private Map<String, Double> biomeFrequency = Map.of();
         private boolean relaxedBiomeValidation = false;
+        private boolean autoReload = false;
         private Map<String, PlacementRule> placement = Map.of();
+        private Map<String, SpreadDistribution> spreadTypes = Map.of();
+        private Map<String, Integer> minDistanceGroups = Map.of();
+        private int[] distanceBands = new int[0];
+        private Map<String, double[]> biomeFrequencyBands = Map.of();
         private List<String> validationWarnings = List.of();
 
         public Builder enabled(boolean enabled) {
@@ -151,11 +182,36 @@ public class ConfigState {
             return this;
         }
 
+        public Builder autoReload(boolean autoReload) {
+            this.autoReload = autoReload;
+            return this;
+        }
+
         public Builder placement(Map<String, PlacementRule> placement) {
             this.placement = placement;
             return this;
         }
 
+        public Builder spreadTypes(Map<String, SpreadDistribution> spreadTypes) {
+            this.spreadTypes = spreadTypes;
+            return this;
+        }
+
+        public Builder minDistanceGroups(Map<String, Integer> minDistanceGroups) {
+            this.minDistanceGroups = minDistanceGroups;
+            return this;
+        }
+
+        public Builder distanceBands(int[] distanceBands) {
+            this.distanceBands = distanceBands;
+            return this;
+        }
+
+        public Builder biomeFrequencyBands(Map<String, double[]> biomeFrequencyBands) {
+            this.biomeFrequencyBands = biomeFrequencyBands;
+            return this;
+        }
+
         public Builder validationWarnings(List<String> validationWarnings) {
             this.validationWarnings = validationWarnings;
             return this;
@@ -166,7 +222,8 @@ public class ConfigState {
                 enabled, debugLogging, debugCmd, showLaunchMessage,
                 blockStructureSets, interceptStructureSets,
                 structurePoolRaw, structurePool, blacklistedStructures,
-                biomeFrequency, relaxedBiomeValidation, placement, validationWarnings
+                biomeFrequency, relaxedBiomeValidation, autoReload, placement, spreadTypes, minDistanceGroups,
+                distanceBands, biomeFrequencyBands, validationWarnings
             );
         }
     }
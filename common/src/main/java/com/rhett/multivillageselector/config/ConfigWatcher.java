@@ -0,0 +1,138 @@
+package com.rhett.multivillageselector.config;
+
+import com.rhett.multivillageselector.MVSCommon;
+import net.minecraft.server.MinecraftServer;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * auto_reload: watches config/multivillageselector.json5 and reloads it in the background
+ * (ConfigReloader) when it changes. Opt-in via auto_reload: true.
+ *
+ * A daemon thread blocks in WatchService.take() - nothing runs per tick while the file
+ * is unchanged. A burst of writes (editor save, atomic rename) is debounced into one
+ * reload once the file has been quiet for DEBOUNCE_MS. The new file is parsed and compiled
+ * off-thread; a config that fails to parse is reported and never applied.
+ */
+public final class ConfigWatcher {
+
+    static final long DEBOUNCE_MS = 500;
+
+    // Guarded by ConfigWatcher.class
+    private static WatchService watchService;
+
+    private ConfigWatcher() {}
+
+    private static final ConfigReloader.Listener LISTENER = new ConfigReloader.Listener() {
+        @Override
+        public void progress(String message) {
+            if (MVSConfig.debugLogging) {
+                MVSCommon.LOGGER.info("[MVS] auto_reload: {}", message);
+            }
+        }
+
+        @Override
+        public void applied(MVSConfig.PreparedReload reload) {
+            MVSCommon.LOGGER.info("[MVS] auto_reload: config file changed - reloaded in {} ms ({})",
+                reload.totalMillis(), reload.diff.summary());
+        }
+
+        @Override
+        public void failed(Exception e) {
+            MVSCommon.LOGGER.warn("[MVS] auto_reload: changed config not applied - {}", e.getMessage());
+        }
+    };
+
+    /**
+     * Start or stop watching to match auto_reload (server start, after each reload).
+     */
+    public static synchronized void update(MinecraftServer server) {
+        if (MVSConfig.autoReload && watchService == null) {
+            start(server);
+        } else if (!MVSConfig.autoReload && watchService != null) {
+            stop();
+        }
+    }
+
+    /**
+     * Stop watching (server stopped, or auto_reload turned off).
+     */
+    public static synchronized void stop() {
+        if (watchService == null) {
+            return;
+        }
+        try {
+            watchService.close(); // Wakes the watcher thread, which then exits
+        } catch (IOException e) {
+            MVSCommon.LOGGER.warn("[MVS] auto_reload: failed to close config watcher", e);
+        }
+        watchService = null;
+    }
+
+    private static void start(MinecraftServer server) {
+        Path configFile = ConfigLoader.configFile();
+        try {
+            WatchService service = configFile.getFileSystem().newWatchService();
+            configFile.getParent().register(service,
+                StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            watchService = service;
+
+            Thread watcher = new Thread(() -> watch(server, service, configFile.getFileName()), "MVS-Config-Watcher");
+            watcher.setDaemon(true);
+            watcher.start();
+            MVSCommon.LOGGER.info("[MVS] auto_reload: watching {} for changes", configFile);
+        } catch (IOException e) {
+            MVSCommon.LOGGER.warn("[MVS] auto_reload: cannot watch {} - {}", configFile, e.getMessage());
+        }
+    }
+
+    private static void watch(MinecraftServer server, WatchService service, Path fileName) {
+        watch(service, fileName, () -> reload(server));
+    }
+
+    /**
+     * Watch loop - returns once the service is closed.
+     *
+     * @param reload Starts a reload; false if one is already running (retried after another quiet period)
+     */
+    static void watch(WatchService service, Path fileName, BooleanSupplier reload) {
+        try {
+            boolean pending = false;
+            while (true) {
+                // Block until the directory changes; once a change is pending, wait for writes to settle
+                WatchKey key = pending ? service.poll(DEBOUNCE_MS, TimeUnit.MILLISECONDS) : service.take();
+                if (key == null) {
+                    // Quiet for DEBOUNCE_MS - reload (retried after another quiet period if one is running)
+                    pending = !reload.getAsBoolean();
+                    continue;
+                }
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW || fileName.equals(event.context())) {
+                        pending = true;
+                    }
+                }
+                key.reset();
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Stopped
+        }
+    }
+
+    /**
+     * @return false if a reload is already running (try again later)
+     */
+    private static boolean reload(MinecraftServer server) {
+        if (!MVSConfig.autoReload) {
+            return true;
+        }
+        return ConfigReloader.start(server, LISTENER);
+    }
+}
@@ -1,9 +1,17 @@
 package com.rhett.multivillageselector.config;
 
 import com.rhett.multivillageselector.MVSCommon;
+import com.rhett.multivillageselector.placement.SpreadDistribution;
+import com.rhett.multivillageselector.util.BiomeTagTable;
 import com.rhett.multivillageselector.util.PatternMatcher;
+import com.rhett.multivillageselector.util.PatternRules;
+import com.rhett.multivillageselector.util.RegistryGeneration;
+import com.rhett.multivillageselector.util.RegistryIds;
+import com.rhett.multivillageselector.util.WildcardPattern;
 import com.rhett.multivillageselector.util.BiomePoolExpander;
-import com.rhett.multivillageselector.strategy.StructurePicker;
+import com.rhett.multivillageselector.util.BiomeUniverse;
+import com.rhett.multivillageselector.util.BiomeWeights;
+import com.rhett.multivillageselector.strategy.BandedSelector;
 
 import de.marhali.json5.Json5;
 import de.marhali.json5.Json5Element;
@@ -17,6 +25,7 @@ import net.minecraft.resources.ResourceLocation;
 import net.minecraft.tags.TagKey;
 import net.minecraft.world.level.biome.Biome;
 import net.minecraft.world.level.levelgen.structure.Structure;
+import net.minecraft.world.level.levelgen.structure.StructureSet;
 import dev.architectury.platform.Platform;
 
 import java.io.*;
@@ -24,6 +33,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 import java.util.regex.Pattern;
 
 public class MVSConfig {
@@ -42,6 +52,9 @@ public class MVSConfig {
     // mods like Terralith where terrain adaptation can shift structures into different biome layers.
     public static boolean relaxedBiomeValidation = false;
 
+    // Reload in the background when the config file changes (ConfigWatcher, opt-in)
+    public static boolean autoReload = false;
+
     // v0.3.0 config fields
     public static List<String> blockStructureSets = new ArrayList<>();
     public static List<String> interceptStructureSets = new ArrayList<>();
@@ -53,9 +66,30 @@ public class MVSConfig {
     // v0.4.0 placement config (per-structure-set placement rules)
     public static Map<String, PlacementRule> placement = new LinkedHashMap<>();
 
+    // Custom spread distributions referenced by placement spreadType (name -> compiled tables)
+    public static Map<String, SpreadDistribution> spreadTypes = new LinkedHashMap<>();
+
+    // Minimum distance in chunks between structures sharing a pool entry group (group -> chunks)
+    public static Map<String, Integer> minDistanceGroups = new LinkedHashMap<>();
+
+    // Distance band boundaries in chunks from origin (empty = one band everywhere)
+    public static int[] distanceBands = new int[0];
+
+    // biome_frequency patterns with one value per distance band (pattern -> values)
+    public static Map<String, double[]> biomeFrequencyBands = new LinkedHashMap<>();
+
+    // Compiled snapshot of the fields above (rebuilt when any of them or the registries are replaced)
+    private static volatile RuntimeConfig runtime;
+
     // Track whether structures have been discovered yet
     private static boolean structuresDiscovered = false;
 
+    // Per raw entry discovery results of the current pool (reused by reloads)
+    private static volatile PoolCache poolCache;
+
+    // Parsed config currently applied (reloads diff against it)
+    private static volatile ConfigState loadedState;
+
     /**
      * v0.3.0 Raw config entry (before pattern expansion)
      * One of: empty, structure, pattern (mutually exclusive)
@@ -65,41 +99,160 @@ public class MVSConfig {
         public final boolean isEmpty;
         public final String structure;    // Can be null if empty; supports wildcards (*)
         public final Map<String, Integer> biomes;  // Required, never null
+        public final int minDistanceSame;  // Chunks between two of this structure, 0 = no limit
+        public final String group;         // min_distance_groups key, or null
+        public final double[] bandWeights; // Weight multiplier per distance band, or null
 
         public RawConfigEntry(boolean isEmpty, String structure,
-                              Map<String, Integer> biomes) {
+                              Map<String, Integer> biomes, int minDistanceSame, String group,
+                              double[] bandWeights) {
             this.isEmpty = isEmpty;
             this.structure = structure;
             this.biomes = biomes != null ? biomes : new HashMap<>();
+            this.minDistanceSame = minDistanceSame;
+            this.group = group;
+            this.bandWeights = bandWeights;
+        }
+
+        public RawConfigEntry(boolean isEmpty, String structure,
+                              Map<String, Integer> biomes, int minDistanceSame, String group) {
+            this(isEmpty, structure, biomes, minDistanceSame, group, null);
+        }
+
+        public RawConfigEntry(boolean isEmpty, String structure,
+                              Map<String, Integer> biomes) {
+            this(isEmpty, structure, biomes, 0, null);
+        }
+
+        /**
+         * Value equality - an entry that parses the same on reload can reuse its discovery result.
+         */
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            RawConfigEntry that = (RawConfigEntry) o;
+            return isEmpty == that.isEmpty && minDistanceSame == that.minDistanceSame
+                && Objects.equals(structure, that.structure) && biomes.equals(that.biomes)
+                && Objects.equals(group, that.group) && Arrays.equals(bandWeights, that.bandWeights);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(isEmpty, structure, biomes, minDistanceSame, group) * 31 + Arrays.hashCode(bandWeights);
         }
     }
 
     /**
      * v0.3.0 Configured structure (after pattern expansion and tag resolution)
      * Weight is per-biome-tag, not structure-wide
+     *
+     * Discovered entries keep their expanded biomes only as BiomeWeights (sorted
+     * biome-id / weight arrays); biomes is then a read-only view of them for display.
      */
     public static class ConfiguredStructure {
         public final ResourceLocation structure;  // null if isEmpty
         public final boolean isEmpty;
         public final Map<String, Integer> _biomes;  // Original patterns (before expansion)
         public final Map<String, Integer> biomes;   // Expanded tags (after pattern expansion)
+        public final int minDistanceSame;           // Chunks between two of this structure, 0 = no limit
+        public final String group;                  // min_distance_groups key, or null
+        public final double[] bandWeights;          // Weight multiplier per distance band, or null
+
+        private volatile BiomeWeights biomeWeights;            // biomes by biome id (built on first use if map-backed)
+        private volatile PatternRules<Integer> compiledBiomes; // biomes compiled on first use
+
+        private ConfiguredStructure(ResourceLocation structure, boolean isEmpty,
+                                    Map<String, Integer> originalBiomeTags,
+                                    Map<String, Integer> expandedBiomeTags, BiomeWeights biomeWeights,
+                                    int minDistanceSame, String group, double[] bandWeights) {
+            this.structure = structure;
+            this.isEmpty = isEmpty;
+            this._biomes = originalBiomeTags != null ? originalBiomeTags : new HashMap<>();
+            this.biomeWeights = biomeWeights;
+            this.biomes = biomeWeights != null ? biomeWeights.asMap()
+                : expandedBiomeTags != null ? expandedBiomeTags : new HashMap<>();
+            this.minDistanceSame = minDistanceSame;
+            this.group = group;
+            this.bandWeights = bandWeights;
+        }
+
+        public ConfiguredStructure(ResourceLocation structure,
+                                   Map<String, Integer> originalBiomeTags,
+                                   Map<String, Integer> expandedBiomeTags,
+                                   int minDistanceSame, String group, double[] bandWeights) {
+            this(structure, false, originalBiomeTags, expandedBiomeTags, null, minDistanceSame, group, bandWeights);
+        }
+
+        public ConfiguredStructure(ResourceLocation structure,
+                                   Map<String, Integer> originalBiomeTags,
+                                   Map<String, Integer> expandedBiomeTags,
+                                   int minDistanceSame, String group) {
+            this(structure, originalBiomeTags, expandedBiomeTags, minDistanceSame, group, null);
+        }
 
         public ConfiguredStructure(ResourceLocation structure,
                                    Map<String, Integer> originalBiomeTags,
                                    Map<String, Integer> expandedBiomeTags) {
-            this.structure = structure;
-            this.isEmpty = false;
-            this._biomes = originalBiomeTags != null ? originalBiomeTags : new HashMap<>();
-            this.biomes = expandedBiomeTags != null ? expandedBiomeTags : new HashMap<>();
+            this(structure, originalBiomeTags, expandedBiomeTags, 0, null);
         }
 
         public ConfiguredStructure(Map<String, Integer> originalBiomeTags,
                                    Map<String, Integer> expandedBiomeTags) {
             // Empty entry constructor
-            this.structure = null;
-            this.isEmpty = true;
-            this._biomes = originalBiomeTags != null ? originalBiomeTags : new HashMap<>();
-            this.biomes = expandedBiomeTags != null ? expandedBiomeTags : new HashMap<>();
+            this(null, true, originalBiomeTags, expandedBiomeTags, null, 0, null, null);
+        }
+
+        /**
+         * Structure entry with compact expanded biomes (structure discovery).
+         */
+        public static ConfiguredStructure compact(ResourceLocation structure,
+                                                  Map<String, Integer> originalBiomeTags,
+                                                  BiomeWeights biomeWeights,
+                                                  int minDistanceSame, String group, double[] bandWeights) {
+            return new ConfiguredStructure(structure, false, originalBiomeTags, null, biomeWeights,
+                minDistanceSame, group, bandWeights);
+        }
+
+        /**
+         * Empty entry with compact expanded biomes (structure discovery).
+         */
+        public static ConfiguredStructure compactEmpty(Map<String, Integer> originalBiomeTags,
+                                                       BiomeWeights biomeWeights) {
+            return new ConfiguredStructure(null, true, originalBiomeTags, null, biomeWeights, 0, null, null);
+        }
+
+        /**
+         * Expanded biomes by biome id. Map-backed entries are compacted against
+         * the current biome table on first use.
+         */
+        public BiomeWeights getBiomeWeights() {
+            BiomeWeights weights = biomeWeights;
+            if (weights == null) {
+                weights = BiomeWeights.of(PatternMatcher.getBiomeTable(), biomes);
+                biomeWeights = weights;
+            }
+            return weights;
+        }
+
+        /**
+         * Weight of this entry in a biome (0 if no match).
+         * Same result as BiomeRules.getWeightForBiome, without building BiomeRules.
+         */
+        public int getWeight(Holder<Biome> biomeHolder) {
+            return getBiomeWeights().getWeight(biomeHolder);
+        }
+
+        /**
+         * Expanded biomes compiled for pattern lookups (sorted by specificity, built once).
+         */
+        public PatternRules<Integer> getCompiledBiomes() {
+            PatternRules<Integer> compiled = compiledBiomes;
+            if (compiled == null) {
+                compiled = PatternRules.compile(biomes);
+                compiledBiomes = compiled;
+            }
+            return compiled;
         }
     }
 
@@ -127,39 +280,14 @@ public class MVSConfig {
 
     public static void load() {
         try {
-            // Step 1: Load config file (I/O only)
-            ConfigLoader.LoadResult loadResult = ConfigLoader.loadOrCreate();
+            // Steps 1-2: Load config file (I/O only), parse config content (logic only)
+            ConfigState config = readState();
 
-            // Step 2: Parse config content (logic only)
-            ConfigState config = ConfigParser.parse(loadResult.content);
+            // Step 3: Copy to static fields (backward compatibility), then publish one snapshot
+            applyState(config);
 
-            // Step 3: Copy to static fields (backward compatibility)
-            enabled = config.enabled;
-            debugLogging = config.debugLogging;
-            debugCmd = config.debugCmd;
-            showLaunchMessage = config.showLaunchMessage;
-            blockStructureSets = new ArrayList<>(config.blockStructureSets);
-            interceptStructureSets = new ArrayList<>(config.interceptStructureSets);
-            structurePoolRaw = new ArrayList<>(config.structurePoolRaw);
-            blacklistedStructures = new ArrayList<>(config.blacklistedStructures);
-            biomeFrequency = new LinkedHashMap<>(config.biomeFrequency);
-            relaxedBiomeValidation = config.relaxedBiomeValidation;
-            placement = new LinkedHashMap<>(config.placement);
-
-            // Step 4: Log validation warnings (always, regardless of debug_logging)
-            if (!config.validationWarnings.isEmpty()) {
-                MVSCommon.LOGGER.warn("╔════════════════════════════════════════════════════════╗");
-                MVSCommon.LOGGER.warn("║  ⚠️  CONFIG VALIDATION WARNINGS                       ║");
-                MVSCommon.LOGGER.warn("╠════════════════════════════════════════════════════════╣");
-                for (String warning : config.validationWarnings) {
-                    MVSCommon.LOGGER.warn("║  " + warning);
-                }
-                MVSCommon.LOGGER.warn("╚════════════════════════════════════════════════════════╝");
-                MVSCommon.LOGGER.warn("");
-            }
-
-            // Step 5: Log configuration summary
-            logConfigSummary(config);
+            // Steps 4-5: Log validation warnings and configuration summary
+            logLoadedState(config);
 
         } catch (ConfigParser.ConfigParseException e) {
             MVSCommon.LOGGER.error("╔════════════════════════════════════════════════════════╗");
@@ -174,6 +302,7 @@ public class MVSConfig {
             MVSCommon.LOGGER.error("║  ⚠️  MOD DISABLED UNTIL CONFIG IS FIXED               ║");
             MVSCommon.LOGGER.error("╚════════════════════════════════════════════════════════╝");
             enabled = false;
+            refreshRuntime();
         } catch (Exception e) {
             MVSCommon.LOGGER.error("╔════════════════════════════════════════════════════════╗");
             MVSCommon.LOGGER.error("║  ❌ FAILED TO LOAD MVS CONFIG                         ║");
@@ -195,9 +324,223 @@ public class MVSConfig {
             MVSCommon.LOGGER.error("╚════════════════════════════════════════════════════════╝");
             MVSCommon.LOGGER.error("Parse error details:", e);
             enabled = false;
+            refreshRuntime();
+        }
+    }
+
+    /**
+     * Read and parse the config file. No config statics are touched.
+     */
+    static ConfigState readState() throws IOException, ConfigParser.ConfigParseException {
+        ConfigLoader.LoadResult loadResult = ConfigLoader.loadOrCreate();
+        return ConfigParser.parse(loadResult.content);
+    }
+
+    /**
+     * Log validation warnings (always, regardless of debug_logging) and the configuration summary.
+     */
+    private static void logLoadedState(ConfigState config) {
+        if (!config.validationWarnings.isEmpty()) {
+            MVSCommon.LOGGER.warn("╔════════════════════════════════════════════════════════╗");
+            MVSCommon.LOGGER.warn("║  ⚠️  CONFIG VALIDATION WARNINGS                       ║");
+            MVSCommon.LOGGER.warn("╠════════════════════════════════════════════════════════╣");
+            for (String warning : config.validationWarnings) {
+                MVSCommon.LOGGER.warn("║  " + warning);
+            }
+            MVSCommon.LOGGER.warn("╚════════════════════════════════════════════════════════╝");
+            MVSCommon.LOGGER.warn("");
+        }
+
+        logConfigSummary(config);
+    }
+
+    /**
+     * Replace the config fields from a parsed state and publish the new runtime snapshot.
+     * Runs under the class lock: runtime() readers block until every field is replaced.
+     */
+    private static void applyState(ConfigState config) {
+        synchronized (MVSConfig.class) {
+            enabled = config.enabled;
+            debugLogging = config.debugLogging;
+            debugCmd = config.debugCmd;
+            showLaunchMessage = config.showLaunchMessage;
+            blockStructureSets = new ArrayList<>(config.blockStructureSets);
+            interceptStructureSets = new ArrayList<>(config.interceptStructureSets);
+            structurePoolRaw = new ArrayList<>(config.structurePoolRaw);
+            blacklistedStructures = new ArrayList<>(config.blacklistedStructures);
+            biomeFrequency = new LinkedHashMap<>(config.biomeFrequency);
+            relaxedBiomeValidation = config.relaxedBiomeValidation;
+            autoReload = config.autoReload;
+            placement = new LinkedHashMap<>(config.placement);
+            spreadTypes = new LinkedHashMap<>(config.spreadTypes);
+            minDistanceGroups = new LinkedHashMap<>(config.minDistanceGroups);
+            distanceBands = config.distanceBands.clone();
+            biomeFrequencyBands = new LinkedHashMap<>(config.biomeFrequencyBands);
+            loadedState = config;
+            runtime = RuntimeConfig.compile();
         }
     }
 
+    /**
+     * A config reload that was read, discovered and compiled off the server thread.
+     * Nothing is visible to worldgen until commitReload() swaps it in.
+     */
+    public static final class PreparedReload {
+        private final ConfigState state;
+        private final RuntimeConfig.Sources sources;   // Instances assigned to the statics on commit
+        private final RuntimeConfig runtime;
+        private final PoolCache poolCache;
+        private final BiomeTagTable biomeTable;        // Installed in PatternMatcher on commit
+        private final int tableGeneration;
+        public final ConfigDiff diff;                  // Changes against the config that was applied
+        public final int reusedEntries;                // Pool entries reused from the previous discovery
+        public final int rebuiltEntries;               // Pool entries matched and expanded again
+        public final long readMillis;
+        public final long discoveryMillis;
+        public final long compileMillis;
+
+        private PreparedReload(ConfigState state, RuntimeConfig.Sources sources, RuntimeConfig runtime,
+                               PoolBuild build, ConfigDiff diff,
+                               long readMillis, long discoveryMillis, long compileMillis) {
+            this.state = state;
+            this.sources = sources;
+            this.runtime = runtime;
+            this.poolCache = build.cache();
+            this.biomeTable = build.biomeTable();
+            this.tableGeneration = build.tableGeneration();
+            this.diff = diff;
+            this.reusedEntries = build.reusedEntries();
+            this.rebuiltEntries = build.rebuiltEntries();
+            this.readMillis = readMillis;
+            this.discoveryMillis = discoveryMillis;
+            this.compileMillis = compileMillis;
+        }
+
+        public RuntimeConfig runtime() {
+            return runtime;
+        }
+
+        public List<String> validationWarnings() {
+            return state.validationWarnings;
+        }
+
+        public long totalMillis() {
+            return readMillis + discoveryMillis + compileMillis;
+        }
+    }
+
+    /**
+     * Reload step 1 (any thread): read and parse the config file, rediscover the pool
+     * against the server's registries and compile the runtime snapshot.
+     * Incremental: only pool entries that changed since the applied config are
+     * rediscovered, and unchanged compiled parts of the current snapshot are reused.
+     * Publishes nothing.
+     *
+     * @param registryAccess Registries of the running server
+     * @param progress Receives one line per finished step
+     * @throws IOException If the config file can't be read
+     * @throws ConfigParser.ConfigParseException If the config is invalid
+     */
+    public static PreparedReload prepareReload(net.minecraft.core.RegistryAccess registryAccess,
+                                               java.util.function.Consumer<String> progress)
+            throws IOException, ConfigParser.ConfigParseException {
+        long startTime = System.nanoTime();
+        ConfigState state = readState();
+        ConfigDiff diff = ConfigDiff.between(loadedState, state);
+        long readTime = System.nanoTime();
+        progress.accept(String.format("Config parsed: %d pool entries (%d ms) - %s",
+            state.structurePoolRaw.size(), millis(readTime - startTime), diff.summary()));
+        return prepare(state, diff, registryAccess, progress, startTime, readTime);
+    }
+
+    /**
+     * Same as prepareReload() for the config that is already applied (datapack /reload):
+     * the file is not read again, so edits that were not reloaded stay pending and a
+     * broken file can't fail a tag reload. Only the pool is rediscovered against the new tags.
+     *
+     * @throws IllegalStateException If no config was applied (the file failed to parse at startup)
+     */
+    public static PreparedReload prepareRediscovery(net.minecraft.core.RegistryAccess registryAccess,
+                                                    java.util.function.Consumer<String> progress) {
+        ConfigState state = loadedState;
+        if (state == null) {
+            throw new IllegalStateException("No config applied - nothing to rediscover");
+        }
+        long startTime = System.nanoTime();
+        return prepare(state, ConfigDiff.between(state, state), registryAccess, progress, startTime, startTime);
+    }
+
+    private static PreparedReload prepare(ConfigState state, ConfigDiff diff,
+                                          net.minecraft.core.RegistryAccess registryAccess,
+                                          java.util.function.Consumer<String> progress,
+                                          long startTime, long readTime) {
+        PoolBuild build = buildPool(state.structurePoolRaw, registryAccess,
+            registryAccess.registryOrThrow(Registries.STRUCTURE), poolCache, PoolCacheFile.defaultPath());
+        List<ConfiguredStructure> pool = build.pool();
+        long discoveryTime = System.nanoTime();
+        progress.accept(String.format("Structures discovered: %d structures, %d entries rebuilt, %d reused (%d ms)",
+            pool.size(), build.rebuiltEntries(), build.reusedEntries(), millis(discoveryTime - readTime)));
+
+        RuntimeConfig.Sources sources = new RuntimeConfig.Sources(
+            state.enabled, state.debugLogging, state.relaxedBiomeValidation,
+            new ArrayList<>(state.blockStructureSets), new ArrayList<>(state.interceptStructureSets),
+            new ArrayList<>(state.blacklistedStructures), pool,
+            new LinkedHashMap<>(state.biomeFrequency), new LinkedHashMap<>(state.biomeFrequencyBands),
+            state.distanceBands.clone(), new LinkedHashMap<>(state.placement),
+            new LinkedHashMap<>(state.spreadTypes), new LinkedHashMap<>(state.minDistanceGroups),
+            RegistryIds.current(), build.biomeTable());
+        RuntimeConfig compiled = RuntimeConfig.compile(sources, runtime);
+        long compileTime = System.nanoTime();
+        progress.accept(String.format("Selectors and tables compiled: selector %s, %d placement(s) kept (%d ms)",
+            compiled.isSelectorReused() ? "reused" : "rebuilt", compiled.resolvedPlacementCount(),
+            millis(compileTime - discoveryTime)));
+
+        return new PreparedReload(state, sources, compiled, build, diff, millis(readTime - startTime),
+            millis(discoveryTime - readTime), millis(compileTime - discoveryTime));
+    }
+
+    /**
+     * Reload step 2 (server thread, between ticks): assign the prepared fields and
+     * publish the prepared snapshot in one step. Worldgen sees the old config or the
+     * new one, never a mix.
+     */
+    public static void commitReload(PreparedReload reload) {
+        ConfigState state = reload.state;
+        RuntimeConfig.Sources sources = reload.sources;
+        synchronized (MVSConfig.class) {
+            enabled = sources.enabled();
+            debugLogging = sources.debugLogging();
+            debugCmd = state.debugCmd;
+            showLaunchMessage = state.showLaunchMessage;
+            relaxedBiomeValidation = sources.relaxedBiomeValidation();
+            autoReload = state.autoReload;
+            blockStructureSets = sources.blockStructureSets();
+            interceptStructureSets = sources.interceptStructureSets();
+            structurePoolRaw = new ArrayList<>(state.structurePoolRaw);
+            structurePool = sources.structurePool();
+            blacklistedStructures = sources.blacklistedStructures();
+            biomeFrequency = sources.biomeFrequency();
+            biomeFrequencyBands = sources.biomeFrequencyBands();
+            distanceBands = sources.distanceBands();
+            placement = sources.placement();
+            spreadTypes = sources.spreadTypes();
+            minDistanceGroups = sources.minDistanceGroups();
+            PatternMatcher.useBiomeTable(reload.biomeTable, reload.tableGeneration);
+            runtime = reload.runtime;
+            poolCache = reload.poolCache;
+            loadedState = state;
+            structuresDiscovered = true;
+        }
+
+        logLoadedState(state);
+        MVSCommon.LOGGER.info("[MVS] Config reload applied: {} structures ready ({} ms: read {} ms, discovery {} ms, compile {} ms)",
+            reload.runtime.structurePool.size(), reload.totalMillis(),
+            reload.readMillis, reload.discoveryMillis, reload.compileMillis);
+        MVSCommon.LOGGER.info("[MVS] Reload changes: {}; {} pool entries rebuilt, {} reused, selector {}",
+            reload.diff.summary(), reload.rebuiltEntries, reload.reusedEntries,
+            reload.runtime.isSelectorReused() ? "reused" : "rebuilt");
+    }
+
     /**
      * Logs configuration summary (extracted for readability).
      * INIT level: Always shown, concise summary.
@@ -238,20 +581,15 @@ public class MVSConfig {
         }
     }
 
-    /**
-     * Converts a wildcard pattern to a regex pattern.
-     * Examples:
-     *   "ctov:*" → "ctov:.*"
-     *   "*:village_*" → ".*:village_.*"
-     *   "mod:exact_name" → "mod:exact_name"
-     */
     /**
      * v0.3.0: Discovers structures and builds the final ConfiguredStructure pool.
-     * Phase 1: Expand patterns against registry
-     * Phase 2: Get biome tags from structures
-     * Phase 3: Apply add_biomes/replace_biomes overrides
-     * Phase 4: Expand biome tag patterns
-     * Phase 5: Merge duplicates (last wins)
+     * Phase 1: Expand structure patterns against registry (parallel per raw entry)
+     * Phase 2: Expand biome tag patterns into BiomeWeights (parallel per raw entry)
+     *          and build entries - structures matched by one entry share its weights
+     * Phase 3: Merge duplicates (last wins, config order - same result as a serial run)
+     *
+     * Phases 1 and 2 run on a short-lived ForkJoinPool over immutable snapshots
+     * (structure keys, raw entries, BiomeUniverse). Per-phase timings are logged.
      *
      * Must be called AFTER registries are available (during FMLCommonSetupEvent).
      */
@@ -260,6 +598,8 @@ public class MVSConfig {
             if (debugLogging) {
                 MVSCommon.LOGGER.info("[MVS] Debug: Structure discovery already completed, skipping");
             }
+            // Same pool, but this server's registry ids
+            refreshRuntime();
             return;
         }
 
@@ -267,114 +607,291 @@ public class MVSConfig {
             MVSCommon.LOGGER.info("[MVS] Debug: Starting structure discovery...");
         }
 
-        // Get all available structures
-        Set<ResourceLocation> allStructures = structureRegistry.keySet();
+        PoolBuild build = buildPool(structurePoolRaw, registryAccess, structureRegistry, poolCache,
+            PoolCacheFile.defaultPath());
 
-        // Phase 1 & 2: Expand patterns and build ConfiguredStructure list
-        List<ConfiguredStructure> expandedList = new ArrayList<>();
-        int patternCount = 0;
-        int emptyCount = 0;
+        // Publish the pool with a fresh snapshot (biome_frequency resolved now, not on the first placement chunk)
+        synchronized (MVSConfig.class) {
+            PatternMatcher.useBiomeTable(build.biomeTable(), build.tableGeneration());
+            structurePool = build.pool();
+            poolCache = build.cache();
+            runtime = RuntimeConfig.compile();
+        }
 
-        for (RawConfigEntry rawEntry : structurePoolRaw) {
-            if (rawEntry.isEmpty) {
-                // Empty entry - preserve original and expand biome tag patterns
-                Map<String, Integer> originalBiomeTags = rawEntry.biomes != null ?
-                    new LinkedHashMap<>(rawEntry.biomes) : new LinkedHashMap<>();
+        structuresDiscovered = true;
 
-                // Expand any patterns in biome tags
-                Map<String, Integer> expandedBiomeTags = expandBiomeTagPatterns(originalBiomeTags, registryAccess);
+        // INIT: Clean summary
+        MVSCommon.LOGGER.info("[MVS] Structure discovery complete: {} structures ready", build.pool().size());
+    }
 
-                expandedList.add(new ConfiguredStructure(originalBiomeTags, expandedBiomeTags));
-                emptyCount++;
-                if (debugLogging) {
-                    MVSCommon.LOGGER.info("[MVS] Debug: Empty entry: {} original tags, {} after expansion",
-                        originalBiomeTags.size(), expandedBiomeTags.size());
-                }
+    /**
+     * Discovery results per raw entry, for the registries they were built against.
+     * A reload reuses the entries of every raw entry that parses the same (value equality)
+     * instead of matching and expanding it again.
+     */
+    private record PoolCache(BiomeTagTable biomeTable, Registry<Structure> structureRegistry,
+                             Map<RawConfigEntry, List<ConfiguredStructure>> entries) {
 
-            } else if (rawEntry.structure != null) {
-                // Auto-detect: wildcards (*) = pattern, otherwise = exact structure
-                if (rawEntry.structure.contains("*")) {
-                    // Pattern - expand to all matching structures
-                    int matchCount = 0;
-                    for (ResourceLocation structureLoc : allStructures) {
-                        if (PatternMatcher.matches(structureLoc.toString(), rawEntry.structure)) {
-                            ConfiguredStructure configured = buildConfiguredStructure(
-                                structureLoc, registryAccess, structureRegistry, rawEntry);
-                            if (configured != null) {
-                                expandedList.add(configured);
-                                matchCount++;
-                            }
-                        }
-                    }
-                    patternCount++;
-                    if (debugLogging) {
-                        MVSCommon.LOGGER.info("[MVS] Debug: Pattern '{}' matched {} structures", rawEntry.structure, matchCount);
-                    }
-                    if (matchCount == 0) {
-                        // WARNING: Pattern matched nothing - user should know
-                        MVSCommon.LOGGER.warn("[MVS] Pattern '{}' matched 0 structures - check if mod is installed", rawEntry.structure);
-                    }
+        Map<RawConfigEntry, List<ConfiguredStructure>> reusableFor(BiomeTagTable table, Registry<Structure> registry) {
+            return table == biomeTable && registry == structureRegistry ? entries : Map.of();
+        }
+    }
+
+    /**
+     * A built pool plus the cache for the next build.
+     *
+     * @param biomeTable Table the pool was expanded against (published with the pool, not before)
+     * @param tableGeneration RegistryGeneration the table was built in
+     * @param reusedEntries Raw entries taken from the previous build
+     * @param rebuiltEntries Distinct raw entries matched and expanded this time
+     */
+    private record PoolBuild(List<ConfiguredStructure> pool, PoolCache cache, BiomeTagTable biomeTable,
+                             int tableGeneration, int reusedEntries, int rebuiltEntries) {}
+
+    /**
+     * Expand raw pool entries against the registries (phases 1-3 of discovery).
+     * Reads no config statics - also runs off-thread for background reloads.
+     * Raw entries already built against the same registries are reused from the previous cache;
+     * without one (first build after a restart) from the on-disk cache, if mods and registries match.
+     *
+     * @param previous Cache of the previous build (may be null)
+     * @param cacheFile On-disk cache to start from and update (null = none)
+     * @return Merged pool in config order (new mutable list) and the new cache
+     */
+    private static PoolBuild buildPool(List<RawConfigEntry> rawPool,
+                                       net.minecraft.core.RegistryAccess registryAccess,
+                                       Registry<Structure> structureRegistry,
+                                       PoolCache previous,
+                                       Path cacheFile) {
+        long startTime = System.nanoTime();
+
+        // Immutable snapshots shared by all workers
+        List<ResourceLocation> allStructures = List.copyOf(structureRegistry.keySet());
+        List<RawConfigEntry> rawEntries = List.copyOf(rawPool);
+
+        // Biomes and tags once for all pool entries (PatternMatcher's table if it is still current).
+        // Built locally - installed only when the caller publishes this build
+        int tableGeneration = RegistryGeneration.current();
+        BiomeTagTable biomeTable = PatternMatcher.biomeTableFor(
+            registryAccess.registryOrThrow(Registries.BIOME), tableGeneration);
+
+        // Only entries that are new or edited since the previous build are matched and expanded
+        Map<RawConfigEntry, List<ConfiguredStructure>> inMemory = previous != null
+            ? previous.reusableFor(biomeTable, structureRegistry) : Map.of();
+
+        // First build against these registries: start from the results an earlier run saved
+        byte[] cacheKey = null;
+        Map<RawConfigEntry, List<ConfiguredStructure>> onDisk = null;
+        if (inMemory.isEmpty() && cacheFile != null) {
+            cacheKey = PoolCacheFile.key(PoolCacheFile.installedMods(), allStructures, biomeTable);
+            onDisk = PoolCacheFile.read(cacheFile, cacheKey, biomeTable);
+        }
+        Map<RawConfigEntry, List<ConfiguredStructure>> reusable = onDisk != null ? onDisk : inMemory;
+        List<RawConfigEntry> changed = rawEntries.stream()
+            .filter(rawEntry -> !reusable.containsKey(rawEntry))
+            .distinct()
+            .toList();
+        BiomeUniverse biomeUniverse = changed.isEmpty() ? null : BiomeUniverse.of(biomeTable);
+        long universeTime = System.nanoTime();
+
+        // Phases 1 & 2 run in parallel; ordered streams keep results in config order
+        Map<RawConfigEntry, List<ConfiguredStructure>> built = new HashMap<>();
+        int builtStructures = 0;
+        long matchTime;
+        ForkJoinPool workers = new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+        try {
+            // Phase 1: Match structure patterns against the registry (one list per raw entry)
+            List<List<ResourceLocation>> matches = workers.submit(() -> changed.parallelStream()
+                .map(rawEntry -> matchStructures(rawEntry, allStructures))
+                .toList()).join();
+            matchTime = System.nanoTime();
+
+            // Phase 2: Expand biome patterns once per raw entry, then build ConfiguredStructures
+            List<EntryBiomes> entryBiomes = workers.submit(() -> changed.parallelStream()
+                .map(rawEntry -> expandEntryBiomes(rawEntry, biomeUniverse, biomeTable))
+                .toList()).join();
+
+            for (int i = 0; i < changed.size(); i++) {
+                RawConfigEntry rawEntry = changed.get(i);
+                EntryBiomes biomes = entryBiomes.get(i);
+                List<ConfiguredStructure> entries = new ArrayList<>();
+                if (rawEntry.isEmpty) {
+                    entries.add(ConfiguredStructure.compactEmpty(biomes.original(), biomes.weights()));
                 } else {
-                    // Specific structure
-                    ResourceLocation structureLoc = ResourceLocation.parse(rawEntry.structure);
-                    ConfiguredStructure configured = buildConfiguredStructure(
-                        structureLoc, registryAccess, structureRegistry, rawEntry);
-                    if (configured != null) {
-                        expandedList.add(configured);
-                        if (debugLogging) {
-                            MVSCommon.LOGGER.info("[MVS] Debug: Structure: {}", structureLoc);
+                    for (ResourceLocation structureLoc : matches.get(i)) {
+                        ConfiguredStructure entry = buildConfiguredStructure(structureLoc, biomes, structureRegistry, rawEntry);
+                        if (entry != null) {
+                            entries.add(entry);
                         }
                     }
                 }
+                built.put(rawEntry, List.copyOf(entries));
+                builtStructures += entries.size();
             }
+        } finally {
+            workers.shutdown();
         }
+        long expandTime = System.nanoTime();
 
-        // Phase 3: Merge duplicates (last wins)
+        // Phase 3: Merge duplicates (last wins) - serial, in config order
+        Map<RawConfigEntry, List<ConfiguredStructure>> cacheEntries = new HashMap<>();
         Map<String, ConfiguredStructure> merged = new LinkedHashMap<>();
-        for (ConfiguredStructure entry : expandedList) {
-            String key = entry.isEmpty ? "EMPTY_" + System.identityHashCode(entry) : entry.structure.toString();
-            merged.put(key, entry);
+        int reused = 0;
+        int emptyCount = 0;
+        Set<RawConfigEntry> warned = new HashSet<>();
+        for (RawConfigEntry rawEntry : rawEntries) {
+            List<ConfiguredStructure> entries = built.get(rawEntry);
+            if (entries == null) {
+                entries = reusable.get(rawEntry);
+                reused++;
+                // Cached against the same structure keys, so matching again would warn again
+                if (entries.isEmpty() && !rawEntry.isEmpty && rawEntry.structure != null && warned.add(rawEntry)) {
+                    if (rawEntry.structure.contains("*")) {
+                        warnPatternUnmatched(rawEntry.structure);
+                    } else {
+                        warnStructureMissing(ResourceLocation.parse(rawEntry.structure));
+                    }
+                }
+            }
+            cacheEntries.put(rawEntry, entries);
+            for (ConfiguredStructure entry : entries) {
+                String key = entry.isEmpty ? "EMPTY_" + emptyCount++ : entry.structure.toString();
+                merged.put(key, entry);
+            }
         }
 
-        structurePool = new ArrayList<>(merged.values());
+        long endTime = System.nanoTime();
 
-        structuresDiscovered = true;
+        MVSCommon.LOGGER.info("[MVS] Discovery took {} ms: biome snapshot {} ms, structure patterns {} ms ({} entries), "
+                + "biome expansion {} ms ({} structures), merge {} ms; {} of {} entries reused",
+            millis(endTime - startTime), millis(universeTime - startTime), millis(matchTime - universeTime),
+            changed.size(), millis(expandTime - matchTime), builtStructures, millis(endTime - expandTime),
+            reused, rawEntries.size());
+        if (onDisk != null) {
+            MVSCommon.LOGGER.info("[MVS] Pool cache: {} of {} entries loaded from {}", reused, rawEntries.size(), cacheFile);
+        }
 
-        // INIT: Clean summary
-        MVSCommon.LOGGER.info("[MVS] Structure discovery complete: {} structures ready", structurePool.size());
+        // Save what was (re)built for the next start
+        if (cacheFile != null && !changed.isEmpty()) {
+            try {
+                if (cacheKey == null) {
+                    cacheKey = PoolCacheFile.key(PoolCacheFile.installedMods(), allStructures, biomeTable);
+                }
+                PoolCacheFile.write(cacheFile, cacheKey, cacheEntries);
+            } catch (Exception e) {
+                MVSCommon.LOGGER.warn("[MVS] Could not write pool cache {}: {}", cacheFile, e.getMessage());
+            }
+        }
+
+        return new PoolBuild(new ArrayList<>(merged.values()),
+            new PoolCache(biomeTable, structureRegistry, Collections.unmodifiableMap(cacheEntries)),
+            biomeTable, tableGeneration, reused, changed.size());
     }
 
     /**
-     * Builds a ConfiguredStructure from a RawConfigEntry, expanding biome tag patterns
-     * biomes must be explicitly provided in config (required field)
+     * A raw entry's biomes: original patterns and expanded weights, shared by every structure it matched.
      */
-    private static ConfiguredStructure buildConfiguredStructure(
-            ResourceLocation structureLoc,
-            net.minecraft.core.RegistryAccess registryAccess,
-            Registry<Structure> structureRegistry,
-            RawConfigEntry rawEntry) {
+    private record EntryBiomes(Map<String, Integer> original, BiomeWeights weights) {}
 
-        Structure structure = structureRegistry.get(structureLoc);
-        if (structure == null) {
-            // WARNING: Structure from config not found - always show
-            MVSCommon.LOGGER.warn("[MVS] Structure '{}' not found in registry - check if mod is installed", structureLoc);
-            return null;
+    private static long millis(long nanos) {
+        return nanos / 1_000_000L;
+    }
+
+    /**
+     * Structures a raw entry applies to, in registry order.
+     * Auto-detect: wildcards (*) = pattern, otherwise = exact structure.
+     */
+    private static List<ResourceLocation> matchStructures(RawConfigEntry rawEntry, List<ResourceLocation> allStructures) {
+        if (rawEntry.isEmpty || rawEntry.structure == null) {
+            return List.of();
+        }
+
+        if (!rawEntry.structure.contains("*")) {
+            // Specific structure (existence checked when building)
+            ResourceLocation structureLoc = ResourceLocation.parse(rawEntry.structure);
+            if (debugLogging) {
+                MVSCommon.LOGGER.info("[MVS] Debug: Structure: {}", structureLoc);
+            }
+            return List.of(structureLoc);
         }
 
-        // Preserve original biomes (before expansion)
-        Map<String, Integer> originalBiomeTags = new LinkedHashMap<>(rawEntry.biomes);
+        // Pattern - expand to all matching structures
+        List<ResourceLocation> matched = new ArrayList<>();
+        WildcardPattern structurePattern = PatternMatcher.compile(rawEntry.structure);
+        for (ResourceLocation structureLoc : allStructures) {
+            if (structurePattern.matches(structureLoc.toString())) {
+                matched.add(structureLoc);
+            }
+        }
+        if (debugLogging) {
+            MVSCommon.LOGGER.info("[MVS] Debug: Pattern '{}' matched {} structures", rawEntry.structure, matched.size());
+        }
+        if (matched.isEmpty()) {
+            warnPatternUnmatched(rawEntry.structure);
+        }
+        return matched;
+    }
+
+    /**
+     * WARNING: Pattern matched nothing - user should know (also when the entry comes from the pool cache).
+     */
+    private static void warnPatternUnmatched(String pattern) {
+        MVSCommon.LOGGER.warn("[MVS] Pattern '{}' matched 0 structures - check if mod is installed", pattern);
+    }
+
+    /**
+     * WARNING: Structure from config not found - always show (also when the entry comes from the pool cache).
+     */
+    private static void warnStructureMissing(ResourceLocation structureLoc) {
+        MVSCommon.LOGGER.warn("[MVS] Structure '{}' not found in registry - check if mod is installed", structureLoc);
+    }
+
+    /**
+     * Expands a raw entry's biome patterns once, preserving the original patterns.
+     * The expanded biome IDs are stored compactly against the biome table.
+     */
+    private static EntryBiomes expandEntryBiomes(RawConfigEntry rawEntry, BiomeUniverse biomeUniverse,
+                                                 BiomeTagTable biomeTable) {
+        // Preserve original biomes (before expansion) - shared, read-only
+        Map<String, Integer> originalBiomeTags = Collections.unmodifiableMap(rawEntry.biomes != null ?
+            new LinkedHashMap<>(rawEntry.biomes) : new LinkedHashMap<>());
 
         // Expand any patterns in biome tags (#minecraft:is_*, #*:*, etc.)
         // Processes in specificity order: #*:* < #minecraft:* < #minecraft:is_plains
         // Returns NEW map (no side effects)
-        Map<String, Integer> expandedBiomeTags = expandBiomeTagPatterns(originalBiomeTags, registryAccess);
+        Map<String, Integer> expandedBiomeTags = expandBiomeTagPatterns(originalBiomeTags, biomeUniverse);
 
         // DEBUG: Check for expansion bug (should never happen)
         if (expandedBiomeTags.containsKey("#*:*")) {
-            MVSCommon.LOGGER.warn("[MVS] BUG: #*:* still present after expansion for {} - please report!", structureLoc);
+            MVSCommon.LOGGER.warn("[MVS] BUG: #*:* still present after expansion for {} - please report!",
+                rawEntry.isEmpty ? "empty entry" : rawEntry.structure);
+        }
+
+        if (debugLogging && rawEntry.isEmpty) {
+            MVSCommon.LOGGER.info("[MVS] Debug: Empty entry: {} original tags, {} after expansion",
+                originalBiomeTags.size(), expandedBiomeTags.size());
+        }
+        return new EntryBiomes(originalBiomeTags, BiomeWeights.of(biomeTable, expandedBiomeTags));
+    }
+
+    /**
+     * Builds a ConfiguredStructure from a RawConfigEntry and its expanded biomes
+     * biomes must be explicitly provided in config (required field)
+     */
+    private static ConfiguredStructure buildConfiguredStructure(
+            ResourceLocation structureLoc,
+            EntryBiomes biomes,
+            Registry<Structure> structureRegistry,
+            RawConfigEntry rawEntry) {
+
+        Structure structure = structureRegistry.get(structureLoc);
+        if (structure == null) {
+            warnStructureMissing(structureLoc);
+            return null;
         }
 
-        return new ConfiguredStructure(structureLoc, originalBiomeTags, expandedBiomeTags);
+        return ConfiguredStructure.compact(structureLoc, biomes.original(), biomes.weights(),
+            rawEntry.minDistanceSame, rawEntry.group, rawEntry.bandWeights);
     }
 
     /**
@@ -423,37 +940,12 @@ public class MVSConfig {
      */
     private static Map<String, Integer> expandBiomeTagPatterns(
             Map<String, Integer> biomes,
-            net.minecraft.core.RegistryAccess registryAccess) {
-
-        Registry<Biome> biomeRegistry = registryAccess.registryOrThrow(Registries.BIOME);
-
-        // Build data structures for BiomePoolExpander
-        Set<ResourceLocation> allBiomes = new HashSet<>();
-        Set<ResourceLocation> allTags = new HashSet<>();
-        Map<ResourceLocation, Set<String>> biomeTags = new HashMap<>();
-
-        // Collect all biomes, tags, and biome→tags mapping
-        for (Holder<Biome> biomeHolder : biomeRegistry.holders().toList()) {
-            ResourceLocation biomeId = biomeHolder.unwrapKey()
-                .map(k -> k.location())
-                .orElse(null);
-
-            if (biomeId != null) {
-                allBiomes.add(biomeId);
-
-                // Collect tags for this biome
-                Set<String> tagsForBiome = new HashSet<>();
-                biomeHolder.tags().forEach(tagKey -> {
-                    allTags.add(tagKey.location());
-                    tagsForBiome.add("#" + tagKey.location().toString());
-                });
-                biomeTags.put(biomeId, tagsForBiome);
-            }
-        }
+            BiomeUniverse biomeUniverse) {
 
         // Delegate to BiomePoolExpander (pure utility, testable!)
+        // The universe is shared by every pool entry - expansions are cached on it
         BiomePoolExpander.ExpansionResult<Integer> result = BiomePoolExpander.expandWithStats(
-            biomes, allBiomes, allTags, biomeTags);
+            biomes, biomeUniverse);
 
         // Log expansion results
         for (Map.Entry<String, Integer> entry : result.patternMatchCounts.entrySet()) {
@@ -481,19 +973,79 @@ public class MVSConfig {
     }
 
     /**
-     * v0.3.0: Filter structures by biome, then select using weighted random
-     * Implements the MVS strategy (filter-first, only strategy)
-     * Delegates to StructurePicker for testable business logic.
+     * Compiled runtime snapshot of the current config (see RuntimeConfig).
+     * Hot paths call this once per chunk and read everything from the result.
+     *
+     * A single volatile read: the snapshot is replaced only where the config is
+     * (load, discovery, commitReload, refreshRuntime), never compared against the fields.
      */
-    public static ConfiguredStructure selectStructure(Random random, Holder<net.minecraft.world.level.biome.Biome> biomeHolder) {
-        StructurePicker picker = new StructurePicker(structurePool);
-        ConfiguredStructure selected = picker.select(random, biomeHolder);
+    public static RuntimeConfig runtime() {
+        RuntimeConfig current = runtime;
+        return current != null ? current : refreshRuntime();
+    }
 
-        if (selected == null && debugLogging) {
-            MVSCommon.LOGGER.info("  No structures match biome tags - no spawn");
+    /**
+     * Recompile the snapshot from the config fields, registry ids and biome table, and publish it.
+     * For callers that replace config fields directly (tests) or switch registries.
+     */
+    public static RuntimeConfig refreshRuntime() {
+        synchronized (MVSConfig.class) {
+            RuntimeConfig compiled = RuntimeConfig.compile();
+            runtime = compiled;
+            return compiled;
         }
+    }
+
+    /**
+     * Compiled selector of the current runtime snapshot.
+     */
+    public static BandedSelector getSelector() {
+        return runtime().selector();
+    }
+
+    /**
+     * Whether a structure set is in block_structure_sets (current runtime snapshot).
+     */
+    public static boolean isBlockedStructureSet(Holder<StructureSet> structureSetHolder) {
+        return runtime().isBlockedStructureSet(structureSetHolder);
+    }
+
+    /**
+     * Whether a structure set is in intercept_structure_sets (current runtime snapshot).
+     */
+    public static boolean isInterceptedStructureSet(Holder<StructureSet> structureSetHolder) {
+        return runtime().isInterceptedStructureSet(structureSetHolder);
+    }
 
-        return selected;
+    /**
+     * Whether a structure matches blacklisted_structures (current runtime snapshot).
+     */
+    public static boolean isBlacklistedStructure(Structure structure) {
+        return runtime().isBlacklistedStructure(structure);
+    }
+
+    /**
+     * Whether a structure is in the discovered pool (current runtime snapshot).
+     */
+    public static boolean isPooledStructure(Holder<Structure> structureHolder) {
+        return runtime().isPooledStructure(structureHolder);
+    }
+
+    /**
+     * v0.3.0: Filter structures by biome, then select using weighted random
+     * Implements the MVS strategy (filter-first, only strategy)
+     * Delegates to the compiled BandedSelector (band of the placement chunk).
+     */
+    public static ConfiguredStructure selectStructure(Random random, Holder<net.minecraft.world.level.biome.Biome> biomeHolder,
+                                                      int chunkX, int chunkZ) {
+        return runtime().selectStructure(random, biomeHolder, chunkX, chunkZ);
+    }
+
+    /**
+     * Selection without a position (first distance band).
+     */
+    public static ConfiguredStructure selectStructure(Random random, Holder<net.minecraft.world.level.biome.Biome> biomeHolder) {
+        return selectStructure(random, biomeHolder, 0, 0);
     }
 
 }
@@ -1,7 +1,12 @@
 package com.rhett.multivillageselector.config;
 
+import com.rhett.multivillageselector.placement.HierarchicalGrid;
+import com.rhett.multivillageselector.placement.SpreadDistribution;
 import com.rhett.multivillageselector.util.LocateHelper;
 
+import java.util.Map;
+import java.util.Objects;
+
 /**
  * Immutable placement configuration for a single structure_set.
  * All fields are nullable - null means "inherit from registry".
@@ -11,9 +16,11 @@ import com.rhett.multivillageselector.util.LocateHelper;
  * - separation must be >= 0 if specified
  * - separation must be < spacing if both specified
  * - salt must be a valid integer if specified
- * - spreadType must be a valid SpreadType name if specified
+ * - spreadType must be a built-in SpreadType or a custom spread_types name if specified
  * - strategy must be a valid strategy name if specified
  * - exclusionZone must have valid other_set and chunk_count if specified
+ * - distance/spread/count (concentric_rings only) must be within vanilla's ranges if specified
+ * - grid (hierarchical_grid only) must have level spacings that divide super_cell
  */
 public class PlacementRule {
 
@@ -35,14 +42,44 @@ public class PlacementRule {
     /** Exclusion zone - avoid spawning near another structure set. Null = inherit from registry. */
     public final ExclusionZone exclusionZone;
 
+    /** Ring distance unit in chunks (concentric_rings). Null = inherit from registry. */
+    public final Integer distance;
+
+    /** Structures in the first ring (concentric_rings). Null = inherit from registry. */
+    public final Integer spread;
+
+    /** Total structures (concentric_rings). Null = inherit from registry. */
+    public final Integer count;
+
+    /** Super-cell grid levels (hierarchical_grid). Null = not configured (config only, no registry equivalent). */
+    public final HierarchicalGrid grid;
+
     public PlacementRule(Integer spacing, Integer separation, Integer salt,
-                         String spreadType, String strategy, ExclusionZone exclusionZone) {
+                         String spreadType, String strategy, ExclusionZone exclusionZone,
+                         Integer distance, Integer spread, Integer count, HierarchicalGrid grid) {
         this.spacing = spacing;
         this.separation = separation;
         this.salt = salt;
         this.spreadType = spreadType;
         this.strategy = strategy;
         this.exclusionZone = exclusionZone;
+        this.distance = distance;
+        this.spread = spread;
+        this.count = count;
+        this.grid = grid;
+    }
+
+    /** Constructor without hierarchical grid */
+    public PlacementRule(Integer spacing, Integer separation, Integer salt,
+                         String spreadType, String strategy, ExclusionZone exclusionZone,
+                         Integer distance, Integer spread, Integer count) {
+        this(spacing, separation, salt, spreadType, strategy, exclusionZone, distance, spread, count, null);
+    }
+
+    /** Constructor without concentric ring fields */
+    public PlacementRule(Integer spacing, Integer separation, Integer salt,
+                         String spreadType, String strategy, ExclusionZone exclusionZone) {
+        this(spacing, separation, salt, spreadType, strategy, exclusionZone, null, null, null);
     }
 
     /** Legacy constructor without exclusionZone for backwards compatibility */
@@ -63,22 +100,26 @@ public class PlacementRule {
      */
     public boolean isFullyInherited() {
         return spacing == null && separation == null && salt == null
-            && spreadType == null && strategy == null && exclusionZone == null;
+            && spreadType == null && strategy == null && exclusionZone == null
+            && distance == null && spread == null && count == null && grid == null;
     }
 
     /**
-     * Resolve spread type to enum, with fallback.
-     * @param fallback Default if spreadType is null or invalid
-     * @return Resolved SpreadType
+     * Resolve spread type to a distribution, with fallback.
+     * Built-in SpreadType names win; otherwise looks up the custom spread_types.
+     * @param fallback Default if spreadType is null or unknown
+     * @param spreadTypes Custom spread types of the config snapshot (lowercase name → distribution)
+     * @return Resolved SpreadDistribution
      */
-    public LocateHelper.SpreadType resolveSpreadType(LocateHelper.SpreadType fallback) {
+    public SpreadDistribution resolveSpreadType(SpreadDistribution fallback, Map<String, SpreadDistribution> spreadTypes) {
         if (spreadType == null) {
             return fallback;
         }
         try {
             return LocateHelper.SpreadType.valueOf(spreadType.toUpperCase());
         } catch (IllegalArgumentException e) {
-            return fallback;
+            SpreadDistribution custom = spreadTypes.get(spreadType.toLowerCase());
+            return custom != null ? custom : fallback;
         }
     }
 
@@ -89,6 +130,20 @@ public class PlacementRule {
         return strategy == null || "random_spread".equalsIgnoreCase(strategy);
     }
 
+    /**
+     * Check if strategy is "hierarchical_grid" with a valid grid.
+     */
+    public boolean isHierarchicalGrid() {
+        return "hierarchical_grid".equals(strategy) && grid != null;
+    }
+
+    /**
+     * Check if any concentric ring field is set.
+     */
+    public boolean hasRingFields() {
+        return distance != null || spread != null || count != null;
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder("PlacementRule{");
@@ -97,6 +152,10 @@ public class PlacementRule {
         if (salt != null) sb.append("salt=").append(salt).append(", ");
         if (spreadType != null) sb.append("spreadType=").append(spreadType).append(", ");
         if (strategy != null) sb.append("strategy=").append(strategy).append(", ");
+        if (distance != null) sb.append("distance=").append(distance).append(", ");
+        if (spread != null) sb.append("spread=").append(spread).append(", ");
+        if (count != null) sb.append("count=").append(count).append(", ");
+        if (grid != null) sb.append("grid=").append(grid).append(", ");
         if (sb.charAt(sb.length() - 2) == ',') {
             sb.setLength(sb.length() - 2); // Remove trailing ", "
         }
@@ -104,6 +163,23 @@ public class PlacementRule {
         return sb.toString();
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        PlacementRule that = (PlacementRule) o;
+        return Objects.equals(spacing, that.spacing) && Objects.equals(separation, that.separation)
+            && Objects.equals(salt, that.salt) && Objects.equals(spreadType, that.spreadType)
+            && Objects.equals(strategy, that.strategy) && Objects.equals(exclusionZone, that.exclusionZone)
+            && Objects.equals(distance, that.distance) && Objects.equals(spread, that.spread)
+            && Objects.equals(count, that.count) && Objects.equals(grid, that.grid);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(spacing, separation, salt, spreadType, strategy, exclusionZone, distance, spread, count, grid);
+    }
+
     /**
      * Builder for easier construction.
      */
@@ -114,6 +190,10 @@ public class PlacementRule {
         private String spreadType;
         private String strategy;
         private ExclusionZone exclusionZone;
+        private Integer distance;
+        private Integer spread;
+        private Integer count;
+        private HierarchicalGrid grid;
 
         public Builder spacing(Integer spacing) {
             this.spacing = spacing;
@@ -145,8 +225,29 @@ public class PlacementRule {
             return this;
         }
 
+        public Builder distance(Integer distance) {
+            this.distance = distance;
+            return this;
+        }
+
+        public Builder spread(Integer spread) {
+            this.spread = spread;
+            return this;
+        }
+
+        public Builder count(Integer count) {
+            this.count = count;
+            return this;
+        }
+
+        public Builder grid(HierarchicalGrid grid) {
+            this.grid = grid;
+            return this;
+        }
+
         public PlacementRule build() {
-            return new PlacementRule(spacing, separation, salt, spreadType, strategy, exclusionZone);
+            return new PlacementRule(spacing, separation, salt, spreadType, strategy, exclusionZone,
+                distance, spread, count, grid);
         }
     }
 }
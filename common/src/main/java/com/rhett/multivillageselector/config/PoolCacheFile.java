@@ -0,0 +1,317 @@
+package com.rhett.multivillageselector.config;
+
+import com.rhett.multivillageselector.MVSCommon;
+import com.rhett.multivillageselector.util.BiomeTagTable;
+import com.rhett.multivillageselector.util.BiomeWeights;
+import dev.architectury.platform.Platform;
+import net.minecraft.resources.ResourceLocation;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * On-disk copy of the discovery results per structure_pool entry
+ * (config/multivillageselector.cache), so a restart with the same mods
+ * and registries skips structure matching and biome expansion.
+ *
+ * The file is keyed by a SHA-256 of the installed mods (id and version), the
+ * structure registry keys and the biome registry with every biome's tags - the
+ * only inputs discovery reads besides the raw entries. Raw entries are stored
+ * with their results and matched by value, so a config edit only rebuilds the
+ * entries that changed. A different key, a format change or a damaged file is
+ * a miss - discovery then runs as usual and rewrites the file.
+ *
+ * Format (DataOutput, big-endian): magic, version, key, then per raw entry
+ * the entry, its expanded biome weights (shared by every structure it matched)
+ * and the matched structure IDs. Weight maps carry a presence flag per value -
+ * BiomeWeights keeps null weights of unresolved keys as they were.
+ */
+final class PoolCacheFile {
+
+    private static final String FILENAME = "multivillageselector.cache";
+    private static final int MAGIC = 0x4D565350;   // "MVSP"
+    private static final int FORMAT_VERSION = 2;
+
+    private PoolCacheFile() {}
+
+    /**
+     * Cache file location (next to the config file).
+     */
+    static Path defaultPath() {
+        return Platform.getConfigFolder().resolve(FILENAME);
+    }
+
+    /**
+     * Installed mods as "id@version", sorted.
+     */
+    static List<String> installedMods() {
+        List<String> mods = new ArrayList<>();
+        for (var mod : Platform.getMods()) {
+            mods.add(mod.getModId() + "@" + mod.getVersion());
+        }
+        Collections.sort(mods);
+        return mods;
+    }
+
+    /**
+     * Hash of everything discovery reads besides the raw entries.
+     *
+     * @param mods Installed mods (see installedMods())
+     * @param structures Structure registry keys (any order)
+     * @param biomeTable Biome table the expanded weights refer to
+     */
+    static byte[] key(List<String> mods, Collection<ResourceLocation> structures, BiomeTagTable biomeTable) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+
+        update(digest, "mods");
+        for (String mod : mods) {
+            update(digest, mod);
+        }
+
+        update(digest, "structures");
+        List<String> structureIds = new ArrayList<>(structures.size());
+        for (ResourceLocation structure : structures) {
+            structureIds.add(structure.toString());
+        }
+        Collections.sort(structureIds);
+        for (String structure : structureIds) {
+            update(digest, structure);
+        }
+
+        // Biome ids are part of the key - cached weights store them directly
+        update(digest, "biomes");
+        for (int biomeId = 0; biomeId < biomeTable.biomeCount(); biomeId++) {
+            String biome = biomeTable.getBiomeName(biomeId);
+            update(digest, biome != null ? biome : "");
+            List<String> tags = new ArrayList<>();
+            for (int tagId : biomeTable.getTagIds(biomeId)) {
+                tags.add(biomeTable.getTag(tagId).toString());
+            }
+            Collections.sort(tags);
+            for (String tag : tags) {
+                update(digest, "#" + tag);
+            }
+        }
+        return digest.digest();
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    /**
+     * Cached results for a key.
+     *
+     * @param biomeTable Table to rebuild the biome weights against (the one the key was computed from)
+     * @return Discovery results per raw entry, or null on a miss (no file, other key, unreadable)
+     */
+    static Map<MVSConfig.RawConfigEntry, List<MVSConfig.ConfiguredStructure>> read(Path file, byte[] key,
+                                                                                   BiomeTagTable biomeTable) {
+        byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(file);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            MVSCommon.LOGGER.warn("[MVS] Could not read pool cache {}: {}", file, e.getMessage());
+            return null;
+        }
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                MVSCommon.LOGGER.info("[MVS] Pool cache is from another MVS version - running full discovery");
+                return null;
+            }
+            byte[] fileKey = new byte[key.length];
+            in.readFully(fileKey);
+            if (!MessageDigest.isEqual(fileKey, key)) {
+                MVSCommon.LOGGER.info("[MVS] Mods or registries changed since the pool cache was written - running full discovery");
+                return null;
+            }
+
+            int entryCount = readCount(in);
+            Map<MVSConfig.RawConfigEntry, List<MVSConfig.ConfiguredStructure>> entries = new HashMap<>();
+            for (int i = 0; i < entryCount; i++) {
+                MVSConfig.RawConfigEntry rawEntry = readRawEntry(in);
+                entries.put(rawEntry, readStructures(in, rawEntry, biomeTable));
+            }
+            if (in.available() != 0) {
+                throw new IOException("trailing data");
+            }
+            return entries;
+        } catch (IOException | RuntimeException e) {
+            MVSCommon.LOGGER.warn("[MVS] Pool cache {} is damaged ({}) - running full discovery", file, e.toString());
+            return null;
+        }
+    }
+
+    /**
+     * Write the results of a discovery (replaces the file atomically).
+     */
+    static void write(Path file, byte[] key,
+                      Map<MVSConfig.RawConfigEntry, List<MVSConfig.ConfiguredStructure>> entries) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.write(key);
+            out.writeInt(entries.size());
+            for (Map.Entry<MVSConfig.RawConfigEntry, List<MVSConfig.ConfiguredStructure>> entry : entries.entrySet()) {
+                writeRawEntry(out, entry.getKey());
+                writeStructures(out, entry.getKey(), entry.getValue());
+            }
+        }
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(temp, bytes.toByteArray());
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void writeRawEntry(DataOutputStream out, MVSConfig.RawConfigEntry rawEntry) throws IOException {
+        out.writeBoolean(rawEntry.isEmpty);
+        writeNullableString(out, rawEntry.structure);
+        writeWeights(out, rawEntry.biomes);
+        out.writeInt(rawEntry.minDistanceSame);
+        writeNullableString(out, rawEntry.group);
+        if (rawEntry.bandWeights == null) {
+            out.writeInt(-1);
+        } else {
+            out.writeInt(rawEntry.bandWeights.length);
+            for (double weight : rawEntry.bandWeights) {
+                out.writeDouble(weight);
+            }
+        }
+    }
+
+    private static MVSConfig.RawConfigEntry readRawEntry(DataInputStream in) throws IOException {
+        boolean isEmpty = in.readBoolean();
+        String structure = readNullableString(in);
+        Map<String, Integer> biomes = readWeights(in);
+        int minDistanceSame = in.readInt();
+        String group = readNullableString(in);
+        int bandCount = in.readInt();
+        double[] bandWeights = null;
+        if (bandCount >= 0) {
+            if (bandCount > in.available()) {
+                throw new IOException("bad band count " + bandCount);
+            }
+            bandWeights = new double[bandCount];
+            for (int i = 0; i < bandCount; i++) {
+                bandWeights[i] = in.readDouble();
+            }
+        }
+        return new MVSConfig.RawConfigEntry(isEmpty, structure, biomes, minDistanceSame, group, bandWeights);
+    }
+
+    private static void writeStructures(DataOutputStream out, MVSConfig.RawConfigEntry rawEntry,
+                                        List<MVSConfig.ConfiguredStructure> structures) throws IOException {
+        out.writeInt(structures.size());
+        if (structures.isEmpty()) {
+            return;
+        }
+
+        // Every structure of a raw entry shares one BiomeWeights - stored once
+        BiomeWeights weights = structures.get(0).getBiomeWeights();
+        out.writeInt(weights.size() - weights.unresolved().size());
+        for (int i = 0; i < weights.size() - weights.unresolved().size(); i++) {
+            out.writeInt(weights.biomeIdAt(i));
+            out.writeInt(weights.weightAt(i));
+        }
+        writeWeights(out, weights.unresolved());
+
+        if (!rawEntry.isEmpty) {
+            for (MVSConfig.ConfiguredStructure structure : structures) {
+                out.writeUTF(structure.structure.toString());
+            }
+        }
+    }
+
+    private static List<MVSConfig.ConfiguredStructure> readStructures(DataInputStream in,
+                                                                      MVSConfig.RawConfigEntry rawEntry,
+                                                                      BiomeTagTable biomeTable) throws IOException {
+        int count = readCount(in);
+        if (count == 0) {
+            return List.of();
+        }
+
+        int biomeCount = readCount(in);
+        int[] biomeIds = new int[biomeCount];
+        int[] biomeWeights = new int[biomeCount];
+        for (int i = 0; i < biomeCount; i++) {
+            biomeIds[i] = in.readInt();
+            biomeWeights[i] = in.readInt();
+        }
+        BiomeWeights weights = BiomeWeights.of(biomeTable, biomeIds, biomeWeights, readWeights(in));
+        Map<String, Integer> original = Collections.unmodifiableMap(new LinkedHashMap<>(rawEntry.biomes));
+
+        if (rawEntry.isEmpty) {
+            return List.of(MVSConfig.ConfiguredStructure.compactEmpty(original, weights));
+        }
+        List<MVSConfig.ConfiguredStructure> structures = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            structures.add(MVSConfig.ConfiguredStructure.compact(ResourceLocation.parse(in.readUTF()), original,
+                weights, rawEntry.minDistanceSame, rawEntry.group, rawEntry.bandWeights));
+        }
+        return List.copyOf(structures);
+    }
+
+    private static void writeWeights(DataOutputStream out, Map<String, Integer> weights) throws IOException {
+        out.writeInt(weights.size());
+        for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+            out.writeUTF(entry.getKey());
+            out.writeBoolean(entry.getValue() != null);
+            if (entry.getValue() != null) {
+                out.writeInt(entry.getValue());
+            }
+        }
+    }
+
+    private static Map<String, Integer> readWeights(DataInputStream in) throws IOException {
+        int size = readCount(in);
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            String key = in.readUTF();
+            weights.put(key, in.readBoolean() ? in.readInt() : null);
+        }
+        return weights;
+    }
+
+    /**
+     * A length prefix - every counted item takes at least one byte, so more than the rest of the file is damage.
+     */
+    private static int readCount(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        if (count < 0 || count > in.available()) {
+            throw new IOException("bad count " + count);
+        }
+        return count;
+    }
+
+    private static void writeNullableString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullableString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -0,0 +1,388 @@
+package com.rhett.multivillageselector.config;
+
+import com.rhett.multivillageselector.MVSCommon;
+import com.rhett.multivillageselector.placement.SpreadDistribution;
+import com.rhett.multivillageselector.strategy.BandedSelector;
+import com.rhett.multivillageselector.util.BiomeTagTable;
+import com.rhett.multivillageselector.util.LocateHelper;
+import com.rhett.multivillageselector.util.PatternMatcher;
+import com.rhett.multivillageselector.util.PlacementResolver;
+import com.rhett.multivillageselector.util.RegistryIds;
+import com.rhett.multivillageselector.util.WildcardPattern;
+
+import net.minecraft.core.Holder;
+import net.minecraft.core.Registry;
+import net.minecraft.world.level.biome.Biome;
+import net.minecraft.world.level.levelgen.structure.Structure;
+import net.minecraft.world.level.levelgen.structure.StructureSet;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The whole effective config, compiled into one immutable snapshot.
+ * Published by MVSConfig through a single volatile reference - safe to share across threads.
+ *
+ * Worldgen workers read MVSConfig.runtime() once per chunk and use only that
+ * snapshot, so a reload that replaces the config statics one by one can never
+ * hand a chunk the new pool with the old placement, blacklist or frequencies.
+ *
+ * Holds:
+ * - copies of the config fields (lists and maps are unmodifiable copies)
+ * - the compiled BandedSelector (pool, distance bands, biome_frequency per biome id)
+ * - block / intercept / blacklist / pool flags as BitSets over RegistryIds
+ * - distance rule radii per pool entry (min_distance_same, min_distance_groups)
+ * - resolved placements per structure set (filled lazily, config + registry defaults)
+ */
+public final class RuntimeConfig {
+
+    public final boolean enabled;
+    public final boolean debugLogging;
+    public final boolean relaxedBiomeValidation;
+    public final List<String> blockStructureSets;
+    public final List<String> interceptStructureSets;
+    public final List<String> blacklistedStructures;
+    public final List<MVSConfig.ConfiguredStructure> structurePool;
+    public final Map<String, PlacementRule> placement;
+    public final Map<String, SpreadDistribution> spreadTypes;
+    public final Map<String, Integer> minDistanceGroups;
+
+    // Config instances this snapshot was compiled from (selector reuse on reload)
+    private final Sources sources;
+
+    private final RegistryIds ids;
+    private final BiomeTagTable biomeTable;
+    private final BandedSelector selector;
+    private final boolean selectorReused;
+    private final BitSet blockedSets = new BitSet();
+    private final BitSet interceptedSets = new BitSet();
+    private final BitSet blacklistedIds = new BitSet();
+    private final BitSet pooledIds = new BitSet();
+    private final Set<String> pooledNames = new HashSet<>();
+
+    // Pool entry → largest distance rule in chunks (entries without a rule are absent)
+    private final Map<MVSConfig.ConfiguredStructure, Integer> ruleRadii = new IdentityHashMap<>();
+    // Selector over entries without a distance rule (spacing fallback), null when no rules
+    private final BandedSelector unconstrained;
+
+    // Structure set ID → resolved placement (registry defaults are per server, like ids)
+    private final Map<String, Placement> placements = new ConcurrentHashMap<>();
+
+    /**
+     * Resolved placement of one structure set plus its strategy (built once, shared).
+     */
+    public record Placement(PlacementResolver.ResolvedPlacement resolved, LocateHelper.PlacementStrategy strategy) {}
+
+    /**
+     * Config field instances a snapshot is compiled from: the MVSConfig statics, or
+     * the values a background reload will assign to them once it is committed.
+     */
+    record Sources(boolean enabled, boolean debugLogging, boolean relaxedBiomeValidation,
+                   List<String> blockStructureSets, List<String> interceptStructureSets,
+                   List<String> blacklistedStructures, List<MVSConfig.ConfiguredStructure> structurePool,
+                   Map<String, Double> biomeFrequency, Map<String, double[]> biomeFrequencyBands,
+                   int[] distanceBands, Map<String, PlacementRule> placement,
+                   Map<String, SpreadDistribution> spreadTypes, Map<String, Integer> minDistanceGroups,
+                   RegistryIds ids, BiomeTagTable biomeTable) {
+
+        static Sources current() {
+            return new Sources(MVSConfig.enabled, MVSConfig.debugLogging, MVSConfig.relaxedBiomeValidation,
+                MVSConfig.blockStructureSets, MVSConfig.interceptStructureSets,
+                MVSConfig.blacklistedStructures, MVSConfig.structurePool,
+                MVSConfig.biomeFrequency, MVSConfig.biomeFrequencyBands,
+                MVSConfig.distanceBands, MVSConfig.placement,
+                MVSConfig.spreadTypes, MVSConfig.minDistanceGroups,
+                RegistryIds.current(), PatternMatcher.getBiomeTable());
+        }
+    }
+
+    private RuntimeConfig(Sources sources, RuntimeConfig previous) {
+        this.sources = sources;
+        this.enabled = sources.enabled();
+        this.debugLogging = sources.debugLogging();
+        this.relaxedBiomeValidation = sources.relaxedBiomeValidation();
+
+        this.blockStructureSets = List.copyOf(sources.blockStructureSets());
+        this.interceptStructureSets = List.copyOf(sources.interceptStructureSets());
+        this.blacklistedStructures = List.copyOf(sources.blacklistedStructures());
+        this.structurePool = List.copyOf(sources.structurePool());
+        this.placement = Collections.unmodifiableMap(new LinkedHashMap<>(sources.placement()));
+        this.spreadTypes = Collections.unmodifiableMap(new LinkedHashMap<>(sources.spreadTypes()));
+        this.minDistanceGroups = Collections.unmodifiableMap(new LinkedHashMap<>(sources.minDistanceGroups()));
+
+        this.ids = sources.ids();
+        this.biomeTable = sources.biomeTable();
+        this.selectorReused = previous != null && previous.hasSameSelectorInputs(sources);
+        this.selector = selectorReused ? previous.selector : BandedSelector.compile(structurePool,
+            sources.distanceBands().clone(), new LinkedHashMap<>(sources.biomeFrequency()),
+            new LinkedHashMap<>(sources.biomeFrequencyBands()), biomeTable);
+
+        for (MVSConfig.ConfiguredStructure entry : structurePool) {
+            int radius = computeRuleRadius(entry);
+            if (radius > 0) {
+                ruleRadii.put(entry, radius);
+            }
+        }
+        this.unconstrained = ruleRadii.isEmpty() ? null : selector.restrictTo(entry -> !ruleRadii.containsKey(entry));
+
+        RegistryIds.IdSpace<StructureSet> sets = ids.structureSets();
+        for (String setId : blockStructureSets) {
+            setIfKnown(blockedSets, sets.getId(setId));
+        }
+        for (String setId : interceptStructureSets) {
+            setIfKnown(interceptedSets, sets.getId(setId));
+        }
+
+        // Blacklist patterns are matched against every structure name once, here (or kept if unchanged)
+        RegistryIds.IdSpace<Structure> structures = ids.structures();
+        if (previous != null && previous.ids == ids && previous.blacklistedStructures.equals(blacklistedStructures)) {
+            blacklistedIds.or(previous.blacklistedIds);
+        } else {
+            List<WildcardPattern> patterns = blacklistedStructures.stream().map(PatternMatcher::compile).toList();
+            for (int id = 0; id < structures.size(); id++) {
+                String name = structures.getName(id);
+                if (name != null && patterns.stream().anyMatch(pattern -> pattern.matches(name))) {
+                    blacklistedIds.set(id);
+                }
+            }
+        }
+        for (MVSConfig.ConfiguredStructure entry : structurePool) {
+            if (entry.structure != null) {
+                setIfKnown(pooledIds, structures.getId(entry.structure));
+                pooledNames.add(entry.structure.toString());
+            }
+        }
+    }
+
+    /**
+     * Compile the current MVSConfig statics. Callers hold the MVSConfig lock.
+     */
+    static RuntimeConfig compile() {
+        return new RuntimeConfig(Sources.current(), null);
+    }
+
+    /**
+     * Compile from explicit field instances (background reload - nothing is read from MVSConfig).
+     * Parts whose inputs are unchanged since the previous snapshot are reused rather than
+     * recompiled: the selector, blacklist flags and placements whose rule is unchanged.
+     *
+     * @param previous Snapshot being replaced (may be null)
+     */
+    static RuntimeConfig compile(Sources sources, RuntimeConfig previous) {
+        RuntimeConfig compiled = new RuntimeConfig(sources, previous);
+        if (previous != null && previous.ids == compiled.ids) {
+            previous.placements.forEach((setId, resolved) -> {
+                // Custom spread types are reparsed objects - only placements without one carry over
+                if (Objects.equals(previous.placement.get(setId), compiled.placement.get(setId))
+                        && resolved.resolved().spreadType instanceof LocateHelper.SpreadType) {
+                    compiled.placements.put(setId, resolved);
+                }
+            });
+        }
+        return compiled;
+    }
+
+    /**
+     * Whether a selector compiled from these sources would equal this snapshot's:
+     * same pool entries (by identity), bands, frequencies and biome table.
+     */
+    private boolean hasSameSelectorInputs(Sources next) {
+        if (next.biomeTable() != biomeTable || !next.structurePool().equals(structurePool)
+                || !Arrays.equals(next.distanceBands(), sources.distanceBands())
+                || !next.biomeFrequency().equals(sources.biomeFrequency())
+                || !next.biomeFrequencyBands().keySet().equals(sources.biomeFrequencyBands().keySet())) {
+            return false;
+        }
+        for (Map.Entry<String, double[]> entry : next.biomeFrequencyBands().entrySet()) {
+            if (!Arrays.equals(entry.getValue(), sources.biomeFrequencyBands().get(entry.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether the selector was carried over from the previous snapshot (incremental reload).
+     */
+    public boolean isSelectorReused() {
+        return selectorReused;
+    }
+
+    /**
+     * Placements resolved so far (carried over ones included).
+     */
+    public int resolvedPlacementCount() {
+        return placements.size();
+    }
+
+    private static void setIfKnown(BitSet bits, int id) {
+        if (id >= 0) {
+            bits.set(id);
+        }
+    }
+
+    Sources sources() {
+        return sources;
+    }
+
+    public RegistryIds ids() {
+        return ids;
+    }
+
+    /**
+     * Compiled selector (pool, distance bands, biome_frequency) of this snapshot.
+     */
+    public BandedSelector selector() {
+        return selector;
+    }
+
+    /**
+     * Whether any pool entry has a distance rule (min_distance_same, min_distance_groups).
+     */
+    public boolean hasDistanceRules() {
+        return unconstrained != null;
+    }
+
+    /**
+     * Largest distance rule that applies to a pool entry, in chunks (0 = none).
+     */
+    public int ruleRadius(MVSConfig.ConfiguredStructure configured) {
+        Integer radius = ruleRadii.get(configured);
+        return radius != null ? radius : 0;
+    }
+
+    /**
+     * Distance of a min_distance_groups group, in chunks (0 = no group or no rule).
+     */
+    public int groupDistance(String group) {
+        Integer distance = group != null ? minDistanceGroups.get(group) : null;
+        return distance != null ? distance : 0;
+    }
+
+    /**
+     * Selector over pool entries without a distance rule (same bands and frequencies),
+     * or null when no entry has one.
+     */
+    public BandedSelector unconstrainedSelector() {
+        return unconstrained;
+    }
+
+    private int computeRuleRadius(MVSConfig.ConfiguredStructure configured) {
+        if (configured == null || configured.isEmpty) {
+            return 0;
+        }
+        return Math.max(configured.minDistanceSame, groupDistance(configured.group));
+    }
+
+    /**
+     * Whether a structure set is in block_structure_sets.
+     * Resolved by registry id; sets outside the registry snapshot fall back to the name.
+     */
+    public boolean isBlockedStructureSet(Holder<StructureSet> structureSetHolder) {
+        int id = ids.structureSets().getId(structureSetHolder);
+        return id >= 0 ? blockedSets.get(id) : blockStructureSets.contains(nameOf(structureSetHolder));
+    }
+
+    /**
+     * Whether a structure set is in intercept_structure_sets (same resolution as isBlockedStructureSet).
+     */
+    public boolean isInterceptedStructureSet(Holder<StructureSet> structureSetHolder) {
+        int id = ids.structureSets().getId(structureSetHolder);
+        return id >= 0 ? interceptedSets.get(id) : interceptStructureSets.contains(nameOf(structureSetHolder));
+    }
+
+    /**
+     * Whether a structure matches blacklisted_structures (patterns pre-matched per structure id).
+     */
+    public boolean isBlacklistedStructure(Structure structure) {
+        int id = ids.structures().getId(structure);
+        return id >= 0 && blacklistedIds.get(id);
+    }
+
+    /**
+     * Whether a structure is in the discovered pool.
+     */
+    public boolean isPooledStructure(Holder<Structure> structureHolder) {
+        int id = ids.structures().getId(structureHolder);
+        if (id >= 0) {
+            return pooledIds.get(id);
+        }
+        String name = nameOf(structureHolder);
+        return name != null && pooledNames.contains(name);
+    }
+
+    /**
+     * Whether a structure is in the discovered pool, by value (e.g. from inside Structure).
+     * Structures outside the registry snapshot fall back to their registry name.
+     *
+     * @param structure The structure instance
+     * @param name Its registry name, or null if unknown
+     */
+    public boolean isPooledStructure(Structure structure, String name) {
+        int id = ids.structures().getId(structure);
+        if (id >= 0) {
+            return pooledIds.get(id);
+        }
+        return name != null && pooledNames.contains(name);
+    }
+
+    /**
+     * Effective placement of a structure set: this snapshot's placement rules over
+     * registry defaults. Resolved once per structure set and shared.
+     *
+     * @param structureSetId The structure set ID (e.g., "minecraft:villages")
+     * @param structureSetRegistry Registry to read default values from
+     */
+    public Placement placement(String structureSetId, Registry<StructureSet> structureSetRegistry) {
+        if (structureSetId == null) {
+            return resolvePlacement(null, structureSetRegistry);
+        }
+        Placement cached = placements.get(structureSetId);
+        if (cached == null) {
+            cached = resolvePlacement(structureSetId, structureSetRegistry);
+            Placement raced = placements.putIfAbsent(structureSetId, cached);
+            if (raced != null) {
+                cached = raced;
+            }
+        }
+        return cached;
+    }
+
+    private Placement resolvePlacement(String structureSetId, Registry<StructureSet> structureSetRegistry) {
+        PlacementResolver.ResolvedPlacement resolved =
+            PlacementResolver.resolve(structureSetId, structureSetRegistry, placement, spreadTypes);
+        return new Placement(resolved, resolved.toStrategy());
+    }
+
+    /**
+     * Filter structures by biome, then select using weighted random
+     * (compiled selector, band of the placement chunk).
+     */
+    public MVSConfig.ConfiguredStructure selectStructure(Random random, Holder<Biome> biomeHolder,
+                                                         int chunkX, int chunkZ) {
+        MVSConfig.ConfiguredStructure selected = selector.select(random, biomeHolder, selector.band(chunkX, chunkZ));
+
+        if (selected == null && debugLogging) {
+            MVSCommon.LOGGER.info("  No structures match biome tags - no spawn");
+        }
+
+        return selected;
+    }
+
+    /**
+     * Registry name built from a holder's key - fallback for holders outside the id snapshot.
+     */
+    private static <T> String nameOf(Holder<T> holder) {
+        return holder.unwrapKey().map(key -> key.location().toString()).orElse(null);
+    }
+}
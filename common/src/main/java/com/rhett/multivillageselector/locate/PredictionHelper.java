@@ -2,6 +2,7 @@ package com.rhett.multivillageselector.locate;
 
 import com.rhett.multivillageselector.MVSCommon;
 import com.rhett.multivillageselector.config.MVSConfig;
+import com.rhett.multivillageselector.config.RuntimeConfig;
 import com.rhett.multivillageselector.util.LocateHelper;
 import com.rhett.multivillageselector.util.LocateHelper.BiomeSampler;
 import com.rhett.multivillageselector.util.LocateHelper.PlacementStrategy;
@@ -100,6 +101,9 @@ public class PredictionHelper {
 
         List<ChunkPrediction> predictions = new ArrayList<>();
 
+        // One config snapshot for every simulated chunk
+        RuntimeConfig config = MVSConfig.runtime();
+
         int startChunkX = startPos.getX() >> 4;
         int startChunkZ = startPos.getZ() >> 4;
 
@@ -140,7 +144,7 @@ public class PredictionHelper {
                 .orElse("unknown");
 
             // Simulate MVS selection at this chunk
-            MVSConfig.ConfiguredStructure selected = LocateHelper.simulateSelection(chunkX, chunkZ, seed, biomeHolder);
+            MVSConfig.ConfiguredStructure selected = LocateHelper.simulateSelection(config, chunkX, chunkZ, seed, biomeHolder, strategy, biomeSampler);
 
             String structureId = null;
             if (selected != null && !selected.isEmpty && selected.structure != null) {
@@ -208,6 +212,24 @@ public class PredictionHelper {
             BiomeSampler biomeSampler,
             int maxResults,
             int maxRadiusChunks) {
+        return findChunksForStructure(MVSConfig.runtime(), targetStructureId, startPos, seed,
+            strategy, biomeSampler, maxResults, maxRadiusChunks);
+    }
+
+    /**
+     * Find chunks where a specific structure will spawn, against one config snapshot.
+     *
+     * @param config Config snapshot used for every simulated chunk
+     */
+    public static List<ChunkPrediction> findChunksForStructure(
+            RuntimeConfig config,
+            String targetStructureId,
+            BlockPos startPos,
+            long seed,
+            PlacementStrategy strategy,
+            BiomeSampler biomeSampler,
+            int maxResults,
+            int maxRadiusChunks) {
 
         List<ChunkPrediction> results = new ArrayList<>();
 
@@ -259,7 +281,7 @@ public class PredictionHelper {
             Holder<Biome> biomeHolder = biomeSampler.getBiomeAt(biomeX, 0, biomeZ);
 
             // Simulate selection
-            MVSConfig.ConfiguredStructure selected = LocateHelper.simulateSelection(chunkX, chunkZ, seed, biomeHolder);
+            MVSConfig.ConfiguredStructure selected = LocateHelper.simulateSelection(config, chunkX, chunkZ, seed, biomeHolder, strategy, biomeSampler);
 
             // Check if target structure was selected
             if (selected != null && !selected.isEmpty &&
@@ -270,7 +292,7 @@ public class PredictionHelper {
                     .orElse("unknown");
 
                 // Enhanced debug logging - matches generation format for comparison
-                if (MVSConfig.debugLogging) {
+                if (config.debugLogging) {
                     long randomSeed = seed + chunkX * 341873128712L + chunkZ * 132897987541L;
                     MVSCommon.LOGGER.info("[MVS] === PREDICTION at chunk [{}, {}] world [{}, {}] ===",
                         chunkX, chunkZ, biomeX, biomeZ);
@@ -314,8 +336,25 @@ public class PredictionHelper {
             Registry<StructureSet> structureSetRegistry,
             int maxResults,
             int maxRadiusChunks) {
+        return findChunksForStructureWithConfig(MVSConfig.runtime(), targetStructureId, structureSetId,
+            startPos, seed, biomeSampler, structureSetRegistry, maxResults, maxRadiusChunks);
+    }
 
-        PlacementStrategy strategy = LocateHelper.getConfiguredPlacement(structureSetId, structureSetRegistry);
-        return findChunksForStructure(targetStructureId, startPos, seed, strategy, biomeSampler, maxResults, maxRadiusChunks);
+    /**
+     * Find chunks for a structure with placement and selection from one config snapshot.
+     */
+    public static List<ChunkPrediction> findChunksForStructureWithConfig(
+            RuntimeConfig config,
+            String targetStructureId,
+            String structureSetId,
+            BlockPos startPos,
+            long seed,
+            BiomeSampler biomeSampler,
+            Registry<StructureSet> structureSetRegistry,
+            int maxResults,
+            int maxRadiusChunks) {
+
+        PlacementStrategy strategy = LocateHelper.getConfiguredPlacement(config, structureSetId, structureSetRegistry);
+        return findChunksForStructure(config, targetStructureId, startPos, seed, strategy, biomeSampler, maxResults, maxRadiusChunks);
     }
 }
\ No newline at end of file
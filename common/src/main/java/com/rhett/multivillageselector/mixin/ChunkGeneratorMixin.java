@@ -2,9 +2,9 @@ package com.rhett.multivillageselector.mixin;
 
 import com.rhett.multivillageselector.MVSCommon;
 import com.rhett.multivillageselector.config.MVSConfig;
+import com.rhett.multivillageselector.config.RuntimeConfig;
 import com.rhett.multivillageselector.strategy.StructureInterceptor;
 import net.minecraft.core.Holder;
-import net.minecraft.core.Registry;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.level.ChunkPos;
@@ -103,34 +103,21 @@ public abstract class ChunkGeneratorMixin {
             net.minecraft.core.SectionPos sectionPos,
             org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable<Boolean> cir
     ) {
-        if (!MVSConfig.enabled) {
+        // One snapshot for the whole check (a reload can't swap config between reads)
+        RuntimeConfig config = MVSConfig.runtime();
+        if (!config.enabled) {
             return;
         }
 
-        // Check blacklist
+        // Check blacklist (patterns pre-matched per structure id - no name built here)
         Structure structure = entry.structure().value();
-        Registry<Structure> registry = registryAccess.registryOrThrow(Registries.STRUCTURE);
-        ResourceLocation structureLocation = registry.getKey(structure);
-
-        if (structureLocation != null && shouldPreventSpawn(structureLocation.toString())) {
-            cir.setReturnValue(false);
-        }
-    }
-
-    /**
-     * Checks if a structure should be prevented from spawning.
-     * Matches against blacklisted_structures list (supports wildcards).
-     */
-    private boolean shouldPreventSpawn(String structureName) {
-        for (String blacklisted : MVSConfig.blacklistedStructures) {
-            if (com.rhett.multivillageselector.util.PatternMatcher.matches(structureName, blacklisted)) {
-                if (MVSConfig.debugLogging) {
-                    MVSCommon.LOGGER.info("  [MVS] Blocking blacklisted structure: {}", structureName);
-                }
-                return true;
+        if (config.isBlacklistedStructure(structure)) {
+            if (config.debugLogging) {
+                ResourceLocation structureLocation = registryAccess.registryOrThrow(Registries.STRUCTURE).getKey(structure);
+                MVSCommon.LOGGER.info("  [MVS] Blocking blacklisted structure: {}", structureLocation);
             }
+            cir.setReturnValue(false);
         }
-        return false;
     }
 
     // v0.4.0: Biome validation moved to StructureMixin.biomes() intercept
@@ -2,17 +2,23 @@ package com.rhett.multivillageselector.mixin;
 
 import com.rhett.multivillageselector.MVSCommon;
 import com.rhett.multivillageselector.config.MVSConfig;
+import com.rhett.multivillageselector.config.RuntimeConfig;
 import com.rhett.multivillageselector.config.PlacementRule;
+import com.rhett.multivillageselector.placement.MVSConcentricRingsStructurePlacement;
+import com.rhett.multivillageselector.placement.MVSHierarchicalGridStructurePlacement;
 import com.rhett.multivillageselector.placement.MVSRandomSpreadStructurePlacement;
+import com.rhett.multivillageselector.placement.SpreadDistribution;
 import com.rhett.multivillageselector.util.LocateHelper;
 import com.rhett.multivillageselector.util.PlacementResolver;
+import com.rhett.multivillageselector.util.RegistryIds;
 import net.minecraft.core.Holder;
 import net.minecraft.core.Registry;
 import net.minecraft.core.registries.Registries;
-import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.chunk.ChunkGeneratorStructureState;
 import net.minecraft.world.level.levelgen.structure.Structure;
 import net.minecraft.world.level.levelgen.structure.StructureSet;
+import net.minecraft.world.level.levelgen.structure.placement.ConcentricRingsStructurePlacement;
 import net.minecraft.world.level.levelgen.structure.placement.RandomSpreadStructurePlacement;
 import net.minecraft.world.level.levelgen.structure.placement.RandomSpreadType;
 import net.minecraft.world.level.levelgen.structure.placement.StructurePlacement;
@@ -61,24 +67,22 @@ public abstract class ChunkGeneratorStructureStateMixin {
             int chunkRange,
             CallbackInfoReturnable<Boolean> cir
     ) {
-        if (!MVSConfig.enabled) {
+        // One config snapshot for the whole check
+        RuntimeConfig config = MVSConfig.runtime();
+        if (!config.enabled) {
             return; // Let vanilla handle it
         }
 
-        // Get structure set ID
-        ResourceLocation structureSetId = structureSetHolder.unwrapKey()
-            .map(k -> k.location())
-            .orElse(null);
+        // Get structure set ID (interned name for registry sets - no string built)
+        String structureSetIdString = config.ids().structureSets().getName(structureSetHolder);
 
-        if (structureSetId == null) {
+        if (structureSetIdString == null) {
             return; // Can't identify, let vanilla handle
         }
 
-        String structureSetIdString = structureSetId.toString();
-
         // If the set being checked is blocked, it won't generate - no structures nearby
-        if (MVSConfig.blockStructureSets.contains(structureSetIdString)) {
-            if (MVSConfig.debugLogging) {
+        if (config.isBlockedStructureSet(structureSetHolder)) {
+            if (config.debugLogging) {
                 MVSCommon.LOGGER.info(
                     "[MVS] hasStructureChunkInRange({}) = false (blocked set)",
                     structureSetIdString
@@ -89,14 +93,14 @@ public abstract class ChunkGeneratorStructureStateMixin {
         }
 
         // Check if this structure set is MVS-intercepted
-        if (!MVSConfig.interceptStructureSets.contains(structureSetIdString)) {
+        if (!config.isInterceptedStructureSet(structureSetHolder)) {
             return; // Not intercepted, let vanilla handle
         }
 
         // MVS-intercepted structure set - use MVS placement logic
-        boolean result = hasStructureChunkInRangeMVS(structureSetIdString, chunkX, chunkZ, chunkRange);
+        boolean result = hasStructureChunkInRangeMVS(config, structureSetIdString, chunkX, chunkZ, chunkRange);
 
-        if (MVSConfig.debugLogging) {
+        if (config.debugLogging) {
             MVSCommon.LOGGER.info(
                 "[MVS] hasStructureChunkInRange({}, chunk[{},{}], range={}) = {} (MVS placement)",
                 structureSetIdString, chunkX, chunkZ, chunkRange, result
@@ -114,17 +118,13 @@ public abstract class ChunkGeneratorStructureStateMixin {
      * - Loop through chunks in range
      * - Check if each chunk is a placement chunk using MVS formula
      */
-    private boolean hasStructureChunkInRangeMVS(String structureSetId, int centerChunkX, int centerChunkZ, int chunkRange) {
+    private boolean hasStructureChunkInRangeMVS(RuntimeConfig config, String structureSetId,
+                                                int centerChunkX, int centerChunkZ, int chunkRange) {
         // Resolve placement from MVS config with possibleStructureSets fallback
-        PlacementResolver.ResolvedPlacement resolved = resolvePlacementWithFallback(structureSetId);
-
-        // Create placement strategy
-        LocateHelper.RandomSpreadPlacement placement = new LocateHelper.RandomSpreadPlacement(
-            resolved.spacing,
-            resolved.separation,
-            resolved.salt,
-            resolved.spreadType
-        );
+        PlacementResolver.ResolvedPlacement resolved = resolvePlacementWithFallback(config, structureSetId);
+
+        // Create placement strategy (random_spread, concentric_rings or hierarchical_grid)
+        LocateHelper.PlacementStrategy placement = resolved.toStrategy();
 
         long seed = this.getLevelSeed();
 
@@ -150,6 +150,9 @@ public abstract class ChunkGeneratorStructureStateMixin {
      * Flow:
      *   Explorer's Compass → getPlacementsForStructure() → returns MVSRandomSpreadStructurePlacement
      *   → calls getPotentialStructureChunk() → uses MVS spread type logic
+     *
+     * concentric_rings sets get an MVSConcentricRingsStructurePlacement, whose ring positions
+     * come from onGetRingPositionsFor().
      */
     @Inject(
         method = "getPlacementsForStructure",
@@ -160,45 +163,54 @@ public abstract class ChunkGeneratorStructureStateMixin {
             Holder<Structure> structureHolder,
             CallbackInfoReturnable<List<StructurePlacement>> cir
     ) {
-        if (!MVSConfig.enabled) {
+        // One config snapshot for the whole lookup
+        RuntimeConfig config = MVSConfig.runtime();
+        if (!config.enabled) {
             return; // Let vanilla handle it
         }
 
-        // Get structure ID
-        String structureId = structureHolder.unwrapKey()
-            .map(k -> k.location().toString())
-            .orElse(null);
-
-        if (structureId == null) {
-            return; // Can't identify, let vanilla handle
+        // Check if this structure is in MVS pool (by registry id)
+        if (!config.isPooledStructure(structureHolder)) {
+            return; // Not in MVS pool (or can't identify), let vanilla handle
         }
 
-        // Check if this structure is in MVS pool
-        boolean inPool = MVSConfig.structurePool.stream()
-            .anyMatch(s -> s.structure != null && s.structure.toString().equals(structureId));
-
-        if (!inPool) {
-            return; // Not in MVS pool, let vanilla handle
-        }
+        // Get structure ID
+        String structureId = config.ids().structures().getName(structureHolder);
 
         // Get the structure set this structure belongs to
-        String structureSetId = getStructureSetForStructure(structureId);
+        String structureSetId = getStructureSetForStructure(config, structureId);
         if (structureSetId == null) {
             return; // Can't determine structure set
         }
 
         // Resolve placement from MVS config with possibleStructureSets fallback
-        PlacementResolver.ResolvedPlacement resolved = resolvePlacementWithFallback(structureSetId);
-
-        // Create MVS placement
-        MVSRandomSpreadStructurePlacement mvsPlacement = new MVSRandomSpreadStructurePlacement(
-            resolved.spacing,
-            resolved.separation,
-            resolved.salt,
-            resolved.spreadType
-        );
+        PlacementResolver.ResolvedPlacement resolved = resolvePlacementWithFallback(config, structureSetId);
+
+        if (resolved.isConcentricRings()
+                && resolved.toStrategy() instanceof LocateHelper.ConcentricRingsPlacement rings) {
+            // Vanilla looks ring positions up by placement instance and nudges them toward
+            // preferred biomes; ours answers getRingPositionsFor() with the positions MVS generates at
+            if (config.debugLogging) {
+                MVSCommon.LOGGER.info(
+                    "[MVS] getPlacementsForStructure({}) → MVS rings (distance={}, spread={}, count={})",
+                    structureId, resolved.distance, resolved.spread, resolved.count
+                );
+            }
+            cir.setReturnValue(List.of(new MVSConcentricRingsStructurePlacement(rings, resolved.salt)));
+            return;
+        }
 
-        if (MVSConfig.debugLogging) {
+        // Create MVS placement (hierarchical_grid overrides the cell math, same vanilla type)
+        MVSRandomSpreadStructurePlacement mvsPlacement = resolved.isHierarchicalGrid()
+            ? new MVSHierarchicalGridStructurePlacement(resolved.grid, resolved.salt, resolved.spreadType)
+            : new MVSRandomSpreadStructurePlacement(
+                resolved.spacing,
+                resolved.separation,
+                resolved.salt,
+                resolved.spreadType
+            );
+
+        if (config.debugLogging) {
             MVSCommon.LOGGER.info(
                 "[MVS] getPlacementsForStructure({}) → MVS placement (spacing={}, sep={}, salt={}, spread={})",
                 structureId, resolved.spacing, resolved.separation, resolved.salt, resolved.spreadType
@@ -208,14 +220,35 @@ public abstract class ChunkGeneratorStructureStateMixin {
         cir.setReturnValue(List.of(mvsPlacement));
     }
 
+    /**
+     * Answer ring positions for MVS concentric_rings placements.
+     *
+     * Vanilla only knows the placements of possibleStructureSets (by instance), so the
+     * MVSConcentricRingsStructurePlacement handed out by getPlacementsForStructure would
+     * otherwise get null - and findNearestMapStructure would throw.
+     */
+    @Inject(
+        method = "getRingPositionsFor",
+        at = @At("HEAD"),
+        cancellable = true
+    )
+    private void onGetRingPositionsFor(
+            ConcentricRingsStructurePlacement placement,
+            CallbackInfoReturnable<List<ChunkPos>> cir
+    ) {
+        if (placement instanceof MVSConcentricRingsStructurePlacement mvsRings) {
+            cir.setReturnValue(mvsRings.getRingPositions(this.getLevelSeed()));
+        }
+    }
+
     /**
      * Get the structure set ID for a given structure.
      * For now, uses the first intercepted structure set.
      * TODO: Could be enhanced to look up actual structure → structure_set mapping.
      */
-    private String getStructureSetForStructure(String structureId) {
-        if (!MVSConfig.interceptStructureSets.isEmpty()) {
-            return MVSConfig.interceptStructureSets.get(0);
+    private String getStructureSetForStructure(RuntimeConfig config, String structureId) {
+        if (!config.interceptStructureSets.isEmpty()) {
+            return config.interceptStructureSets.get(0);
         }
         return null;
     }
@@ -224,30 +257,35 @@ public abstract class ChunkGeneratorStructureStateMixin {
      * Resolve placement using MVSConfig with fallback to possibleStructureSets (registry values).
      * This ensures we use the same placement values as LocateCommands which has registry access.
      *
-     * Priority: MVSConfig.placement > Registry (from possibleStructureSets) > Defaults
+     * Priority: config placement > Registry (from possibleStructureSets) > Defaults
+     *
+     * @param config Config snapshot of this call (placement rules and custom spread types)
      */
-    private PlacementResolver.ResolvedPlacement resolvePlacementWithFallback(String structureSetId) {
+    private PlacementResolver.ResolvedPlacement resolvePlacementWithFallback(RuntimeConfig config, String structureSetId) {
         // Try to find the structure set in possibleStructureSets for registry fallback
         RandomSpreadStructurePlacement registryPlacement = null;
+        ConcentricRingsStructurePlacement registryRings = null;
+        RegistryIds.IdSpace<StructureSet> structureSets = config.ids().structureSets();
         for (Holder<StructureSet> holder : possibleStructureSets) {
-            String id = holder.unwrapKey().map(k -> k.location().toString()).orElse(null);
-            if (structureSetId.equals(id)) {
+            if (structureSetId.equals(structureSets.getName(holder))) {
                 StructurePlacement placement = holder.value().placement();
                 if (placement instanceof RandomSpreadStructurePlacement rsp) {
                     registryPlacement = rsp;
+                } else if (placement instanceof ConcentricRingsStructurePlacement crp) {
+                    registryRings = crp;
                 }
                 break;
             }
         }
 
         // Get config values (may be null if not configured)
-        var configPlacement = MVSConfig.placement.get(structureSetId);
+        var configPlacement = config.placement.get(structureSetId);
 
         // Resolve each value: config > registry > default
         int spacing;
         int separation;
         int salt;
-        LocateHelper.SpreadType spreadType;
+        SpreadDistribution spreadType;
         String spacingSource, separationSource, saltSource, spreadTypeSource;
 
         if (configPlacement != null && configPlacement.spacing != null) {
@@ -286,7 +324,7 @@ public abstract class ChunkGeneratorStructureStateMixin {
 
         if (configPlacement != null && configPlacement.spreadType != null) {
             // Config stores spread type as string, need to convert
-            spreadType = configPlacement.resolveSpreadType(PlacementResolver.DEFAULT_SPREAD_TYPE);
+            spreadType = configPlacement.resolveSpreadType(PlacementResolver.DEFAULT_SPREAD_TYPE, config.spreadTypes);
             spreadTypeSource = "config";
         } else if (registryPlacement != null) {
             RandomSpreadType vanillaType = registryPlacement.spreadType();
@@ -299,10 +337,35 @@ public abstract class ChunkGeneratorStructureStateMixin {
             spreadTypeSource = "default";
         }
 
+        // Strategy and ring layout: config > registry (ring placement) > defaults
+        String strategy;
+        String strategySource;
+        if (configPlacement != null && configPlacement.strategy != null) {
+            strategy = configPlacement.strategy;
+            strategySource = "config";
+        } else if (registryRings != null) {
+            strategy = "concentric_rings";
+            strategySource = "registry";
+        } else {
+            strategy = "random_spread";
+            strategySource = registryPlacement != null ? "registry" : "default";
+        }
+
+        int distance = configPlacement != null && configPlacement.distance != null ? configPlacement.distance
+            : registryRings != null ? registryRings.distance() : PlacementResolver.DEFAULT_RING_DISTANCE;
+        int spread = configPlacement != null && configPlacement.spread != null ? configPlacement.spread
+            : registryRings != null ? registryRings.spread() : PlacementResolver.DEFAULT_RING_SPREAD;
+        int count = configPlacement != null && configPlacement.count != null ? configPlacement.count
+            : registryRings != null ? registryRings.count() : PlacementResolver.DEFAULT_RING_COUNT;
+        String ringSource = configPlacement != null && configPlacement.hasRingFields() ? "config"
+            : registryRings != null ? "registry" : "default";
+
         return new PlacementResolver.ResolvedPlacement(
-            spacing, separation, salt, spreadType, "random_spread",
+            spacing, separation, salt, spreadType, strategy,
             net.minecraft.core.Vec3i.ZERO, null,
-            spacingSource, separationSource, saltSource, spreadTypeSource, null
+            distance, spread, count,
+            spacingSource, separationSource, saltSource, spreadTypeSource, null,
+            strategySource, ringSource, configPlacement != null ? configPlacement.grid : null
         );
     }
 }
\ No newline at end of file
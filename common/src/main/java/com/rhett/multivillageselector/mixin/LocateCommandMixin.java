@@ -4,6 +4,7 @@ import com.mojang.brigadier.exceptions.CommandSyntaxException;
 import com.mojang.brigadier.exceptions.DynamicCommandExceptionType;
 import com.rhett.multivillageselector.MVSCommon;
 import com.rhett.multivillageselector.config.MVSConfig;
+import com.rhett.multivillageselector.config.RuntimeConfig;
 import com.rhett.multivillageselector.locate.PredictionHelper;
 import com.rhett.multivillageselector.locate.PredictionHelper.ChunkPrediction;
 import com.rhett.multivillageselector.util.LocateHelper;
@@ -59,7 +60,9 @@ public abstract class LocateCommandMixin {
             ResourceOrTagKeyArgument.Result<Structure> structureArg,
             CallbackInfoReturnable<Integer> cir
     ) throws CommandSyntaxException {
-        if (!MVSConfig.enabled) {
+        // One config snapshot for the pool check, placement and every simulated chunk
+        RuntimeConfig config = MVSConfig.runtime();
+        if (!config.enabled) {
             return; // Let vanilla handle it
         }
 
@@ -72,20 +75,20 @@ public abstract class LocateCommandMixin {
         HolderSet<Structure> structures = holderSetOpt.get();
 
         // Check if any of the requested structures are MVS-controlled
-        Optional<String> mvsStructureId = findMVSControlledStructure(structures);
+        Optional<String> mvsStructureId = findMVSControlledStructure(config, structures);
         if (mvsStructureId.isEmpty()) {
             return; // Not MVS-controlled, let vanilla handle it
         }
 
         String structureId = mvsStructureId.get();
 
-        if (MVSConfig.debugLogging) {
+        if (config.debugLogging) {
             MVSCommon.LOGGER.info("[MVS] Intercepting /locate for MVS-controlled structure: {}", structureId);
         }
 
         // Use MVS locate logic
         try {
-            int result = executeMVSLocate(source, structureId);
+            int result = executeMVSLocate(config, source, structureId);
             cir.setReturnValue(result);
         } catch (Exception e) {
             MVSCommon.LOGGER.error("[MVS] Error in /locate interception", e);
@@ -112,19 +115,14 @@ public abstract class LocateCommandMixin {
      * Check if any structure in the HolderSet is MVS-controlled.
      * Returns the first MVS-controlled structure ID found.
      */
-    private static Optional<String> findMVSControlledStructure(HolderSet<Structure> structures) {
+    private static Optional<String> findMVSControlledStructure(RuntimeConfig config, HolderSet<Structure> structures) {
         for (Holder<Structure> holder : structures) {
             Optional<ResourceLocation> keyOpt = holder.unwrapKey().map(k -> k.location());
             if (keyOpt.isEmpty()) continue;
 
-            String structureId = keyOpt.get().toString();
-
-            // Check if this structure is in MVS pool
-            boolean inPool = MVSConfig.structurePool.stream()
-                .anyMatch(s -> s.structure != null && s.structure.toString().equals(structureId));
-
-            if (inPool) {
-                return Optional.of(structureId);
+            // Check if this structure is in MVS pool (registry id bit of the snapshot)
+            if (config.isPooledStructure(holder)) {
+                return Optional.of(keyOpt.get().toString());
             }
         }
 
@@ -134,13 +132,14 @@ public abstract class LocateCommandMixin {
     /**
      * Execute MVS-aware locate for a structure.
      */
-    private static int executeMVSLocate(CommandSourceStack source, String structureId) throws CommandSyntaxException {
+    private static int executeMVSLocate(RuntimeConfig config, CommandSourceStack source, String structureId)
+            throws CommandSyntaxException {
         ServerLevel level = source.getLevel();
         BlockPos startPos = BlockPos.containing(source.getPosition());
         long seed = level.getSeed();
 
         // Get structure set for placement
-        String structureSetId = getStructureSetForStructure(structureId);
+        String structureSetId = getStructureSetForStructure(config, structureId);
 
         // Create surface-aware biome sampler
         var chunkSource = level.getChunkSource();
@@ -154,18 +153,15 @@ public abstract class LocateCommandMixin {
         // Get placement strategy
         var structureSetRegistry = level.registryAccess()
             .registryOrThrow(Registries.STRUCTURE_SET);
-        LocateHelper.PlacementStrategy strategy = LocateHelper.getConfiguredPlacement(structureSetId, structureSetRegistry);
+        LocateHelper.PlacementStrategy strategy = LocateHelper.getConfiguredPlacement(config, structureSetId, structureSetRegistry);
 
         // Calculate search radius
-        int spacing = 34;
-        if (strategy instanceof LocateHelper.RandomSpreadPlacement rsp) {
-            spacing = rsp.spacing;
-        }
+        int spacing = strategy.getApproximateSpacing();
         int searchRadius = Math.max(200, spacing * 5);
 
         // Find the structure
         List<ChunkPrediction> results = PredictionHelper.findChunksForStructureWithConfig(
-            structureId, structureSetId, startPos, seed, biomeSampler,
+            config, structureId, structureSetId, startPos, seed, biomeSampler,
             structureSetRegistry, 1, searchRadius);
 
         if (results.isEmpty()) {
@@ -178,13 +174,14 @@ public abstract class LocateCommandMixin {
         ChunkPrediction result = results.get(0);
 
         // Send result in vanilla format
-        return sendLocateResult(source, structureId, startPos, result);
+        return sendLocateResult(config, source, structureId, startPos, result);
     }
 
     /**
      * Send locate result in vanilla-compatible format.
      */
     private static int sendLocateResult(
+            RuntimeConfig config,
             CommandSourceStack source,
             String structureId,
             BlockPos startPos,
@@ -216,7 +213,7 @@ public abstract class LocateCommandMixin {
         ), false);
 
         // Add MVS indicator for transparency
-        if (MVSConfig.debugLogging) {
+        if (config.debugLogging) {
             source.sendSuccess(() -> Component.literal("  (MVS prediction - biome: " + result.biomeId + ")")
                 .withStyle(ChatFormatting.DARK_GRAY), false);
         }
@@ -227,9 +224,9 @@ public abstract class LocateCommandMixin {
     /**
      * Get the structure set ID for a given structure.
      */
-    private static String getStructureSetForStructure(String structureId) {
-        if (!MVSConfig.interceptStructureSets.isEmpty()) {
-            return MVSConfig.interceptStructureSets.get(0);
+    private static String getStructureSetForStructure(RuntimeConfig config, String structureId) {
+        if (!config.interceptStructureSets.isEmpty()) {
+            return config.interceptStructureSets.get(0);
         }
         return "minecraft:villages";
     }
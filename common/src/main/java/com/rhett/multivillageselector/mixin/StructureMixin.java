@@ -2,6 +2,7 @@ package com.rhett.multivillageselector.mixin;
 
 import com.rhett.multivillageselector.MVSCommon;
 import com.rhett.multivillageselector.config.MVSConfig;
+import com.rhett.multivillageselector.config.RuntimeConfig;
 import com.rhett.multivillageselector.util.BiomeRuleResolver;
 import com.rhett.multivillageselector.util.BiomeRules;
 import com.rhett.multivillageselector.util.MVSStructureAccessor;
@@ -55,18 +56,14 @@ public abstract class StructureMixin implements MVSStructureAccessor {
     private RegistryAccess mvs$registryAccess = null;
 
     /**
-     * Cached biome rules resolved from MVS config.
-     * Lazily initialized on first biomes() call.
+     * Cached biome rules and HolderSet, with the config snapshot they were built for.
+     * Lazily built on the first biomes() call. A config reload or a tag reload (new
+     * RegistryGeneration → new biome table → new snapshot) replaces the snapshot, and
+     * the cache is rebuilt on the next call. One field, so worldgen threads racing to
+     * rebuild it each publish a complete entry.
      */
     @Unique
-    private BiomeRules mvs$cachedRules = null;
-
-    /**
-     * Cached HolderSet for MVS biome rules.
-     * Lazily created, reused for all subsequent calls.
-     */
-    @Unique
-    private HolderSet<Biome> mvs$cachedHolderSet = null;
+    private volatile MVSStructureAccessor.BiomeCache mvs$biomeCache = null;
 
     /**
      * Debug: Track if we've printed a stack trace for Explorer's Compass yet.
@@ -90,8 +87,7 @@ public abstract class StructureMixin implements MVSStructureAccessor {
         this.mvs$structureId = id;
         this.mvs$registryAccess = registryAccess;
         // Clear caches when ID changes
-        this.mvs$cachedRules = null;
-        this.mvs$cachedHolderSet = null;
+        this.mvs$biomeCache = null;
     }
 
     /**
@@ -109,8 +105,7 @@ public abstract class StructureMixin implements MVSStructureAccessor {
     @Override
     @Unique
     public void mvs$clearCache() {
-        this.mvs$cachedRules = null;
-        this.mvs$cachedHolderSet = null;
+        this.mvs$biomeCache = null;
     }
 
     /**
@@ -118,12 +113,9 @@ public abstract class StructureMixin implements MVSStructureAccessor {
      */
     @Inject(method = "biomes", at = @At("HEAD"), cancellable = true)
     private void onBiomes(CallbackInfoReturnable<HolderSet<Biome>> cir) {
-        // TEMP DEBUG: Log all biomes() calls
-        if (MVSConfig.debugLogging) {
-            MVSCommon.LOGGER.info("[MVS] biomes() called, structureId={}", mvs$structureId);
-        }
-
-        if (!MVSConfig.enabled) {
+        // One config snapshot for the whole call
+        RuntimeConfig config = MVSConfig.runtime();
+        if (!config.enabled) {
             return; // MVS disabled, use vanilla
         }
 
@@ -131,47 +123,35 @@ public abstract class StructureMixin implements MVSStructureAccessor {
             return; // ID not set, use vanilla
         }
 
-        // Check if this structure is in MVS pool
-        boolean inPool = MVSConfig.structurePool.stream()
-            .anyMatch(s -> s.structure != null && s.structure.toString().equals(mvs$structureId));
-
-        if (!inPool) {
-            // TEMP DEBUG
-            if (MVSConfig.debugLogging && mvs$structureId.contains("village")) {
-                MVSCommon.LOGGER.info("[MVS] {} NOT in pool. Pool has {} entries. First few: {}",
-                    mvs$structureId,
-                    MVSConfig.structurePool.size(),
-                    MVSConfig.structurePool.stream()
-                        .limit(3)
-                        .map(s -> s.structure != null ? s.structure.toString() : "null")
-                        .toList());
-            }
+        // Check if this structure is in MVS pool (registry id bit - no string compares per call)
+        if (!config.isPooledStructure((Structure) (Object) this, mvs$structureId)) {
             return; // Not MVS-controlled, use vanilla
         }
 
-        // Return cached HolderSet or create new one
-        if (mvs$cachedHolderSet == null) {
-            mvs$cachedHolderSet = mvs$createMVSBiomeHolderSet();
+        // Return cached HolderSet or create new one (also after a config or tag reload)
+        MVSStructureAccessor.BiomeCache cache = mvs$biomeCache;
+        if (cache == null || cache.builtFor() != config) {
+            BiomeRules rules = mvs$registryAccess != null
+                ? BiomeRuleResolver.getEffectiveRules(mvs$structureId, mvs$registryAccess, config.structurePool) : null;
+            cache = new MVSStructureAccessor.BiomeCache(config, rules, mvs$createMVSBiomeHolderSet(config, rules));
+            mvs$biomeCache = cache;
         }
 
-        if (MVSConfig.debugLogging) {
+        if (config.debugLogging) {
             MVSCommon.LOGGER.info("[MVS] Structure.biomes() INTERCEPTED for {}", mvs$structureId);
         }
 
-        cir.setReturnValue(mvs$cachedHolderSet);
+        cir.setReturnValue(cache.holderSet());
     }
 
     /**
      * Create a HolderSet that properly implements all methods with MVS biome rules.
+     *
+     * @param config Snapshot the set is built for (its validation and logging flags are used)
+     * @param rules Effective biome rules of this structure (null if no registry access)
      */
     @Unique
-    private HolderSet<Biome> mvs$createMVSBiomeHolderSet() {
-        // Get/cache biome rules
-        if (mvs$cachedRules == null && mvs$registryAccess != null) {
-            mvs$cachedRules = BiomeRuleResolver.getEffectiveRules(mvs$structureId, mvs$registryAccess);
-        }
-
-        final BiomeRules rules = mvs$cachedRules;
+    private HolderSet<Biome> mvs$createMVSBiomeHolderSet(RuntimeConfig config, BiomeRules rules) {
         final String structureId = mvs$structureId;
         final RegistryAccess registryAccess = mvs$registryAccess;
 
@@ -192,9 +172,9 @@ public abstract class StructureMixin implements MVSStructureAccessor {
 
             @Override
             public boolean contains(Holder<Biome> holder) {
-                if (MVSConfig.relaxedBiomeValidation) {
+                if (config.relaxedBiomeValidation) {
                     // Relaxed mode: MVS already validated at chunk center
-                    if (MVSConfig.debugLogging) {
+                    if (config.debugLogging) {
                         MVSCommon.LOGGER.info("[MVS] contains({}) for {} → TRUE (relaxed)",
                             holder.unwrapKey().map(k -> k.location().toString()).orElse("?"), structureId);
                     }
@@ -202,7 +182,7 @@ public abstract class StructureMixin implements MVSStructureAccessor {
                 }
                 // Strict mode: validate against rules
                 boolean result = rules == null || rules.isEmpty() || rules.matches(holder);
-                if (MVSConfig.debugLogging) {
+                if (config.debugLogging) {
                     String biomeId = holder.unwrapKey().map(k -> k.location().toString()).orElse("?");
 
                     // Extract caller from stack trace
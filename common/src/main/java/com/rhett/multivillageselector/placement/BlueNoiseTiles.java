@@ -0,0 +1,202 @@
+package com.rhett.multivillageselector.placement;
+
+import java.util.Random;
+
+/**
+ * Precomputed corner-colored Wang tiles for the BLUE_NOISE spread type.
+ *
+ * Every grid corner gets one of COLORS colors from a hash of its coordinates
+ * (plus seed and salt). A cell's tile is picked by its four corner colors, so
+ * neighboring cells always agree on the corners they share - no neighbor
+ * queries at generation time. Each tile has VARIANTS candidate points, picked
+ * by the cell's own Random.
+ *
+ * The point sets are built once at class load (fixed seed, so identical on
+ * every JVM) by Poisson-disk dart throwing: each point must be at least
+ * MIN_DISTANCE cells away from every point any compatible neighbor tile could
+ * hold. Any valid tiling therefore keeps structures at least that far apart
+ * (in normalized cell units), while positions still vary cell to cell.
+ *
+ * Points live in normalized cell space [0, 1); offsets are scaled to the
+ * placement's offset range (spacing - separation).
+ */
+public final class BlueNoiseTiles {
+
+    /** Corner colors. 2 colors → 16 tile types. */
+    static final int COLORS = 2;
+
+    /** Candidate points per tile type. */
+    static final int VARIANTS = 4;
+
+    static final int TILE_TYPES = COLORS * COLORS * COLORS * COLORS;
+
+    /** Poisson-disk radius in cell units (1.0 = one full cell). */
+    static final double MIN_DISTANCE = 0.65;
+
+    /** Generation seed - changing it moves every BLUE_NOISE structure. */
+    private static final long GENERATION_SEED = 0x4D56535F424E4F49L; // "MVS_BNOI"
+
+    private static final int MAX_PASSES = 64;
+    private static final int CANDIDATES = 48;
+
+    // Flattened [tile * VARIANTS + variant]
+    private static final double[] POINT_X = new double[TILE_TYPES * VARIANTS];
+    private static final double[] POINT_Z = new double[TILE_TYPES * VARIANTS];
+
+    static {
+        generate();
+    }
+
+    private BlueNoiseTiles() {
+    }
+
+    /**
+     * Sample the BLUE_NOISE offset for a cell.
+     *
+     * @param cellX Grid cell X
+     * @param cellZ Grid cell Z
+     * @param seed World seed
+     * @param salt Structure salt (different sets get independent colorings)
+     * @param random The cell's Random (picks the variant)
+     * @param maxOffset Offset range per axis (spacing - separation)
+     * @param out Receives {offsetX, offsetZ}, each in [0, maxOffset)
+     */
+    public static void sample(int cellX, int cellZ, long seed, int salt, Random random, int maxOffset, int[] out) {
+        long colorSeed = seed + salt;
+        int tile = cornerColor(cellX, cellZ, colorSeed)
+            | cornerColor(cellX + 1, cellZ, colorSeed) << 1
+            | cornerColor(cellX, cellZ + 1, colorSeed) << 2
+            | cornerColor(cellX + 1, cellZ + 1, colorSeed) << 3;
+        int point = tile * VARIANTS + random.nextInt(VARIANTS);
+
+        out[0] = Math.min(maxOffset - 1, (int) (POINT_X[point] * maxOffset));
+        out[1] = Math.min(maxOffset - 1, (int) (POINT_Z[point] * maxOffset));
+    }
+
+    /**
+     * Color of a grid corner. Shared by the (up to) four cells touching it.
+     */
+    static int cornerColor(int cornerX, int cornerZ, long colorSeed) {
+        long h = (long) cornerX * 341873128712L + (long) cornerZ * 132897987541L + colorSeed;
+        // SplitMix64 finalizer - cheap and well distributed for adjacent coordinates
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        h = h ^ (h >>> 31);
+        return (int) (h & (COLORS - 1));
+    }
+
+    /**
+     * Stored point of a tile variant (index tile * VARIANTS + variant), in cell units.
+     */
+    static double pointX(int point) {
+        return POINT_X[point];
+    }
+
+    static double pointZ(int point) {
+        return POINT_Z[point];
+    }
+
+    /**
+     * Smallest distance from a point to any point a compatible neighbor could hold.
+     * Used by generation and tests.
+     */
+    static double minNeighborDistance(int tile, double x, double z) {
+        double best = Double.MAX_VALUE;
+        for (int dz = -1; dz <= 1; dz++) {
+            for (int dx = -1; dx <= 1; dx++) {
+                if (dx == 0 && dz == 0) {
+                    continue;
+                }
+                for (int other = 0; other < TILE_TYPES; other++) {
+                    if (!compatible(tile, other, dx, dz)) {
+                        continue;
+                    }
+                    for (int v = 0; v < VARIANTS; v++) {
+                        int p = other * VARIANTS + v;
+                        double ddx = POINT_X[p] + dx - x;
+                        double ddz = POINT_Z[p] + dz - z;
+                        best = Math.min(best, ddx * ddx + ddz * ddz);
+                    }
+                }
+            }
+        }
+        return Math.sqrt(best);
+    }
+
+    /**
+     * Whether tile {@code other} can sit at offset (dx, dz) next to {@code tile}:
+     * every corner they share must have the same color.
+     */
+    static boolean compatible(int tile, int other, int dx, int dz) {
+        for (int j = 0; j <= 1; j++) {
+            for (int i = 0; i <= 1; i++) {
+                // Corner (i, j) of the neighbor, in this tile's corner coordinates
+                int cx = dx + i;
+                int cz = dz + j;
+                if (cx < 0 || cx > 1 || cz < 0 || cz > 1) {
+                    continue;
+                }
+                if (corner(other, i, j) != corner(tile, cx, cz)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static int corner(int tile, int i, int j) {
+        return (tile >> (j * 2 + i)) & 1;
+    }
+
+    /**
+     * Dart throwing with repair passes: every point that violates MIN_DISTANCE
+     * is re-thrown (best of CANDIDATES) until the whole set is valid.
+     *
+     * @throws IllegalStateException The set is still invalid after MAX_PASSES (the
+     *         seed and constants are fixed, so this fails on every JVM or on none)
+     */
+    private static void generate() {
+        Random random = new Random(GENERATION_SEED);
+        for (int p = 0; p < POINT_X.length; p++) {
+            POINT_X[p] = random.nextDouble();
+            POINT_Z[p] = random.nextDouble();
+        }
+
+        for (int pass = 0; pass < MAX_PASSES; pass++) {
+            boolean valid = true;
+            for (int tile = 0; tile < TILE_TYPES; tile++) {
+                for (int v = 0; v < VARIANTS; v++) {
+                    int p = tile * VARIANTS + v;
+                    if (minNeighborDistance(tile, POINT_X[p], POINT_Z[p]) >= MIN_DISTANCE) {
+                        continue;
+                    }
+                    valid = false;
+
+                    double bestX = POINT_X[p];
+                    double bestZ = POINT_Z[p];
+                    double bestDistance = -1;
+                    for (int c = 0; c < CANDIDATES; c++) {
+                        double x = random.nextDouble();
+                        double z = random.nextDouble();
+                        double distance = minNeighborDistance(tile, x, z);
+                        if (distance > bestDistance) {
+                            bestX = x;
+                            bestZ = z;
+                            bestDistance = distance;
+                            if (distance >= MIN_DISTANCE) {
+                                break; // First valid dart wins - keeps the set random, not maximal
+                            }
+                        }
+                    }
+                    POINT_X[p] = bestX;
+                    POINT_Z[p] = bestZ;
+                }
+            }
+            if (valid) {
+                return;
+            }
+        }
+        throw new IllegalStateException("BLUE_NOISE tiles still closer than MIN_DISTANCE after "
+            + MAX_PASSES + " passes");
+    }
+}
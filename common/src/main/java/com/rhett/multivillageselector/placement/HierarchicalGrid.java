@@ -0,0 +1,340 @@
+package com.rhett.multivillageselector.placement;
+
+import com.rhett.multivillageselector.util.LocateHelper;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * Two-level placement grid (strategy "hierarchical_grid").
+ * Immutable - safe to share across threads.
+ *
+ * The world is tiled into square super-cells of {@code superCell} chunks. Each super-cell
+ * picks one grid level from a deterministic coarse function - origin distance rings or a
+ * per-super-cell hash - and is then tiled with that level's vanilla random_spread grid
+ * (spacing, separation). A lookup is two levels of integer cell math: floorDiv by the
+ * super-cell size, then floorDiv by the level's spacing and the usual cell seed.
+ *
+ * Every level spacing divides the super-cell size, so level cells never straddle a
+ * super-cell border and each chunk belongs to exactly one cell. Cells use the vanilla
+ * seed formula with the structure salt, so a super-cell on level L places exactly where a
+ * plain random_spread grid with level L's spacing would.
+ */
+public final class HierarchicalGrid {
+
+    /** Max number of grid levels */
+    public static final int MAX_LEVELS = 8;
+
+    /** Max super-cell size in chunks */
+    public static final int MAX_SUPER_CELL = 4096;
+
+    private final int superCell;
+    private final int[] spacing;
+    private final int[] separation;
+    private final boolean byHash;
+    private final int[] levelDistances;   // Distance mode: exclusive upper bound per level, in chunks
+    private final long[] levelDistancesSq;
+
+    /**
+     * @param superCell Super-cell size in chunks (a multiple of every level spacing)
+     * @param spacing Spacing per level in chunks
+     * @param separation Separation per level in chunks (less than the level's spacing)
+     * @param byHash true = level from a per-super-cell hash, false = from origin distance
+     * @param levelDistances Distance mode: levels-1 strictly increasing boundaries in chunks (ignored for hash)
+     */
+    public HierarchicalGrid(int superCell, int[] spacing, int[] separation, boolean byHash, int[] levelDistances) {
+        if (spacing.length == 0 || spacing.length > MAX_LEVELS || spacing.length != separation.length) {
+            throw new IllegalArgumentException("hierarchical_grid: 1-" + MAX_LEVELS + " grid levels required");
+        }
+        if (superCell <= 0 || superCell > MAX_SUPER_CELL) {
+            throw new IllegalArgumentException("hierarchical_grid: super_cell must be 1-" + MAX_SUPER_CELL);
+        }
+        for (int i = 0; i < spacing.length; i++) {
+            if (spacing[i] <= 0 || separation[i] < 0 || separation[i] >= spacing[i]) {
+                throw new IllegalArgumentException("hierarchical_grid: level " + i
+                    + " needs spacing > 0 and 0 <= separation < spacing");
+            }
+            if (superCell % spacing[i] != 0) {
+                throw new IllegalArgumentException("hierarchical_grid: super_cell " + superCell
+                    + " is not a multiple of level " + i + " spacing " + spacing[i]);
+            }
+        }
+        int[] distances = byHash ? new int[0] : levelDistances;
+        if (!byHash && distances.length != spacing.length - 1) {
+            throw new IllegalArgumentException("hierarchical_grid: level_distances needs "
+                + (spacing.length - 1) + " values (one fewer than grid levels)");
+        }
+        for (int i = 0; i < distances.length; i++) {
+            if (distances[i] <= 0 || (i > 0 && distances[i] <= distances[i - 1])) {
+                throw new IllegalArgumentException("hierarchical_grid: level_distances must be positive and strictly increasing");
+            }
+        }
+
+        this.superCell = superCell;
+        this.spacing = spacing.clone();
+        this.separation = separation.clone();
+        this.byHash = byHash;
+        this.levelDistances = distances.clone();
+        this.levelDistancesSq = new long[distances.length];
+        for (int i = 0; i < distances.length; i++) {
+            levelDistancesSq[i] = (long) distances[i] * distances[i];
+        }
+    }
+
+    public int getSuperCell() {
+        return superCell;
+    }
+
+    public int getLevelCount() {
+        return spacing.length;
+    }
+
+    public int getSpacing(int level) {
+        return spacing[level];
+    }
+
+    public int getSeparation(int level) {
+        return separation[level];
+    }
+
+    public boolean isByHash() {
+        return byHash;
+    }
+
+    /**
+     * Level whose spacing is smallest (densest grid).
+     */
+    public int getDensestLevel() {
+        int best = 0;
+        for (int i = 1; i < spacing.length; i++) {
+            if (spacing[i] < spacing[best]) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Level whose spacing is largest (sparsest grid).
+     */
+    public int getSparsestLevel() {
+        int best = 0;
+        for (int i = 1; i < spacing.length; i++) {
+            if (spacing[i] > spacing[best]) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Grid level of a super-cell.
+     * Distance mode compares the squared origin distance of the super-cell center;
+     * hash mode mixes the super-cell position with seed and salt.
+     */
+    public int level(int superX, int superZ, long seed, int salt) {
+        if (spacing.length == 1) {
+            return 0;
+        }
+        if (byHash) {
+            long h = seed + salt + (long) superX * 341873128712L + (long) superZ * 132897987541L;
+            // SplitMix64 finalizer - adjacent super-cells get unrelated levels
+            h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+            h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+            h ^= h >>> 31;
+            return (int) Math.floorMod(h, (long) spacing.length);
+        }
+        long centerX = (long) superX * superCell + superCell / 2;
+        long centerZ = (long) superZ * superCell + superCell / 2;
+        long distanceSq = centerX * centerX + centerZ * centerZ;
+        int level = 0;
+        while (level < levelDistancesSq.length && distanceSq >= levelDistancesSq[level]) {
+            level++;
+        }
+        return level;
+    }
+
+    /**
+     * Grid level at a chunk.
+     */
+    public int levelAt(int chunkX, int chunkZ, long seed, int salt) {
+        return level(Math.floorDiv(chunkX, superCell), Math.floorDiv(chunkZ, superCell), seed, salt);
+    }
+
+    /**
+     * Placement chunk of the cell containing this chunk.
+     *
+     * @return [chunkX, chunkZ] of the placement position in that cell
+     */
+    public int[] placementChunk(int chunkX, int chunkZ, long seed, int salt, SpreadDistribution spreadType) {
+        int level = levelAt(chunkX, chunkZ, seed, salt);
+        int cellSpacing = spacing[level];
+        return LocateHelper.calculatePlacementChunk(
+            Math.floorDiv(chunkX, cellSpacing), Math.floorDiv(chunkZ, cellSpacing),
+            seed, salt, cellSpacing, separation[level], spreadType);
+    }
+
+    /**
+     * Whether this chunk is the placement chunk of its cell.
+     */
+    public boolean isPlacementChunk(int chunkX, int chunkZ, long seed, int salt, SpreadDistribution spreadType) {
+        int[] actual = placementChunk(chunkX, chunkZ, seed, salt, spreadType);
+        return actual[0] == chunkX && actual[1] == chunkZ;
+    }
+
+    /**
+     * Placement chunks within {@code maxRadius} chunks (square) of a start chunk, nearest first.
+     *
+     * Super-cells are expanded ring by ring around the start; after ring k every super-cell
+     * not yet expanded is at least k * superCell chunks away, so queued placements up to that
+     * distance are final and can be emitted. Lazy - a locate that finds a match early only
+     * expands the super-cells it needed.
+     */
+    public Iterable<int[]> nearest(int startChunkX, int startChunkZ, long seed, int salt,
+                                   SpreadDistribution spreadType, int maxRadius) {
+        return () -> new NearestIterator(startChunkX, startChunkZ, seed, salt, spreadType, maxRadius);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("HierarchicalGrid{superCell=").append(superCell).append(", levels=[");
+        for (int i = 0; i < spacing.length; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(spacing[i]).append('/').append(separation[i]);
+        }
+        sb.append("], levelBy=").append(byHash ? "hash" : "distance");
+        if (!byHash && levelDistances.length > 0) {
+            sb.append(", levelDistances=").append(Arrays.toString(levelDistances));
+        }
+        return sb.append('}').toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        HierarchicalGrid that = (HierarchicalGrid) o;
+        return superCell == that.superCell && byHash == that.byHash
+            && Arrays.equals(spacing, that.spacing) && Arrays.equals(separation, that.separation)
+            && Arrays.equals(levelDistances, that.levelDistances);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * superCell + Arrays.hashCode(spacing)) + Arrays.hashCode(separation);
+    }
+
+    private final class NearestIterator implements Iterator<int[]> {
+        private final int startX;
+        private final int startZ;
+        private final long seed;
+        private final int salt;
+        private final SpreadDistribution spreadType;
+        private final int maxRadius;
+        private final int startSuperX;
+        private final int startSuperZ;
+        private final int maxRing;
+
+        // [distanceSq, chunkX, chunkZ] ordered by distance from start
+        private final PriorityQueue<long[]> queue = new PriorityQueue<>((a, b) -> Long.compare(a[0], b[0]));
+        private int ring = 0;
+
+        private int[] cellX = new int[1];
+        private int[] cellZ = new int[1];
+        private int[] outX = new int[1];
+        private int[] outZ = new int[1];
+
+        NearestIterator(int startX, int startZ, long seed, int salt, SpreadDistribution spreadType, int maxRadius) {
+            this.startX = startX;
+            this.startZ = startZ;
+            this.seed = seed;
+            this.salt = salt;
+            this.spreadType = spreadType;
+            this.maxRadius = maxRadius;
+            this.startSuperX = Math.floorDiv(startX, superCell);
+            this.startSuperZ = Math.floorDiv(startZ, superCell);
+            this.maxRing = maxRadius / superCell + 1;
+        }
+
+        @Override
+        public boolean hasNext() {
+            fill();
+            return !queue.isEmpty();
+        }
+
+        @Override
+        public int[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            long[] head = queue.poll();
+            return new int[] { (int) head[1], (int) head[2] };
+        }
+
+        /**
+         * Expand rings until the queue head is final or every ring is expanded.
+         */
+        private void fill() {
+            while (ring <= maxRing) {
+                if (!queue.isEmpty()) {
+                    long safe = (long) (ring - 1) * superCell;
+                    if (ring > 0 && queue.peek()[0] <= safe * safe) {
+                        return;
+                    }
+                }
+                expandRing(ring++);
+            }
+        }
+
+        private void expandRing(int r) {
+            if (r == 0) {
+                expandSuperCell(startSuperX, startSuperZ);
+                return;
+            }
+            for (int d = -r; d <= r; d++) {
+                expandSuperCell(startSuperX + d, startSuperZ - r);
+                expandSuperCell(startSuperX + d, startSuperZ + r);
+            }
+            for (int d = -r + 1; d <= r - 1; d++) {
+                expandSuperCell(startSuperX - r, startSuperZ + d);
+                expandSuperCell(startSuperX + r, startSuperZ + d);
+            }
+        }
+
+        private void expandSuperCell(int superX, int superZ) {
+            int level = level(superX, superZ, seed, salt);
+            int cellSpacing = spacing[level];
+            int perSide = superCell / cellSpacing;
+            int n = perSide * perSide;
+            if (cellX.length < n) {
+                cellX = new int[n];
+                cellZ = new int[n];
+                outX = new int[n];
+                outZ = new int[n];
+            }
+
+            int firstX = superX * perSide;
+            int firstZ = superZ * perSide;
+            int i = 0;
+            for (int dz = 0; dz < perSide; dz++) {
+                for (int dx = 0; dx < perSide; dx++) {
+                    cellX[i] = firstX + dx;
+                    cellZ[i++] = firstZ + dz;
+                }
+            }
+            PlacementKernels.calculatePlacementChunks(cellX, cellZ, n, seed, salt,
+                cellSpacing, separation[level], spreadType, outX, outZ);
+
+            for (i = 0; i < n; i++) {
+                long dx = outX[i] - (long) startX;
+                long dz = outZ[i] - (long) startZ;
+                if (Math.abs(dx) > maxRadius || Math.abs(dz) > maxRadius) {
+                    continue;
+                }
+                queue.add(new long[] { dx * dx + dz * dz, outX[i], outZ[i] });
+            }
+        }
+    }
+}
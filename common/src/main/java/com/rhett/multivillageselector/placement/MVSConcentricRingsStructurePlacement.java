@@ -0,0 +1,80 @@
+package com.rhett.multivillageselector.placement;
+
+import com.rhett.multivillageselector.util.LocateHelper;
+import net.minecraft.core.HolderSet;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.chunk.ChunkGeneratorStructureState;
+import net.minecraft.world.level.levelgen.structure.placement.ConcentricRingsStructurePlacement;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * MVS-aware ConcentricRingsStructurePlacement backed by RingPositions.
+ *
+ * Vanilla keeps ring positions per placement instance (precomputed per world and
+ * nudged toward preferred biomes), so a plain substitute placement would find
+ * none. ChunkGeneratorStructureStateMixin answers getRingPositionsFor() for this
+ * class with the same un-nudged RingPositions the StructureInterceptor generates
+ * at, so /locate, explorer compasses and Eyes of Ender point at MVS structures.
+ */
+public class MVSConcentricRingsStructurePlacement extends ConcentricRingsStructurePlacement {
+
+    private final LocateHelper.ConcentricRingsPlacement rings;
+
+    /**
+     * Ring positions as ChunkPos for the last seed asked (one world seed per server).
+     */
+    private volatile SeededPositions cached = null;
+
+    private record SeededPositions(long seed, List<ChunkPos> positions) {}
+
+    public MVSConcentricRingsStructurePlacement(LocateHelper.ConcentricRingsPlacement rings, int salt) {
+        super(
+            rings.locateOffset,                            // locateOffset
+            FrequencyReductionMethod.DEFAULT,              // frequency reduction
+            1.0f,                                          // frequency
+            salt,                                          // salt
+            Optional.empty(),                              // exclusion zone
+            rings.distance,                                // distance
+            rings.spread,                                  // spread
+            rings.count,                                   // count
+            HolderSet.direct()                             // preferred biomes (MVS does not nudge)
+        );
+        this.rings = rings;
+    }
+
+    /**
+     * The MVS ring layout (the StructureInterceptor's placement strategy).
+     */
+    public LocateHelper.ConcentricRingsPlacement getRings() {
+        return rings;
+    }
+
+    /**
+     * Ring positions for a seed, as getRingPositionsFor() returns them (blocks until computed).
+     */
+    public List<ChunkPos> getRingPositions(long seed) {
+        SeededPositions current = cached;
+        if (current == null || current.seed() != seed) {
+            RingPositions positions = rings.getPositions(seed);
+            List<ChunkPos> list = new ArrayList<>(positions.size());
+            for (int i = 0; i < positions.size(); i++) {
+                list.add(new ChunkPos(positions.getX(i), positions.getZ(i)));
+            }
+            current = new SeededPositions(seed, Collections.unmodifiableList(list));
+            cached = current;
+        }
+        return current.positions();
+    }
+
+    /**
+     * O(1) membership instead of vanilla's list scan - same positions.
+     */
+    @Override
+    protected boolean isPlacementChunk(ChunkGeneratorStructureState structureState, int x, int z) {
+        return rings.isPlacementChunk(x, z, structureState.getLevelSeed());
+    }
+}
@@ -0,0 +1,40 @@
+package com.rhett.multivillageselector.placement;
+
+import net.minecraft.world.level.ChunkPos;
+
+/**
+ * MVS placement for strategy "hierarchical_grid", exposed as a RandomSpreadStructurePlacement.
+ *
+ * Vanilla-style searches (Explorer's Compass, Structure Compass, vanilla locate) step through
+ * regions by spacing() and ask getPotentialStructureChunk() for each one. spacing() and
+ * separation() report the densest grid level, so a step never skips a cell on any level;
+ * getPotentialStructureChunk() resolves the super-cell's actual level. Cells on sparser
+ * levels are visited more than once and return the same chunk each time.
+ */
+public class MVSHierarchicalGridStructurePlacement extends MVSRandomSpreadStructurePlacement {
+
+    private final HierarchicalGrid grid;
+
+    public MVSHierarchicalGridStructurePlacement(HierarchicalGrid grid, int salt, SpreadDistribution mvsSpreadType) {
+        super(
+            grid.getSpacing(grid.getDensestLevel()),
+            grid.getSeparation(grid.getDensestLevel()),
+            salt,
+            mvsSpreadType
+        );
+        this.grid = grid;
+    }
+
+    public HierarchicalGrid getGrid() {
+        return grid;
+    }
+
+    /**
+     * Two levels of cell math: super-cell → grid level → vanilla cell within that level.
+     */
+    @Override
+    public ChunkPos getPotentialStructureChunk(long seed, int regionX, int regionZ) {
+        int[] result = grid.placementChunk(regionX, regionZ, seed, this.salt(), getMvsSpreadType());
+        return new ChunkPos(result[0], result[1]);
+    }
+}
@@ -23,10 +23,12 @@ import java.util.Optional;
  * - CORNER_BIASED (MVS custom)
  * - GAUSSIAN (MVS custom)
  * - FIXED_CENTER (MVS custom)
+ * - BLUE_NOISE (MVS custom)
+ * - Custom table distributions from config spread_types
  */
 public class MVSRandomSpreadStructurePlacement extends RandomSpreadStructurePlacement {
 
-    private final LocateHelper.SpreadType mvsSpreadType;
+    private final SpreadDistribution mvsSpreadType;
 
     /**
      * Full constructor with all parameters.
@@ -35,7 +37,7 @@ public class MVSRandomSpreadStructurePlacement extends RandomSpreadStructurePlac
             int spacing,
             int separation,
             int salt,
-            LocateHelper.SpreadType mvsSpreadType,
+            SpreadDistribution mvsSpreadType,
             Optional<StructurePlacement.ExclusionZone> exclusionZone
     ) {
         super(
@@ -58,7 +60,7 @@ public class MVSRandomSpreadStructurePlacement extends RandomSpreadStructurePlac
             int spacing,
             int separation,
             int salt,
-            LocateHelper.SpreadType mvsSpreadType
+            SpreadDistribution mvsSpreadType
     ) {
         this(spacing, separation, salt, mvsSpreadType, Optional.empty());
     }
@@ -66,7 +68,7 @@ public class MVSRandomSpreadStructurePlacement extends RandomSpreadStructurePlac
     /**
      * Get the MVS spread type.
      */
-    public LocateHelper.SpreadType getMvsSpreadType() {
+    public SpreadDistribution getMvsSpreadType() {
         return mvsSpreadType;
     }
 
@@ -74,11 +76,10 @@ public class MVSRandomSpreadStructurePlacement extends RandomSpreadStructurePlac
      * Convert MVS spread type to vanilla spread type.
      * Custom MVS types map to LINEAR (the vanilla default).
      */
-    private static RandomSpreadType toVanillaSpreadType(LocateHelper.SpreadType mvsType) {
-        return switch (mvsType) {
-            case TRIANGULAR -> RandomSpreadType.TRIANGULAR;
-            default -> RandomSpreadType.LINEAR;
-        };
+    private static RandomSpreadType toVanillaSpreadType(SpreadDistribution mvsType) {
+        return mvsType == LocateHelper.SpreadType.TRIANGULAR
+            ? RandomSpreadType.TRIANGULAR
+            : RandomSpreadType.LINEAR;
     }
 
     /**
@@ -112,7 +113,7 @@ public class MVSRandomSpreadStructurePlacement extends RandomSpreadStructurePlac
             int spacing,
             int separation,
             int salt,
-            LocateHelper.SpreadType spreadType,
+            SpreadDistribution spreadType,
             com.rhett.multivillageselector.config.ExclusionZone exclusionZone,
             net.minecraft.core.Registry<net.minecraft.world.level.levelgen.structure.StructureSet> registry
     ) {
@@ -0,0 +1,137 @@
+package com.rhett.multivillageselector.placement;
+
+import com.rhett.multivillageselector.MVSCommon;
+import com.rhett.multivillageselector.util.LocateHelper;
+
+/**
+ * Batch evaluation of placement chunks for many grid cells at once.
+ *
+ * Every cell is independent: its placement chunk comes from its own seed
+ * (cellX * 341873128712 + cellZ * 132897987541 + seed + salt) run through a
+ * few java.util.Random LCG steps. That maps directly onto SIMD lanes, so when
+ * the JDK Vector API (jdk.incubator.vector) is available at runtime the
+ * LINEAR, TRIANGULAR, EDGE_BIASED and CORNER_BIASED kernels run vectorized.
+ *
+ * Everything else (GAUSSIAN, FIXED_CENTER, custom spread_types, JVMs without the incubator module,
+ * builds without the vector kernels, or hardware with a single long lane) falls back to the
+ * scalar path, which is LocateHelper.calculatePlacementChunk() - the canonical implementation.
+ * Output is bit-identical either way.
+ *
+ * The vector kernels are opt-in, since no loader resolves incubator modules by default:
+ * - Build them with:           ./gradlew build -Pmvs_vector=true (vector source set)
+ * - Enable them with JVM flag: --add-modules jdk.incubator.vector
+ * - Force the scalar path:     -Dmvs.placement.vector=false
+ */
+public final class PlacementKernels {
+
+    /**
+     * SIMD kernel (VectorPlacementKernels in the vector source set).
+     */
+    interface VectorKernel {
+
+        int lanes();
+
+        /**
+         * Vectorized calculation over whole lane blocks.
+         *
+         * @return Number of leading cells written; the caller finishes the tail on the scalar path
+         */
+        int calculate(int[] cellX, int[] cellZ, int count,
+                      long seed, int salt, int spacing, int separation,
+                      LocateHelper.SpreadType spreadType,
+                      int[] outX, int[] outZ);
+    }
+
+    private static final VectorKernel VECTOR_KERNEL = loadVectorKernel();
+
+    private PlacementKernels() {
+    }
+
+    /**
+     * Whether the Vector API kernels are active in this JVM.
+     */
+    public static boolean isVectorAvailable() {
+        return VECTOR_KERNEL != null;
+    }
+
+    /**
+     * Whether a spread type has a vectorized kernel.
+     * GAUSSIAN needs nextGaussian (rejection sampling + log/sqrt), FIXED_CENTER draws nothing,
+     * and custom table distributions are already a single table lookup per axis.
+     */
+    public static boolean isVectorizable(SpreadDistribution spreadType) {
+        if (!(spreadType instanceof LocateHelper.SpreadType builtIn)) {
+            return false;
+        }
+        return switch (builtIn) {
+            case LINEAR, TRIANGULAR, EDGE_BIASED, CORNER_BIASED -> true;
+            default -> false;
+        };
+    }
+
+    /**
+     * Calculate placement chunks for {@code count} cells.
+     * Equivalent to calling LocateHelper.calculatePlacementChunk() for each cell.
+     *
+     * @param cellX Grid cell X coordinates
+     * @param cellZ Grid cell Z coordinates
+     * @param count Number of cells to evaluate (from index 0)
+     * @param seed World seed
+     * @param salt Structure salt
+     * @param spacing Grid spacing in chunks
+     * @param separation Minimum separation from cell edge
+     * @param spreadType Distribution type within cell
+     * @param outX Receives placement chunk X per cell
+     * @param outZ Receives placement chunk Z per cell
+     */
+    public static void calculatePlacementChunks(int[] cellX, int[] cellZ, int count,
+                                                long seed, int salt, int spacing, int separation,
+                                                SpreadDistribution spreadType,
+                                                int[] outX, int[] outZ) {
+        int done = 0;
+        if (VECTOR_KERNEL != null && isVectorizable(spreadType)) {
+            done = VECTOR_KERNEL.calculate(cellX, cellZ, count, seed, salt,
+                spacing, separation, (LocateHelper.SpreadType) spreadType, outX, outZ);
+        }
+        calculateScalar(cellX, cellZ, done, count, seed, salt, spacing, separation, spreadType, outX, outZ);
+    }
+
+    /**
+     * Scalar path for cells [from, to). Also used by the vector kernel for
+     * the tail and for blocks where a lane hit nextInt's rejection loop.
+     */
+    static void calculateScalar(int[] cellX, int[] cellZ, int from, int to,
+                                long seed, int salt, int spacing, int separation,
+                                SpreadDistribution spreadType,
+                                int[] outX, int[] outZ) {
+        for (int i = from; i < to; i++) {
+            int[] chunk = LocateHelper.calculatePlacementChunk(
+                cellX[i], cellZ[i], seed, salt, spacing, separation, spreadType);
+            outX[i] = chunk[0];
+            outZ[i] = chunk[1];
+        }
+    }
+
+    private static VectorKernel loadVectorKernel() {
+        if (!Boolean.parseBoolean(System.getProperty("mvs.placement.vector", "true"))) {
+            return null;
+        }
+        try {
+            Class.forName("jdk.incubator.vector.LongVector");
+            VectorKernel kernel = (VectorKernel) Class.forName(PlacementKernels.class.getPackageName()
+                + ".VectorPlacementKernels").getDeclaredConstructor().newInstance();
+            // One lane means no SIMD hardware - scalar is faster
+            return kernel.lanes() > 1 ? kernel : null;
+        } catch (Throwable t) {
+            // Module not resolved (no --add-modules), kernels not built, or class linkage failed
+            return null;
+        }
+    }
+
+    static {
+        if (VECTOR_KERNEL != null) {
+            MVSCommon.LOGGER.info("[MVS] Vector API placement kernels enabled ({} lanes)",
+                VECTOR_KERNEL.lanes());
+        }
+    }
+}
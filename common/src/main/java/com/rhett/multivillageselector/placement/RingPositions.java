@@ -0,0 +1,317 @@
+package com.rhett.multivillageselector.placement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Precomputed structure positions for concentric ring placement.
+ * Immutable - computed once per (seed, layout) and shared.
+ *
+ * Positions are sorted by distance from the world origin, which lets
+ * nearest-first iteration skip everything outside a distance window.
+ * Membership checks go through an open-addressing hash of packed chunk
+ * positions - no sqrt, no atan2, no allocation per lookup.
+ *
+ * Like vanilla strongholds, positions are computed asynchronously and
+ * cached; callers that need them immediately block on the future.
+ */
+public final class RingPositions {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private static final Map<Key, CompletableFuture<RingPositions>> CACHE = new ConcurrentHashMap<>();
+
+    private final int[] x;
+    private final int[] z;
+    private final long[] originDistanceSq;
+    private final long[] table; // Open addressing over packed positions
+    private final int mask;
+
+    private RingPositions(int[] unsortedX, int[] unsortedZ) {
+        int n = unsortedX.length;
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(
+            distanceSq(unsortedX[a], unsortedZ[a]), distanceSq(unsortedX[b], unsortedZ[b])));
+
+        this.x = new int[n];
+        this.z = new int[n];
+        this.originDistanceSq = new long[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = unsortedX[order[i]];
+            z[i] = unsortedZ[order[i]];
+            originDistanceSq[i] = distanceSq(x[i], z[i]);
+        }
+
+        int capacity = Integer.highestOneBit(Math.max(1, n) * 2 - 1) << 1;
+        this.table = new long[capacity];
+        this.mask = capacity - 1;
+        Arrays.fill(table, EMPTY);
+        for (int i = 0; i < n; i++) {
+            long packed = pack(x[i], z[i]);
+            int slot = slot(packed);
+            while (table[slot] != EMPTY && table[slot] != packed) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = packed;
+        }
+    }
+
+    // ========================================================================
+    // LAYOUTS
+    // ========================================================================
+
+    /**
+     * Vanilla ConcentricRingsStructurePlacement layout (as in ChunkGeneratorStructureState).
+     * Vanilla then nudges each position toward a preferred biome; MVS uses the
+     * un-nudged positions, so intercepted ring sets are independent of biomes.
+     * Locating goes through MVSConcentricRingsStructurePlacement, which reports
+     * these same positions instead of vanilla's nudged ones.
+     *
+     * @param seed World seed (vanilla's concentric rings seed)
+     * @param distance Ring distance unit in chunks (first ring at ~4x distance)
+     * @param spread Structures in the first ring
+     * @param count Total structures
+     */
+    public static RingPositions vanilla(long seed, int distance, int spread, int count) {
+        int[] xs = new int[count];
+        int[] zs = new int[count];
+        Random random = new Random(seed);
+
+        double angle = random.nextDouble() * Math.PI * 2.0;
+        int posInRing = 0;
+        int ring = 0;
+        for (int i = 0; i < count; i++) {
+            double dist = (double) (4 * distance + distance * ring * 6) + (random.nextDouble() - 0.5) * (double) distance * 2.5;
+            xs[i] = (int) Math.round(Math.cos(angle) * dist);
+            zs[i] = (int) Math.round(Math.sin(angle) * dist);
+            random.nextLong(); // Vanilla forks a biome-search random here
+            angle += (Math.PI * 2) / (double) spread;
+            if (++posInRing == spread) {
+                ring++;
+                posInRing = 0;
+                spread += 2 * spread / (ring + 1);
+                spread = Math.min(spread, count - i);
+                angle += random.nextDouble() * Math.PI * 2.0;
+            }
+        }
+        return new RingPositions(xs, zs);
+    }
+
+    /**
+     * Explicit rings: {@code perRing} structures evenly spaced on each ring,
+     * starting at a random angle per ring.
+     *
+     * @param seed World seed
+     * @param salt Structure salt
+     * @param ringDistances Ring radii in chunks
+     * @param perRing Structures per ring
+     */
+    public static RingPositions evenRings(long seed, int salt, int[] ringDistances, int perRing) {
+        int[] xs = new int[ringDistances.length * perRing];
+        int[] zs = new int[xs.length];
+        double angleStep = 2 * Math.PI / perRing;
+        int i = 0;
+        for (int ringDistance : ringDistances) {
+            Random random = new Random(seed + salt + ringDistance);
+            double startAngle = random.nextDouble() * angleStep;
+            for (int j = 0; j < perRing; j++) {
+                double angle = startAngle + j * angleStep;
+                xs[i] = (int) Math.round(Math.cos(angle) * ringDistance);
+                zs[i] = (int) Math.round(Math.sin(angle) * ringDistance);
+                i++;
+            }
+        }
+        return new RingPositions(xs, zs);
+    }
+
+    // ========================================================================
+    // CACHE
+    // ========================================================================
+
+    /**
+     * Start (or join) the async computation for a vanilla layout.
+     */
+    public static CompletableFuture<RingPositions> vanillaAsync(long seed, int distance, int spread, int count) {
+        return computeAsync(new Key(seed, 0, distance, spread, count, null),
+            () -> vanilla(seed, distance, spread, count));
+    }
+
+    /**
+     * Start (or join) the async computation for explicit rings.
+     */
+    public static CompletableFuture<RingPositions> evenRingsAsync(long seed, int salt, int[] ringDistances, int perRing) {
+        int[] rings = ringDistances.clone();
+        return computeAsync(new Key(seed, salt, 0, perRing, 0, rings),
+            () -> evenRings(seed, salt, rings, perRing));
+    }
+
+    /**
+     * Join the cached computation for a key, or start one. A computation that fails
+     * is removed again, so the next lookup retries instead of rethrowing forever.
+     */
+    private static CompletableFuture<RingPositions> computeAsync(Key key, Supplier<RingPositions> compute) {
+        CompletableFuture<RingPositions> cached = CACHE.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        CompletableFuture<RingPositions> started = new CompletableFuture<>();
+        cached = CACHE.putIfAbsent(key, started);
+        if (cached != null) {
+            return cached;
+        }
+        // Completed outside any CACHE update; a failure is removed before anyone sees it
+        CompletableFuture.supplyAsync(compute).whenComplete((positions, failure) -> {
+            if (failure != null) {
+                CACHE.remove(key, started);
+                started.completeExceptionally(failure);
+            } else {
+                started.complete(positions);
+            }
+        });
+        return started;
+    }
+
+    /**
+     * Drop cached positions (e.g. when the server stops).
+     */
+    public static void clearCaches() {
+        CACHE.clear();
+    }
+
+    // ========================================================================
+    // QUERIES
+    // ========================================================================
+
+    public int size() {
+        return x.length;
+    }
+
+    public int getX(int index) {
+        return x[index];
+    }
+
+    public int getZ(int index) {
+        return z[index];
+    }
+
+    /**
+     * Whether a structure is placed at this chunk. O(1).
+     */
+    public boolean contains(int chunkX, int chunkZ) {
+        long packed = pack(chunkX, chunkZ);
+        int slot = slot(packed);
+        while (true) {
+            long entry = table[slot];
+            if (entry == packed) {
+                return true;
+            }
+            if (entry == EMPTY) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * Positions within a square radius of a start chunk, nearest first.
+     *
+     * Any position inside the square is within radius * sqrt(2) of the start,
+     * so only positions whose origin distance differs from the start's by at
+     * most that much are considered (binary search on the sorted array).
+     *
+     * @return List of [chunkX, chunkZ], sorted by distance from the start
+     */
+    public List<int[]> nearest(int startChunkX, int startChunkZ, int radiusChunks) {
+        double startDistance = Math.sqrt((double) distanceSq(startChunkX, startChunkZ));
+        double slack = radiusChunks * Math.sqrt(2) + 1;
+        double low = Math.max(0, startDistance - slack);
+        double high = startDistance + slack;
+
+        int from = lowerBound((long) Math.floor(low * low));
+        int to = lowerBound((long) Math.ceil(high * high) + 1);
+
+        List<int[]> result = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            if (Math.abs((long) x[i] - startChunkX) <= radiusChunks
+                    && Math.abs((long) z[i] - startChunkZ) <= radiusChunks) {
+                result.add(new int[] { x[i], z[i] });
+            }
+        }
+        result.sort((a, b) -> Long.compare(
+            distanceSq(a[0] - (long) startChunkX, a[1] - (long) startChunkZ),
+            distanceSq(b[0] - (long) startChunkX, b[1] - (long) startChunkZ)));
+        return result;
+    }
+
+    private int lowerBound(long distanceSq) {
+        int lo = 0;
+        int hi = originDistanceSq.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (originDistanceSq[mid] < distanceSq) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private int slot(long packed) {
+        long h = packed * 0x9E3779B97F4A7C15L;
+        return (int) (h >>> 32) & mask;
+    }
+
+    private static long pack(int chunkX, int chunkZ) {
+        // Same layout as ChunkPos.asLong
+        return (long) chunkX & 0xFFFFFFFFL | ((long) chunkZ & 0xFFFFFFFFL) << 32;
+    }
+
+    private static long distanceSq(long dx, long dz) {
+        return dx * dx + dz * dz;
+    }
+
+    /**
+     * Cache key: seed plus layout parameters.
+     */
+    private static final class Key {
+        final long seed;
+        final int salt;
+        final int a;
+        final int b;
+        final int c;
+        final int[] rings;
+
+        Key(long seed, int salt, int a, int b, int c, int[] rings) {
+            this.seed = seed;
+            this.salt = salt;
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.rings = rings;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key other)) return false;
+            return seed == other.seed && salt == other.salt && a == other.a && b == other.b && c == other.c
+                && Arrays.equals(rings, other.rings);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(seed, salt, a, b, c, Arrays.hashCode(rings));
+        }
+    }
+}
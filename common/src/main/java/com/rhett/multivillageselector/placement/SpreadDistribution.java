@@ -0,0 +1,47 @@
+package com.rhett.multivillageselector.placement;
+
+import java.util.Random;
+
+/**
+ * Distribution of a structure's offset within its placement cell.
+ *
+ * Implementations:
+ * - LocateHelper.SpreadType - the built-in spread types (draw sequences fixed for world compatibility)
+ * - TableSpreadDistribution - custom spread_types from config, compiled to alias tables
+ *
+ * Implementations must be deterministic: the same Random state and maxOffset
+ * always produce the same offsets. Placement, /locate and prediction all rely on it.
+ */
+public interface SpreadDistribution {
+
+    /**
+     * Name as written in config (spreadType: "...").
+     */
+    String name();
+
+    /**
+     * Sample an in-cell offset.
+     *
+     * @param random Random seeded with the cell seed
+     * @param maxOffset Valid offset range per axis (spacing - separation)
+     * @param out Receives {offsetX, offsetZ}, each in [0, maxOffset)
+     */
+    void sample(Random random, int maxOffset, int[] out);
+
+    /**
+     * Sample an in-cell offset with the cell's coordinates available.
+     * Distributions that coordinate neighboring cells (BLUE_NOISE) override this;
+     * everything else only needs the cell's Random.
+     *
+     * @param cellX Grid cell X
+     * @param cellZ Grid cell Z
+     * @param seed World seed
+     * @param salt Structure salt
+     * @param random Random seeded with the cell seed
+     * @param maxOffset Valid offset range per axis (spacing - separation)
+     * @param out Receives {offsetX, offsetZ}, each in [0, maxOffset)
+     */
+    default void sample(int cellX, int cellZ, long seed, int salt, Random random, int maxOffset, int[] out) {
+        sample(random, maxOffset, out);
+    }
+}
@@ -0,0 +1,261 @@
+package com.rhett.multivillageselector.placement;
+
+import com.rhett.multivillageselector.util.AliasTable;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Custom spread distribution defined in config (spread_types), sampled through alias tables.
+ *
+ * Two shapes:
+ * - Separable (1D weights or a named curve): the same density is applied to X and Z independently
+ * - Joint (2D weight grid, rows = Z, columns = X): X and Z are drawn together
+ *
+ * The weight grid spans the whole offset range [0, maxOffset) and is linearly
+ * interpolated, so a 5-point grid works for spacing 34 and spacing 200 alike.
+ * Tables are compiled once per maxOffset (one per structure set in practice)
+ * and cached; each placement then costs one or two integer draws per axis
+ * plus a table lookup - no nextGaussian, no floating point on the hot path.
+ */
+public final class TableSpreadDistribution implements SpreadDistribution {
+
+    /** Max bins per axis for separable tables. Larger offsets pick uniformly within a bin. */
+    static final int MAX_BINS = 256;
+
+    /** Max bins per axis for joint tables (bins^2 columns). */
+    static final int MAX_JOINT_BINS = 64;
+
+    /** Resolution used when compiling a named curve to weights. */
+    static final int CURVE_RESOLUTION = 64;
+
+    /** Named curves accepted by spread_types[name].curve */
+    public static final java.util.Set<String> CURVES = java.util.Set.of(
+        "uniform", "triangular", "gaussian", "edge", "ring"
+    );
+
+    private final String name;
+    private final double[] weights;  // Separable weights, or null
+    private final double[][] grid;   // Joint weights [z][x], or null
+
+    private final Map<Integer, Compiled> compiled = new ConcurrentHashMap<>();
+
+    private TableSpreadDistribution(String name, double[] weights, double[][] grid) {
+        this.name = name;
+        this.weights = weights;
+        this.grid = grid;
+    }
+
+    /**
+     * Separable distribution: same 1D density on both axes.
+     */
+    public static TableSpreadDistribution separable(String name, double[] weights) {
+        validate(weights, name);
+        return new TableSpreadDistribution(name, weights.clone(), null);
+    }
+
+    /**
+     * Joint distribution over a 2D weight grid (rows = Z, columns = X).
+     */
+    public static TableSpreadDistribution joint(String name, double[][] grid) {
+        if (grid.length == 0 || grid[0].length == 0) {
+            throw new IllegalArgumentException("spread type '" + name + "': weight grid must not be empty");
+        }
+        double[][] copy = new double[grid.length][];
+        boolean anyPositive = false;
+        for (int z = 0; z < grid.length; z++) {
+            if (grid[z].length != grid[0].length) {
+                throw new IllegalArgumentException("spread type '" + name + "': all weight rows must have the same length");
+            }
+            for (double w : grid[z]) {
+                checkWeight(w, name);
+                anyPositive |= w > 0.0;
+            }
+            copy[z] = grid[z].clone();
+        }
+        if (!anyPositive) {
+            throw new IllegalArgumentException("spread type '" + name + "': at least one weight must be > 0");
+        }
+        return new TableSpreadDistribution(name, null, copy);
+    }
+
+    /**
+     * Separable distribution from a named curve (see CURVES).
+     * Curves are densities over t in [0, 1) across the offset range.
+     */
+    public static TableSpreadDistribution curve(String name, String curve) {
+        double[] weights = new double[CURVE_RESOLUTION];
+        for (int i = 0; i < CURVE_RESOLUTION; i++) {
+            double t = (i + 0.5) / CURVE_RESOLUTION;
+            double d = Math.abs(2.0 * t - 1.0); // 0 at center, 1 at edges
+            weights[i] = switch (curve) {
+                case "uniform" -> 1.0;
+                case "triangular" -> 1.0 - d;
+                // Same spread as the GAUSSIAN spread type (sigma = range / 6)
+                case "gaussian" -> Math.exp(-0.5 * Math.pow((t - 0.5) * 6.0, 2));
+                case "edge" -> d;
+                // Peak halfway between center and edge
+                case "ring" -> Math.exp(-0.5 * Math.pow((d - 0.5) * 8.0, 2));
+                default -> throw new IllegalArgumentException(
+                    "spread type '" + name + "': unknown curve '" + curve + "'");
+            };
+        }
+        return new TableSpreadDistribution(name, weights, null);
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    public boolean isJoint() {
+        return grid != null;
+    }
+
+    @Override
+    public void sample(Random random, int maxOffset, int[] out) {
+        Compiled table = compiled.computeIfAbsent(maxOffset, this::compile);
+        if (table.joint != null) {
+            int column = table.joint.sample(random);
+            out[0] = table.pick(column % table.bins, random);
+            out[1] = table.pick(column / table.bins, random);
+        } else {
+            out[0] = table.pick(table.axis.sample(random), random);
+            out[1] = table.pick(table.axis.sample(random), random);
+        }
+    }
+
+    /**
+     * Compile tables for one offset range.
+     * Bin i covers offsets [start(i), start(i + 1)); its weight is the interpolated
+     * density at the bin center times the bin width.
+     */
+    private Compiled compile(int maxOffset) {
+        if (maxOffset <= 0) {
+            throw new IllegalArgumentException("spread type '" + name + "': offset range must be > 0");
+        }
+        int bins = Math.min(maxOffset, grid != null ? MAX_JOINT_BINS : MAX_BINS);
+        int[] start = new int[bins + 1];
+        for (int i = 0; i <= bins; i++) {
+            start[i] = (int) ((long) i * maxOffset / bins);
+        }
+
+        if (grid == null) {
+            double[] binWeights = new double[bins];
+            for (int i = 0; i < bins; i++) {
+                binWeights[i] = interpolate(weights, center(start, i, maxOffset)) * (start[i + 1] - start[i]);
+            }
+            return new Compiled(bins, start, buildOrUniform(binWeights), null);
+        }
+
+        double[] binWeights = new double[bins * bins];
+        for (int z = 0; z < bins; z++) {
+            double tz = center(start, z, maxOffset);
+            double[] row = new double[grid[0].length];
+            for (int x = 0; x < row.length; x++) {
+                row[x] = interpolateColumn(grid, x, tz);
+            }
+            int height = start[z + 1] - start[z];
+            for (int x = 0; x < bins; x++) {
+                binWeights[z * bins + x] = interpolate(row, center(start, x, maxOffset))
+                    * height * (start[x + 1] - start[x]);
+            }
+        }
+        return new Compiled(bins, start, null, buildOrUniform(binWeights));
+    }
+
+    /**
+     * Coarse tables on tiny ranges can land every bin on a zero weight
+     * (e.g. an edge-only grid with maxOffset 1) - fall back to uniform.
+     */
+    private static AliasTable buildOrUniform(double[] binWeights) {
+        for (double w : binWeights) {
+            if (w > 0.0) {
+                return AliasTable.build(binWeights);
+            }
+        }
+        double[] uniform = new double[binWeights.length];
+        java.util.Arrays.fill(uniform, 1.0);
+        return AliasTable.build(uniform);
+    }
+
+    private static double center(int[] start, int bin, int maxOffset) {
+        return (start[bin] + start[bin + 1]) * 0.5 / maxOffset;
+    }
+
+    /**
+     * Linear interpolation of evenly spaced points over t in [0, 1].
+     * Point i sits at t = (i + 0.5) / n; values beyond the outer points are clamped.
+     */
+    private static double interpolate(double[] points, double t) {
+        double position = t * points.length - 0.5;
+        if (position <= 0) {
+            return points[0];
+        }
+        if (position >= points.length - 1) {
+            return points[points.length - 1];
+        }
+        int lower = (int) position;
+        double fraction = position - lower;
+        return points[lower] * (1.0 - fraction) + points[lower + 1] * fraction;
+    }
+
+    private static double interpolateColumn(double[][] grid, int x, double t) {
+        double[] column = new double[grid.length];
+        for (int z = 0; z < grid.length; z++) {
+            column[z] = grid[z][x];
+        }
+        return interpolate(column, t);
+    }
+
+    private static void validate(double[] weights, String name) {
+        if (weights.length == 0) {
+            throw new IllegalArgumentException("spread type '" + name + "': weights must not be empty");
+        }
+        boolean anyPositive = false;
+        for (double w : weights) {
+            checkWeight(w, name);
+            anyPositive |= w > 0.0;
+        }
+        if (!anyPositive) {
+            throw new IllegalArgumentException("spread type '" + name + "': at least one weight must be > 0");
+        }
+    }
+
+    private static void checkWeight(double w, String name) {
+        if (w < 0.0 || Double.isNaN(w) || Double.isInfinite(w)) {
+            throw new IllegalArgumentException("spread type '" + name + "': weights must be finite and >= 0, got " + w);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    /**
+     * Tables for one offset range.
+     */
+    private static final class Compiled {
+        final int bins;
+        final int[] start;
+        final AliasTable axis;   // Separable
+        final AliasTable joint;  // Joint, column = z * bins + x
+
+        Compiled(int bins, int[] start, AliasTable axis, AliasTable joint) {
+            this.bins = bins;
+            this.start = start;
+            this.axis = axis;
+            this.joint = joint;
+        }
+
+        /**
+         * Offset for a bin: exact when bins == maxOffset, otherwise uniform within the bin.
+         */
+        int pick(int bin, Random random) {
+            int width = start[bin + 1] - start[bin];
+            return width == 1 ? start[bin] : start[bin] + random.nextInt(width);
+        }
+    }
+}
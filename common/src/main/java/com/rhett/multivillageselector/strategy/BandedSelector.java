@@ -0,0 +1,332 @@
+package com.rhett.multivillageselector.strategy;
+
+import com.rhett.multivillageselector.config.MVSConfig;
+import com.rhett.multivillageselector.util.BiomeTagTable;
+import com.rhett.multivillageselector.util.PatternMatcher;
+import com.rhett.multivillageselector.util.PatternRules;
+
+import net.minecraft.core.Holder;
+import net.minecraft.world.level.biome.Biome;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Compiled structure selection with distance bands (distance_bands, band_weights).
+ * Immutable config, lazily filled per-biome tables - safe to share across threads.
+ *
+ * Each (biome, band) compiles once into a prefix-sum weight table,
+ * so the hot path is: band = comparison chain over squared origin distance,
+ * one table lookup by biome, one nextInt(total) plus a binary search.
+ * No BiomeRules, pattern matching or map building per call.
+ *
+ * biome_frequency is flattened at compile time into one double[] per band, indexed
+ * by biome registry id (BiomeTagTable), so a frequency roll is a single array load.
+ * Biomes outside the table fall back to the compiled patterns.
+ *
+ * Draws are identical to StructurePicker (same entry order, same nextInt(total)),
+ * so worlds without distance_bands select exactly what they did before. A (biome, band)
+ * whose weights sum past Integer.MAX_VALUE (huge band_weights) is scaled down proportionally
+ * when its table compiles, instead of overflowing the roll.
+ *
+ * Pool entries that can never be drawn (no weight above 0 in any biome, or band_weights
+ * 0 in every band) are pruned at compile time - every per-biome table would skip them
+ * anyway. They are kept in getPrunedEntries() for /mvs config analyze (SelectorReport).
+ */
+public final class BandedSelector {
+
+    private final List<MVSConfig.ConfiguredStructure> pool;
+    private final List<MVSConfig.ConfiguredStructure> pruned; // Never drawn, left out of pool
+    private final long[] bandLimitsSq; // Exclusive upper bound per band, squared chunks
+    private final List<PatternRules<Double>> frequencyByBand;
+    private final boolean hasFrequency;
+    private final BiomeTagTable biomeTable;
+    private final double[][] frequencyById; // [band][biome id], resolved biome_frequency
+    private final Map<Holder<Biome>, BandTable[]> byBiome = new ConcurrentHashMap<>();
+
+    private BandedSelector(List<MVSConfig.ConfiguredStructure> pool, List<MVSConfig.ConfiguredStructure> pruned,
+                           long[] bandLimitsSq, List<PatternRules<Double>> frequencyByBand,
+                           BiomeTagTable biomeTable, double[][] frequencyById) {
+        this.pool = pool;
+        this.pruned = pruned;
+        this.bandLimitsSq = bandLimitsSq;
+        this.frequencyByBand = frequencyByBand;
+        this.hasFrequency = frequencyByBand.stream().anyMatch(rules -> !rules.isEmpty());
+        this.biomeTable = biomeTable;
+        this.frequencyById = frequencyById;
+    }
+
+    /**
+     * Compile a selector against the current biome registry snapshot.
+     *
+     * @param pool Configured structures (order matters - same as StructurePicker)
+     * @param distanceBands Band boundaries in chunks from origin, strictly increasing (may be empty)
+     * @param biomeFrequency biome_frequency patterns (scalar values)
+     * @param biomeFrequencyBands Per-band values for patterns that have them (overrides scalar)
+     */
+    public static BandedSelector compile(List<MVSConfig.ConfiguredStructure> pool, int[] distanceBands,
+                                         Map<String, Double> biomeFrequency,
+                                         Map<String, double[]> biomeFrequencyBands) {
+        return compile(pool, distanceBands, biomeFrequency, biomeFrequencyBands, PatternMatcher.getBiomeTable());
+    }
+
+    /**
+     * Compile a selector, flattening biome_frequency over the given biome table.
+     */
+    public static BandedSelector compile(List<MVSConfig.ConfiguredStructure> pool, int[] distanceBands,
+                                         Map<String, Double> biomeFrequency,
+                                         Map<String, double[]> biomeFrequencyBands,
+                                         BiomeTagTable biomeTable) {
+        long[] limitsSq = new long[distanceBands.length];
+        for (int i = 0; i < distanceBands.length; i++) {
+            limitsSq[i] = (long) distanceBands[i] * distanceBands[i];
+        }
+
+        // One compiled pattern map per band, flattened to a value per biome id
+        int bandCount = distanceBands.length + 1;
+        List<PatternRules<Double>> frequencyByBand = new ArrayList<>(bandCount);
+        double[][] frequencyById = new double[bandCount][];
+        for (int band = 0; band < bandCount; band++) {
+            Map<String, Double> frequency = new LinkedHashMap<>(biomeFrequency);
+            for (Map.Entry<String, double[]> entry : biomeFrequencyBands.entrySet()) {
+                double[] values = entry.getValue();
+                if (band < values.length) {
+                    frequency.put(entry.getKey(), values[band]);
+                }
+            }
+            PatternRules<Double> rules = PatternRules.compile(frequency);
+            frequencyByBand.add(rules);
+            frequencyById[band] = rules.flatten(biomeTable, 1.0);
+        }
+
+        // Entries that can never be drawn cost a skipped slot in every per-biome table - drop them
+        List<MVSConfig.ConfiguredStructure> live = new ArrayList<>(pool.size());
+        List<MVSConfig.ConfiguredStructure> pruned = new ArrayList<>();
+        for (MVSConfig.ConfiguredStructure configured : pool) {
+            (isDrawable(configured, bandCount) ? live : pruned).add(configured);
+        }
+
+        return new BandedSelector(List.copyOf(live), List.copyOf(pruned), limitsSq, frequencyByBand,
+            biomeTable, frequencyById);
+    }
+
+    /**
+     * Whether an entry can get a weight above 0 in some biome and band.
+     * Same outcome as compileBiome for every biome - pruning changes no draw.
+     */
+    static boolean isDrawable(MVSConfig.ConfiguredStructure configured, int bandCount) {
+        boolean anyWeight = false;
+        for (Integer weight : configured.biomes.values()) {
+            if (weight != null && weight > 0) {
+                anyWeight = true;
+                break;
+            }
+        }
+        if (!anyWeight) {
+            return false;
+        }
+        for (int band = 0; band < bandCount; band++) {
+            if (bandWeight(1, configured, band) > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Same bands and frequencies over a subset of the pool (e.g. spacing fallback).
+     */
+    public BandedSelector restrictTo(Predicate<MVSConfig.ConfiguredStructure> filter) {
+        List<MVSConfig.ConfiguredStructure> subset = new ArrayList<>();
+        for (MVSConfig.ConfiguredStructure configured : pool) {
+            if (filter.test(configured)) {
+                subset.add(configured);
+            }
+        }
+        return new BandedSelector(List.copyOf(subset), List.of(), bandLimitsSq, frequencyByBand, biomeTable, frequencyById);
+    }
+
+    public List<MVSConfig.ConfiguredStructure> getPool() {
+        return pool;
+    }
+
+    /**
+     * Pool entries left out at compile time because they can never be drawn.
+     */
+    public List<MVSConfig.ConfiguredStructure> getPrunedEntries() {
+        return pruned;
+    }
+
+    /**
+     * Compiled biome_frequency rules of a band (fallback for biomes outside the table).
+     */
+    PatternRules<Double> frequencyRules(int band) {
+        return frequencyByBand.get(band);
+    }
+
+    /**
+     * Resolved biome_frequency for a biome id of the table and a band.
+     */
+    double frequency(int biomeId, int band) {
+        return frequencyById[band][biomeId];
+    }
+
+    public int getBandCount() {
+        return bandLimitsSq.length + 1;
+    }
+
+    /**
+     * Distance band of a placement chunk (0 = closest to origin).
+     */
+    public int band(int chunkX, int chunkZ) {
+        long distanceSq = (long) chunkX * chunkX + (long) chunkZ * chunkZ;
+        int band = 0;
+        while (band < bandLimitsSq.length && distanceSq >= bandLimitsSq[band]) {
+            band++;
+        }
+        return band;
+    }
+
+    /**
+     * Whether any biome_frequency rule is configured (no roll needed otherwise).
+     */
+    public boolean hasFrequency() {
+        return hasFrequency;
+    }
+
+    /**
+     * Biome table the frequencies were flattened over.
+     */
+    public BiomeTagTable getBiomeTable() {
+        return biomeTable;
+    }
+
+    /**
+     * Resolved biome_frequency for a biome and band (default 1.0).
+     */
+    public double frequency(Holder<Biome> biomeHolder, int band) {
+        int biomeId = biomeTable.getBiomeId(biomeHolder);
+        if (biomeId >= 0) {
+            return frequencyById[band][biomeId];
+        }
+        return PatternMatcher.getValueForBiome(frequencyByBand.get(band), biomeHolder, 1.0);
+    }
+
+    /**
+     * Roll biome_frequency (same as StructureInterceptor.rollBiomeFrequency).
+     *
+     * @return true if the spawn attempt proceeds
+     */
+    public boolean rollFrequency(Random random, Holder<Biome> biomeHolder, int band) {
+        if (!hasFrequency) {
+            return true;
+        }
+        return random.nextDouble() < frequency(biomeHolder, band);
+    }
+
+    /**
+     * Weighted selection among entries matching the biome, with band weights applied.
+     *
+     * @return Selected structure, or null if no entry matches
+     */
+    public MVSConfig.ConfiguredStructure select(Random random, Holder<Biome> biomeHolder, int band) {
+        BandTable table = tables(biomeHolder)[band];
+        if (table.entries.length == 0) {
+            return null;
+        }
+
+        int roll = random.nextInt(table.total);
+
+        // First cumulative weight above the roll
+        int[] cumulative = table.cumulative;
+        int lo = 0;
+        int hi = cumulative.length - 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (cumulative[mid] > roll) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+        }
+        return table.entries[lo];
+    }
+
+    private BandTable[] tables(Holder<Biome> biomeHolder) {
+        BandTable[] tables = byBiome.get(biomeHolder);
+        if (tables == null) {
+            tables = byBiome.computeIfAbsent(biomeHolder, this::compileBiome);
+        }
+        return tables;
+    }
+
+    private BandTable[] compileBiome(Holder<Biome> biomeHolder) {
+        // Base weights once per biome, same rules as StructurePicker
+        int[] baseWeights = new int[pool.size()];
+        for (int i = 0; i < pool.size(); i++) {
+            baseWeights[i] = pool.get(i).getWeight(biomeHolder);
+        }
+
+        int bandCount = getBandCount();
+        BandTable[] bands = new BandTable[bandCount];
+        for (int band = 0; band < bandCount; band++) {
+            List<MVSConfig.ConfiguredStructure> entries = new ArrayList<>();
+            List<Integer> weights = new ArrayList<>();
+            long sum = 0;
+            for (int i = 0; i < pool.size(); i++) {
+                int weight = bandWeight(baseWeights[i], pool.get(i), band);
+                if (weight > 0) {
+                    sum += weight;
+                    entries.add(pool.get(i));
+                    weights.add(weight);
+                }
+            }
+
+            // Draws roll nextInt(total) - scale down if the weights sum past int range
+            double scale = sum > Integer.MAX_VALUE ? (double) (Integer.MAX_VALUE - 2L * weights.size()) / sum : 1.0;
+            int[] cumulative = new int[weights.size()];
+            int total = 0;
+            for (int i = 0; i < cumulative.length; i++) {
+                total += scale < 1.0 ? (int) Math.max(1L, (long) (weights.get(i) * scale)) : weights.get(i);
+                cumulative[i] = total;
+            }
+            bands[band] = new BandTable(entries.toArray(new MVSConfig.ConfiguredStructure[0]), cumulative, total);
+        }
+        return bands;
+    }
+
+    /**
+     * Biome weight scaled by the entry's band multiplier.
+     * A positive weight never rounds down to 0 unless the multiplier is 0.
+     */
+    static int bandWeight(int weight, MVSConfig.ConfiguredStructure configured, int band) {
+        if (weight <= 0 || configured.bandWeights == null || band >= configured.bandWeights.length) {
+            return weight;
+        }
+        double multiplier = configured.bandWeights[band];
+        if (multiplier <= 0.0) {
+            return 0;
+        }
+        return (int) Math.max(1L, Math.min(Integer.MAX_VALUE, Math.round(weight * multiplier)));
+    }
+
+    /**
+     * Matching entries and prefix sums of their weights.
+     */
+    private static final class BandTable {
+        final MVSConfig.ConfiguredStructure[] entries;
+        final int[] cumulative;
+        final int total;
+
+        BandTable(MVSConfig.ConfiguredStructure[] entries, int[] cumulative, int total) {
+            this.entries = entries;
+            this.cumulative = cumulative;
+            this.total = total;
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.rhett.multivillageselector.strategy;
 
 import com.rhett.multivillageselector.config.MVSConfig;
+import com.rhett.multivillageselector.config.RuntimeConfig;
 import com.rhett.multivillageselector.MVSCommon;
+import com.rhett.multivillageselector.util.LocateHelper;
 
 import net.minecraft.core.Holder;
 import net.minecraft.core.Registry;
@@ -14,7 +16,6 @@ import net.minecraft.world.level.chunk.ChunkAccess;
 import net.minecraft.world.level.chunk.ChunkGenerator;
 import net.minecraft.world.level.chunk.ChunkGeneratorStructureState;
 import net.minecraft.world.level.levelgen.structure.Structure;
-import net.minecraft.world.level.levelgen.structure.StructureSet;
 
 import java.util.Random;
 
@@ -54,10 +55,13 @@ public class MVSStrategyHandler {
      * Handles MVS strategy selection.
      * Returns what structure to generate (if any).
      *
+     * @param config Config snapshot of this chunk (selection, pool, placement)
+     * @param placement Placement of the structure set, as resolved by the interceptor for this chunk
      * @return Result indicating whether to generate and what structure
      */
     public static Result handle(
-            Holder<StructureSet> structureSetHolder,
+            RuntimeConfig config,
+            RuntimeConfig.Placement placement,
             net.minecraft.core.RegistryAccess registryAccess,
             ChunkGeneratorStructureState state,
             StructureManager structureManager,
@@ -68,7 +72,7 @@ public class MVSStrategyHandler {
         SectionPos sectionPos = SectionPos.bottomOf(chunk);
 
         // Enhanced debug logging for prediction vs generation comparison
-        if (MVSConfig.debugLogging) {
+        if (config.debugLogging) {
             int worldX = chunkPos.getMinBlockX();
             int worldZ = chunkPos.getMinBlockZ();
             MVSCommon.LOGGER.info("[MVS] === GENERATION at chunk [{}, {}] world [{}, {}] (NW corner) ===",
@@ -76,8 +80,8 @@ public class MVSStrategyHandler {
         }
 
         // Check if any MVS structure already exists at this location
-        if (anyMVSStructureExists(structureManager, registryAccess, sectionPos, chunk)) {
-            if (MVSConfig.debugLogging) {
+        if (anyMVSStructureExists(config, structureManager, registryAccess, sectionPos, chunk)) {
+            if (config.debugLogging) {
                 MVSCommon.LOGGER.info("[MVS]   BLOCKED: MVS structure already exists at this chunk");
             }
             return Result.noGenerate("MVS structure already exists at chunk [" + chunkPos.x + "," + chunkPos.z + "]");
@@ -112,13 +116,18 @@ public class MVSStrategyHandler {
         );
 
         // Enhanced debug: log random seed components
-        if (MVSConfig.debugLogging) {
+        if (config.debugLogging) {
             long randomSeed = seed + chunkPos.x * 341873128712L + chunkPos.z * 132897987541L;
             MVSCommon.LOGGER.info("[MVS]   Random: seed={}, chunkX={}, chunkZ={}, combined={}",
                 seed, chunkPos.x, chunkPos.z, randomSeed);
         }
 
-        MVSConfig.ConfiguredStructure selected = MVSConfig.selectStructure(random, biomeHolder);
+        MVSConfig.ConfiguredStructure selected = config.selectStructure(random, biomeHolder, chunkPos.x, chunkPos.z);
+
+        // Enforce min_distance_same / min_distance_groups against neighboring placement chunks
+        if (SameStructureSpacing.isActive(config)) {
+            selected = applySpacingRules(config, selected, placement, state, chunk, generator, biomeHolder);
+        }
 
         // Handle null or empty selection
         if (selected == null || selected.isEmpty) {
@@ -142,7 +151,7 @@ public class MVSStrategyHandler {
         }
 
         // DEBUG: Log detected biome on successful selection (helps debug biome filtering issues)
-        if (MVSConfig.debugLogging) {
+        if (config.debugLogging) {
             String biomeName = biomeHolder.unwrapKey()
                 .map(key -> key.location().toString())
                 .orElse("unknown");
@@ -153,11 +162,47 @@ public class MVSStrategyHandler {
         return Result.generate(structure, selected.structure.toString());
     }
 
+    /**
+     * Applies same-structure distance rules to the raw selection.
+     * Neighbors are evaluated with the same placement and biome sampling as /locate,
+     * so generation and prediction agree. The placement is the one the interceptor
+     * already resolved for this chunk - nothing is looked up again here.
+     */
+    private static MVSConfig.ConfiguredStructure applySpacingRules(
+            RuntimeConfig config,
+            MVSConfig.ConfiguredStructure selected,
+            RuntimeConfig.Placement placement,
+            ChunkGeneratorStructureState state,
+            ChunkAccess chunk,
+            ChunkGenerator generator,
+            Holder<Biome> biomeHolder
+    ) {
+        LocateHelper.PlacementStrategy strategy = placement.strategy();
+        LocateHelper.BiomeSampler biomeSampler = LocateHelper.createSurfaceAwareBiomeSampler(
+            generator.getBiomeSource(),
+            state.randomState().sampler(),
+            generator,
+            chunk.getHeightAccessorForGeneration(),
+            state.randomState()
+        );
+
+        ChunkPos chunkPos = chunk.getPos();
+        MVSConfig.ConfiguredStructure result = SameStructureSpacing.apply(
+            config, selected, chunkPos.x, chunkPos.z, state.getLevelSeed(), biomeHolder, strategy, biomeSampler);
+
+        if (config.debugLogging && result != selected) {
+            MVSCommon.LOGGER.info("[MVS]   Spacing: {} too close to same structure, fallback: {}",
+                selected.structure, result == null || result.isEmpty ? "none" : result.structure);
+        }
+        return result;
+    }
+
     /**
      * Checks if any MVS structure already exists at this location.
      * Prevents duplicate villages at same coordinates.
      */
     private static boolean anyMVSStructureExists(
+            RuntimeConfig config,
             StructureManager structureManager,
             net.minecraft.core.RegistryAccess registryAccess,
             SectionPos sectionPos,
@@ -165,7 +210,7 @@ public class MVSStrategyHandler {
     ) {
         Registry<Structure> structureRegistry = registryAccess.registryOrThrow(Registries.STRUCTURE);
 
-        for (MVSConfig.ConfiguredStructure configured : MVSConfig.structurePool) {
+        for (MVSConfig.ConfiguredStructure configured : config.structurePool) {
             if (configured.isEmpty) continue;
 
             Structure structure = structureRegistry.get(configured.structure);
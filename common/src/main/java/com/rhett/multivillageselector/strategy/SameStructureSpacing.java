@@ -0,0 +1,223 @@
+package com.rhett.multivillageselector.strategy;
+
+import com.rhett.multivillageselector.config.MVSConfig;
+import com.rhett.multivillageselector.config.RuntimeConfig;
+import com.rhett.multivillageselector.util.LocateHelper;
+
+import net.minecraft.core.Holder;
+import net.minecraft.world.level.biome.Biome;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Minimum distance between structures of the same kind (min_distance_same, min_distance_groups).
+ * Pure seed math - no world lookups, no generated-structure queries.
+ *
+ * A chunk's raw selection (frequency roll + weighted pick) only depends on the seed,
+ * the chunk and its biome, so the selection of every neighboring placement chunk within
+ * the distance can be recomputed directly. Conflicts are resolved by a per-chunk priority
+ * hash: a pick is kept unless a higher-priority neighbor within range picked the same
+ * structure (or group). The losing chunk falls back to pool entries without a distance
+ * rule, or spawns nothing if none match its biome.
+ *
+ * Guarantee: two constrained structures that both survive are always at least their
+ * distance apart (the lower-priority one would have seen the other's pick). Neighbors are
+ * compared by raw pick, so a neighbor that itself loses still blocks - the rule never
+ * chains beyond one ring of neighbors.
+ *
+ * Rule radii, the active flag and the fallback selector come from the RuntimeConfig snapshot
+ * (computed once per config). Raw selections are cached per biome source (generator) and
+ * (seed, compiled selector), so adjacent chunks reuse each other's neighbor evaluations and
+ * dimensions never see each other's biomes. Generation, /locate and prediction all go through apply().
+ */
+public final class SameStructureSpacing {
+
+    private static final int MAX_CACHED = 1 << 16;
+
+    // Biome source (generator per dimension) → raw selections; weak so unloaded worlds drop out
+    private static final Map<Object, SelectionCache> caches = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private SameStructureSpacing() {
+    }
+
+    /**
+     * Raw (rule-free) selection at a neighboring placement chunk.
+     */
+    @FunctionalInterface
+    public interface RawSelector {
+        MVSConfig.ConfiguredStructure select(int chunkX, int chunkZ);
+    }
+
+    /**
+     * Whether any pool entry has a distance rule. When false, apply() is the identity.
+     */
+    public static boolean isActive(RuntimeConfig config) {
+        return config.hasDistanceRules();
+    }
+
+    /**
+     * Apply the distance rule to a chunk's raw selection, sampling neighbor biomes.
+     *
+     * @param config Config snapshot the raw selection was made with
+     * @param raw Raw selection at this chunk (may be null or empty)
+     * @param chunkX Placement chunk X
+     * @param chunkZ Placement chunk Z
+     * @param seed World seed
+     * @param biomeHolder Biome at this chunk (for the fallback pick)
+     * @param strategy Placement strategy of the structure set (finds neighbor placements)
+     * @param biomeSampler Samples biomes at neighbor placement chunks
+     * @return Final selection (raw, a fallback entry, or null)
+     */
+    public static MVSConfig.ConfiguredStructure apply(
+            RuntimeConfig config, MVSConfig.ConfiguredStructure raw, int chunkX, int chunkZ, long seed,
+            Holder<Biome> biomeHolder, LocateHelper.PlacementStrategy strategy,
+            LocateHelper.BiomeSampler biomeSampler) {
+
+        if (config.ruleRadius(raw) <= 0) {
+            return raw; // Fast path - no neighbor evaluation
+        }
+        SelectionCache current = currentCache(biomeSampler.source(), seed, config.selector());
+        return apply(config, raw, chunkX, chunkZ, seed, biomeHolder, strategy,
+            (x, z) -> current.rawSelection(x, z, biomeSampler));
+    }
+
+    /**
+     * Apply the distance rule with a custom neighbor selector (testable core).
+     */
+    static MVSConfig.ConfiguredStructure apply(
+            RuntimeConfig config, MVSConfig.ConfiguredStructure raw, int chunkX, int chunkZ, long seed,
+            Holder<Biome> biomeHolder, LocateHelper.PlacementStrategy strategy,
+            RawSelector neighbors) {
+
+        int radius = config.ruleRadius(raw);
+        if (radius <= 0) {
+            return raw;
+        }
+
+        long priority = priority(chunkX, chunkZ, seed);
+        for (int[] placement : strategy.iteratePlacements(chunkX, chunkZ, seed, radius)) {
+            int otherX = placement[0];
+            int otherZ = placement[1];
+            if (otherX == chunkX && otherZ == chunkZ) {
+                continue;
+            }
+
+            long dx = otherX - chunkX;
+            long dz = otherZ - chunkZ;
+            long distanceSq = dx * dx + dz * dz;
+            if (distanceSq >= (long) radius * radius) {
+                continue;
+            }
+
+            // Only higher-priority neighbors can block this chunk
+            if (!outranks(priority(otherX, otherZ, seed), otherX, otherZ, priority, chunkX, chunkZ)) {
+                continue;
+            }
+
+            if (conflicts(config, raw, neighbors.select(otherX, otherZ), distanceSq)) {
+                return fallback(config, chunkX, chunkZ, seed, biomeHolder);
+            }
+        }
+        return raw;
+    }
+
+    /**
+     * Whether two picks violate a distance rule at this squared chunk distance.
+     * Symmetric: both entries of the same structure (or group) carry the same distance.
+     */
+    static boolean conflicts(RuntimeConfig config, MVSConfig.ConfiguredStructure a, MVSConfig.ConfiguredStructure b,
+                             long distanceSq) {
+        if (a == null || b == null || a.isEmpty || b.isEmpty) {
+            return false;
+        }
+        if (a.minDistanceSame > 0 && a.structure.equals(b.structure)
+                && distanceSq < (long) a.minDistanceSame * a.minDistanceSame) {
+            return true;
+        }
+        int groupDistance = config.groupDistance(a.group);
+        return groupDistance > 0 && a.group.equals(b.group)
+            && distanceSq < (long) groupDistance * groupDistance;
+    }
+
+    /**
+     * Per-chunk priority. Deterministic in seed and position; no spatial bias.
+     */
+    static long priority(int chunkX, int chunkZ, long seed) {
+        long h = seed + (long) chunkX * 341873128712L + (long) chunkZ * 132897987541L;
+        // SplitMix64 finalizer - neighboring chunks get unrelated priorities
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        return h ^ (h >>> 31);
+    }
+
+    private static boolean outranks(long priorityA, int ax, int az, long priorityB, int bx, int bz) {
+        if (priorityA != priorityB) {
+            return priorityA > priorityB;
+        }
+        return ax != bx ? ax < bx : az < bz; // Tie-break by position
+    }
+
+    /**
+     * Pick among entries without a distance rule (same seed and band as the chunk's selection).
+     */
+    private static MVSConfig.ConfiguredStructure fallback(RuntimeConfig config, int chunkX, int chunkZ, long seed,
+                                                          Holder<Biome> biomeHolder) {
+        BandedSelector unconstrained = config.unconstrainedSelector();
+        if (unconstrained == null || unconstrained.getPool().isEmpty()) {
+            return null;
+        }
+        Random random = new Random(seed + chunkX * 341873128712L + chunkZ * 132897987541L);
+        return unconstrained.select(random, biomeHolder, config.selector().band(chunkX, chunkZ));
+    }
+
+    private static SelectionCache currentCache(Object source, long seed, BandedSelector selector) {
+        SelectionCache current = caches.get(source);
+        if (current == null || current.seed != seed || current.selector != selector) {
+            current = new SelectionCache(seed, selector);
+            caches.put(source, current);
+        }
+        return current;
+    }
+
+    /**
+     * Drop cached neighbor selections (e.g. after a config reload).
+     */
+    public static void clearCaches() {
+        caches.clear();
+    }
+
+    /**
+     * Raw selections of one biome source for one (seed, compiled selector) snapshot.
+     * Replaced as a whole when either changes.
+     */
+    private static final class SelectionCache {
+        final long seed;
+        final BandedSelector selector;
+        final Map<Long, Optional<MVSConfig.ConfiguredStructure>> raw = new ConcurrentHashMap<>();
+
+        SelectionCache(long seed, BandedSelector selector) {
+            this.seed = seed;
+            this.selector = selector;
+        }
+
+        MVSConfig.ConfiguredStructure rawSelection(int chunkX, int chunkZ, LocateHelper.BiomeSampler biomeSampler) {
+            long key = (long) chunkX & 0xFFFFFFFFL | ((long) chunkZ & 0xFFFFFFFFL) << 32;
+            Optional<MVSConfig.ConfiguredStructure> cached = raw.get(key);
+            if (cached == null) {
+                // Biome at chunk NW corner, same anchor as generation
+                Holder<Biome> biome = biomeSampler.getBiomeAt(chunkX << 4, LocateHelper.DEFAULT_SURFACE_Y, chunkZ << 4);
+                cached = Optional.ofNullable(LocateHelper.simulateSelection(selector, chunkX, chunkZ, seed, biome));
+                if (raw.size() >= MAX_CACHED) {
+                    raw.clear(); // Bounded - generation moves on, old neighbors are rarely revisited
+                }
+                raw.put(key, cached);
+            }
+            return cached.orElse(null);
+        }
+    }
+}
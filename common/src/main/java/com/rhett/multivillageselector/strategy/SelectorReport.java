@@ -0,0 +1,147 @@
+package com.rhett.multivillageselector.strategy;
+
+import com.rhett.multivillageselector.config.MVSConfig;
+import com.rhett.multivillageselector.util.BiomeTagTable;
+import com.rhett.multivillageselector.util.BiomeWeights;
+import com.rhett.multivillageselector.util.PatternMatcher;
+import net.minecraft.core.Holder;
+import net.minecraft.world.level.biome.Biome;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * What compiling a selector pruned, and what is left per biome (/mvs config analyze).
+ * Built on demand from a compiled BandedSelector - nothing here runs during worldgen.
+ *
+ * - Pruned pool entries: never drawable, left out of the selector (see BandedSelector)
+ * - Unreachable biome_frequency rules: decide no biome of the table (shadowed by more
+ *   specific rules, or matching nothing). biome_frequency is flattened to one value per
+ *   biome id at compile time, so they already cost nothing per lookup.
+ * - Per-biome pools: drawable entries, weights and the share held by empty entries
+ */
+public final class SelectorReport {
+
+    /**
+     * Pool of one biome in one band.
+     *
+     * @param entries Drawable entries (weight above 0), empty entries included
+     * @param emptyEntries Drawable empty entries
+     * @param totalWeight Sum of band-scaled weights
+     * @param emptyWeight Part of totalWeight held by empty entries
+     * @param frequency Resolved biome_frequency
+     */
+    public record BiomePool(String biome, int entries, int emptyEntries, int totalWeight, int emptyWeight,
+                            double frequency) {
+
+        /** No structure can be selected here (no entries, only empty ones, or frequency 0). */
+        public boolean noStructure() {
+            return entries == emptyEntries || frequency <= 0.0;
+        }
+
+        /** Empty entries hold more than half the weight - most attempts select nothing. */
+        public boolean mostlyEmpty() {
+            return !noStructure() && emptyWeight * 2L > totalWeight;
+        }
+
+        public double emptyShare() {
+            return totalWeight > 0 ? (double) emptyWeight / totalWeight : 0.0;
+        }
+    }
+
+    /**
+     * A biome_frequency rule that decides no biome.
+     *
+     * @param matchesNothing true if it matches no biome at all, false if only shadowed
+     */
+    public record UnreachableRule(String pattern, boolean matchesNothing) {}
+
+    public final List<MVSConfig.ConfiguredStructure> prunedEntries;
+    public final List<List<UnreachableRule>> unreachableFrequencyRules; // Per band
+    public final List<List<BiomePool>> biomePools;                      // Per band, biome id order
+
+    private SelectorReport(List<MVSConfig.ConfiguredStructure> prunedEntries,
+                           List<List<UnreachableRule>> unreachableFrequencyRules,
+                           List<List<BiomePool>> biomePools) {
+        this.prunedEntries = prunedEntries;
+        this.unreachableFrequencyRules = unreachableFrequencyRules;
+        this.biomePools = biomePools;
+    }
+
+    public static SelectorReport of(BandedSelector selector) {
+        BiomeTagTable table = selector.getBiomeTable();
+        List<MVSConfig.ConfiguredStructure> pool = selector.getPool();
+        int bandCount = selector.getBandCount();
+
+        // Weights by biome id once per entry, for tables without registry holders (built by hand)
+        List<BiomeWeights> weights = new ArrayList<>(pool.size());
+        for (MVSConfig.ConfiguredStructure configured : pool) {
+            BiomeWeights entryWeights = configured.getBiomeWeights();
+            weights.add(entryWeights.getTable() == table ? entryWeights : BiomeWeights.of(table, configured.biomes));
+        }
+
+        List<List<UnreachableRule>> unreachable = new ArrayList<>(bandCount);
+        List<List<BiomePool>> pools = new ArrayList<>(bandCount);
+        for (int band = 0; band < bandCount; band++) {
+            List<UnreachableRule> rules = new ArrayList<>();
+            for (String pattern : selector.frequencyRules(band).unreachable(table)) {
+                rules.add(new UnreachableRule(pattern, table.matching(PatternMatcher.compile(pattern)).isEmpty()));
+            }
+            unreachable.add(Collections.unmodifiableList(rules));
+
+            List<BiomePool> biomes = new ArrayList<>(table.biomeCount());
+            for (int biomeId = 0; biomeId < table.biomeCount(); biomeId++) {
+                String biome = table.getBiomeName(biomeId);
+                if (biome == null) {
+                    continue;
+                }
+                Holder<Biome> holder = table.getHolder(biomeId);
+                int entries = 0;
+                int emptyEntries = 0;
+                int totalWeight = 0;
+                int emptyWeight = 0;
+                for (int i = 0; i < pool.size(); i++) {
+                    int baseWeight;
+                    if (holder != null) {
+                        // Same lookup as selection (BandedSelector.compileBiome) - unresolved
+                        // tag and pattern keys count, not only the indexed biome weights
+                        baseWeight = pool.get(i).getWeight(holder);
+                    } else {
+                        BiomeWeights entryWeights = weights.get(i);
+                        int index = entryWeights.indexOf(biomeId);
+                        baseWeight = index >= 0 ? entryWeights.weightAt(index) : 0;
+                    }
+                    int weight = BandedSelector.bandWeight(baseWeight, pool.get(i), band);
+                    if (weight <= 0) {
+                        continue;
+                    }
+                    entries++;
+                    totalWeight += weight;
+                    if (pool.get(i).isEmpty) {
+                        emptyEntries++;
+                        emptyWeight += weight;
+                    }
+                }
+                biomes.add(new BiomePool(biome, entries, emptyEntries, totalWeight, emptyWeight,
+                    selector.frequency(biomeId, band)));
+            }
+            pools.add(Collections.unmodifiableList(biomes));
+        }
+
+        return new SelectorReport(selector.getPrunedEntries(), Collections.unmodifiableList(unreachable),
+            Collections.unmodifiableList(pools));
+    }
+
+    /**
+     * Why an entry was pruned.
+     */
+    public static String pruneReason(MVSConfig.ConfiguredStructure configured) {
+        for (Integer weight : configured.biomes.values()) {
+            if (weight != null && weight > 0) {
+                return "band_weights 0 in every band";
+            }
+        }
+        return configured.biomes.isEmpty() ? "biomes matched nothing" : "no biome weight above 0";
+    }
+}
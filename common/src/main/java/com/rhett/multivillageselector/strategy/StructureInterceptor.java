@@ -2,6 +2,7 @@ package com.rhett.multivillageselector.strategy;
 
 import com.rhett.multivillageselector.config.ExclusionZone;
 import com.rhett.multivillageselector.config.MVSConfig;
+import com.rhett.multivillageselector.config.RuntimeConfig;
 import com.rhett.multivillageselector.MVSCommon;
 import com.rhett.multivillageselector.profiler.ChunkGenerationProfiler;
 import com.rhett.multivillageselector.util.LocateHelper;
@@ -100,7 +101,9 @@ public class StructureInterceptor {
             StructureTemplateManager templateManager,
             GenerationCallback generationCallback
     ) {
-        if (!MVSConfig.enabled) {
+        // One config snapshot for the whole chunk (a reload mid-chunk can't mix old and new values)
+        RuntimeConfig config = MVSConfig.runtime();
+        if (!config.enabled) {
             // Mod disabled - pass through to vanilla
             for (Object obj : structureSetList) {
                 long startTime = System.nanoTime();
@@ -128,29 +131,23 @@ public class StructureInterceptor {
         for (Object obj : structureSetList) {
             Holder<StructureSet> structureSetHolder = (Holder<StructureSet>) obj;
 
-            // Get structure_set ID
-            java.util.Optional<net.minecraft.resources.ResourceKey<StructureSet>> keyOpt = structureSetHolder.unwrapKey();
-            String structureSetId = keyOpt.map(key -> key.location().toString()).orElse(null);
-
-            // Check if blocked
-            if (structureSetId != null && MVSConfig.blockStructureSets.contains(structureSetId)) {
+            // Check if blocked (by registry id - no structure_set ID string per chunk)
+            if (config.isBlockedStructureSet(structureSetHolder)) {
                 continue; // Skip entirely (logged at startup)
             }
 
             // Check if intercepted
-            if (structureSetId != null && MVSConfig.interceptStructureSets.contains(structureSetId)) {
+            if (config.isInterceptedStructureSet(structureSetHolder)) {
+                // Get structure_set ID (interned name for registry sets)
+                String structureSetId = config.ids().structureSets().getName(structureSetHolder);
                 // Check placement rules using MVS config values (not vanilla registry!)
-                // Resolve placement from config with registry fallback
+                // Resolved once per snapshot from config with registry fallback
                 Registry<StructureSet> structureSetRegistry = registryAccess.registryOrThrow(Registries.STRUCTURE_SET);
-                PlacementResolver.ResolvedPlacement resolved = PlacementResolver.resolve(structureSetId, structureSetRegistry);
-
-                // Create MVS placement strategy for spacing check
-                LocateHelper.RandomSpreadPlacement mvsPlacement = new LocateHelper.RandomSpreadPlacement(
-                    resolved.spacing,
-                    resolved.separation,
-                    resolved.salt,
-                    resolved.spreadType
-                );
+                RuntimeConfig.Placement placement = config.placement(structureSetId, structureSetRegistry);
+                PlacementResolver.ResolvedPlacement resolved = placement.resolved();
+
+                // MVS placement strategy for spacing check (random_spread or concentric_rings)
+                LocateHelper.PlacementStrategy mvsPlacement = placement.strategy();
 
                 // Check if this chunk is a placement chunk using MVS values
                 if (!mvsPlacement.isPlacementChunk(chunkPos.x, chunkPos.z, state.getLevelSeed())) {
@@ -169,7 +166,7 @@ public class StructureInterceptor {
                 }
 
                 // Log when we pass spacing check (debug only)
-                if (MVSConfig.debugLogging) {
+                if (config.debugLogging) {
                     int worldX = chunkPos.x * 16;
                     int worldZ = chunkPos.z * 16;
                     MVSCommon.LOGGER.info("[MVS] ⚡ Attempting spawn for '{}' at chunk[{},{}] ~world[{},{}]",
@@ -178,25 +175,26 @@ public class StructureInterceptor {
                 ChunkGenerationProfiler.recordMVSSpacingPassed();
 
                 // Check exclusion zone (avoid spawning near excluded structure sets)
-                if (!checkExclusionZone(structureSetId, chunkPos, state, registryAccess)) {
-                    if (MVSConfig.debugLogging) {
+                if (!checkExclusionZone(config, structureSetId, resolved, chunkPos, state, registryAccess)) {
+                    if (config.debugLogging) {
                         MVSCommon.LOGGER.info("[MVS]   ✗ Exclusion zone check failed - too close to excluded structure");
                     }
                     continue; // Too close to excluded structure set
                 }
 
                 // Check biome frequency (spawn density control)
-                if (!rollBiomeFrequency(generator, chunk, registryAccess, state)) {
-                    if (MVSConfig.debugLogging) {
+                if (!rollBiomeFrequency(config, generator, chunk, registryAccess, state)) {
+                    if (config.debugLogging) {
                         MVSCommon.LOGGER.info("[MVS]   ✗ Frequency check failed - no spawn");
                     }
                     ChunkGenerationProfiler.recordMVSFrequencyFailure();
                     continue; // Failed frequency roll
                 }
 
-                // Route to MVS strategy
+                // Route to MVS strategy (with the placement resolved above)
                 handleIntercepted(
-                    structureSetHolder,
+                    config,
+                    placement,
                     generator,
                     registryAccess,
                     state,
@@ -220,7 +218,8 @@ public class StructureInterceptor {
      * Handles intercepted structure_set using MVS filter-first strategy.
      */
     private static void handleIntercepted(
-            Holder<StructureSet> structureSetHolder,
+            RuntimeConfig config,
+            RuntimeConfig.Placement placement,
             ChunkGenerator generator,
             net.minecraft.core.RegistryAccess registryAccess,
             ChunkGeneratorStructureState state,
@@ -235,7 +234,8 @@ public class StructureInterceptor {
         // === SELECTION PHASE (timed separately) ===
         long selectionStart = System.nanoTime();
         MVSStrategyHandler.Result result = MVSStrategyHandler.handle(
-            structureSetHolder,
+            config,
+            placement,
             registryAccess,
             state,
             structureManager,
@@ -245,7 +245,7 @@ public class StructureInterceptor {
         ChunkGenerationProfiler.recordMVSSelectionTime(System.nanoTime() - selectionStart);
 
         // Log selection result (only if debug logging enabled)
-        if (MVSConfig.debugLogging) {
+        if (config.debugLogging) {
             if (result.shouldGenerate) {
                 MVSCommon.LOGGER.info("[MVS]   ✓ Selected '{}' → will attempt generation", result.structureId);
             } else {
@@ -275,7 +275,7 @@ public class StructureInterceptor {
             ChunkGenerationProfiler.recordMVSGenerationTime(System.nanoTime() - generationStart);
 
             if (generated) {
-                if (MVSConfig.debugLogging) {
+                if (config.debugLogging) {
                     int worldX = chunkPos.x * 16;
                     int worldZ = chunkPos.z * 16;
                     MVSCommon.LOGGER.info("[MVS]   ✓ Generation SUCCEEDED for '{}' at chunk[{},{}] ~world[{},{}]",
@@ -283,7 +283,7 @@ public class StructureInterceptor {
                 }
                 ChunkGenerationProfiler.recordMVSGenerationSuccess();
             } else {
-                if (MVSConfig.debugLogging) {
+                if (config.debugLogging) {
                     MVSCommon.LOGGER.info("[MVS]   ✗ Generation FAILED for '{}' (biome validation or placement issue)",
                         result.structureId);
                 }
@@ -300,15 +300,18 @@ public class StructureInterceptor {
      * - #*:* (least specific)
      * - #minecraft:* (medium)
      * - #minecraft:is_plains (most specific wins)
+     * Resolved once per (biome, distance band) by BandedSelector.
      */
     private static boolean rollBiomeFrequency(
+            RuntimeConfig config,
             ChunkGenerator generator,
             ChunkAccess chunk,
             net.minecraft.core.RegistryAccess registryAccess,
             ChunkGeneratorStructureState state) {
 
         // If no biome_frequency configured, always pass (default 100%)
-        if (MVSConfig.biomeFrequency.isEmpty()) {
+        BandedSelector selector = config.selector();
+        if (!selector.hasFrequency()) {
             return true;
         }
 
@@ -332,21 +335,12 @@ public class StructureInterceptor {
                 state.randomState().sampler()
             );
 
-        // Use unified pattern matcher to get frequency
-        // Supports direct biome IDs, tags, and patterns with specificity resolution
-        double frequency = com.rhett.multivillageselector.util.PatternMatcher.getValueForBiome(
-            MVSConfig.biomeFrequency,
-            biomeHolder,
-            1.0  // Default: 100% spawn rate
-        );
-
-        // Roll random (deterministic per chunk)
+        // Roll random (deterministic per chunk) against the compiled frequency for this biome and band
         java.util.Random random = new java.util.Random(
             state.getLevelSeed() + chunkPos.x * 341873128712L + chunkPos.z * 132897987541L
         );
 
-        double roll = random.nextDouble();
-        return roll < frequency;
+        return selector.rollFrequency(random, biomeHolder, selector.band(chunkPos.x, chunkPos.z));
     }
 
     /**
@@ -356,22 +350,22 @@ public class StructureInterceptor {
      * Example: If minecraft:villages has exclusion_zone: {other_set: "minecraft:monuments", chunk_count: 5}
      * then this returns false if there's a monument within 5 chunks.
      *
+     * @param config Config snapshot of this chunk
      * @param structureSetId The structure set being spawned
+     * @param resolved Resolved placement of the structure set (carries the exclusion zone)
      * @param chunkPos Current chunk position
      * @param state Chunk generator structure state
      * @param registryAccess Registry access for lookups
      * @return true if exclusion zone is satisfied (ok to spawn), false if forbidden
      */
     private static boolean checkExclusionZone(
+            RuntimeConfig config,
             String structureSetId,
+            PlacementResolver.ResolvedPlacement resolved,
             ChunkPos chunkPos,
             ChunkGeneratorStructureState state,
             net.minecraft.core.RegistryAccess registryAccess) {
 
-        // Resolve placement to get exclusion zone (from config or registry)
-        Registry<StructureSet> structureSetRegistry = registryAccess.registryOrThrow(Registries.STRUCTURE_SET);
-        PlacementResolver.ResolvedPlacement resolved = PlacementResolver.resolve(structureSetId, structureSetRegistry);
-
         // No exclusion zone = always ok to spawn
         if (resolved.exclusionZone == null) {
             return true;
@@ -380,8 +374,8 @@ public class StructureInterceptor {
         ExclusionZone exclusionZone = resolved.exclusionZone;
 
         // Skip check if the other_set is blocked (won't generate anyway)
-        if (MVSConfig.blockStructureSets.contains(exclusionZone.otherSet)) {
-            if (MVSConfig.debugLogging) {
+        if (config.blockStructureSets.contains(exclusionZone.otherSet)) {
+            if (config.debugLogging) {
                 MVSCommon.LOGGER.info("[MVS]   Exclusion zone skipped: '{}' is blocked",
                     exclusionZone.otherSet);
             }
@@ -389,12 +383,13 @@ public class StructureInterceptor {
         }
 
         // Get the other structure set to check
+        Registry<StructureSet> structureSetRegistry = registryAccess.registryOrThrow(Registries.STRUCTURE_SET);
         ResourceLocation otherSetLoc = ResourceLocation.parse(exclusionZone.otherSet);
         Holder<StructureSet> otherSetHolder = structureSetRegistry.getHolder(otherSetLoc).orElse(null);
 
         if (otherSetHolder == null) {
             // Other set not found - can't check, allow spawn
-            if (MVSConfig.debugLogging) {
+            if (config.debugLogging) {
                 MVSCommon.LOGGER.warn("[MVS] Exclusion zone references unknown structure set: {}",
                     exclusionZone.otherSet);
             }
@@ -410,7 +405,7 @@ public class StructureInterceptor {
             exclusionZone.chunkCount
         );
 
-        if (hasStructureNearby && MVSConfig.debugLogging) {
+        if (hasStructureNearby && config.debugLogging) {
             MVSCommon.LOGGER.info("[MVS]   Exclusion zone: '{}' found within {} chunks of '{}'",
                 exclusionZone.otherSet, exclusionZone.chunkCount, structureSetId);
         }
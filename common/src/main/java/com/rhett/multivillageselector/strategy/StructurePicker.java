@@ -1,7 +1,6 @@
 package com.rhett.multivillageselector.strategy;
 
 import com.rhett.multivillageselector.config.MVSConfig;
-import com.rhett.multivillageselector.util.BiomeRules;
 
 import net.minecraft.core.Holder;
 import net.minecraft.world.level.biome.Biome;
@@ -48,9 +47,8 @@ public class StructurePicker {
         List<WeightedStructure> filteredPool = new ArrayList<>();
 
         for (MVSConfig.ConfiguredStructure configured : pool) {
-            // Use BiomeRules for weight calculation (eliminates duplicate logic)
-            BiomeRules rules = BiomeRules.fromMVSConfig(configured);
-            int weight = rules.getWeightForBiome(biomeHolder);
+            // Same weight BiomeRules reports, from the entry's compact per-biome weights
+            int weight = configured.getWeight(biomeHolder);
 
             if (weight > 0) {
                 filteredPool.add(new WeightedStructure(configured, weight));
@@ -133,9 +131,8 @@ public class StructurePicker {
         // Filter
         List<WeightedStructure> filteredPool = new ArrayList<>();
         for (MVSConfig.ConfiguredStructure configured : pool) {
-            // Use BiomeRules for weight calculation (eliminates duplicate logic)
-            BiomeRules rules = BiomeRules.fromMVSConfig(configured);
-            int weight = rules.getWeightForBiome(biomeHolder);
+            // Same weight BiomeRules reports, from the entry's compact per-biome weights
+            int weight = configured.getWeight(biomeHolder);
 
             if (weight > 0) {
                 filteredPool.add(new WeightedStructure(configured, weight));
@@ -0,0 +1,132 @@
+package com.rhett.multivillageselector.util;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Random;
+
+/**
+ * Walker/Vose alias table for O(1) sampling from a discrete weight distribution.
+ * Pure business logic - immutable once built, safe to share across threads.
+ *
+ * Sampling costs one nextInt(size) plus, for columns that are not full,
+ * one 31-bit coin draw. Build cost is O(n).
+ */
+public final class AliasTable {
+
+    private static final long ONE = 1L << 31;
+
+    private final int size;
+    private final long[] threshold; // Acceptance threshold per column, scaled to 2^31 (ONE = always accept)
+    private final int[] alias;
+
+    private AliasTable(int size, long[] threshold, int[] alias) {
+        this.size = size;
+        this.threshold = threshold;
+        this.alias = alias;
+    }
+
+    /**
+     * Build an alias table from non-negative weights.
+     *
+     * @param weights Weight per outcome (at least one must be positive)
+     * @return Table sampling index i with probability weights[i] / sum(weights)
+     * @throws IllegalArgumentException if weights are empty, negative, non-finite or all zero
+     */
+    public static AliasTable build(double[] weights) {
+        int n = weights.length;
+        if (n == 0) {
+            throw new IllegalArgumentException("weights must not be empty");
+        }
+
+        double total = 0.0;
+        for (double weight : weights) {
+            if (weight < 0.0 || Double.isNaN(weight) || Double.isInfinite(weight)) {
+                throw new IllegalArgumentException("weights must be finite and >= 0, got " + weight);
+            }
+            total += weight;
+        }
+        if (total <= 0.0) {
+            throw new IllegalArgumentException("at least one weight must be > 0");
+        }
+
+        // Scale so the average column holds exactly 1.0
+        double[] scaled = new double[n];
+        Deque<Integer> small = new ArrayDeque<>();
+        Deque<Integer> large = new ArrayDeque<>();
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / total;
+            if (scaled[i] < 1.0) {
+                small.push(i);
+            } else {
+                large.push(i);
+            }
+        }
+
+        long[] threshold = new long[n];
+        int[] alias = new int[n];
+        while (!small.isEmpty() && !large.isEmpty()) {
+            int less = small.pop();
+            int more = large.pop();
+
+            threshold[less] = Math.round(scaled[less] * ONE);
+            alias[less] = more;
+
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+            if (scaled[more] < 1.0) {
+                small.push(more);
+            } else {
+                large.push(more);
+            }
+        }
+        // Leftovers are full columns (floating point drift leaves them at ~1.0)
+        while (!large.isEmpty()) {
+            int i = large.pop();
+            threshold[i] = ONE;
+            alias[i] = i;
+        }
+        while (!small.isEmpty()) {
+            int i = small.pop();
+            threshold[i] = ONE;
+            alias[i] = i;
+        }
+
+        return new AliasTable(n, threshold, alias);
+    }
+
+    /**
+     * Number of outcomes.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Sample an outcome index in [0, size).
+     * Deterministic for a given Random state.
+     */
+    public int sample(Random random) {
+        int column = random.nextInt(size);
+        long accept = threshold[column];
+        if (accept >= ONE) {
+            return column; // Full column - no coin needed
+        }
+        return (random.nextInt() >>> 1) < accept ? column : alias[column];
+    }
+
+    /**
+     * Probability of an outcome as encoded in the table (for tests and diagnostics).
+     */
+    public double probability(int index) {
+        double p = 0.0;
+        for (int column = 0; column < size; column++) {
+            double accept = (double) Math.min(threshold[column], ONE) / ONE;
+            if (column == index) {
+                p += accept;
+            }
+            if (alias[column] == index && accept < 1.0) {
+                p += 1.0 - accept;
+            }
+        }
+        return p / size;
+    }
+}
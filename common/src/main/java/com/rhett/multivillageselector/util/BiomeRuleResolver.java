@@ -6,6 +6,8 @@ import net.minecraft.core.registries.Registries;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.level.levelgen.structure.Structure;
 
+import java.util.List;
+
 /**
  * Central API for resolving biome rules for structures.
  *
@@ -35,8 +37,23 @@ public class BiomeRuleResolver {
      */
     public static BiomeRules getEffectiveRules(String structureId,
                                                 net.minecraft.core.RegistryAccess registryAccess) {
+        return getEffectiveRules(structureId, registryAccess, MVSConfig.runtime().structurePool);
+    }
+
+    /**
+     * Get the effective biome rules for a structure against a given pool
+     * (a RuntimeConfig snapshot's, so the rules match the config the caller works with).
+     *
+     * @param structureId Structure ID (e.g., "minecraft:village_plains")
+     * @param registryAccess Registry access (for looking up structures/biomes)
+     * @param structurePool Discovered structure_pool entries
+     * @return BiomeRules (never null, may be empty)
+     */
+    public static BiomeRules getEffectiveRules(String structureId,
+                                                net.minecraft.core.RegistryAccess registryAccess,
+                                                List<MVSConfig.ConfiguredStructure> structurePool) {
         // Step 1: Check MVS config first
-        MVSConfig.ConfiguredStructure mvsConfig = findInMVSConfig(structureId);
+        MVSConfig.ConfiguredStructure mvsConfig = findInMVSConfig(structurePool, structureId);
         if (mvsConfig != null) {
             return BiomeRules.fromMVSConfig(mvsConfig);
         }
@@ -54,8 +71,9 @@ public class BiomeRuleResolver {
     /**
      * Find structure in MVS structure_pool
      */
-    private static MVSConfig.ConfiguredStructure findInMVSConfig(String structureId) {
-        for (MVSConfig.ConfiguredStructure configured : MVSConfig.structurePool) {
+    private static MVSConfig.ConfiguredStructure findInMVSConfig(List<MVSConfig.ConfiguredStructure> structurePool,
+                                                                 String structureId) {
+        for (MVSConfig.ConfiguredStructure configured : structurePool) {
             if (configured.structure != null &&
                 configured.structure.toString().equals(structureId)) {
                 return configured;
@@ -82,6 +100,6 @@ public class BiomeRuleResolver {
      * Check if a structure is MVS-controlled (in structure_pool)
      */
     public static boolean isMVSControlled(String structureId) {
-        return findInMVSConfig(structureId) != null;
+        return findInMVSConfig(MVSConfig.runtime().structurePool, structureId) != null;
     }
 }
\ No newline at end of file
@@ -30,26 +30,44 @@ public class BiomeRules {
     public final List<String> tags;           // ["#minecraft:is_plains", ...]
     public final List<String> directBiomes;   // ["minecraft:plains", ...] (from vanilla Direct sets)
     public final Map<String, Integer> weights; // Tag/biome -> weight mapping
+    private final PatternRules<Integer> compiledWeights; // weights sorted by specificity
+    private final com.rhett.multivillageselector.config.MVSConfig.ConfiguredStructure configured; // MVS_CONFIG only
 
     private BiomeRules(Source source,
                        List<String> tags,
                        List<String> directBiomes,
-                       Map<String, Integer> weights) {
+                       Map<String, Integer> weights,
+                       PatternRules<Integer> compiledWeights,
+                       com.rhett.multivillageselector.config.MVSConfig.ConfiguredStructure configured) {
         this.source = source;
         this.tags = Collections.unmodifiableList(new ArrayList<>(tags));
         this.directBiomes = Collections.unmodifiableList(new ArrayList<>(directBiomes));
-        this.weights = Collections.unmodifiableMap(new LinkedHashMap<>(weights));
+        this.weights = weights;
+        this.compiledWeights = compiledWeights;
+        this.configured = configured;
+    }
+
+    private BiomeRules(Source source,
+                       List<String> tags,
+                       List<String> directBiomes,
+                       Map<String, Integer> weights,
+                       PatternRules<Integer> compiledWeights) {
+        this(source, tags, directBiomes, Collections.unmodifiableMap(new LinkedHashMap<>(weights)), compiledWeights, null);
     }
 
     /**
-     * Factory: Create BiomeRules from MVS ConfiguredStructure
+     * Factory: Create BiomeRules from MVS ConfiguredStructure.
+     * Weights are a read-only view of the entry's biomes (not copied) and lookups
+     * go through its compact per-biome-id weights.
      */
     public static BiomeRules fromMVSConfig(com.rhett.multivillageselector.config.MVSConfig.ConfiguredStructure config) {
         return new BiomeRules(
             Source.MVS_CONFIG,
             new ArrayList<>(config.biomes.keySet()),
             List.of(),
-            config.biomes
+            Collections.unmodifiableMap(config.biomes),
+            PatternRules.empty(),
+            config
         );
     }
 
@@ -70,7 +88,8 @@ public class BiomeRules {
                     Source.VANILLA_REGISTRY,
                     List.of(tagString),
                     List.of(),
-                    Map.of() // Vanilla doesn't have weights
+                    Map.of(), // Vanilla doesn't have weights
+                    PatternRules.empty()
                 );
             },
             // Right: Direct set (list of biome holders)
@@ -88,7 +107,8 @@ public class BiomeRules {
                     Source.VANILLA_REGISTRY,
                     List.of(),
                     biomeIds,
-                    Map.of() // Vanilla doesn't have weights
+                    Map.of(), // Vanilla doesn't have weights
+                    PatternRules.empty()
                 );
             }
         );
@@ -98,7 +118,7 @@ public class BiomeRules {
      * Factory: Empty rules (structure not found)
      */
     public static BiomeRules empty() {
-        return new BiomeRules(Source.EMPTY, List.of(), List.of(), Map.of());
+        return new BiomeRules(Source.EMPTY, List.of(), List.of(), Map.of(), PatternRules.empty());
     }
 
     /**
@@ -121,6 +141,8 @@ public class BiomeRules {
      * Supports patterns via PatternMatcher.
      */
     public String getMatchingTag(Holder<Biome> biomeHolder) {
+        PatternRules<Integer> rules = configured != null ? configured.getCompiledBiomes() : compiledWeights;
+
         // Get biome ID and tags for pattern matching
         String biomeId = biomeHolder.unwrapKey()
             .map(k -> k.location().toString())
@@ -138,24 +160,8 @@ public class BiomeRules {
             // Stream already closed
         }
 
-        // Find matching pattern with highest specificity
-        String bestMatch = null;
-        int bestSpecificity = Integer.MIN_VALUE;
-
-        for (String pattern : weights.keySet()) {
-            for (String biomeString : biomeStrings) {
-                if (PatternMatcher.matches(biomeString, pattern)) {
-                    int specificity = PatternMatcher.getSpecificity(pattern);
-                    if (specificity > bestSpecificity) {
-                        bestSpecificity = specificity;
-                        bestMatch = pattern;
-                    }
-                    break;
-                }
-            }
-        }
-
-        return bestMatch;
+        // Matching pattern with highest specificity (first in config order on ties)
+        return rules.getMatchingPattern(biomeStrings);
     }
 
     /**
@@ -171,11 +177,16 @@ public class BiomeRules {
      * v0.4.0: First tries O(1) lookup (biome patterns pre-expanded at config load).
      * Falls back to pattern matching for backward compatibility with tests
      * and any code that uses tag-based weights directly.
+     * MVS rules answer from the entry's compact weights (ConfiguredStructure.getWeight).
      *
      * @param biomeHolder The biome to check
      * @return Weight (0 if no match)
      */
     public int getWeightForBiome(Holder<Biome> biomeHolder) {
+        if (configured != null) {
+            return configured.getWeight(biomeHolder);
+        }
+
         // Get biome ID for direct lookup
         String biomeId = biomeHolder.unwrapKey()
             .map(k -> k.location().toString())
@@ -192,7 +203,7 @@ public class BiomeRules {
         }
 
         // Fallback to pattern matching (for tests and backward compatibility)
-        return PatternMatcher.getValueForBiome(weights, biomeHolder, 0);
+        return PatternMatcher.getValueForBiome(compiledWeights, biomeHolder, 0);
     }
 
     /**
@@ -0,0 +1,258 @@
+package com.rhett.multivillageselector.util;
+
+import net.minecraft.core.Holder;
+import net.minecraft.core.Registry;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.biome.Biome;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Biome → tag index for one biome registry snapshot.
+ * Immutable - built once, read from any thread without locking.
+ *
+ * Biomes and tags are numbered densely:
+ * - biome id → int[] of tag ids (sorted)
+ * - tag id → BitSet of biome ids
+ *
+ * Built from a registry, biome ids are the registry's own int ids. Each biome and
+ * tag name is stored once, instead of one "#tag" string set per biome, and pattern
+ * lookups become a bit test per rule (see PatternRules).
+ */
+public final class BiomeTagTable {
+
+    public static final BiomeTagTable EMPTY = new BiomeTagTable(null, List.of(), List.of());
+
+    private final Registry<Biome> registry;             // Registry this snapshot was built from (null if ad hoc)
+    private final ResourceLocation[] biomes;            // biome id → location (null for unused ids)
+    private final String[] biomeNames;                  // biome id → "ns:path"
+    private final Map<ResourceLocation, Integer> biomeIds;
+    private final ResourceLocation[] tags;              // tag id → location
+    private final Map<ResourceLocation, Integer> tagIds;
+    private final String[] tagNames;                    // tag id → "#ns:path"
+    private final int[][] tagsByBiome;
+    private final BitSet[] biomesByTag;
+
+    private BiomeTagTable(Registry<Biome> registry, List<ResourceLocation> biomeList, List<List<ResourceLocation>> biomeTagList) {
+        this.registry = registry;
+        int biomeCount = biomeList.size();
+        this.biomes = biomeList.toArray(new ResourceLocation[0]);
+        this.biomeNames = new String[biomeCount];
+        this.biomeIds = new HashMap<>();
+        this.tagsByBiome = new int[biomeCount][];
+
+        // Intern tags in first-seen order
+        this.tagIds = new HashMap<>();
+        List<ResourceLocation> tagList = new ArrayList<>();
+        List<BitSet> biomeSets = new ArrayList<>();
+
+        for (int id = 0; id < biomeCount; id++) {
+            ResourceLocation biome = biomes[id];
+            List<ResourceLocation> biomeTags = biome != null ? biomeTagList.get(id) : List.of();
+            if (biome != null) {
+                biomeNames[id] = biome.toString();
+                biomeIds.put(biome, id);
+            }
+
+            int[] ids = new int[biomeTags.size()];
+            int count = 0;
+            for (ResourceLocation tag : biomeTags) {
+                Integer tagId = tagIds.get(tag);
+                if (tagId == null) {
+                    tagId = tagList.size();
+                    tagIds.put(tag, tagId);
+                    tagList.add(tag);
+                    biomeSets.add(new BitSet(biomeCount));
+                }
+                if (!biomeSets.get(tagId).get(id)) {
+                    biomeSets.get(tagId).set(id);
+                    ids[count++] = tagId;
+                }
+            }
+            int[] sorted = Arrays.copyOf(ids, count);
+            Arrays.sort(sorted);
+            tagsByBiome[id] = sorted;
+        }
+
+        this.tags = tagList.toArray(new ResourceLocation[0]);
+        this.tagNames = new String[tags.length];
+        for (int i = 0; i < tags.length; i++) {
+            tagNames[i] = "#" + tags[i];
+        }
+        this.biomesByTag = biomeSets.toArray(new BitSet[0]);
+    }
+
+    /**
+     * Build the table for a biome registry (ids = registry ids).
+     */
+    public static BiomeTagTable fromRegistry(Registry<Biome> registry) {
+        List<ResourceLocation> biomeList = new ArrayList<>();
+        List<List<ResourceLocation>> biomeTagList = new ArrayList<>();
+        for (int id = 0; id < registry.size(); id++) {
+            Holder.Reference<Biome> holder = registry.getHolder(id).orElse(null);
+            if (holder == null) {
+                biomeList.add(null);
+                biomeTagList.add(List.of());
+                continue;
+            }
+            biomeList.add(holder.key().location());
+            biomeTagList.add(tagsOf(holder));
+        }
+        return new BiomeTagTable(registry, biomeList, biomeTagList);
+    }
+
+    /**
+     * Whether this table was built from the given registry instance.
+     */
+    public boolean isSnapshotOf(Registry<Biome> registry) {
+        return this.registry == registry;
+    }
+
+    /**
+     * Copy of this table with one more biome (next free id).
+     * For biomes outside the registry snapshot - mocked holders in tests.
+     */
+    public BiomeTagTable with(ResourceLocation biome, List<ResourceLocation> biomeTags) {
+        List<ResourceLocation> biomeList = new ArrayList<>(biomes.length + 1);
+        List<List<ResourceLocation>> biomeTagList = new ArrayList<>(biomes.length + 1);
+        for (int id = 0; id < biomes.length; id++) {
+            biomeList.add(biomes[id]);
+            List<ResourceLocation> existing = new ArrayList<>(tagsByBiome[id].length);
+            for (int tagId : tagsByBiome[id]) {
+                existing.add(tags[tagId]);
+            }
+            biomeTagList.add(existing);
+        }
+        biomeList.add(biome);
+        biomeTagList.add(biomeTags);
+        return new BiomeTagTable(registry, biomeList, biomeTagList);
+    }
+
+    /**
+     * Tag locations of a holder. Tolerates single-use tag streams (mocked holders).
+     */
+    public static List<ResourceLocation> tagsOf(Holder<Biome> biomeHolder) {
+        List<ResourceLocation> result = new ArrayList<>();
+        try {
+            for (var tagKey : biomeHolder.tags().toList()) {
+                result.add(tagKey.location());
+            }
+        } catch (IllegalStateException e) {
+            // Stream already closed - this can happen with mocked biomes in tests
+            // Direct biome ID matching will still work, just without tag matching
+        }
+        return result;
+    }
+
+    /**
+     * Number of biome ids (registry size for registry snapshots).
+     */
+    public int biomeCount() {
+        return biomes.length;
+    }
+
+    public int tagCount() {
+        return tags.length;
+    }
+
+    /**
+     * @return Biome id, or -1 if the biome is not in this snapshot
+     */
+    public int getBiomeId(ResourceLocation biome) {
+        Integer id = biomeIds.get(biome);
+        return id != null ? id : -1;
+    }
+
+    /**
+     * Id of a biome holder. Registry holders resolve through the registry's own
+     * id map (no key lookup); other holders by their key.
+     *
+     * @return Biome id, or -1 if the biome is not in this snapshot
+     */
+    public int getBiomeId(Holder<Biome> biomeHolder) {
+        if (registry != null && biomeHolder instanceof Holder.Reference<Biome> reference && reference.isBound()) {
+            int id = registry.getId(reference.value());
+            if (id >= 0 && id < biomes.length) {
+                return id;
+            }
+        }
+        var biomeKey = biomeHolder.unwrapKey();
+        return biomeKey.isPresent() ? getBiomeId(biomeKey.get().location()) : -1;
+    }
+
+    /**
+     * @return Biome location, or null for an unused id
+     */
+    public ResourceLocation getBiome(int biomeId) {
+        return biomes[biomeId];
+    }
+
+    /**
+     * Registry holder of a biome id - the holder worldgen looks weights up with.
+     *
+     * @return Holder, or null for an unused id or a table not built from a registry
+     */
+    public Holder<Biome> getHolder(int biomeId) {
+        return registry != null ? registry.getHolder(biomeId).orElse(null) : null;
+    }
+
+    /**
+     * @return Biome "ns:path", or null for an unused id
+     */
+    public String getBiomeName(int biomeId) {
+        return biomeNames[biomeId];
+    }
+
+    /**
+     * @return Tag id, or -1 if no biome in this snapshot carries the tag
+     */
+    public int getTagId(ResourceLocation tag) {
+        Integer id = tagIds.get(tag);
+        return id != null ? id : -1;
+    }
+
+    public ResourceLocation getTag(int tagId) {
+        return tags[tagId];
+    }
+
+    /**
+     * Tag ids of a biome, sorted. Shared - do not modify.
+     */
+    public int[] getTagIds(int biomeId) {
+        return tagsByBiome[biomeId];
+    }
+
+    /**
+     * Biomes carrying a tag (copy).
+     */
+    public BitSet getBiomesWithTag(int tagId) {
+        return (BitSet) biomesByTag[tagId].clone();
+    }
+
+    /**
+     * Biomes matched by a pattern: ID patterns test each biome name once,
+     * tag patterns test each tag name once and union the tag's biomes.
+     */
+    public BitSet matching(WildcardPattern pattern) {
+        BitSet result = new BitSet(biomes.length);
+        if (pattern.isTag()) {
+            for (int tagId = 0; tagId < tagNames.length; tagId++) {
+                if (pattern.matches(tagNames[tagId])) {
+                    result.or(biomesByTag[tagId]);
+                }
+            }
+        } else {
+            for (int id = 0; id < biomeNames.length; id++) {
+                if (biomeNames[id] != null && pattern.matches(biomeNames[id])) {
+                    result.set(id);
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,158 @@
+package com.rhett.multivillageselector.util;
+
+import net.minecraft.resources.ResourceLocation;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * All biomes and biome tags of one registry snapshot, as BiomePoolExpander sees them.
+ * Built once per structure discovery and shared by every pool entry.
+ * Immutable apart from its expansion cache - safe to share across threads.
+ *
+ * Holds the inverted index ("#tag" → biome IDs) up front, so a literal tag expands
+ * with one lookup instead of a scan over every biome. Pattern expansions are cached
+ * here, not in statics, so they can never outlive the snapshot they were computed from.
+ */
+public final class BiomeUniverse {
+
+    private final Set<ResourceLocation> biomes;
+    private final Set<String> biomeIds;                    // Biome ID strings
+    private final List<String> tagStrings;                 // "#ns:path" for every known tag
+    private final Map<String, Set<String>> biomesByTag;    // "#ns:path" → biome ID strings
+
+    // Cache: pattern → biome ID strings (e.g. "#*:is_*" → {"minecraft:plains", ...})
+    private final Map<String, Set<String>> expansionCache = new ConcurrentHashMap<>();
+
+    private BiomeUniverse(Set<ResourceLocation> biomes, Set<ResourceLocation> tags,
+                          Map<ResourceLocation, Set<String>> biomeTags) {
+        this.biomes = Set.copyOf(biomes);
+
+        Set<String> ids = new HashSet<>();
+        Map<String, Set<String>> index = new HashMap<>();
+        for (ResourceLocation biome : biomes) {
+            String id = biome.toString();
+            ids.add(id);
+            for (String tag : biomeTags.getOrDefault(biome, Collections.emptySet())) {
+                index.computeIfAbsent(tag, t -> new HashSet<>()).add(id);
+            }
+        }
+        this.biomeIds = Collections.unmodifiableSet(ids);
+
+        Map<String, Set<String>> frozen = new HashMap<>();
+        for (Map.Entry<String, Set<String>> entry : index.entrySet()) {
+            frozen.put(entry.getKey(), Collections.unmodifiableSet(entry.getValue()));
+        }
+        this.biomesByTag = Collections.unmodifiableMap(frozen);
+
+        List<String> tagList = new ArrayList<>(tags.size());
+        for (ResourceLocation tag : tags) {
+            tagList.add("#" + tag);
+        }
+        this.tagStrings = List.copyOf(tagList);
+    }
+
+    /**
+     * Snapshot from explicit sets (tests, callers without a registry).
+     *
+     * @param biomes All biome IDs
+     * @param tags All biome tag IDs (what #*:* and tag wildcards range over)
+     * @param biomeTags Biome ID → tags of that biome (with # prefix)
+     */
+    public static BiomeUniverse of(Set<ResourceLocation> biomes, Set<ResourceLocation> tags,
+                                   Map<ResourceLocation, Set<String>> biomeTags) {
+        return new BiomeUniverse(biomes, tags, biomeTags);
+    }
+
+    /**
+     * Snapshot of a biome tag table (the registry index PatternMatcher already holds).
+     */
+    public static BiomeUniverse of(BiomeTagTable table) {
+        Set<ResourceLocation> biomes = new HashSet<>();
+        Set<ResourceLocation> tags = new HashSet<>();
+        Map<ResourceLocation, Set<String>> biomeTags = new HashMap<>();
+        for (int id = 0; id < table.biomeCount(); id++) {
+            ResourceLocation biome = table.getBiome(id);
+            if (biome == null) {
+                continue;
+            }
+            biomes.add(biome);
+            Set<String> tagsForBiome = new HashSet<>();
+            for (int tagId : table.getTagIds(id)) {
+                ResourceLocation tag = table.getTag(tagId);
+                tags.add(tag);
+                tagsForBiome.add("#" + tag);
+            }
+            biomeTags.put(biome, tagsForBiome);
+        }
+        return new BiomeUniverse(biomes, tags, biomeTags);
+    }
+
+    public Set<ResourceLocation> getBiomes() {
+        return biomes;
+    }
+
+    public int biomeCount() {
+        return biomes.size();
+    }
+
+    public int tagCount() {
+        return tagStrings.size();
+    }
+
+    /**
+     * Biome IDs matched by one pattern (cached). Shared - do not modify.
+     *
+     * Pattern types:
+     * - "#*:is_*" → wildcard tag → matching known tags → their biomes
+     * - "#minecraft:is_plains" → literal tag → its biomes
+     * - "minecraft:*ocean*" → wildcard ID → matching biomes
+     * - "minecraft:plains" → literal ID → just that biome (if it exists)
+     */
+    public Set<String> expand(String pattern) {
+        Set<String> cached = expansionCache.get(pattern);
+        if (cached == null) {
+            cached = expansionCache.computeIfAbsent(pattern, p -> Collections.unmodifiableSet(compute(p)));
+        }
+        return cached;
+    }
+
+    private Set<String> compute(String pattern) {
+        // Special case: *:* matches ALL biome IDs directly
+        if (pattern.equals("*:*")) {
+            return new HashSet<>(biomeIds);
+        }
+
+        boolean isTag = pattern.startsWith("#");
+        boolean isWildcard = pattern.contains("*");
+
+        if (isTag && !isWildcard) {
+            return new HashSet<>(biomesByTag.getOrDefault(pattern, Collections.emptySet()));
+        }
+
+        Set<String> result = new HashSet<>();
+        if (isTag) {
+            // #*:* skips tag pattern matching - every known tag
+            boolean all = pattern.equals("#*:*");
+            WildcardPattern compiled = PatternMatcher.compile(pattern);
+            for (String tag : tagStrings) {
+                if (all || compiled.matches(tag)) {
+                    result.addAll(biomesByTag.getOrDefault(tag, Collections.emptySet()));
+                }
+            }
+        } else if (isWildcard) {
+            WildcardPattern compiled = PatternMatcher.compile(pattern);
+            for (String biome : biomeIds) {
+                if (compiled.matches(biome)) {
+                    result.add(biome);
+                }
+            }
+        } else {
+            ResourceLocation loc = ResourceLocation.tryParse(pattern);
+            if (loc != null && biomes.contains(loc)) {
+                result.add(pattern);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,250 @@
+package com.rhett.multivillageselector.util;
+
+import net.minecraft.core.Holder;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.biome.Biome;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Expanded biome weights of one pool entry, stored against a BiomeTagTable snapshot:
+ * a sorted biome-id int[] plus a parallel weight int[].
+ * Immutable - safe to share across threads.
+ *
+ * Replaces the expanded HashMap<String, Integer> (hundreds of boxed entries per
+ * structure after #*:* expansion). Keys that are not a biome of the snapshot
+ * (tags, patterns, unknown IDs - mostly hand-built maps in tests) are kept
+ * as-is and answered by pattern matching, so lookups give the same result as
+ * the direct-ID-then-patterns lookup on the original map.
+ *
+ * asMap() is a read-only string view for display - nothing is copied.
+ */
+public final class BiomeWeights {
+
+    public static final BiomeWeights EMPTY = of(BiomeTagTable.EMPTY, Map.of());
+
+    private final BiomeTagTable table;
+    private final int[] biomeIds;                       // sorted
+    private final int[] weights;                        // weight of biomeIds[i]
+    private final Map<String, Integer> unresolved;      // keys not in the table (usually empty)
+    private final PatternRules<Integer> unresolvedRules;
+    private final Map<String, Integer> view;
+
+    private BiomeWeights(BiomeTagTable table, int[] biomeIds, int[] weights, Map<String, Integer> unresolved) {
+        this.table = table;
+        this.biomeIds = biomeIds;
+        this.weights = weights;
+        this.unresolved = unresolved;
+        this.unresolvedRules = PatternRules.compile(unresolved);
+        this.view = new MapView();
+    }
+
+    /**
+     * Compact an expanded biome map against a table snapshot.
+     *
+     * @param table Snapshot the biome ids refer to
+     * @param biomes Biome ID / pattern → weight (e.g. ConfiguredStructure expanded biomes)
+     */
+    public static BiomeWeights of(BiomeTagTable table, Map<String, Integer> biomes) {
+        long[] packed = new long[biomes.size()];
+        int count = 0;
+        Map<String, Integer> unresolved = new LinkedHashMap<>();
+        for (Map.Entry<String, Integer> entry : biomes.entrySet()) {
+            int biomeId = resolve(table, entry.getKey());
+            if (biomeId >= 0 && entry.getValue() != null) {
+                // id in the high half, weight in the low half - sorts by id
+                packed[count++] = ((long) biomeId << 32) | (entry.getValue() & 0xFFFFFFFFL);
+            } else {
+                unresolved.put(entry.getKey(), entry.getValue());
+            }
+        }
+        Arrays.sort(packed, 0, count);
+
+        int[] ids = new int[count];
+        int[] values = new int[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = (int) (packed[i] >>> 32);
+            values[i] = (int) packed[i];
+        }
+        return new BiomeWeights(table, ids, values,
+            unresolved.isEmpty() ? Map.of() : Collections.unmodifiableMap(unresolved));
+    }
+
+    /**
+     * Rebuild from the arrays of an earlier instance (on-disk pool cache).
+     * The table must have the same biome ids as the one the arrays were built against.
+     *
+     * @throws IllegalArgumentException If the ids are not sorted biome ids of the table
+     */
+    public static BiomeWeights of(BiomeTagTable table, int[] biomeIds, int[] weights, Map<String, Integer> unresolved) {
+        if (biomeIds.length != weights.length) {
+            throw new IllegalArgumentException("biome ids and weights differ in length");
+        }
+        for (int i = 0; i < biomeIds.length; i++) {
+            if (biomeIds[i] < 0 || biomeIds[i] >= table.biomeCount() || (i > 0 && biomeIds[i] <= biomeIds[i - 1])) {
+                throw new IllegalArgumentException("biome id " + biomeIds[i] + " out of order or not in the table");
+            }
+        }
+        return new BiomeWeights(table, biomeIds.clone(), weights.clone(),
+            unresolved.isEmpty() ? Map.of() : Collections.unmodifiableMap(new LinkedHashMap<>(unresolved)));
+    }
+
+    /**
+     * Biome id of a literal biome ID key, or -1 (tags, patterns, unknown biomes,
+     * non-canonical spellings such as "plains" that never matched directly).
+     */
+    private static int resolve(BiomeTagTable table, String key) {
+        if (key.startsWith("#") || key.contains("*")) {
+            return -1;
+        }
+        ResourceLocation location = ResourceLocation.tryParse(key);
+        if (location == null || !location.toString().equals(key)) {
+            return -1;
+        }
+        return table.getBiomeId(location);
+    }
+
+    public BiomeTagTable getTable() {
+        return table;
+    }
+
+    /**
+     * Number of entries (biomes plus unresolved keys) - same as the original map.
+     */
+    public int size() {
+        return biomeIds.length + unresolved.size();
+    }
+
+    /**
+     * @return Index of a biome id in the sorted arrays, or -1 if it has no weight here
+     */
+    public int indexOf(int biomeId) {
+        return biomeId < 0 ? -1 : Math.max(-1, Arrays.binarySearch(biomeIds, biomeId));
+    }
+
+    public int biomeIdAt(int index) {
+        return biomeIds[index];
+    }
+
+    public int weightAt(int index) {
+        return weights[index];
+    }
+
+    /**
+     * Keys that are not a biome of the table (tags, patterns, unknown IDs), usually empty.
+     */
+    public Map<String, Integer> unresolved() {
+        return unresolved;
+    }
+
+    /**
+     * Weight of a biome: direct id lookup, then unresolved patterns.
+     *
+     * @return Weight (0 if no match)
+     */
+    public int getWeight(Holder<Biome> biomeHolder) {
+        int index = indexOf(table.getBiomeId(biomeHolder));
+        if (index >= 0) {
+            return weights[index];
+        }
+        // Resolved keys are literal IDs of other biomes - only unresolved keys can still match
+        if (unresolvedRules.isEmpty() || biomeHolder.unwrapKey().isEmpty()) {
+            return 0;
+        }
+        return PatternMatcher.getValueForBiome(unresolvedRules, biomeHolder, 0);
+    }
+
+    /**
+     * Highest weight (0 if empty).
+     */
+    public int maxWeight() {
+        int max = 0;
+        for (int weight : weights) {
+            max = Math.max(max, weight);
+        }
+        for (Integer weight : unresolved.values()) {
+            max = Math.max(max, weight);
+        }
+        return max;
+    }
+
+    /**
+     * Read-only "biome ID → weight" view for display and pattern compilation.
+     * Biomes in id order, then unresolved keys. Lookups binary-search the arrays.
+     */
+    public Map<String, Integer> asMap() {
+        return view;
+    }
+
+    private final class MapView extends AbstractMap<String, Integer> {
+        private final Set<Map.Entry<String, Integer>> entries = new AbstractSet<>() {
+            @Override
+            public Iterator<Map.Entry<String, Integer>> iterator() {
+                return new Iterator<>() {
+                    private int index = 0;
+                    private final Iterator<Map.Entry<String, Integer>> rest = unresolved.entrySet().iterator();
+
+                    @Override
+                    public boolean hasNext() {
+                        return index < biomeIds.length || rest.hasNext();
+                    }
+
+                    @Override
+                    public Map.Entry<String, Integer> next() {
+                        if (index < biomeIds.length) {
+                            int i = index++;
+                            return new AbstractMap.SimpleImmutableEntry<>(table.getBiomeName(biomeIds[i]), weights[i]);
+                        }
+                        if (!rest.hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        return rest.next();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return BiomeWeights.this.size();
+            }
+        };
+
+        @Override
+        public Set<Map.Entry<String, Integer>> entrySet() {
+            return entries;
+        }
+
+        @Override
+        public int size() {
+            return BiomeWeights.this.size();
+        }
+
+        @Override
+        public Integer get(Object key) {
+            if (!(key instanceof String name)) {
+                return null;
+            }
+            Integer weight = unresolved.get(name);
+            if (weight != null) {
+                return weight;
+            }
+            int index = indexOf(resolve(table, name));
+            return index >= 0 ? weights[index] : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            // Unresolved keys may carry a null weight
+            return key instanceof String name
+                && (unresolved.containsKey(name) || indexOf(resolve(table, name)) >= 0);
+        }
+    }
+}
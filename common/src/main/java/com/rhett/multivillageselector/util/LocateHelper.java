@@ -1,7 +1,14 @@
 package com.rhett.multivillageselector.util;
 
 import com.rhett.multivillageselector.config.MVSConfig;
-import com.rhett.multivillageselector.strategy.StructurePicker;
+import com.rhett.multivillageselector.config.RuntimeConfig;
+import com.rhett.multivillageselector.placement.BlueNoiseTiles;
+import com.rhett.multivillageselector.placement.HierarchicalGrid;
+import com.rhett.multivillageselector.placement.PlacementKernels;
+import com.rhett.multivillageselector.placement.RingPositions;
+import com.rhett.multivillageselector.placement.SpreadDistribution;
+import com.rhett.multivillageselector.strategy.BandedSelector;
+import com.rhett.multivillageselector.strategy.SameStructureSpacing;
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Holder;
@@ -14,6 +21,7 @@ import net.minecraft.world.level.biome.Climate;
 // We use PlacementParams directly instead
 
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Pure business logic for MVS-aware structure location.
@@ -73,6 +81,14 @@ public class LocateHelper {
          * @return Biome holder at that position
          */
         Holder<Biome> getBiomeAt(int blockX, int blockY, int blockZ);
+
+        /**
+         * What the biomes come from (generator or biome source). Samplers with the same
+         * source answer the same biome per position, so their results can be cached together.
+         */
+        default Object source() {
+            return this;
+        }
     }
 
     /**
@@ -137,20 +153,86 @@ public class LocateHelper {
      * Spread type determines how structures are distributed within each grid cell.
      * Vanilla Minecraft only supports LINEAR and TRIANGULAR.
      * MVS adds additional spread types for more control.
+     *
+     * Each constant is a precompiled SpreadDistribution. Their draw sequences are
+     * fixed - changing one would move every structure in existing worlds.
+     * Custom distributions (config spread_types) are TableSpreadDistribution instances.
      */
-    public enum SpreadType {
+    public enum SpreadType implements SpreadDistribution {
         /** Uniform random distribution (vanilla default) */
-        LINEAR,
+        LINEAR {
+            @Override
+            public void sample(Random random, int maxOffset, int[] out) {
+                out[0] = random.nextInt(maxOffset);
+                out[1] = random.nextInt(maxOffset);
+            }
+        },
         /** Bell curve toward cell center (vanilla triangular) */
-        TRIANGULAR,
+        TRIANGULAR {
+            @Override
+            public void sample(Random random, int maxOffset, int[] out) {
+                // Sum of two randoms - vanilla's triangular
+                out[0] = (random.nextInt(maxOffset) + random.nextInt(maxOffset)) / 2;
+                out[1] = (random.nextInt(maxOffset) + random.nextInt(maxOffset)) / 2;
+            }
+        },
         /** Biased toward cell edges */
-        EDGE_BIASED,
+        EDGE_BIASED {
+            @Override
+            public void sample(Random random, int maxOffset, int[] out) {
+                // Inverse of triangular: keep whichever draw is further out
+                int rawX = random.nextInt(maxOffset);
+                int rawZ = random.nextInt(maxOffset);
+                int altX = random.nextInt(maxOffset);
+                int altZ = random.nextInt(maxOffset);
+                out[0] = (rawX > maxOffset/2) ? Math.max(rawX, altX) : Math.min(rawX, altX);
+                out[1] = (rawZ > maxOffset/2) ? Math.max(rawZ, altZ) : Math.min(rawZ, altZ);
+            }
+        },
         /** Biased toward cell corners */
-        CORNER_BIASED,
+        CORNER_BIASED {
+            @Override
+            public void sample(Random random, int maxOffset, int[] out) {
+                // Both axes pushed to extremes
+                int x1 = random.nextInt(maxOffset);
+                int x2 = random.nextInt(maxOffset);
+                int z1 = random.nextInt(maxOffset);
+                int z2 = random.nextInt(maxOffset);
+                out[0] = (Math.abs(x1 - maxOffset/2) > Math.abs(x2 - maxOffset/2)) ? x1 : x2;
+                out[1] = (Math.abs(z1 - maxOffset/2) > Math.abs(z2 - maxOffset/2)) ? z1 : z2;
+            }
+        },
         /** Gaussian distribution centered in cell */
-        GAUSSIAN,
+        GAUSSIAN {
+            @Override
+            public void sample(Random random, int maxOffset, int[] out) {
+                double gaussX = random.nextGaussian() * (maxOffset / 6.0) + (maxOffset / 2.0);
+                double gaussZ = random.nextGaussian() * (maxOffset / 6.0) + (maxOffset / 2.0);
+                out[0] = Math.max(0, Math.min(maxOffset - 1, (int) gaussX));
+                out[1] = Math.max(0, Math.min(maxOffset - 1, (int) gaussZ));
+            }
+        },
         /** Always at cell center (deterministic grid) */
-        FIXED_CENTER
+        FIXED_CENTER {
+            @Override
+            public void sample(Random random, int maxOffset, int[] out) {
+                out[0] = maxOffset / 2;
+                out[1] = maxOffset / 2;
+            }
+        },
+        /** Blue noise - neighbors keep a minimum distance without forming a grid */
+        BLUE_NOISE {
+            @Override
+            public void sample(Random random, int maxOffset, int[] out) {
+                // No cell context - treat as cell (0, 0). Placement always uses the cell-aware overload.
+                BlueNoiseTiles.sample(0, 0, 0L, 0, random, maxOffset, out);
+            }
+
+            @Override
+            public void sample(int cellX, int cellZ, long seed, int salt, Random random, int maxOffset, int[] out) {
+                BlueNoiseTiles.sample(cellX, cellZ, seed, salt, random, maxOffset, out);
+            }
+        }
     }
 
     // ========================================================================
@@ -161,6 +243,7 @@ public class LocateHelper {
     /**
      * Calculate the placement chunk for a given grid cell.
      * This is the canonical implementation used by both LocateHelper and MVSRandomSpreadStructurePlacement.
+     * Bulk scans go through PlacementKernels, which must stay bit-identical to this method.
      *
      * Uses vanilla's seeding formula: cellX * 341873128712L + cellZ * 132897987541L + seed + salt
      *
@@ -170,68 +253,20 @@ public class LocateHelper {
      * @param salt Structure salt
      * @param spacing Grid spacing in chunks
      * @param separation Minimum separation from cell edge
-     * @param spreadType Distribution type within cell
+     * @param spreadType Distribution type within cell (built-in SpreadType or custom)
      * @return int[] with [chunkX, chunkZ] of the placement position
      */
     public static int[] calculatePlacementChunk(int cellX, int cellZ, long seed, int salt,
-                                                 int spacing, int separation, SpreadType spreadType) {
+                                                 int spacing, int separation, SpreadDistribution spreadType) {
         // Vanilla's seeding formula (from WorldgenRandom.setLargeFeatureWithSalt)
         long cellSeed = (long)cellX * 341873128712L + (long)cellZ * 132897987541L + seed + (long)salt;
         Random random = new Random(cellSeed);
 
-        int maxOffset = spacing - separation;
-        int offsetX, offsetZ;
-
-        switch (spreadType) {
-            case TRIANGULAR:
-                // Bell curve toward center (sum of two randoms) - vanilla's triangular
-                offsetX = (random.nextInt(maxOffset) + random.nextInt(maxOffset)) / 2;
-                offsetZ = (random.nextInt(maxOffset) + random.nextInt(maxOffset)) / 2;
-                break;
-
-            case EDGE_BIASED:
-                // Biased toward edges (inverse of triangular)
-                int rawX = random.nextInt(maxOffset);
-                int rawZ = random.nextInt(maxOffset);
-                int altX = random.nextInt(maxOffset);
-                int altZ = random.nextInt(maxOffset);
-                offsetX = (rawX > maxOffset/2) ? Math.max(rawX, altX) : Math.min(rawX, altX);
-                offsetZ = (rawZ > maxOffset/2) ? Math.max(rawZ, altZ) : Math.min(rawZ, altZ);
-                break;
-
-            case CORNER_BIASED:
-                // Biased toward corners (both axes pushed to extremes)
-                int x1 = random.nextInt(maxOffset);
-                int x2 = random.nextInt(maxOffset);
-                int z1 = random.nextInt(maxOffset);
-                int z2 = random.nextInt(maxOffset);
-                offsetX = (Math.abs(x1 - maxOffset/2) > Math.abs(x2 - maxOffset/2)) ? x1 : x2;
-                offsetZ = (Math.abs(z1 - maxOffset/2) > Math.abs(z2 - maxOffset/2)) ? z1 : z2;
-                break;
-
-            case GAUSSIAN:
-                // Gaussian distribution centered in cell
-                double gaussX = random.nextGaussian() * (maxOffset / 6.0) + (maxOffset / 2.0);
-                double gaussZ = random.nextGaussian() * (maxOffset / 6.0) + (maxOffset / 2.0);
-                offsetX = Math.max(0, Math.min(maxOffset - 1, (int) gaussX));
-                offsetZ = Math.max(0, Math.min(maxOffset - 1, (int) gaussZ));
-                break;
-
-            case FIXED_CENTER:
-                // Always at cell center (deterministic)
-                offsetX = maxOffset / 2;
-                offsetZ = maxOffset / 2;
-                break;
-
-            case LINEAR:
-            default:
-                // Uniform random (vanilla default)
-                offsetX = random.nextInt(maxOffset);
-                offsetZ = random.nextInt(maxOffset);
-                break;
-        }
-
-        return new int[] { cellX * spacing + offsetX, cellZ * spacing + offsetZ };
+        int[] result = new int[2];
+        spreadType.sample(cellX, cellZ, seed, salt, random, spacing - separation, result);
+        result[0] += cellX * spacing;
+        result[1] += cellZ * spacing;
+        return result;
     }
 
     /**
@@ -244,7 +279,7 @@ public class LocateHelper {
         public final int spacing;
         public final int separation;
         public final int salt;
-        public final SpreadType spreadType;
+        public final SpreadDistribution spreadType;
         public final Vec3i locateOffset; // Offset for /locate position reporting
 
         // Legacy field for backwards compatibility
@@ -253,7 +288,7 @@ public class LocateHelper {
         /**
          * Full constructor with locateOffset support.
          */
-        public RandomSpreadPlacement(int spacing, int separation, int salt, SpreadType spreadType, Vec3i locateOffset) {
+        public RandomSpreadPlacement(int spacing, int separation, int salt, SpreadDistribution spreadType, Vec3i locateOffset) {
             this.spacing = spacing;
             this.separation = separation;
             this.salt = salt;
@@ -262,7 +297,7 @@ public class LocateHelper {
             this.triangular = (spreadType == SpreadType.TRIANGULAR);
         }
 
-        public RandomSpreadPlacement(int spacing, int separation, int salt, SpreadType spreadType) {
+        public RandomSpreadPlacement(int spacing, int separation, int salt, SpreadDistribution spreadType) {
             this(spacing, separation, salt, spreadType, Vec3i.ZERO);
         }
 
@@ -281,7 +316,7 @@ public class LocateHelper {
         /**
          * Create with specific spread type.
          */
-        public static RandomSpreadPlacement withSpread(int spacing, int separation, int salt, SpreadType spread) {
+        public static RandomSpreadPlacement withSpread(int spacing, int separation, int salt, SpreadDistribution spread) {
             return new RandomSpreadPlacement(spacing, separation, salt, spread, Vec3i.ZERO);
         }
 
@@ -319,57 +354,75 @@ public class LocateHelper {
         @Override
         public Iterable<int[]> iteratePlacements(int startChunkX, int startChunkZ, long seed, int maxRadiusChunks) {
             return () -> new java.util.Iterator<int[]>() {
-                int startCellX = Math.floorDiv(startChunkX, spacing);
-                int startCellZ = Math.floorDiv(startChunkZ, spacing);
+                final int startCellX = Math.floorDiv(startChunkX, spacing);
+                final int startCellZ = Math.floorDiv(startChunkZ, spacing);
+                final int maxCellRadius = maxRadiusChunks / spacing + 1;
                 int radius = 0;
-                int maxCellRadius = maxRadiusChunks / spacing + 1;
-                int dx = 0, dz = 0;
-                boolean hasNext = true;
+
+                // Current ring, evaluated as one batch (vectorized when available)
+                int[] cellX = new int[1];
+                int[] cellZ = new int[1];
+                int[] ringX = new int[1];
+                int[] ringZ = new int[1];
+                int ringSize = 0;
+                int index = 0;
 
                 @Override
                 public boolean hasNext() {
-                    return hasNext && radius <= maxCellRadius;
+                    return index < ringSize || radius <= maxCellRadius;
                 }
 
                 @Override
                 public int[] next() {
-                    int cellX = startCellX + dx;
-                    int cellZ = startCellZ + dz;
-                    int[] result = getPlacementChunkForCell(cellX, cellZ, seed);
-
-                    // Advance to next position in spiral
-                    advanceSpiral();
-
+                    if (index >= ringSize) {
+                        loadRing(radius++);
+                    }
+                    int[] result = new int[] { ringX[index], ringZ[index] };
+                    index++;
                     return result;
                 }
 
-                private void advanceSpiral() {
-                    if (radius == 0) {
-                        radius = 1;
-                        dx = -1;
-                        dz = -1;
-                        return;
+                /**
+                 * Fill the ring at the given radius in spiral order:
+                 * top edge west→east, east edge north→south,
+                 * bottom edge east→west, west edge south→north.
+                 */
+                private void loadRing(int r) {
+                    int size = (r == 0) ? 1 : 8 * r;
+                    if (cellX.length < size) {
+                        cellX = new int[size];
+                        cellZ = new int[size];
+                        ringX = new int[size];
+                        ringZ = new int[size];
                     }
 
-                    // Move around perimeter
-                    if (dz == -radius && dx < radius) {
-                        dx++;
-                    } else if (dx == radius && dz < radius) {
-                        dz++;
-                    } else if (dz == radius && dx > -radius) {
-                        dx--;
-                    } else if (dx == -radius && dz > -radius) {
-                        dz--;
-                        if (dz == -radius) {
-                            radius++;
-                            dx = -radius;
-                            dz = -radius;
+                    int n = 0;
+                    if (r == 0) {
+                        cellX[n] = startCellX;
+                        cellZ[n++] = startCellZ;
+                    } else {
+                        for (int dx = -r; dx <= r; dx++) {
+                            cellX[n] = startCellX + dx;
+                            cellZ[n++] = startCellZ - r;
+                        }
+                        for (int dz = -r + 1; dz <= r; dz++) {
+                            cellX[n] = startCellX + r;
+                            cellZ[n++] = startCellZ + dz;
+                        }
+                        for (int dx = r - 1; dx >= -r; dx--) {
+                            cellX[n] = startCellX + dx;
+                            cellZ[n++] = startCellZ + r;
+                        }
+                        for (int dz = r - 1; dz > -r; dz--) {
+                            cellX[n] = startCellX - r;
+                            cellZ[n++] = startCellZ + dz;
                         }
                     }
 
-                    if (radius > maxCellRadius) {
-                        hasNext = false;
-                    }
+                    PlacementKernels.calculatePlacementChunks(cellX, cellZ, n, seed, salt,
+                        spacing, separation, spreadType, ringX, ringZ);
+                    ringSize = n;
+                    index = 0;
                 }
             };
         }
@@ -388,61 +441,164 @@ public class LocateHelper {
      * Concentric rings placement (like strongholds).
      * Structures spawn in rings at specific distances from world origin.
      *
-     * Future implementation - placeholder for extensibility demonstration.
+     * Two layouts:
+     * - Vanilla: (distance, spread, count) exactly as ConcentricRingsStructurePlacement
+     *   lays them out, minus the preferred-biome nudge
+     * - Explicit rings: structuresPerRing evenly spaced on each of ringDistances
+     *
+     * Positions are finite, so they are computed once per seed (async, see
+     * RingPositions) - membership is a hash lookup and locate walks the
+     * precomputed list nearest-first.
      */
     public static class ConcentricRingsPlacement implements PlacementStrategy {
-        public final int[] ringDistances; // Distance of each ring in chunks
+        public final int[] ringDistances; // Distance of each ring in chunks (explicit layout only)
         public final int structuresPerRing;
         public final int salt;
 
+        // Vanilla layout (count > 0)
+        public final int distance;
+        public final int spread;
+        public final int count;
+
+        public final Vec3i locateOffset; // Offset for /locate position reporting
+
+        // Positions of the last seed looked up - placement checks are one field read, no cache lookup
+        private volatile SeededPositions resolved;
+
+        private record SeededPositions(long seed, RingPositions positions) {}
+
+        /**
+         * Explicit rings: structuresPerRing structures on each ring.
+         */
         public ConcentricRingsPlacement(int[] ringDistances, int structuresPerRing, int salt) {
             this.ringDistances = ringDistances;
             this.structuresPerRing = structuresPerRing;
             this.salt = salt;
+            this.distance = 0;
+            this.spread = 0;
+            this.count = 0;
+            this.locateOffset = Vec3i.ZERO;
+        }
+
+        /**
+         * Vanilla layout (same parameters as ConcentricRingsStructurePlacement).
+         *
+         * @param distance Ring distance unit in chunks (first ring at ~4x distance)
+         * @param spread Structures in the first ring
+         * @param count Total structures
+         */
+        public ConcentricRingsPlacement(int distance, int spread, int count, Vec3i locateOffset) {
+            this.ringDistances = new int[0];
+            this.structuresPerRing = spread;
+            this.salt = 0;
+            this.distance = distance;
+            this.spread = spread;
+            this.count = count;
+            this.locateOffset = locateOffset != null ? locateOffset : Vec3i.ZERO;
+        }
+
+        /**
+         * Vanilla stronghold defaults (distance 32, spread 3, count 128).
+         */
+        public static ConcentricRingsPlacement strongholdDefaults() {
+            return new ConcentricRingsPlacement(32, 3, 128, Vec3i.ZERO);
+        }
+
+        /**
+         * Start computing positions for this seed in the background.
+         * Later lookups join the same computation.
+         */
+        public CompletableFuture<RingPositions> prefetch(long seed) {
+            if (count > 0) {
+                return RingPositions.vanillaAsync(seed, distance, spread, count);
+            }
+            return RingPositions.evenRingsAsync(seed, salt, ringDistances, structuresPerRing);
+        }
+
+        /**
+         * Positions for this seed (blocks until computed).
+         * Kept on this strategy once resolved; another seed goes through the shared cache again.
+         */
+        public RingPositions getPositions(long seed) {
+            SeededPositions cached = resolved;
+            if (cached != null && cached.seed() == seed) {
+                return cached.positions();
+            }
+            RingPositions positions = prefetch(seed).join();
+            resolved = new SeededPositions(seed, positions);
+            return positions;
+        }
+
+        @Override
+        public BlockPos getLocatePos(int chunkX, int chunkZ) {
+            return new BlockPos(
+                (chunkX << 4) + locateOffset.getX(),
+                locateOffset.getY(),
+                (chunkZ << 4) + locateOffset.getZ()
+            );
         }
 
         @Override
         public boolean isPlacementChunk(int chunkX, int chunkZ, long seed) {
-            // Calculate distance from origin
-            double dist = Math.sqrt(chunkX * chunkX + chunkZ * chunkZ);
-
-            // Check if near any ring
-            for (int ringDist : ringDistances) {
-                if (Math.abs(dist - ringDist) < 2) { // Within 2 chunks of ring
-                    // Check if this is a valid angle position on the ring
-                    double angle = Math.atan2(chunkZ, chunkX);
-                    double angleStep = 2 * Math.PI / structuresPerRing;
-
-                    Random random = new Random(seed + salt + ringDist);
-                    double startAngle = random.nextDouble() * angleStep;
-
-                    for (int i = 0; i < structuresPerRing; i++) {
-                        double targetAngle = startAngle + i * angleStep;
-                        if (Math.abs(normalizeAngle(angle - targetAngle)) < 0.1) {
-                            return true;
-                        }
-                    }
-                }
+            return getPositions(seed).contains(chunkX, chunkZ);
+        }
+
+        @Override
+        public int getApproximateSpacing() {
+            if (count > 0) {
+                // Arc length between neighbors on the first ring
+                return Math.max(1, (int) (2 * Math.PI * 4 * distance / Math.max(1, spread)));
             }
-            return false;
+            return ringDistances.length > 0 ? ringDistances[0] / structuresPerRing : 32;
         }
 
-        private double normalizeAngle(double angle) {
-            while (angle > Math.PI) angle -= 2 * Math.PI;
-            while (angle < -Math.PI) angle += 2 * Math.PI;
-            return angle;
+        @Override
+        public Iterable<int[]> iteratePlacements(int startChunkX, int startChunkZ, long seed, int maxRadiusChunks) {
+            return getPositions(seed).nearest(startChunkX, startChunkZ, maxRadiusChunks);
+        }
+    }
+
+    /**
+     * Two-level grid placement (strategy "hierarchical_grid").
+     * Each super-cell picks a grid level (spacing/separation) from origin distance or a hash,
+     * then places like random_spread within it. See HierarchicalGrid.
+     */
+    public static class HierarchicalGridPlacement implements PlacementStrategy {
+        public final HierarchicalGrid grid;
+        public final int salt;
+        public final SpreadDistribution spreadType;
+        public final Vec3i locateOffset;
+
+        public HierarchicalGridPlacement(HierarchicalGrid grid, int salt, SpreadDistribution spreadType, Vec3i locateOffset) {
+            this.grid = grid;
+            this.salt = salt;
+            this.spreadType = spreadType;
+            this.locateOffset = locateOffset != null ? locateOffset : Vec3i.ZERO;
+        }
+
+        @Override
+        public BlockPos getLocatePos(int chunkX, int chunkZ) {
+            return new BlockPos(
+                (chunkX << 4) + locateOffset.getX(),
+                locateOffset.getY(),
+                (chunkZ << 4) + locateOffset.getZ()
+            );
+        }
+
+        @Override
+        public boolean isPlacementChunk(int chunkX, int chunkZ, long seed) {
+            return grid.isPlacementChunk(chunkX, chunkZ, seed, salt, spreadType);
         }
 
         @Override
         public int getApproximateSpacing() {
-            return ringDistances.length > 0 ? ringDistances[0] / structuresPerRing : 32;
+            // Sparsest level - the locate radius must cover enough of its cells
+            return grid.getSpacing(grid.getSparsestLevel());
         }
 
         @Override
         public Iterable<int[]> iteratePlacements(int startChunkX, int startChunkZ, long seed, int maxRadiusChunks) {
-            // Implementation would iterate through ring positions sorted by distance
-            // Placeholder - returns empty for now
-            return java.util.Collections.emptyList();
+            return grid.nearest(startChunkX, startChunkZ, seed, salt, spreadType, maxRadiusChunks);
         }
     }
 
@@ -487,8 +643,11 @@ public class LocateHelper {
             BiomeSampler biomeSampler,
             int maxRadiusChunks) {
 
+        // One config snapshot for the whole search (pool check and every simulated chunk)
+        RuntimeConfig config = MVSConfig.runtime();
+
         // Validate structure is in MVS pool
-        boolean inPool = MVSConfig.structurePool.stream()
+        boolean inPool = config.structurePool.stream()
             .anyMatch(s -> s.structure != null && s.structure.equals(structureId));
 
         if (!inPool) {
@@ -527,7 +686,7 @@ public class LocateHelper {
 
             // Simulate MVS selection at this location
             MVSConfig.ConfiguredStructure selected = simulateSelection(
-                chunkX, chunkZ, seed, biomeHolder);
+                config, chunkX, chunkZ, seed, biomeHolder, strategy, biomeSampler);
 
             // Check if our target structure was selected
             if (selected != null && !selected.isEmpty &&
@@ -622,45 +781,54 @@ public class LocateHelper {
      */
     public static MVSConfig.ConfiguredStructure simulateSelection(
             int chunkX, int chunkZ, long seed, Holder<Biome> biomeHolder) {
+        // Same compiled selector and distance band as generation
+        return simulateSelection(MVSConfig.getSelector(), chunkX, chunkZ, seed, biomeHolder);
+    }
+
+    /**
+     * Simulate MVS weighted selection with a given compiled selector (one config snapshot).
+     */
+    public static MVSConfig.ConfiguredStructure simulateSelection(
+            BandedSelector selector, int chunkX, int chunkZ, long seed, Holder<Biome> biomeHolder) {
 
         // Same random formula as StructureInterceptor and MVSStrategyHandler
-        Random random = new Random(seed + chunkX * 341873128712L + chunkZ * 132897987541L);
+        long chunkSeed = seed + chunkX * 341873128712L + chunkZ * 132897987541L;
+
+        int band = selector.band(chunkX, chunkZ);
 
         // Check biome_frequency first (same as StructureInterceptor.rollBiomeFrequency)
-        if (!simulateBiomeFrequency(random, biomeHolder)) {
+        // Generation rolls with its own Random, so the selection below starts fresh too
+        if (!selector.rollFrequency(new Random(chunkSeed), biomeHolder, band)) {
             return null; // Frequency check failed - no spawn at this location
         }
 
-        // Use StructurePicker for consistent selection logic
-        StructurePicker picker = new StructurePicker(MVSConfig.structurePool);
-        return picker.select(random, biomeHolder);
+        return selector.select(new Random(chunkSeed), biomeHolder, band);
     }
 
     /**
-     * Simulate biome frequency roll for predictions.
-     * Matches the logic in StructureInterceptor.rollBiomeFrequency().
+     * Simulate MVS selection including min_distance_same / min_distance_groups.
+     * Matches MVSStrategyHandler: raw selection, then SameStructureSpacing.
      *
-     * @param random Random instance (already seeded for this chunk)
-     * @param biomeHolder Biome at this location
-     * @return true if frequency roll passes, false if spawn should be skipped
+     * @param strategy Placement strategy of the structure set (finds neighbor placements)
+     * @param biomeSampler Samples biomes at neighbor placement chunks
+     * @return Selected structure, or null if nothing spawns here
      */
-    private static boolean simulateBiomeFrequency(Random random, Holder<Biome> biomeHolder) {
-        // If no biome_frequency configured, always pass (default 100%)
-        if (MVSConfig.biomeFrequency.isEmpty()) {
-            return true;
-        }
-
-        // Use unified pattern matcher to get frequency
-        // Supports direct biome IDs, tags, and patterns with specificity resolution
-        double frequency = PatternMatcher.getValueForBiome(
-            MVSConfig.biomeFrequency,
-            biomeHolder,
-            1.0  // Default: 100% spawn rate
-        );
-
-        // Roll random and check against frequency
-        double roll = random.nextDouble();
-        return roll < frequency;
+    public static MVSConfig.ConfiguredStructure simulateSelection(
+            int chunkX, int chunkZ, long seed, Holder<Biome> biomeHolder,
+            PlacementStrategy strategy, BiomeSampler biomeSampler) {
+        return simulateSelection(MVSConfig.runtime(), chunkX, chunkZ, seed, biomeHolder, strategy, biomeSampler);
+    }
+
+    /**
+     * Simulate MVS selection including distance rules against one config snapshot
+     * (callers simulating many chunks read MVSConfig.runtime() once and pass it here).
+     */
+    public static MVSConfig.ConfiguredStructure simulateSelection(
+            RuntimeConfig config, int chunkX, int chunkZ, long seed, Holder<Biome> biomeHolder,
+            PlacementStrategy strategy, BiomeSampler biomeSampler) {
+
+        MVSConfig.ConfiguredStructure raw = simulateSelection(config.selector(), chunkX, chunkZ, seed, biomeHolder);
+        return SameStructureSpacing.apply(config, raw, chunkX, chunkZ, seed, biomeHolder, strategy, biomeSampler);
     }
 
     /**
@@ -689,8 +857,17 @@ public class LocateHelper {
      * For use in actual Minecraft context.
      */
     public static BiomeSampler createBiomeSampler(BiomeSource biomeSource, Climate.Sampler climateSampler) {
-        return (blockX, blockY, blockZ) ->
-            biomeSource.getNoiseBiome(blockX >> 2, blockY >> 2, blockZ >> 2, climateSampler);
+        return new BiomeSampler() {
+            @Override
+            public Holder<Biome> getBiomeAt(int blockX, int blockY, int blockZ) {
+                return biomeSource.getNoiseBiome(blockX >> 2, blockY >> 2, blockZ >> 2, climateSampler);
+            }
+
+            @Override
+            public Object source() {
+                return biomeSource;
+            }
+        };
     }
 
     /**
@@ -711,25 +888,33 @@ public class LocateHelper {
             net.minecraft.world.level.LevelHeightAccessor heightAccessor,
             net.minecraft.world.level.levelgen.RandomState randomState) {
 
-        return (blockX, blockY, blockZ) -> {
-            // Estimate surface height using noise (no chunk loading required)
-            // getBaseHeight() returns Y of first AIR block above surface (not solid block)
-            // This equals getFirstFreeHeight() which vanilla uses for structure placement
-            int surfaceY = generator.getBaseHeight(
-                blockX, blockZ,
-                net.minecraft.world.level.levelgen.Heightmap.Types.WORLD_SURFACE_WG,
-                heightAccessor,
-                randomState);
-
-            // Sample biome at surfaceY (no offset needed)
-            // getBaseHeight() already returns the Y where structures sit (first air above ground)
-            int structureY = surfaceY;
-            int quartX = blockX >> 2;
-            int quartY = structureY >> 2;
-            int quartZ = blockZ >> 2;
-            var biome = biomeSource.getNoiseBiome(quartX, quartY, quartZ, climateSampler);
-
-            return biome;
+        return new BiomeSampler() {
+            @Override
+            public Holder<Biome> getBiomeAt(int blockX, int blockY, int blockZ) {
+                // Estimate surface height using noise (no chunk loading required)
+                // getBaseHeight() returns Y of first AIR block above surface (not solid block)
+                // This equals getFirstFreeHeight() which vanilla uses for structure placement
+                int surfaceY = generator.getBaseHeight(
+                    blockX, blockZ,
+                    net.minecraft.world.level.levelgen.Heightmap.Types.WORLD_SURFACE_WG,
+                    heightAccessor,
+                    randomState);
+
+                // Sample biome at surfaceY (no offset needed)
+                // getBaseHeight() already returns the Y where structures sit (first air above ground)
+                int structureY = surfaceY;
+                int quartX = blockX >> 2;
+                int quartY = structureY >> 2;
+                int quartZ = blockZ >> 2;
+                var biome = biomeSource.getNoiseBiome(quartX, quartY, quartZ, climateSampler);
+
+                return biome;
+            }
+
+            @Override
+            public Object source() {
+                return generator; // One generator per dimension - same biomes for the same seed
+            }
         };
     }
 
@@ -794,4 +979,19 @@ public class LocateHelper {
         return resolved.toStrategy();
     }
 
+    /**
+     * Get the placement strategy of a structure set from a config snapshot
+     * (resolved once per snapshot and shared with worldgen).
+     *
+     * @param config Config snapshot whose placement rules apply
+     * @param structureSetId The structure set ID
+     * @param structureSetRegistry Registry for inheritance (can be null)
+     */
+    public static PlacementStrategy getConfiguredPlacement(
+            RuntimeConfig config,
+            String structureSetId,
+            net.minecraft.core.Registry<net.minecraft.world.level.levelgen.structure.StructureSet> structureSetRegistry) {
+        return config.placement(structureSetId, structureSetRegistry).strategy();
+    }
+
 }
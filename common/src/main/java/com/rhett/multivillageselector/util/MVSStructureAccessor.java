@@ -1,6 +1,9 @@
 package com.rhett.multivillageselector.util;
 
+import com.rhett.multivillageselector.config.RuntimeConfig;
+import net.minecraft.core.HolderSet;
 import net.minecraft.core.RegistryAccess;
+import net.minecraft.world.level.biome.Biome;
 
 /**
  * Duck interface for accessing MVS-injected fields on Structure instances.
@@ -26,4 +29,11 @@ public interface MVSStructureAccessor {
      * Clear cached biome data. Call when config reloads.
      */
     void mvs$clearCache();
+
+    /**
+     * Biome rules and the HolderSet biomes() returns, built for one config snapshot.
+     * Published as one object, so a thread never pairs a HolderSet with another snapshot.
+     * (Lives here because classes in the mixin package can't be loaded directly.)
+     */
+    record BiomeCache(RuntimeConfig builtFor, BiomeRules rules, HolderSet<Biome> holderSet) {}
 }
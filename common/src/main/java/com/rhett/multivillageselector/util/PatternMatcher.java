@@ -1,14 +1,12 @@
 package com.rhett.multivillageselector.util;
 
 import net.minecraft.core.Holder;
+import net.minecraft.core.Registry;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.level.biome.Biome;
 
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.regex.Pattern;
 
 /**
  * Pure utility class for wildcard pattern matching with biome support.
@@ -26,18 +24,65 @@ import java.util.regex.Pattern;
  */
 public class PatternMatcher {
 
-    // Cache for compiled regex patterns (pattern string -> compiled Pattern)
-    private static final ConcurrentHashMap<String, Pattern> REGEX_CACHE = new ConcurrentHashMap<>();
+    // Cache for compiled wildcard patterns (pattern string -> WildcardPattern)
+    private static final ConcurrentHashMap<String, WildcardPattern> PATTERN_CACHE = new ConcurrentHashMap<>();
 
-    // Cache for biome tag sets (biome ResourceLocation -> set of strings to check)
-    private static final ConcurrentHashMap<ResourceLocation, Set<String>> BIOME_TAGS_CACHE = new ConcurrentHashMap<>();
+    // Biome → tag index for the current biome registry snapshot
+    private static volatile BiomeTagTable biomeTable = BiomeTagTable.EMPTY;
+
+    // RegistryGeneration the table was built in (tags may be rebound by /reload)
+    private static int biomeTableGeneration = -1;
 
     /**
      * Clear all caches. Call on config reload or world unload.
      */
-    public static void clearCaches() {
-        REGEX_CACHE.clear();
-        BIOME_TAGS_CACHE.clear();
+    public static synchronized void clearCaches() {
+        PATTERN_CACHE.clear();
+        biomeTable = BiomeTagTable.EMPTY;
+        biomeTableGeneration = -1;
+    }
+
+    /**
+     * Index the biome registry for pattern lookups. Call once the registry (and its
+     * tags) is final for this server run, and again after a tag reload; a no-op if the
+     * table is already a snapshot of this registry in the current RegistryGeneration,
+     * otherwise the previous snapshot is dropped.
+     */
+    public static synchronized void useBiomeRegistry(Registry<Biome> biomeRegistry) {
+        int generation = RegistryGeneration.current();
+        useBiomeTable(biomeTableFor(biomeRegistry, generation), generation);
+    }
+
+    /**
+     * Biome table for a registry in a RegistryGeneration, without installing it: the
+     * current table if it already is that snapshot, otherwise a new one. Background
+     * discovery builds against this and installs it with useBiomeTable() on commit,
+     * so the live table never changes under a build that is discarded or fails.
+     */
+    public static BiomeTagTable biomeTableFor(Registry<Biome> biomeRegistry, int generation) {
+        synchronized (PatternMatcher.class) {
+            if (biomeTable.isSnapshotOf(biomeRegistry) && biomeTableGeneration == generation) {
+                return biomeTable;
+            }
+        }
+        return BiomeTagTable.fromRegistry(biomeRegistry);
+    }
+
+    /**
+     * Install a table from biomeTableFor(), together with the snapshot compiled against it.
+     *
+     * @param generation RegistryGeneration the table was built in
+     */
+    public static synchronized void useBiomeTable(BiomeTagTable table, int generation) {
+        biomeTable = table;
+        biomeTableGeneration = generation;
+    }
+
+    /**
+     * Current biome → tag index.
+     */
+    public static BiomeTagTable getBiomeTable() {
+        return biomeTable;
     }
 
     /**
@@ -59,68 +104,52 @@ public class PatternMatcher {
         if (patternMap == null || patternMap.isEmpty()) {
             return defaultValue;
         }
+        return getValueForBiome(PatternRules.compile(patternMap), biomeHolder, defaultValue);
+    }
+
+    /**
+     * Get the value for a biome from a compiled pattern map.
+     * Same result as the Map overload; compile the map once and reuse it on hot paths.
+     *
+     * @param rules Compiled patterns (PatternRules.compile)
+     * @param biomeHolder The biome to check
+     * @param defaultValue Value to return if no patterns match
+     * @return Value from most specific matching pattern, or defaultValue if none match
+     */
+    public static <T extends Number> T getValueForBiome(
+            PatternRules<T> rules,
+            Holder<Biome> biomeHolder,
+            T defaultValue) {
 
-        // Get biome key for cache lookup
-        var biomeKey = biomeHolder.unwrapKey();
-        if (biomeKey.isEmpty()) {
+        if (rules.isEmpty()) {
             return defaultValue;
         }
-
-        ResourceLocation biomeLocation = biomeKey.get().location();
-
-        // Use cached biome tags if available, otherwise compute and cache
-        Set<String> stringsToCheck = BIOME_TAGS_CACHE.computeIfAbsent(biomeLocation, loc -> {
-            Set<String> strings = new HashSet<>();
-
-            // Add direct biome ID
-            strings.add(loc.toString());
-
-            // Add all biome tags (with # prefix)
-            // Materialize stream immediately to avoid "stream already closed" errors
-            try {
-                for (var tagKey : biomeHolder.tags().toList()) {
-                    strings.add("#" + tagKey.location().toString());
-                }
-            } catch (IllegalStateException e) {
-                // Stream already closed - this can happen with mocked biomes in tests
-                // Direct biome ID matching will still work, just without tag matching
+        BiomeTagTable table = biomeTable;
+        int biomeId = table.getBiomeId(biomeHolder);
+        if (biomeId < 0) {
+            var biomeKey = biomeHolder.unwrapKey();
+            if (biomeKey.isEmpty()) {
+                return defaultValue;
             }
+            ResourceLocation biomeLocation = biomeKey.get().location();
+            table = addBiome(biomeLocation, biomeHolder);
+            biomeId = table.getBiomeId(biomeLocation);
+        }
 
-            return strings;
-        });
-
-        // Find best match
-        T bestValue = defaultValue;
-        int maxSpecificity = Integer.MIN_VALUE;  // Allow negative specificities (e.g., "*:*" = -10)
-
+        // Rules are sorted by specificity then value - first match wins
         // Note: Debug logging removed from hot loop in v0.4.0 (caused 30-second freezes)
-        // Pattern matching is now only used as fallback; main path uses O(1) lookup
-
-        for (Map.Entry<String, T> entry : patternMap.entrySet()) {
-            String pattern = entry.getKey();
-            T value = entry.getValue();
-
-            // Check if pattern matches any of the biome's strings
-            for (String biomeString : stringsToCheck) {
-                if (matches(biomeString, pattern)) {
-                    int specificity = getSpecificity(pattern);
-
-                    // Higher specificity wins
-                    if (specificity > maxSpecificity) {
-                        maxSpecificity = specificity;
-                        bestValue = value;
-                    }
-                    // Same specificity: higher value wins (tie-breaker)
-                    else if (specificity == maxSpecificity && value.doubleValue() > bestValue.doubleValue()) {
-                        bestValue = value;
-                    }
-
-                    break; // Pattern matched, no need to check other strings
-                }
-            }
-        }
+        return rules.getValue(table, biomeId, defaultValue);
+    }
 
-        return bestValue;
+    /**
+     * Table containing a biome outside the registry snapshot (mocked holders in tests).
+     * The biome is added to a copy of the table on first sight, tags read once.
+     */
+    private static synchronized BiomeTagTable addBiome(ResourceLocation biomeLocation, Holder<Biome> biomeHolder) {
+        if (biomeTable.getBiomeId(biomeLocation) < 0) {
+            biomeTable = biomeTable.with(biomeLocation, BiomeTagTable.tagsOf(biomeHolder));
+        }
+        return biomeTable;
     }
 
     /**
@@ -144,31 +173,11 @@ public class PatternMatcher {
      * - "#*craft*:*village*" = 4 (has literal content)
      * - "*:*" = -10 (pure wildcard, literal)
      * - "#*:*" = -20 (pure wildcard, tag, lowest)
+     *
+     * Computed once per pattern and cached with its compiled form.
      */
     public static int getSpecificity(String pattern) {
-        // Special cases for ultimate fallbacks
-        if (pattern.equals("*:*")) return -10;
-        if (pattern.equals("#*:*")) return -20;
-
-        int score = 20;
-
-        // No # prefix: +1
-        if (!pattern.startsWith("#")) score += 1;
-
-        // Split on colon
-        String[] parts = pattern.split(":", 2);
-        String afterColon = parts.length > 1 ? parts[1] : "";
-
-        // 2+ literal chars before colon: +2
-        if (parts[0].matches(".*[a-z0-9_/-]{2,}.*")) score += 2;
-
-        // 2+ literal chars after colon: +2
-        if (afterColon.matches(".*[a-z0-9_/-]{2,}.*")) score += 2;
-
-        // Each wildcard: -5
-        score -= (pattern.chars().filter(c -> c == '*').count() * 5);
-
-        return score;
+        return compile(pattern).getSpecificity();
     }
 
     /**
@@ -188,36 +197,24 @@ public class PatternMatcher {
      *   matches("#minecraft:is_ocean", "#*:*ocean*") → true
      *   matches("#minecraft:is_ocean", "*:*ocean*") → FALSE (# mismatch)
      *   matches("minecraft:beach", "#*:is_beach") → FALSE (# mismatch)
+     *
+     * When matching one pattern against many inputs, compile() it once instead.
      */
     public static boolean matches(String input, String pattern) {
-        // # prefix must match: non-# patterns don't match # inputs and vice versa
-        boolean inputIsTag = input.startsWith("#");
-        boolean patternIsTag = pattern.startsWith("#");
-        if (inputIsTag != patternIsTag) {
-            return false;
-        }
-
-        Pattern regex = wildcardToRegex(pattern);
-        return regex.matcher(input).matches();
+        return compile(pattern).matches(input);
     }
 
     /**
-     * Converts a wildcard pattern to a regular expression.
-     * Results are cached for performance.
+     * Compiled form of a wildcard pattern (cached).
      *
-     * @param wildcardPattern Pattern with * wildcards
-     * @return Compiled regex pattern (cached)
-     *
-     * Examples:
-     *   wildcardToRegex("minecraft:*") → ^minecraft:.*$
-     *   wildcardToRegex("*:village_*") → ^.*:village_.*$
+     * @param pattern Pattern with * wildcards
+     * @return Compiled pattern, shared across callers
      */
-    private static Pattern wildcardToRegex(String wildcardPattern) {
-        return REGEX_CACHE.computeIfAbsent(wildcardPattern, pattern -> {
-            String regex = pattern
-                    .replace(".", "\\.")  // Escape dots
-                    .replace("*", ".*");  // Convert * to .*
-            return Pattern.compile("^" + regex + "$");
-        });
+    public static WildcardPattern compile(String pattern) {
+        WildcardPattern compiled = PATTERN_CACHE.get(pattern);
+        if (compiled == null) {
+            compiled = PATTERN_CACHE.computeIfAbsent(pattern, WildcardPattern::compile);
+        }
+        return compiled;
     }
 }
@@ -0,0 +1,229 @@
+package com.rhett.multivillageselector.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiled pattern map (biomes weights, biome_frequency) for PatternMatcher lookups.
+ * Immutable - compile once per map, share across threads.
+ *
+ * Rules are sorted by specificity (descending), then value (descending), keeping map
+ * order for full ties. The first rule that matches is therefore the answer
+ * getValueForBiome has always given - most specific pattern wins, higher value breaks
+ * ties - and a lookup stops there instead of scoring every pattern.
+ *
+ * Against a BiomeTagTable each rule is resolved once to the set of biome ids it
+ * matches, so a biome lookup is one bit test per rule. The binding is redone
+ * whenever a different table (new registry snapshot) is passed in.
+ *
+ * @param <T> Value type (Integer weights, Double frequencies)
+ */
+public final class PatternRules<T extends Number> {
+
+    private static final PatternRules<?> EMPTY = new PatternRules<>(new WildcardPattern[0], new Number[0], new int[0], new int[0]);
+
+    private final WildcardPattern[] patterns;
+    private final Number[] values;
+    private final int[] specificity;
+    private final int[] order; // Index in the source map (getMatchingPattern tie-break)
+
+    // Biomes matched by each rule, for the last table seen
+    private volatile Bound bound;
+
+    private record Bound(BiomeTagTable table, BitSet[] biomes) {}
+
+    private PatternRules(WildcardPattern[] patterns, Number[] values, int[] specificity, int[] order) {
+        this.patterns = patterns;
+        this.values = values;
+        this.specificity = specificity;
+        this.order = order;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T extends Number> PatternRules<T> empty() {
+        return (PatternRules<T>) EMPTY;
+    }
+
+    /**
+     * Compile a pattern map. Later changes to the map are not reflected.
+     */
+    public static <T extends Number> PatternRules<T> compile(Map<String, T> patternMap) {
+        if (patternMap == null || patternMap.isEmpty()) {
+            return empty();
+        }
+
+        record Rule(WildcardPattern pattern, Number value, int specificity, int order) {}
+
+        List<Rule> rules = new ArrayList<>(patternMap.size());
+        int index = 0;
+        for (Map.Entry<String, T> entry : patternMap.entrySet()) {
+            WildcardPattern pattern = PatternMatcher.compile(entry.getKey());
+            rules.add(new Rule(pattern, entry.getValue(), pattern.getSpecificity(), index++));
+        }
+        // Stable sort - full ties keep map order, like the first-match-wins scan
+        rules.sort(Comparator.comparingInt(Rule::specificity).reversed()
+            .thenComparing((a, b) -> Double.compare(b.value().doubleValue(), a.value().doubleValue())));
+
+        int n = rules.size();
+        WildcardPattern[] patterns = new WildcardPattern[n];
+        Number[] values = new Number[n];
+        int[] specificity = new int[n];
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            Rule rule = rules.get(i);
+            patterns[i] = rule.pattern();
+            values[i] = rule.value();
+            specificity[i] = rule.specificity();
+            order[i] = rule.order();
+        }
+        return new PatternRules<>(patterns, values, specificity, order);
+    }
+
+    public boolean isEmpty() {
+        return patterns.length == 0;
+    }
+
+    public int size() {
+        return patterns.length;
+    }
+
+    /**
+     * Value of the most specific pattern matching any of the strings
+     * (biome ID and "#tag" strings). Higher value wins among equally specific patterns.
+     *
+     * @return Matching value, or defaultValue if nothing matches
+     */
+    @SuppressWarnings("unchecked")
+    public T getValue(Collection<String> biomeStrings, T defaultValue) {
+        int i = firstMatch(biomeStrings);
+        return i >= 0 ? (T) values[i] : defaultValue;
+    }
+
+    /**
+     * Most specific pattern matching any of the strings (first in map order among
+     * equally specific patterns), or null if none match.
+     */
+    public String getMatchingPattern(Collection<String> biomeStrings) {
+        int first = firstMatch(biomeStrings);
+        if (first < 0) {
+            return null;
+        }
+        int best = first;
+        for (int i = first + 1; i < patterns.length && specificity[i] == specificity[first]; i++) {
+            if (order[i] < order[best] && matchesAny(patterns[i], biomeStrings)) {
+                best = i;
+            }
+        }
+        return patterns[best].getPattern();
+    }
+
+    /**
+     * Same as getValue(Collection, T) for a biome of a BiomeTagTable.
+     */
+    @SuppressWarnings("unchecked")
+    public T getValue(BiomeTagTable table, int biomeId, T defaultValue) {
+        BitSet[] biomes = bind(table);
+        for (int i = 0; i < biomes.length; i++) {
+            if (biomes[i].get(biomeId)) {
+                return (T) values[i];
+            }
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Same as getMatchingPattern(Collection) for a biome of a BiomeTagTable.
+     */
+    public String getMatchingPattern(BiomeTagTable table, int biomeId) {
+        BitSet[] biomes = bind(table);
+        int best = -1;
+        for (int i = 0; i < biomes.length; i++) {
+            if (best >= 0 && specificity[i] != specificity[best]) {
+                break;
+            }
+            if (biomes[i].get(biomeId) && (best < 0 || order[i] < order[best])) {
+                best = i;
+            }
+        }
+        return best >= 0 ? patterns[best].getPattern() : null;
+    }
+
+    /**
+     * Resolve every biome of a table at once: value[biomeId], same as getValue per id.
+     */
+    public double[] flatten(BiomeTagTable table, double defaultValue) {
+        double[] result = new double[table.biomeCount()];
+        Arrays.fill(result, defaultValue);
+        BitSet[] biomes = bind(table);
+        // Least specific first - each rule overwrites the ones it beats
+        for (int i = biomes.length - 1; i >= 0; i--) {
+            double value = values[i].doubleValue();
+            for (int id = biomes[i].nextSetBit(0); id >= 0; id = biomes[i].nextSetBit(id + 1)) {
+                result[id] = value;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Rules that decide no biome of a table: every biome they match is taken by a rule
+     * earlier in lookup order (more specific, or equally specific with a higher value),
+     * or they match no biome at all. Removing them changes no value in the table.
+     *
+     * @return Patterns of those rules, in lookup order
+     */
+    public List<String> unreachable(BiomeTagTable table) {
+        BitSet[] biomes = bind(table);
+        BitSet decided = new BitSet(table.biomeCount());
+        List<String> unreachable = new ArrayList<>();
+        for (int i = 0; i < biomes.length; i++) {
+            BitSet wins = (BitSet) biomes[i].clone();
+            wins.andNot(decided);
+            if (wins.isEmpty()) {
+                unreachable.add(patterns[i].getPattern());
+            }
+            decided.or(biomes[i]);
+        }
+        return unreachable;
+    }
+
+    private BitSet[] bind(BiomeTagTable table) {
+        Bound current = bound;
+        if (current != null && current.table() == table) {
+            return current.biomes();
+        }
+        // Racing threads compute the same sets - last write wins, both are correct
+        BitSet[] biomes = new BitSet[patterns.length];
+        for (int i = 0; i < patterns.length; i++) {
+            biomes[i] = table.matching(patterns[i]);
+        }
+        bound = new Bound(table, biomes);
+        return biomes;
+    }
+
+    private int firstMatch(Collection<String> biomeStrings) {
+        for (int i = 0; i < patterns.length; i++) {
+            if (matchesAny(patterns[i], biomeStrings)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean matchesAny(WildcardPattern pattern, Collection<String> biomeStrings) {
+        if (pattern.isLiteral()) {
+            return biomeStrings.contains(pattern.getPattern());
+        }
+        for (String biomeString : biomeStrings) {
+            if (pattern.matches(biomeString)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -3,16 +3,21 @@ package com.rhett.multivillageselector.util;
 import com.rhett.multivillageselector.config.ExclusionZone;
 import com.rhett.multivillageselector.config.MVSConfig;
 import com.rhett.multivillageselector.config.PlacementRule;
+import com.rhett.multivillageselector.config.RuntimeConfig;
+import com.rhett.multivillageselector.placement.HierarchicalGrid;
+import com.rhett.multivillageselector.placement.SpreadDistribution;
 import net.minecraft.core.Registry;
 import net.minecraft.core.Vec3i;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.level.levelgen.structure.StructureSet;
+import net.minecraft.world.level.levelgen.structure.placement.ConcentricRingsStructurePlacement;
 import net.minecraft.world.level.levelgen.structure.placement.RandomSpreadStructurePlacement;
 import net.minecraft.world.level.levelgen.structure.placement.RandomSpreadType;
 import net.minecraft.world.level.levelgen.structure.placement.StructurePlacement;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -28,24 +33,36 @@ public class PlacementResolver {
         public final int spacing;
         public final int separation;
         public final int salt;
-        public final LocateHelper.SpreadType spreadType;
+        public final SpreadDistribution spreadType;
         public final String strategy;
         public final Vec3i locateOffset; // Offset added to chunk origin for /locate results
         public final ExclusionZone exclusionZone; // Structures to avoid, or null if none
 
+        // Concentric rings layout (strategy "concentric_rings" only)
+        public final int distance;
+        public final int spread;
+        public final int count;
+
+        // Super-cell grid levels (strategy "hierarchical_grid" only, null otherwise)
+        public final HierarchicalGrid grid;
+
         // Source tracking for debugging
         public final String spacingSource;
         public final String separationSource;
         public final String saltSource;
         public final String spreadTypeSource;
         public final String exclusionZoneSource;
+        public final String strategySource;
+        public final String ringSource;
 
         public ResolvedPlacement(int spacing, int separation, int salt,
-                                  LocateHelper.SpreadType spreadType, String strategy,
+                                  SpreadDistribution spreadType, String strategy,
                                   Vec3i locateOffset, ExclusionZone exclusionZone,
+                                  int distance, int spread, int count,
                                   String spacingSource, String separationSource,
                                   String saltSource, String spreadTypeSource,
-                                  String exclusionZoneSource) {
+                                  String exclusionZoneSource, String strategySource,
+                                  String ringSource, HierarchicalGrid grid) {
             this.spacing = spacing;
             this.separation = separation;
             this.salt = salt;
@@ -53,20 +70,63 @@ public class PlacementResolver {
             this.strategy = strategy;
             this.locateOffset = locateOffset != null ? locateOffset : Vec3i.ZERO;
             this.exclusionZone = exclusionZone;
+            this.distance = distance;
+            this.spread = spread;
+            this.count = count;
             this.spacingSource = spacingSource;
             this.separationSource = separationSource;
             this.saltSource = saltSource;
             this.spreadTypeSource = spreadTypeSource;
             this.exclusionZoneSource = exclusionZoneSource;
+            this.strategySource = strategySource;
+            this.ringSource = ringSource;
+            this.grid = grid;
+        }
+
+        /** Constructor without hierarchical grid */
+        public ResolvedPlacement(int spacing, int separation, int salt,
+                                  SpreadDistribution spreadType, String strategy,
+                                  Vec3i locateOffset, ExclusionZone exclusionZone,
+                                  int distance, int spread, int count,
+                                  String spacingSource, String separationSource,
+                                  String saltSource, String spreadTypeSource,
+                                  String exclusionZoneSource, String strategySource,
+                                  String ringSource) {
+            this(spacing, separation, salt, spreadType, strategy, locateOffset, exclusionZone,
+                distance, spread, count, spacingSource, separationSource, saltSource, spreadTypeSource,
+                exclusionZoneSource, strategySource, ringSource, null);
+        }
+
+        /** Constructor for random_spread placements (default ring layout) */
+        public ResolvedPlacement(int spacing, int separation, int salt,
+                                  SpreadDistribution spreadType, String strategy,
+                                  Vec3i locateOffset, ExclusionZone exclusionZone,
+                                  String spacingSource, String separationSource,
+                                  String saltSource, String spreadTypeSource,
+                                  String exclusionZoneSource) {
+            this(spacing, separation, salt, spreadType, strategy, locateOffset, exclusionZone,
+                DEFAULT_RING_DISTANCE, DEFAULT_RING_SPREAD, DEFAULT_RING_COUNT,
+                spacingSource, separationSource, saltSource, spreadTypeSource, exclusionZoneSource,
+                "default", "default");
+        }
+
+        public boolean isConcentricRings() {
+            return "concentric_rings".equals(strategy);
+        }
+
+        public boolean isHierarchicalGrid() {
+            return "hierarchical_grid".equals(strategy) && grid != null;
         }
 
         /**
          * Convert to PlacementStrategy for use with LocateHelper.
          */
         public LocateHelper.PlacementStrategy toStrategy() {
-            if ("concentric_rings".equals(strategy)) {
-                // TODO: Implement concentric rings when needed
-                throw new UnsupportedOperationException("Concentric rings strategy not yet implemented");
+            if (isConcentricRings()) {
+                return new LocateHelper.ConcentricRingsPlacement(distance, spread, count, locateOffset);
+            }
+            if (isHierarchicalGrid()) {
+                return new LocateHelper.HierarchicalGridPlacement(grid, salt, spreadType, locateOffset);
             }
             // Default to RandomSpreadPlacement with locateOffset
             return new LocateHelper.RandomSpreadPlacement(spacing, separation, salt, spreadType, locateOffset);
@@ -77,6 +137,13 @@ public class PlacementResolver {
             StringBuilder sb = new StringBuilder();
             sb.append(String.format("ResolvedPlacement{spacing=%d (%s), separation=%d (%s), salt=%d (%s), spreadType=%s (%s), locateOffset=%s",
                 spacing, spacingSource, separation, separationSource, salt, saltSource, spreadType, spreadTypeSource, locateOffset));
+            if (isConcentricRings()) {
+                sb.append(String.format(", strategy=%s (%s), distance=%d, spread=%d, count=%d (%s)",
+                    strategy, strategySource, distance, spread, count, ringSource));
+            }
+            if (isHierarchicalGrid()) {
+                sb.append(String.format(", strategy=%s (%s), grid=%s", strategy, strategySource, grid));
+            }
             if (exclusionZone != null) {
                 sb.append(String.format(", exclusionZone=%s (%s)", exclusionZone, exclusionZoneSource));
             }
@@ -91,6 +158,11 @@ public class PlacementResolver {
     public static final int DEFAULT_SALT = 10387312;
     public static final LocateHelper.SpreadType DEFAULT_SPREAD_TYPE = LocateHelper.SpreadType.LINEAR;
 
+    // Default vanilla stronghold ring values (fallback for concentric_rings)
+    public static final int DEFAULT_RING_DISTANCE = 32;
+    public static final int DEFAULT_RING_SPREAD = 3;
+    public static final int DEFAULT_RING_COUNT = 128;
+
     /**
      * Result of resolution attempt - includes warnings for debugging.
      */
@@ -120,6 +192,15 @@ public class PlacementResolver {
         return resolveWithWarnings(structureSetId, structureSetRegistry).placement;
     }
 
+    /**
+     * Resolve effective placement against a given set of placement rules and spread types.
+     */
+    public static ResolvedPlacement resolve(String structureSetId, Registry<StructureSet> structureSetRegistry,
+                                            Map<String, PlacementRule> placementRules,
+                                            Map<String, SpreadDistribution> spreadTypes) {
+        return resolveWithWarnings(structureSetId, structureSetRegistry, placementRules, spreadTypes).placement;
+    }
+
     /**
      * Resolve effective placement with warning collection.
      * Use this when you need to report resolution issues to users.
@@ -129,10 +210,27 @@ public class PlacementResolver {
      * @return ResolutionResult with placement and any warnings
      */
     public static ResolutionResult resolveWithWarnings(String structureSetId, Registry<StructureSet> structureSetRegistry) {
+        RuntimeConfig config = MVSConfig.runtime();
+        return resolveWithWarnings(structureSetId, structureSetRegistry, config.placement, config.spreadTypes);
+    }
+
+    /**
+     * Resolve effective placement against a given set of placement rules and spread types
+     * (a compiled RuntimeConfig's, rather than the live MVSConfig statics).
+     *
+     * @param structureSetId The structure set ID (e.g., "minecraft:villages")
+     * @param structureSetRegistry Registry to read default values from (can be null)
+     * @param placementRules Structure set ID → config placement rule
+     * @param spreadTypes Custom spread types (lowercase name → distribution)
+     * @return ResolutionResult with placement and any warnings
+     */
+    public static ResolutionResult resolveWithWarnings(String structureSetId, Registry<StructureSet> structureSetRegistry,
+                                                       Map<String, PlacementRule> placementRules,
+                                                       Map<String, SpreadDistribution> spreadTypes) {
         List<String> warnings = new ArrayList<>();
 
         // Get config rule (may be null or have null fields)
-        PlacementRule configRule = MVSConfig.placement.get(structureSetId);
+        PlacementRule configRule = placementRules.get(structureSetId);
 
         // Get registry values (may be null if not found)
         RegistryPlacement registryValues = null;
@@ -191,10 +289,10 @@ public class PlacementResolver {
             saltSource = "default";
         }
 
-        LocateHelper.SpreadType spreadType;
+        SpreadDistribution spreadType;
         String spreadTypeSource;
         if (configRule != null && configRule.spreadType != null) {
-            spreadType = configRule.resolveSpreadType(DEFAULT_SPREAD_TYPE);
+            spreadType = configRule.resolveSpreadType(DEFAULT_SPREAD_TYPE, spreadTypes);
             spreadTypeSource = "config";
         } else if (registryValues != null) {
             spreadType = registryValues.triangular ? LocateHelper.SpreadType.TRIANGULAR : LocateHelper.SpreadType.LINEAR;
@@ -204,9 +302,29 @@ public class PlacementResolver {
             spreadTypeSource = "default";
         }
 
-        String strategy = (configRule != null && configRule.strategy != null)
-            ? configRule.strategy
-            : "random_spread";
+        String strategy;
+        String strategySource;
+        if (configRule != null && configRule.strategy != null) {
+            strategy = configRule.strategy;
+            strategySource = "config";
+        } else if (registryValues != null) {
+            strategy = registryValues.concentric ? "concentric_rings" : "random_spread";
+            strategySource = "registry";
+        } else {
+            strategy = "random_spread";
+            strategySource = "default";
+        }
+
+        // Ring layout: config > registry (if it is a ring placement) > stronghold defaults, per field
+        boolean registryRings = registryValues != null && registryValues.concentric;
+        int distance = resolveRingField(configRule != null ? configRule.distance : null,
+            registryRings ? registryValues.distance : null, DEFAULT_RING_DISTANCE);
+        int spread = resolveRingField(configRule != null ? configRule.spread : null,
+            registryRings ? registryValues.spread : null, DEFAULT_RING_SPREAD);
+        int count = resolveRingField(configRule != null ? configRule.count : null,
+            registryRings ? registryValues.count : null, DEFAULT_RING_COUNT);
+        String ringSource = (configRule != null && configRule.hasRingFields()) ? "config"
+            : registryRings ? "registry" : "default";
 
         // locateOffset always comes from registry (not configurable)
         Vec3i locateOffset = (registryValues != null) ? registryValues.locateOffset : Vec3i.ZERO;
@@ -226,11 +344,20 @@ public class PlacementResolver {
         }
 
         ResolvedPlacement placement = new ResolvedPlacement(spacing, separation, salt, spreadType, strategy,
-            locateOffset, exclusionZone, spacingSource, separationSource, saltSource, spreadTypeSource, exclusionZoneSource);
+            locateOffset, exclusionZone, distance, spread, count,
+            spacingSource, separationSource, saltSource, spreadTypeSource, exclusionZoneSource,
+            strategySource, ringSource, configRule != null ? configRule.grid : null);
 
         return new ResolutionResult(placement, warnings);
     }
 
+    private static int resolveRingField(Integer configValue, Integer registryValue, int defaultValue) {
+        if (configValue != null) {
+            return configValue;
+        }
+        return registryValue != null ? registryValue : defaultValue;
+    }
+
     /**
      * Resolve without registry access (uses config + defaults only).
      * WARNING: This will always use defaults for non-config values. Use with caution.
@@ -243,7 +370,7 @@ public class PlacementResolver {
      * Check if a structure set has placement config defined.
      */
     public static boolean hasPlacementConfig(String structureSetId) {
-        return MVSConfig.placement.containsKey(structureSetId);
+        return MVSConfig.runtime().placement.containsKey(structureSetId);
     }
 
     /**
@@ -257,14 +384,30 @@ public class PlacementResolver {
         final Vec3i locateOffset;
         final ExclusionZone exclusionZone;
 
+        // Concentric rings (concentric == true only)
+        final boolean concentric;
+        final int distance;
+        final int spread;
+        final int count;
+
         RegistryPlacement(int spacing, int separation, int salt, boolean triangular,
                          Vec3i locateOffset, ExclusionZone exclusionZone) {
+            this(spacing, separation, salt, triangular, locateOffset, exclusionZone, false, 0, 0, 0);
+        }
+
+        RegistryPlacement(int spacing, int separation, int salt, boolean triangular,
+                         Vec3i locateOffset, ExclusionZone exclusionZone,
+                         boolean concentric, int distance, int spread, int count) {
             this.spacing = spacing;
             this.separation = separation;
             this.salt = salt;
             this.triangular = triangular;
             this.locateOffset = locateOffset;
             this.exclusionZone = exclusionZone;
+            this.concentric = concentric;
+            this.distance = distance;
+            this.spread = spread;
+            this.count = count;
         }
     }
 
@@ -295,7 +438,14 @@ public class PlacementResolver {
                 return new RegistryPlacement(spacing, separation, salt, triangular, locateOffset, exclusionZone);
             }
 
-            // Non-RandomSpread placements not supported yet
+            if (placement instanceof ConcentricRingsStructurePlacement rings) {
+                // No grid - spacing/separation keep the defaults in case config switches strategy
+                return new RegistryPlacement(DEFAULT_SPACING, DEFAULT_SEPARATION, getSaltViaMixin(placement), false,
+                    getLocateOffsetViaMixin(placement), getExclusionZoneViaMixin(placement),
+                    true, rings.distance(), rings.spread(), rings.count());
+            }
+
+            // Other placement types not supported yet
             return null;
 
         } catch (Exception e) {
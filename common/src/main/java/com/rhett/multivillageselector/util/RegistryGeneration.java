@@ -0,0 +1,33 @@
+package com.rhett.multivillageselector.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Global registry generation: bumped whenever the server's registry tags are
+ * rebound (datapack /reload), from the platform tag-reload events.
+ *
+ * Registry entries and their int ids never change while a server runs - only tag
+ * membership does. Everything MVS derives from tags hangs off PatternMatcher's
+ * BiomeTagTable, which is rebuilt for a new generation; compiled snapshots,
+ * selectors and pool caches are tied to that table by identity, so they are
+ * rebuilt instead of going stale.
+ */
+public final class RegistryGeneration {
+
+    private static final AtomicInteger generation = new AtomicInteger();
+
+    private RegistryGeneration() {}
+
+    public static int current() {
+        return generation.get();
+    }
+
+    /**
+     * Registry tags were reloaded.
+     *
+     * @return The new generation
+     */
+    public static int bump() {
+        return generation.incrementAndGet();
+    }
+}
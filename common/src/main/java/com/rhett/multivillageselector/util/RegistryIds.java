@@ -0,0 +1,201 @@
+package com.rhett.multivillageselector.util;
+
+import net.minecraft.core.Holder;
+import net.minecraft.core.Registry;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.levelgen.structure.Structure;
+import net.minecraft.world.level.levelgen.structure.StructureSet;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dense int ids for the registry entries MVS works with, per server.
+ * Immutable - built once at server start, read from any thread without locking.
+ *
+ * - structures and structure sets: IdSpace (registry int ids)
+ * - biomes and biome tags: BiomeTagTable (PatternMatcher's registry index)
+ *
+ * Compiled config, indexes and caches key on these ids instead of
+ * ResourceLocation.toString(), so hot paths resolve a holder to an int
+ * (registry id map, no string built) and look flags up in plain arrays / BitSets.
+ * Names are stored once per id for logging and display.
+ */
+public final class RegistryIds {
+
+    public static final RegistryIds EMPTY = new RegistryIds(IdSpace.of(List.of()), IdSpace.of(List.of()));
+
+    private static volatile RegistryIds current = EMPTY;
+
+    private final IdSpace<Structure> structures;
+    private final IdSpace<StructureSet> structureSets;
+
+    private RegistryIds(IdSpace<Structure> structures, IdSpace<StructureSet> structureSets) {
+        this.structures = structures;
+        this.structureSets = structureSets;
+    }
+
+    /**
+     * Ids from explicit name lists (tests, callers without registries).
+     */
+    public static RegistryIds of(List<ResourceLocation> structures, List<ResourceLocation> structureSets) {
+        return new RegistryIds(IdSpace.of(structures), IdSpace.of(structureSets));
+    }
+
+    /**
+     * Assign ids for a server's registries. Call at server start, after structure
+     * sets are injected and before structure discovery; also indexes biomes and tags.
+     */
+    public static void useRegistries(RegistryAccess registryAccess) {
+        PatternMatcher.useBiomeRegistry(registryAccess.registryOrThrow(Registries.BIOME));
+        current = new RegistryIds(
+            IdSpace.fromRegistry(registryAccess.registryOrThrow(Registries.STRUCTURE)),
+            IdSpace.fromRegistry(registryAccess.registryOrThrow(Registries.STRUCTURE_SET)));
+    }
+
+    /**
+     * Ids of the running server (EMPTY before the first server start / after stop).
+     */
+    public static RegistryIds current() {
+        return current;
+    }
+
+    public static void clear() {
+        current = EMPTY;
+    }
+
+    public IdSpace<Structure> structures() {
+        return structures;
+    }
+
+    public IdSpace<StructureSet> structureSets() {
+        return structureSets;
+    }
+
+    /**
+     * Biome and biome tag ids (PatternMatcher's current table).
+     */
+    public BiomeTagTable biomes() {
+        return PatternMatcher.getBiomeTable();
+    }
+
+    /**
+     * Dense ids for one registry: id → location / "ns:path", and back.
+     */
+    public static final class IdSpace<T> {
+
+        private final Registry<T> registry;                 // Registry the ids came from (null if ad hoc)
+        private final ResourceLocation[] locations;         // id → location (null for unused ids)
+        private final String[] names;                       // id → "ns:path"
+        private final Map<ResourceLocation, Integer> ids;
+        private final Map<String, Integer> idsByName;
+
+        private IdSpace(Registry<T> registry, List<ResourceLocation> locationList) {
+            this.registry = registry;
+            this.locations = locationList.toArray(new ResourceLocation[0]);
+            this.names = new String[locations.length];
+            this.ids = new HashMap<>();
+            this.idsByName = new HashMap<>();
+            for (int id = 0; id < locations.length; id++) {
+                if (locations[id] != null) {
+                    names[id] = locations[id].toString();
+                    ids.put(locations[id], id);
+                    idsByName.put(names[id], id);
+                }
+            }
+        }
+
+        static <T> IdSpace<T> of(List<ResourceLocation> locations) {
+            return new IdSpace<>(null, locations);
+        }
+
+        static <T> IdSpace<T> fromRegistry(Registry<T> registry) {
+            List<ResourceLocation> locations = new ArrayList<>(registry.size());
+            for (int id = 0; id < registry.size(); id++) {
+                locations.add(registry.getHolder(id).map(holder -> holder.key().location()).orElse(null));
+            }
+            return new IdSpace<>(registry, locations);
+        }
+
+        public int size() {
+            return locations.length;
+        }
+
+        /**
+         * @return Id, or -1 if not in this snapshot
+         */
+        public int getId(ResourceLocation location) {
+            Integer id = ids.get(location);
+            return id != null ? id : -1;
+        }
+
+        /**
+         * @return Id of a "ns:path" name, or -1 if not in this snapshot
+         */
+        public int getId(String name) {
+            Integer id = idsByName.get(name);
+            return id != null ? id : -1;
+        }
+
+        /**
+         * Id of a registry value (registry id map - no key lookup).
+         *
+         * @return Id, or -1 if not in this snapshot
+         */
+        public int getId(T value) {
+            if (registry == null || value == null) {
+                return -1;
+            }
+            int id = registry.getId(value);
+            return id >= 0 && id < locations.length ? id : -1;
+        }
+
+        /**
+         * Id of a holder. Bound registry holders resolve through the registry's
+         * id map; other holders by their key.
+         *
+         * @return Id, or -1 if not in this snapshot
+         */
+        public int getId(Holder<T> holder) {
+            if (registry != null && holder instanceof Holder.Reference<T> reference && reference.isBound()) {
+                int id = getId(reference.value());
+                if (id >= 0) {
+                    return id;
+                }
+            }
+            var key = holder.unwrapKey();
+            return key.isPresent() ? getId(key.get().location()) : -1;
+        }
+
+        /**
+         * @return Location, or null for an unused id
+         */
+        public ResourceLocation get(int id) {
+            return locations[id];
+        }
+
+        /**
+         * @return "ns:path" (shared, no allocation), or null for an unused id
+         */
+        public String getName(int id) {
+            return names[id];
+        }
+
+        /**
+         * Name of a holder: the shared name for known ids, otherwise built from its key.
+         *
+         * @return "ns:path", or null for an unkeyed holder outside this snapshot
+         */
+        public String getName(Holder<T> holder) {
+            int id = getId(holder);
+            if (id >= 0) {
+                return names[id];
+            }
+            return holder.unwrapKey().map(key -> key.location().toString()).orElse(null);
+        }
+    }
+}
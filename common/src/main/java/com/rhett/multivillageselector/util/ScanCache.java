@@ -0,0 +1,313 @@
+package com.rhett.multivillageselector.util;
+
+import com.rhett.multivillageselector.MVSCommon;
+import com.rhett.multivillageselector.commands.model.CommandModels.StructureJarInfo;
+import com.rhett.multivillageselector.commands.model.CommandModels.StructureSetInfo;
+import dev.architectury.platform.Platform;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * On-disk cache of StructureScanner's per-source results (config/multivillageselector-scan.cache):
+ * the StructureJarInfo entries and structure_set metadata of every mod JAR, datapack and
+ * .connector directory, so repeated /mvs generate and /mvs debug mod-scan runs only
+ * re-read the sources that changed.
+ *
+ * A source is reused when its stamp is unchanged: path, size and modification time for
+ * a file (JAR, zip), or a SHA-256 over every file's relative path, size and modification
+ * time for a directory (a stat walk - no file is read). Sources missing from a scan are
+ * dropped when it is saved. A format change or a damaged file rescans everything.
+ *
+ * Format (DataOutput, big-endian): magic, version, then per source its key, stamp,
+ * structure_set metadata and StructureJarInfo entries.
+ */
+final class ScanCache {
+
+    private static final String FILENAME = "multivillageselector-scan.cache";
+    private static final int MAGIC = 0x4D565353;   // "MVSS"
+    private static final int FORMAT_VERSION = 1;
+
+    /**
+     * Scan result of one source, as merged by StructureScanner.
+     */
+    record SourceScan(List<StructureJarInfo> structures, Map<String, StructureSetInfo> structureSetInfo) {}
+
+    private record Entry(String stamp, SourceScan scan) {}
+
+    private final Path file;
+    private final Map<String, Entry> previous;
+    private final Map<String, Entry> current = new ConcurrentHashMap<>(); // Sources may be scanned concurrently
+    private final AtomicInteger reused = new AtomicInteger();
+    private final AtomicInteger scanned = new AtomicInteger();
+
+    private ScanCache(Path file, Map<String, Entry> previous) {
+        this.file = file;
+        this.previous = previous;
+    }
+
+    /**
+     * Cache file location (next to the config file).
+     */
+    static Path defaultPath() {
+        return Platform.getConfigFolder().resolve(FILENAME);
+    }
+
+    /**
+     * Load the cache for a scan.
+     *
+     * @param rescan Ignore the cached results (every source is scanned; the file is still rewritten)
+     */
+    static ScanCache open(Path file, boolean rescan) {
+        return new ScanCache(file, rescan ? Map.of() : read(file));
+    }
+
+    /**
+     * Cached result of a source, or a fresh scan if it changed, is new, or can't be stamped.
+     *
+     * @param key Unique source key (kind and id, e.g. "mod:ctov")
+     * @param files Files or directories the source is read from
+     * @param scanner Scans the source
+     */
+    SourceScan get(String key, List<Path> files, Supplier<SourceScan> scanner) {
+        String stamp = stamp(files);
+        Entry cached = previous.get(key);
+        if (stamp != null && cached != null && cached.stamp().equals(stamp)) {
+            reused.incrementAndGet();
+            current.put(key, cached);
+            return cached.scan();
+        }
+
+        SourceScan scan = scanner.get();
+        scanned.incrementAndGet();
+        if (stamp != null) {
+            current.put(key, new Entry(stamp, scan));
+        }
+        return scan;
+    }
+
+    /**
+     * Write the sources seen by this scan (failures are logged - the scan result stands).
+     */
+    void save() {
+        MVSCommon.LOGGER.info("[JAR-SCAN] Scan cache: {} sources reused, {} scanned", reused.get(), scanned.get());
+        try {
+            Files.createDirectories(file.getParent());
+            write(file, current);
+        } catch (IOException e) {
+            MVSCommon.LOGGER.warn("[MVS] Could not write scan cache {}: {}", file, e.getMessage());
+        }
+    }
+
+    int reusedCount() {
+        return reused.get();
+    }
+
+    int scannedCount() {
+        return scanned.get();
+    }
+
+    /**
+     * Change stamp of a source's files.
+     *
+     * @return Stamp, or null if a file can't be read (the source is then never cached)
+     */
+    static String stamp(List<Path> files) {
+        if (files.isEmpty()) {
+            return null;
+        }
+        StringBuilder stamp = new StringBuilder();
+        try {
+            for (Path path : files) {
+                BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                stamp.append(path.toAbsolutePath()).append('|');
+                if (attributes.isDirectory()) {
+                    stamp.append(directoryHash(path));
+                } else {
+                    stamp.append(attributes.size()).append(':').append(attributes.lastModifiedTime().toMillis());
+                }
+                stamp.append('\n');
+            }
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+        return stamp.toString();
+    }
+
+    private static String directoryHash(Path directory) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+
+        List<String> files = new ArrayList<>();
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                if (attributes.isRegularFile()) {
+                    files.add(directory.relativize(path).toString().replace('\\', '/') + "|" + attributes.size()
+                        + ":" + attributes.lastModifiedTime().toMillis());
+                }
+            }
+        }
+        Collections.sort(files); // Walk order is not specified
+        for (String entry : files) {
+            digest.update(entry.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Cached sources of a file.
+     *
+     * @return Sources by key - empty on a miss (no file, other version, unreadable)
+     */
+    private static Map<String, Entry> read(Path file) {
+        byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(file);
+        } catch (NoSuchFileException e) {
+            return Map.of();
+        } catch (IOException e) {
+            MVSCommon.LOGGER.warn("[MVS] Could not read scan cache {}: {}", file, e.getMessage());
+            return Map.of();
+        }
+
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                MVSCommon.LOGGER.info("[MVS] Scan cache is from another MVS version - rescanning every source");
+                return Map.of();
+            }
+
+            int sourceCount = readCount(in);
+            Map<String, Entry> entries = new HashMap<>();
+            for (int i = 0; i < sourceCount; i++) {
+                String key = in.readUTF();
+                String stamp = in.readUTF();
+
+                int setCount = readCount(in);
+                Map<String, StructureSetInfo> structureSetInfo = new LinkedHashMap<>();
+                for (int j = 0; j < setCount; j++) {
+                    StructureSetInfo info = new StructureSetInfo(in.readUTF());
+                    info.emptyWeight = readNullableInt(in);
+                    info.spacing = readNullableInt(in);
+                    info.separation = readNullableInt(in);
+                    structureSetInfo.put(info.setId, info);
+                }
+
+                int structureCount = readCount(in);
+                List<StructureJarInfo> structures = new ArrayList<>(structureCount);
+                for (int j = 0; j < structureCount; j++) {
+                    StructureJarInfo info = new StructureJarInfo(in.readUTF(), readNullableString(in));
+                    info.weight = readNullableInt(in);
+                    info.structureSet = readNullableString(in);
+                    info.biomeTag = readNullableString(in);
+                    info.foundInStructureSet = in.readBoolean();
+                    info.foundInStructureFile = in.readBoolean();
+                    structures.add(info);
+                }
+
+                entries.put(key, new Entry(stamp, new SourceScan(structures, structureSetInfo)));
+            }
+            if (in.available() != 0) {
+                throw new IOException("trailing data");
+            }
+            return entries;
+        } catch (IOException | RuntimeException e) {
+            MVSCommon.LOGGER.warn("[MVS] Scan cache {} is damaged ({}) - rescanning every source", file, e.toString());
+            return Map.of();
+        }
+    }
+
+    /**
+     * Write sources (replaces the file atomically).
+     */
+    private static void write(Path file, Map<String, Entry> entries) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(entries.size());
+            for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeUTF(entry.getValue().stamp());
+
+                SourceScan scan = entry.getValue().scan();
+                out.writeInt(scan.structureSetInfo().size());
+                for (StructureSetInfo info : scan.structureSetInfo().values()) {
+                    out.writeUTF(info.setId);
+                    writeNullableInt(out, info.emptyWeight);
+                    writeNullableInt(out, info.spacing);
+                    writeNullableInt(out, info.separation);
+                }
+
+                out.writeInt(scan.structures().size());
+                for (StructureJarInfo info : scan.structures()) {
+                    out.writeUTF(info.name);
+                    writeNullableString(out, info.modId);
+                    writeNullableInt(out, info.weight);
+                    writeNullableString(out, info.structureSet);
+                    writeNullableString(out, info.biomeTag);
+                    out.writeBoolean(info.foundInStructureSet);
+                    out.writeBoolean(info.foundInStructureFile);
+                }
+            }
+        }
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(temp, bytes.toByteArray());
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * A length prefix - every counted item takes at least one byte, so more than the rest of the file is damage.
+     */
+    private static int readCount(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        if (count < 0 || count > in.available()) {
+            throw new IOException("bad count " + count);
+        }
+        return count;
+    }
+
+    private static void writeNullableString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullableString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeNullableInt(DataOutputStream out, Integer value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeInt(value);
+        }
+    }
+
+    private static Integer readNullableInt(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readInt() : null;
+    }
+}
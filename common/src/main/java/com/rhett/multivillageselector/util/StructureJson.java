@@ -0,0 +1,140 @@
+package com.rhett.multivillageselector.util;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming extraction of the few worldgen JSON fields StructureScanner uses, straight
+ * from a file or zip entry stream. Everything else is skipped token by token - no file
+ * content String, no Gson tree.
+ *
+ * - structure_set: structures[].structure / weight, placement.spacing / separation
+ * - structure: top-level biomes (read stops there - jigsaw pools and the rest are never parsed)
+ *
+ * Values are read as leniently as JsonParser did (numbers as strings and the reverse).
+ */
+final class StructureJson {
+
+    private StructureJson() {}
+
+    /**
+     * One structures[] entry of a structure_set.
+     *
+     * @param structure Structure ID, null for an empty entry
+     * @param weight Weight, null if not set
+     */
+    record SetEntry(String structure, Integer weight) {}
+
+    /**
+     * Fields of a structure_set file.
+     *
+     * @param hasPlacement A placement object was present (spacing / separation may still be null)
+     */
+    record StructureSet(List<SetEntry> structures, boolean hasPlacement, Integer spacing, Integer separation) {}
+
+    /**
+     * Read a structure_set file.
+     *
+     * @throws IOException Unreadable stream or malformed JSON
+     * @throws IllegalStateException A field has an unexpected type (as with JsonParser)
+     */
+    static StructureSet readStructureSet(InputStream in) throws IOException {
+        JsonReader reader = reader(in);
+        List<SetEntry> structures = new ArrayList<>();
+        boolean hasPlacement = false;
+        Integer spacing = null;
+        Integer separation = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "structures" -> {
+                    structures.clear(); // Duplicate key: last one wins, as in a JsonObject
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        structures.add(readSetEntry(reader));
+                    }
+                    reader.endArray();
+                }
+                case "placement" -> {
+                    hasPlacement = true;
+                    reader.beginObject();
+                    while (reader.hasNext()) {
+                        switch (reader.nextName()) {
+                            case "spacing" -> spacing = reader.nextInt();
+                            case "separation" -> separation = reader.nextInt();
+                            default -> reader.skipValue();
+                        }
+                    }
+                    reader.endObject();
+                }
+                default -> reader.skipValue();
+            }
+        }
+        return new StructureSet(structures, hasPlacement, spacing, separation);
+    }
+
+    private static SetEntry readSetEntry(JsonReader reader) throws IOException {
+        String structure = null;
+        Integer weight = null;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "structure" -> structure = reader.nextString();
+                case "weight" -> weight = reader.nextInt();
+                default -> reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return new SetEntry(structure, weight);
+    }
+
+    /**
+     * Biomes of a structure file, as shown in scan reports: a tag or biome ID, or the first
+     * entry of a biome list ("" if empty).
+     *
+     * @return Biomes, or null if absent, not a string or list, or the file is not valid JSON
+     *         (the structure is still listed, without biomes)
+     * @throws IOException Unreadable stream
+     */
+    static String readBiomes(InputStream in) throws IOException {
+        try {
+            JsonReader reader = reader(in);
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (!reader.nextName().equals("biomes")) {
+                    reader.skipValue();
+                    continue;
+                }
+                JsonToken token = reader.peek();
+                if (token == JsonToken.STRING) {
+                    return reader.nextString();
+                }
+                if (token == JsonToken.BEGIN_ARRAY) {
+                    reader.beginArray();
+                    return reader.hasNext() && reader.peek() == JsonToken.STRING ? reader.nextString() : "";
+                }
+                return null;
+            }
+            return null;
+        } catch (MalformedJsonException | EOFException | IllegalStateException e) {
+            return null;
+        }
+    }
+
+    private static JsonReader reader(InputStream in) {
+        // JsonReader buffers itself - no BufferedReader on top
+        JsonReader reader = new JsonReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        reader.setLenient(true);
+        return reader;
+    }
+}
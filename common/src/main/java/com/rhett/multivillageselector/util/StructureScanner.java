@@ -1,10 +1,6 @@
 package com.rhett.multivillageselector.util;
 
 import com.google.gson.Gson;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import com.rhett.multivillageselector.MVSCommon;
 import com.rhett.multivillageselector.commands.model.CommandModels.*;
 import net.minecraft.core.Registry;
@@ -36,6 +32,8 @@ public class StructureScanner {
     private static final String MINECRAFT_VILLAGES_SET = "minecraft:villages";
     private static final int TARGET_AVERAGE_WEIGHT = 25;
     private static final int VANILLA_SPACING = 34;
+    private static final int MAX_SCAN_THREADS = 16;
+    private static final int SLOWEST_MODS_LOGGED = 5;
 
 public static Map<String, StructureInfo> scanRegistryForStructures(
     net.minecraft.server.MinecraftServer server
@@ -136,43 +134,25 @@ public static JarScanData scanJarsForStructures(
 ) {
     JarScanData result = new JarScanData();
     try {
-        // Get all loaded mod containers via Architectury Platform API
-        for (var mod : dev.architectury.platform.Platform.getMods()) {
-            String modId = mod.getModId();
-            var dataRoot = mod.findResource("data").orElse(null);
-
-            try {
-                // First, scan structure_set files to get weights and empty weights
-                Map<String, StructureJarInfo> structureSetData = scanAllStructureSetFiles(dataRoot, modId, result.structureSetInfo);
-
-                // Then, scan individual structure files and merge with structure_set data
-                List<StructureJarInfo> jarStructures = scanAllStructureFiles(dataRoot, modId, structureSetData);
-
-                // Populate StructureInfo map - FILTER to villages structure_sets or uncategorized only
-                for (StructureJarInfo jarInfo : jarStructures) {
-                    // Filter out dimension-specific structures
-                    if (isDimensionSpecific(jarInfo.name, jarInfo.biomeTag)) {
-                        continue;
-                    }
-
-                    // Filter: Only include if in a "villages" structure_set OR no structure_set
-                    boolean isInVillagesSet = jarInfo.structureSet != null &&
-                                              jarInfo.structureSet.endsWith(":villages");
-                    boolean isUncategorized = jarInfo.structureSet == null;
+        // Mods are scanned concurrently, results merged in mod order
+        for (ModScan scan : scanModsConcurrently(null)) {
+            mergeStructureSetInfo(result.structureSetInfo, scan.structureSetInfo());
+
+            // Populate StructureInfo map - FILTER to villages structure_sets or uncategorized only
+            for (StructureJarInfo jarInfo : scan.structures()) {
+                // Filter out dimension-specific structures
+                if (isDimensionSpecific(jarInfo.name, jarInfo.biomeTag)) {
+                    continue;
+                }
 
-                    if (isInVillagesSet || isUncategorized) {
-                        StructureInfo info = result.structures.computeIfAbsent(jarInfo.name, StructureInfo::new);
+                // Filter: Only include if in a "villages" structure_set OR no structure_set
+                boolean isInVillagesSet = jarInfo.structureSet != null &&
+                                          jarInfo.structureSet.endsWith(":villages");
+                boolean isUncategorized = jarInfo.structureSet == null;
 
-                        // Populate JAR data
-                        info.jarWeight = jarInfo.weight;
-                        info.jarSet = jarInfo.structureSet != null ? jarInfo.structureSet : "NONE (uncategorized)";
-                        info.jarBiome = jarInfo.biomeTag;
-                        info.jarSource = jarInfo.foundInStructureSet ? "structure_set" : "structure_file";
-                    }
+                if (isInVillagesSet || isUncategorized) {
+                    putJarInfo(result.structures, jarInfo);
                 }
-
-            } catch (Exception e) {
-                MVSCommon.LOGGER.warn("Failed to scan mod {}: {}", modId, e.getMessage());
             }
         }
 
@@ -193,6 +173,15 @@ public static void scanConnectorDatapacksForStructures(
     net.minecraft.server.MinecraftServer server,
     Map<String, StructureInfo> structures,
     Map<String, StructureSetInfo> structureSetInfo
+) {
+    scanConnectorDatapacksForStructures(server, structures, structureSetInfo, null);
+}
+
+private static void scanConnectorDatapacksForStructures(
+    net.minecraft.server.MinecraftServer server,
+    Map<String, StructureInfo> structures,
+    Map<String, StructureSetInfo> structureSetInfo,
+    ScanCache cache
 ) {
     try {
         Path gameDir = server.getServerDirectory();
@@ -202,6 +191,39 @@ public static void scanConnectorDatapacksForStructures(
             return;
         }
 
+        ScanCache.SourceScan scan = cached(cache, "connector:" + connectorDir.toAbsolutePath(), List.of(connectorDir),
+            () -> scanConnectorDirectory(connectorDir));
+        mergeStructureSetInfo(structureSetInfo, scan.structureSetInfo());
+
+        for (StructureJarInfo jarInfo : scan.structures()) {
+            // Filter out dimension-specific structures
+            if (isDimensionSpecific(jarInfo.name, jarInfo.biomeTag)) {
+                continue;
+            }
+
+            // Filter: Only include if in a "villages" structure_set OR no structure_set
+            boolean isInVillagesSet = jarInfo.structureSet != null &&
+                                      jarInfo.structureSet.endsWith(":villages");
+            boolean isUncategorized = jarInfo.structureSet == null;
+
+            if (isInVillagesSet || isUncategorized) {
+                // Add to appropriate StructureInfo
+                putJarInfo(structures, jarInfo);
+            }
+        }
+
+    } catch (Exception e) {
+        MVSCommon.LOGGER.warn("[JAR-SCAN] Error scanning .connector directory: {}", e.getMessage());
+    }
+}
+
+/**
+ * Read a .connector/data directory (no filtering).
+ */
+private static ScanCache.SourceScan scanConnectorDirectory(Path connectorDir) {
+    List<StructureJarInfo> structures = new ArrayList<>();
+    Map<String, StructureSetInfo> structureSetInfo = new HashMap<>();
+    try {
         // Scan structure_set files first
         Map<String, StructureJarInfo> connectorStructureSets = new HashMap<>();
         java.nio.file.Files.walk(connectorDir)
@@ -209,7 +231,6 @@ public static void scanConnectorDatapacksForStructures(
             .filter(path -> path.toString().endsWith(".json"))
             .forEach(path -> {
                 try {
-                    String content = java.nio.file.Files.readString(path);
                     String relativePath = connectorDir.relativize(path).toString();
                     String[] parts = relativePath.split("/");
 
@@ -218,33 +239,26 @@ public static void scanConnectorDatapacksForStructures(
                         String setName = path.getFileName().toString().replace(".json", "");
                         String setId = namespace + ":" + setName;
 
-                        // Parse JSON using Gson
-                        JsonObject root = JsonParser.parseString(content).getAsJsonObject();
-                        if (root.has("structures")) {
-                            JsonArray jarStructures = root.getAsJsonArray("structures");
-
-                            for (JsonElement element : jarStructures) {
-                                JsonObject structureEntry = element.getAsJsonObject();
-
-                                if (structureEntry.has("structure")) {
-                                    String structureId = structureEntry.get("structure").getAsString();
-                                    Integer weight = structureEntry.has("weight") ?
-                                        structureEntry.get("weight").getAsInt() : null;
-
-                                    // Store - figure out mod from structure ID
-                                    String modId = structureId.contains(":") ? structureId.split(":")[0] : "unknown";
-                                    StructureJarInfo info = connectorStructureSets.computeIfAbsent(structureId,
-                                        k -> new StructureJarInfo(k, modId));
-                                    info.structureSet = setId;
-                                    info.weight = weight;
-                                    info.foundInStructureSet = true;
-                                } else if (structureEntry.has("weight")) {
-                                    // Empty entry! Track empty weight for this structure_set
-                                    Integer emptyWeight = structureEntry.get("weight").getAsInt();
-                                    StructureSetInfo setInfo = structureSetInfo.computeIfAbsent(setId,
-                                        k -> new StructureSetInfo(k));
-                                    setInfo.emptyWeight = emptyWeight;
-                                }
+                        // Read structures / placement (streaming, other fields skipped)
+                        StructureJson.StructureSet set = readStructureSet(path);
+                        for (StructureJson.SetEntry structureEntry : set.structures()) {
+                            if (structureEntry.structure() != null) {
+                                String structureId = structureEntry.structure();
+                                Integer weight = structureEntry.weight();
+
+                                // Store - figure out mod from structure ID
+                                String modId = structureId.contains(":") ? structureId.split(":")[0] : "unknown";
+                                StructureJarInfo info = connectorStructureSets.computeIfAbsent(structureId,
+                                    k -> new StructureJarInfo(k, modId));
+                                info.structureSet = setId;
+                                info.weight = weight;
+                                info.foundInStructureSet = true;
+                            } else if (structureEntry.weight() != null) {
+                                // Empty entry! Track empty weight for this structure_set
+                                Integer emptyWeight = structureEntry.weight();
+                                StructureSetInfo setInfo = structureSetInfo.computeIfAbsent(setId,
+                                    k -> new StructureSetInfo(k));
+                                setInfo.emptyWeight = emptyWeight;
                             }
                         }
                     }
@@ -261,7 +275,6 @@ public static void scanConnectorDatapacksForStructures(
             .filter(path -> path.toString().endsWith(".json"))
             .forEach(path -> {
                 try {
-                    String content = java.nio.file.Files.readString(path);
                     String relativePath = connectorDir.relativize(path).toString();
 
                     String[] parts = relativePath.split("/");
@@ -282,50 +295,23 @@ public static void scanConnectorDatapacksForStructures(
                             jarInfo = new StructureJarInfo(structureId, modId);
                         }
 
-                        // Extract biome tag
-                        if (content.contains("\"biomes\"")) {
-                            int biomeStart = content.indexOf("\"biomes\"");
-                            int colonPos = content.indexOf(":", biomeStart);
-                            if (colonPos > biomeStart) {
-                                int biomeEnd = content.indexOf(",", colonPos);
-                                if (biomeEnd == -1) biomeEnd = content.indexOf("}", colonPos);
-                                if (biomeEnd > colonPos) {
-                                    String biomeInfo = content.substring(colonPos + 1, Math.min(biomeEnd, colonPos + 100));
-                                    biomeInfo = biomeInfo.replace("\n", " ").replace("\"", "").replace("[", "").replace("]", "").trim();
-                                    jarInfo.biomeTag = biomeInfo;
-                                }
-                            }
+                        // Extract biome tag (streaming - stops at "biomes")
+                        String biomes = readBiomes(path);
+                        if (biomes != null) {
+                            jarInfo.biomeTag = biomes;
                         }
 
                         jarInfo.foundInStructureFile = true;
-
-                        // Filter out dimension-specific structures
-                        if (isDimensionSpecific(structureId, jarInfo.biomeTag)) {
-                            return;
-                        }
-
-                        // Filter: Only include if in a "villages" structure_set OR no structure_set
-                        boolean isInVillagesSet = jarInfo.structureSet != null &&
-                                                  jarInfo.structureSet.endsWith(":villages");
-                        boolean isUncategorized = jarInfo.structureSet == null;
-
-                        if (isInVillagesSet || isUncategorized) {
-                            // Add to appropriate StructureInfo
-                            StructureInfo info = structures.computeIfAbsent(structureId, StructureInfo::new);
-                            info.jarWeight = jarInfo.weight;
-                            info.jarSet = jarInfo.structureSet != null ? jarInfo.structureSet : "NONE (uncategorized)";
-                            info.jarBiome = jarInfo.biomeTag;
-                            info.jarSource = jarInfo.foundInStructureSet ? "structure_set" : "structure_file";
-                        }
+                        structures.add(jarInfo);
                     }
                 } catch (Exception e) {
                     // Skip
                 }
             });
-
-    } catch (Exception e) {
-        MVSCommon.LOGGER.warn("[JAR-SCAN] Error scanning .connector directory: {}", e.getMessage());
+    } catch (java.io.IOException e) {
+        throw new java.io.UncheckedIOException(e);
     }
+    return new ScanCache.SourceScan(structures, structureSetInfo);
 }
 
 /**
@@ -378,10 +364,22 @@ public static ScanResult initializeVanillaVillages() {
  * 4. Categorize into suggestion sets
  */
 public static ScanResult scanAllStructures(net.minecraft.server.MinecraftServer server) {
+    return scanAllStructures(server, false);
+}
+
+/**
+ * Unified structure scanning (see above). Mod JARs, datapacks and the .connector directory
+ * are read through the scan cache - only sources that changed since the last scan are re-read.
+ *
+ * @param rescan Ignore the scan cache and re-read every source
+ */
+public static ScanResult scanAllStructures(net.minecraft.server.MinecraftServer server, boolean rescan) {
     // ============================================================
     // PHASE 1: COLLECTION (no filtering, collect everything)
     // ============================================================
 
+    ScanCache cache = ScanCache.open(ScanCache.defaultPath(), rescan);
+
     // Pre-populate vanilla villages (hardcoded - JAR scanning unreliable for vanilla)
     ScanResult result = initializeVanillaVillages();
 
@@ -389,10 +387,12 @@ public static ScanResult scanAllStructures(net.minecraft.server.MinecraftServer
     Map<String, StructureInfo> registryStructures = scanRegistryComplete(server);
 
     // Scan JARs - ALL structures from mod definition files
-    JarScanData jarData = scanJarsComplete(server);
+    JarScanData jarData = scanJarsComplete(server, cache);
 
     // Scan datapacks - ALL structures from user datapacks
-    JarScanData datapackData = scanDatapacksComplete(server);
+    JarScanData datapackData = scanDatapacksComplete(server, cache);
+
+    cache.save();
 
     // ============================================================
     // PHASE 2: MERGE into unified registry
@@ -503,51 +503,16 @@ private static Map<String, StructureInfo> scanRegistryComplete(net.minecraft.ser
  * Scan JAR files for ALL structures (no filtering).
  * Collects mod definitions: weights, structure_sets, biome tags.
  */
-private static JarScanData scanJarsComplete(net.minecraft.server.MinecraftServer server) {
+private static JarScanData scanJarsComplete(net.minecraft.server.MinecraftServer server, ScanCache cache) {
     JarScanData result = new JarScanData();
     try {
-        // Get all loaded mod containers via Architectury Platform API
-        for (var mod : dev.architectury.platform.Platform.getMods()) {
-            String modId = mod.getModId();
-            var dataRoot = mod.findResource("data").orElse(null);
-
-            // Debug: Log which mods have data directories
-            if (dataRoot != null) {
-                MVSCommon.LOGGER.debug("[JAR-SCAN] Scanning mod '{}' at: {}", modId, dataRoot);
-            } else {
-                MVSCommon.LOGGER.debug("[JAR-SCAN] Mod '{}' has no data directory", modId);
-            }
-
-            try {
-                // First, scan structure_set files to get weights and empty weights
-                Map<String, StructureJarInfo> structureSetData = scanAllStructureSetFiles(dataRoot, modId, result.structureSetInfo);
-
-                // Then, scan individual structure files and merge with structure_set data
-                List<StructureJarInfo> jarStructures = scanAllStructureFiles(dataRoot, modId, structureSetData);
-
-                // Debug: Log structure_sets found
-                if (!structureSetData.isEmpty()) {
-                    MVSCommon.LOGGER.debug("[JAR-SCAN] Mod '{}' has {} structures in structure_sets", modId, structureSetData.size());
-                }
-
-                // Populate StructureInfo map - COLLECT ALL (no filtering)
-                for (StructureJarInfo jarInfo : jarStructures) {
-                    StructureInfo info = result.structures.computeIfAbsent(jarInfo.name, StructureInfo::new);
-
-                    // Populate JAR data
-                    info.jarWeight = jarInfo.weight;
-                    info.jarSet = jarInfo.structureSet != null ? jarInfo.structureSet : "NONE (uncategorized)";
-                    info.jarBiome = jarInfo.biomeTag;
-                    info.jarSource = jarInfo.foundInStructureSet ? "structure_set" : "structure_file";
-                }
-
-            } catch (Exception e) {
-                MVSCommon.LOGGER.warn("Failed to scan mod {}: {}", modId, e.getMessage());
-            }
+        // Mods are scanned concurrently, results merged in mod order - COLLECT ALL (no filtering)
+        for (ModScan scan : scanModsConcurrently(cache)) {
+            mergeModScan(result, scan);
         }
 
         // ALSO scan .connector directory for Fabric mods loaded via Sinytra Connector
-        scanConnectorDatapacksForStructures(server, result.structures, result.structureSetInfo);
+        scanConnectorDatapacksForStructures(server, result.structures, result.structureSetInfo, cache);
 
     } catch (Exception e) {
         MVSCommon.LOGGER.error("Error scanning mod JARs", e);
@@ -560,7 +525,7 @@ private static JarScanData scanJarsComplete(net.minecraft.server.MinecraftServer
  * Scan datapack ZIP files for ALL structures (no filtering).
  * Scans <world>/datapacks/*.zip for structure definitions.
  */
-private static JarScanData scanDatapacksComplete(net.minecraft.server.MinecraftServer server) {
+private static JarScanData scanDatapacksComplete(net.minecraft.server.MinecraftServer server, ScanCache cache) {
     JarScanData result = new JarScanData();
     try {
         // Get world-specific datapacks directory
@@ -620,10 +585,11 @@ private static JarScanData scanDatapacksComplete(net.minecraft.server.MinecraftS
         // Scan deduplicated datapacks
         for (Path datapackPath : datapacksByName.values()) {
             try {
-                if (datapackPath.toString().endsWith(".zip")) {
-                    scanDatapackZip(datapackPath, result);
-                } else {
-                    scanDatapackDirectory(datapackPath, result);
+                ScanCache.SourceScan scan = cached(cache, "datapack:" + datapackPath.toAbsolutePath(),
+                    List.of(datapackPath), () -> scanDatapack(datapackPath));
+                mergeStructureSetInfo(result.structureSetInfo, scan.structureSetInfo());
+                for (StructureJarInfo info : scan.structures()) {
+                    putJarInfo(result.structures, info);
                 }
             } catch (Exception e) {
                 MVSCommon.LOGGER.warn("Failed to scan datapack {}: {}",
@@ -638,10 +604,25 @@ private static JarScanData scanDatapacksComplete(net.minecraft.server.MinecraftS
     return result;
 }
 
+/**
+ * Scan a datapack ZIP file or unpacked directory.
+ */
+private static ScanCache.SourceScan scanDatapack(Path datapackPath) {
+    try {
+        return datapackPath.toString().endsWith(".zip")
+            ? scanDatapackZip(datapackPath)
+            : scanDatapackDirectory(datapackPath);
+    } catch (java.io.IOException e) {
+        throw new java.io.UncheckedIOException(e);
+    }
+}
+
 /**
  * Scan a single datapack ZIP file for structures.
  */
-private static void scanDatapackZip(Path zipPath, JarScanData result) throws Exception {
+private static ScanCache.SourceScan scanDatapackZip(Path zipPath) throws java.io.IOException {
+    List<StructureJarInfo> result = new ArrayList<>();
+    Map<String, StructureSetInfo> structureSetInfo = new HashMap<>();
     try (ZipFile zipFile = new ZipFile(zipPath.toFile())) {
         // Extract namespace from first data/ entry
         String namespace = "unknown";
@@ -664,46 +645,40 @@ private static void scanDatapackZip(Path zipPath, JarScanData result) throws Exc
             ZipEntry entry = entries.nextElement();
             if (entry.getName().contains("worldgen/structure_set") && entry.getName().endsWith(".json")) {
                 try (InputStream is = zipFile.getInputStream(entry)) {
-                    String content = new String(is.readAllBytes(), java.nio.charset.StandardCharsets.UTF_8);
                     String setName = entry.getName().substring(entry.getName().lastIndexOf("/") + 1).replace(".json", "");
                     String setId = finalNamespace + ":" + setName;
 
-                    JsonObject root = JsonParser.parseString(content).getAsJsonObject();
-                    if (root.has("structures")) {
-                        JsonArray structures = root.getAsJsonArray("structures");
-                        for (JsonElement element : structures) {
-                            JsonObject structureEntry = element.getAsJsonObject();
-                            if (structureEntry.has("structure")) {
-                                String structureId = structureEntry.get("structure").getAsString();
-                                Integer weight = structureEntry.has("weight") ?
-                                    structureEntry.get("weight").getAsInt() : null;
-
-                                StructureJarInfo info = structureSetData.computeIfAbsent(structureId,
-                                    k -> new StructureJarInfo(k, k.contains(":") ? k.split(":")[0] : finalNamespace));
-                                info.structureSet = setId;
-                                info.weight = weight;
-                                info.foundInStructureSet = true;
-                            } else if (structureEntry.has("weight")) {
-                                // Empty entry
-                                Integer emptyWeight = structureEntry.get("weight").getAsInt();
-                                StructureSetInfo setInfo = result.structureSetInfo.computeIfAbsent(setId,
-                                    k -> new StructureSetInfo(k));
-                                setInfo.emptyWeight = emptyWeight;
-                            }
+                    // Read structures / placement (streaming, other fields skipped)
+                    StructureJson.StructureSet set = StructureJson.readStructureSet(is);
+                    for (StructureJson.SetEntry structureEntry : set.structures()) {
+                        if (structureEntry.structure() != null) {
+                            String structureId = structureEntry.structure();
+                            Integer weight = structureEntry.weight();
+
+                            StructureJarInfo info = structureSetData.computeIfAbsent(structureId,
+                                k -> new StructureJarInfo(k, k.contains(":") ? k.split(":")[0] : finalNamespace));
+                            info.structureSet = setId;
+                            info.weight = weight;
+                            info.foundInStructureSet = true;
+                        } else if (structureEntry.weight() != null) {
+                            // Empty entry
+                            Integer emptyWeight = structureEntry.weight();
+                            StructureSetInfo setInfo = structureSetInfo.computeIfAbsent(setId,
+                                k -> new StructureSetInfo(k));
+                            setInfo.emptyWeight = emptyWeight;
                         }
                     }
 
                     // Extract spacing/separation from placement
-                    if (root.has("placement")) {
-                        JsonObject placement = root.getAsJsonObject("placement");
-                        StructureSetInfo setInfo = result.structureSetInfo.computeIfAbsent(setId,
+                    if (set.hasPlacement()) {
+                        StructureSetInfo setInfo = structureSetInfo.computeIfAbsent(setId,
                             k -> new StructureSetInfo(k));
 
-                        if (placement.has("spacing")) {
-                            setInfo.spacing = placement.get("spacing").getAsInt();
+                        if (set.spacing() != null) {
+                            setInfo.spacing = set.spacing();
                         }
-                        if (placement.has("separation")) {
-                            setInfo.separation = placement.get("separation").getAsInt();
+                        if (set.separation() != null) {
+                            setInfo.separation = set.separation();
                         }
                     }
                 } catch (Exception e) {
@@ -723,7 +698,6 @@ private static void scanDatapackZip(Path zipPath, JarScanData result) throws Exc
                 name.endsWith(".json")) {
 
                 try (InputStream is = zipFile.getInputStream(entry)) {
-                    String content = new String(is.readAllBytes(), java.nio.charset.StandardCharsets.UTF_8);
 
                     // Extract structure ID from path
                     String[] parts = name.split("/");
@@ -748,44 +722,34 @@ private static void scanDatapackZip(Path zipPath, JarScanData result) throws Exc
                         info = new StructureJarInfo(structureId, finalNamespace);
                     }
 
-                    // Extract biome tag
-                    if (content.contains("\"biomes\"")) {
-                        int biomeStart = content.indexOf("\"biomes\"");
-                        int colonPos = content.indexOf(":", biomeStart);
-                        if (colonPos > biomeStart) {
-                            int biomeEnd = content.indexOf(",", colonPos);
-                            if (biomeEnd == -1) biomeEnd = content.indexOf("}", colonPos);
-                            if (biomeEnd > colonPos) {
-                                String biomeInfo = content.substring(colonPos + 1, Math.min(biomeEnd, colonPos + 100));
-                                biomeInfo = biomeInfo.replace("\n", " ").replace("\"", "").replace("[", "").replace("]", "").trim();
-                                info.biomeTag = biomeInfo;
-                            }
-                        }
+                    // Extract biome tag (streaming - stops at "biomes")
+                    String biomes = StructureJson.readBiomes(is);
+                    if (biomes != null) {
+                        info.biomeTag = biomes;
                     }
 
                     info.foundInStructureFile = true;
 
                     // Add to result
-                    StructureInfo structureInfo = result.structures.computeIfAbsent(structureId, StructureInfo::new);
-                    structureInfo.jarWeight = info.weight;
-                    structureInfo.jarSet = info.structureSet != null ? info.structureSet : "NONE (uncategorized)";
-                    structureInfo.jarBiome = info.biomeTag;
-                    structureInfo.jarSource = info.foundInStructureSet ? "structure_set" : "structure_file";
+                    result.add(info);
                 } catch (Exception e) {
                     MVSCommon.LOGGER.debug("Failed to parse structure in datapack: {}", e.getMessage());
                 }
             }
         }
     }
+    return new ScanCache.SourceScan(result, structureSetInfo);
 }
 
 /**
  * Scan an unpacked datapack directory for structures.
  */
-private static void scanDatapackDirectory(Path datapackDir, JarScanData result) throws Exception {
+private static ScanCache.SourceScan scanDatapackDirectory(Path datapackDir) throws java.io.IOException {
+    List<StructureJarInfo> result = new ArrayList<>();
+    Map<String, StructureSetInfo> structureSetInfo = new HashMap<>();
     Path dataDir = datapackDir.resolve("data");
     if (!java.nio.file.Files.exists(dataDir)) {
-        return; // No data directory
+        return new ScanCache.SourceScan(result, structureSetInfo); // No data directory
     }
 
     // Extract namespace from first subdirectory in data/
@@ -809,46 +773,40 @@ private static void scanDatapackDirectory(Path datapackDir, JarScanData result)
                 .filter(path -> path.toString().endsWith(".json"))
                 .forEach(path -> {
                     try {
-                        String content = java.nio.file.Files.readString(path);
                         String setName = path.getFileName().toString().replace(".json", "");
                         String setId = finalNamespace + ":" + setName;
 
-                        JsonObject root = JsonParser.parseString(content).getAsJsonObject();
-                        if (root.has("structures")) {
-                            JsonArray structures = root.getAsJsonArray("structures");
-                            for (JsonElement element : structures) {
-                                JsonObject structureEntry = element.getAsJsonObject();
-                                if (structureEntry.has("structure")) {
-                                    String structureId = structureEntry.get("structure").getAsString();
-                                    Integer weight = structureEntry.has("weight") ?
-                                        structureEntry.get("weight").getAsInt() : null;
-
-                                    StructureJarInfo info = structureSetData.computeIfAbsent(structureId,
-                                        k -> new StructureJarInfo(k, k.contains(":") ? k.split(":")[0] : finalNamespace));
-                                    info.structureSet = setId;
-                                    info.weight = weight;
-                                    info.foundInStructureSet = true;
-                                } else if (structureEntry.has("weight")) {
-                                    // Empty entry
-                                    Integer emptyWeight = structureEntry.get("weight").getAsInt();
-                                    StructureSetInfo setInfo = result.structureSetInfo.computeIfAbsent(setId,
-                                        k -> new StructureSetInfo(k));
-                                    setInfo.emptyWeight = emptyWeight;
-                                }
+                        // Read structures / placement (streaming, other fields skipped)
+                        StructureJson.StructureSet set = readStructureSet(path);
+                        for (StructureJson.SetEntry structureEntry : set.structures()) {
+                            if (structureEntry.structure() != null) {
+                                String structureId = structureEntry.structure();
+                                Integer weight = structureEntry.weight();
+
+                                StructureJarInfo info = structureSetData.computeIfAbsent(structureId,
+                                    k -> new StructureJarInfo(k, k.contains(":") ? k.split(":")[0] : finalNamespace));
+                                info.structureSet = setId;
+                                info.weight = weight;
+                                info.foundInStructureSet = true;
+                            } else if (structureEntry.weight() != null) {
+                                // Empty entry
+                                Integer emptyWeight = structureEntry.weight();
+                                StructureSetInfo setInfo = structureSetInfo.computeIfAbsent(setId,
+                                    k -> new StructureSetInfo(k));
+                                setInfo.emptyWeight = emptyWeight;
                             }
                         }
 
                         // Extract spacing/separation from placement
-                        if (root.has("placement")) {
-                            JsonObject placement = root.getAsJsonObject("placement");
-                            StructureSetInfo setInfo = result.structureSetInfo.computeIfAbsent(setId,
+                        if (set.hasPlacement()) {
+                            StructureSetInfo setInfo = structureSetInfo.computeIfAbsent(setId,
                                 k -> new StructureSetInfo(k));
 
-                            if (placement.has("spacing")) {
-                                setInfo.spacing = placement.get("spacing").getAsInt();
+                            if (set.spacing() != null) {
+                                setInfo.spacing = set.spacing();
                             }
-                            if (placement.has("separation")) {
-                                setInfo.separation = placement.get("separation").getAsInt();
+                            if (set.separation() != null) {
+                                setInfo.separation = set.separation();
                             }
                         }
                     } catch (Exception e) {
@@ -868,7 +826,6 @@ private static void scanDatapackDirectory(Path datapackDir, JarScanData result)
                 .filter(path -> !path.toString().contains("/tags/"))
                 .forEach(path -> {
                     try {
-                        String content = java.nio.file.Files.readString(path);
 
                         // Extract structure ID from path
                         Path relativePath = structureDir.relativize(path);
@@ -881,35 +838,23 @@ private static void scanDatapackDirectory(Path datapackDir, JarScanData result)
                             info = new StructureJarInfo(structureId, finalNamespace);
                         }
 
-                        // Extract biome tag
-                        if (content.contains("\"biomes\"")) {
-                            int biomeStart = content.indexOf("\"biomes\"");
-                            int colonPos = content.indexOf(":", biomeStart);
-                            if (colonPos > biomeStart) {
-                                int biomeEnd = content.indexOf(",", colonPos);
-                                if (biomeEnd == -1) biomeEnd = content.indexOf("}", colonPos);
-                                if (biomeEnd > colonPos) {
-                                    String biomeInfo = content.substring(colonPos + 1, Math.min(biomeEnd, colonPos + 100));
-                                    biomeInfo = biomeInfo.replace("\n", " ").replace("\"", "").replace("[", "").replace("]", "").trim();
-                                    info.biomeTag = biomeInfo;
-                                }
-                            }
+                        // Extract biome tag (streaming - stops at "biomes")
+                        String biomes = readBiomes(path);
+                        if (biomes != null) {
+                            info.biomeTag = biomes;
                         }
 
                         info.foundInStructureFile = true;
 
                         // Add to result
-                        StructureInfo structureInfo = result.structures.computeIfAbsent(structureId, StructureInfo::new);
-                        structureInfo.jarWeight = info.weight;
-                        structureInfo.jarSet = info.structureSet != null ? info.structureSet : "NONE (uncategorized)";
-                        structureInfo.jarBiome = info.biomeTag;
-                        structureInfo.jarSource = info.foundInStructureSet ? "structure_set" : "structure_file";
+                        result.add(info);
                     } catch (Exception e) {
                         MVSCommon.LOGGER.debug("Failed to parse structure in datapack directory: {}", e.getMessage());
                     }
                 });
         }
     }
+    return new ScanCache.SourceScan(result, structureSetInfo);
 }
 
 // ============================================================
@@ -1320,24 +1265,10 @@ public static Map<String, List<StructureJarInfo>> scanModJarsForAllStructures(ne
     Map<String, List<StructureJarInfo>> modStructures = new java.util.TreeMap<>();
 
     try {
-        // Get all loaded mod containers via Architectury Platform API
-        for (var mod : dev.architectury.platform.Platform.getMods()) {
-            String modId = mod.getModId();
-            var dataRoot = mod.findResource("data").orElse(null);
-
-            try {
-                // First, scan structure_set files to get weights (discard empty weights for this helper)
-                Map<String, StructureJarInfo> structureSetData = scanAllStructureSetFiles(dataRoot, modId, new HashMap<>());
-
-                // Then, scan individual structure files and merge with structure_set data
-                List<StructureJarInfo> structures = scanAllStructureFiles(dataRoot, modId, structureSetData);
-
-                if (!structures.isEmpty()) {
-                    modStructures.put(modId, structures);
-                }
-
-            } catch (Exception e) {
-                MVSCommon.LOGGER.warn("Failed to scan mod {}: {}", modId, e.getMessage());
+        // Mods are scanned concurrently (empty weights are discarded for this helper)
+        for (ModScan scan : scanModsConcurrently(null)) {
+            if (!scan.structures().isEmpty()) {
+                modStructures.put(scan.modId(), scan.structures());
             }
         }
 
@@ -1371,7 +1302,6 @@ public static void scanConnectorDatapacks(net.minecraft.server.MinecraftServer s
             .filter(path -> path.toString().endsWith(".json"))
             .forEach(path -> {
                 try {
-                    String content = java.nio.file.Files.readString(path);
                     String relativePath = connectorDir.relativize(path).toString();
                     String[] parts = relativePath.split("/");
 
@@ -1380,27 +1310,20 @@ public static void scanConnectorDatapacks(net.minecraft.server.MinecraftServer s
                         String setName = path.getFileName().toString().replace(".json", "");
                         String setId = namespace + ":" + setName;
 
-                        // Parse JSON using Gson
-                        JsonObject root = JsonParser.parseString(content).getAsJsonObject();
-                        if (root.has("structures")) {
-                            JsonArray structures = root.getAsJsonArray("structures");
-
-                            for (JsonElement element : structures) {
-                                JsonObject structureEntry = element.getAsJsonObject();
-
-                                if (structureEntry.has("structure")) {
-                                    String structureId = structureEntry.get("structure").getAsString();
-                                    Integer weight = structureEntry.has("weight") ?
-                                        structureEntry.get("weight").getAsInt() : null;
-
-                                    // Store - figure out mod from structure ID
-                                    String modId = structureId.contains(":") ? structureId.split(":")[0] : "unknown";
-                                    StructureJarInfo info = connectorStructureSets.computeIfAbsent(structureId,
-                                        k -> new StructureJarInfo(k, modId));
-                                    info.structureSet = setId;
-                                    info.weight = weight;
-                                    info.foundInStructureSet = true;
-                                }
+                        // Read structures / placement (streaming, other fields skipped)
+                        StructureJson.StructureSet set = readStructureSet(path);
+                        for (StructureJson.SetEntry structureEntry : set.structures()) {
+                            if (structureEntry.structure() != null) {
+                                String structureId = structureEntry.structure();
+                                Integer weight = structureEntry.weight();
+
+                                // Store - figure out mod from structure ID
+                                String modId = structureId.contains(":") ? structureId.split(":")[0] : "unknown";
+                                StructureJarInfo info = connectorStructureSets.computeIfAbsent(structureId,
+                                    k -> new StructureJarInfo(k, modId));
+                                info.structureSet = setId;
+                                info.weight = weight;
+                                info.foundInStructureSet = true;
                             }
                         }
                     }
@@ -1417,7 +1340,6 @@ public static void scanConnectorDatapacks(net.minecraft.server.MinecraftServer s
             .filter(path -> path.toString().endsWith(".json"))
             .forEach(path -> {
                 try {
-                    String content = java.nio.file.Files.readString(path);
                     String relativePath = connectorDir.relativize(path).toString();
 
                     String[] parts = relativePath.split("/");
@@ -1438,19 +1360,10 @@ public static void scanConnectorDatapacks(net.minecraft.server.MinecraftServer s
                             info = new StructureJarInfo(structureId, modId);
                         }
 
-                        // Extract biome tag
-                        if (content.contains("\"biomes\"")) {
-                            int biomeStart = content.indexOf("\"biomes\"");
-                            int colonPos = content.indexOf(":", biomeStart);
-                            if (colonPos > biomeStart) {
-                                int biomeEnd = content.indexOf(",", colonPos);
-                                if (biomeEnd == -1) biomeEnd = content.indexOf("}", colonPos);
-                                if (biomeEnd > colonPos) {
-                                    String biomeInfo = content.substring(colonPos + 1, Math.min(biomeEnd, colonPos + 100));
-                                    biomeInfo = biomeInfo.replace("\n", " ").replace("\"", "").replace("[", "").replace("]", "").trim();
-                                    info.biomeTag = biomeInfo;
-                                }
-                            }
+                        // Extract biome tag (streaming - stops at "biomes")
+                        String biomes = readBiomes(path);
+                        if (biomes != null) {
+                            info.biomeTag = biomes;
                         }
 
                         info.foundInStructureFile = true;
@@ -1468,6 +1381,184 @@ public static void scanConnectorDatapacks(net.minecraft.server.MinecraftServer s
     }
 }
 
+/**
+ * structure_set and structure files of one mod, scanned on its own.
+ *
+ * @param structureSetInfo Empty weights / spacing of this mod's structure_sets
+ * @param nanos Time spent scanning this mod
+ */
+record ModScan(String modId, List<StructureJarInfo> structures,
+               Map<String, StructureSetInfo> structureSetInfo, long nanos) {}
+
+/**
+ * A mod to scan, resolved from its container on the calling thread.
+ *
+ * @param dataRoot The mod's data/ folder, or null if it has none
+ * @param files Files the mod was loaded from (scan cache key)
+ */
+record ModSource(String modId, Path dataRoot, List<Path> files) {}
+
+/**
+ * A source's result through the scan cache, or scanned directly without one.
+ */
+private static ScanCache.SourceScan cached(ScanCache cache, String key, List<Path> files,
+                                           java.util.function.Supplier<ScanCache.SourceScan> scanner) {
+    return cache != null ? cache.get(key, files, scanner) : scanner.get();
+}
+
+/**
+ * structure_set fields of a file (mod, datapack or .connector directory), streamed.
+ */
+private static StructureJson.StructureSet readStructureSet(Path path) throws java.io.IOException {
+    try (InputStream in = java.nio.file.Files.newInputStream(path)) {
+        return StructureJson.readStructureSet(in);
+    }
+}
+
+/**
+ * Biomes of a structure file, streamed (see StructureJson.readBiomes).
+ */
+private static String readBiomes(Path path) throws java.io.IOException {
+    try (InputStream in = java.nio.file.Files.newInputStream(path)) {
+        return StructureJson.readBiomes(in);
+    }
+}
+
+/**
+ * Add a scanned structure's JAR data to a StructureInfo map (later sources overwrite).
+ */
+private static void putJarInfo(Map<String, StructureInfo> structures, StructureJarInfo jarInfo) {
+    StructureInfo info = structures.computeIfAbsent(jarInfo.name, StructureInfo::new);
+
+    // Populate JAR data
+    info.jarWeight = jarInfo.weight;
+    info.jarSet = jarInfo.structureSet != null ? jarInfo.structureSet : "NONE (uncategorized)";
+    info.jarBiome = jarInfo.biomeTag;
+    info.jarSource = jarInfo.foundInStructureSet ? "structure_set" : "structure_file";
+}
+
+/**
+ * Scan every loaded mod's data/ folder concurrently (bounded pool of virtual threads -
+ * the walk is mostly JAR I/O). Results come back in Platform.getMods() order, so merging
+ * them one by one gives the same maps as scanning the mods one after another.
+ * Mods that fail to scan are logged and left out.
+ *
+ * @param cache Scan cache (mods whose files are unchanged are not re-read), or null to scan every mod
+ */
+private static List<ModScan> scanModsConcurrently(ScanCache cache) {
+    // Resolve data roots up front - mod containers are only touched on the calling thread
+    List<ModSource> mods = new ArrayList<>();
+    for (var mod : dev.architectury.platform.Platform.getMods()) {
+        mods.add(new ModSource(mod.getModId(), mod.findResource("data").orElse(null), mod.getFilePaths()));
+    }
+    return scanModsConcurrently(mods, cache);
+}
+
+/**
+ * Scan the given mods concurrently - results in the order of mods.
+ */
+static List<ModScan> scanModsConcurrently(List<ModSource> mods, ScanCache cache) {
+    long start = System.nanoTime();
+    List<java.util.concurrent.Future<ModScan>> futures = new ArrayList<>(mods.size());
+    int threads = Math.max(2, Math.min(MAX_SCAN_THREADS, Runtime.getRuntime().availableProcessors() * 2));
+    java.util.concurrent.ExecutorService executor = java.util.concurrent.Executors.newFixedThreadPool(threads,
+        Thread.ofVirtual().name("MVS-Jar-Scan-", 0).factory());
+    try {
+        for (ModSource mod : mods) {
+            futures.add(executor.submit(() -> {
+                long modStart = System.nanoTime();
+                ScanCache.SourceScan scan = cached(cache, "mod:" + mod.modId(), mod.files(),
+                    () -> scanMod(mod.modId(), mod.dataRoot()));
+                return new ModScan(mod.modId(), scan.structures(), scan.structureSetInfo(), System.nanoTime() - modStart);
+            }));
+        }
+
+        List<ModScan> scans = new ArrayList<>(futures.size());
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                scans.add(futures.get(i).get());
+            } catch (java.util.concurrent.ExecutionException e) {
+                MVSCommon.LOGGER.warn("Failed to scan mod {}: {}", mods.get(i).modId(), e.getCause().getMessage());
+            }
+        }
+
+        logScanTimes(scans, System.nanoTime() - start);
+        return scans;
+    } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Interrupted while scanning mod JARs", e);
+    } finally {
+        executor.shutdownNow();
+    }
+}
+
+private static ScanCache.SourceScan scanMod(String modId, Path dataRoot) {
+    // Debug: Log which mods have data directories
+    if (dataRoot != null) {
+        MVSCommon.LOGGER.debug("[JAR-SCAN] Scanning mod '{}' at: {}", modId, dataRoot);
+    } else {
+        MVSCommon.LOGGER.debug("[JAR-SCAN] Mod '{}' has no data directory", modId);
+    }
+
+    // First, scan structure_set files to get weights and empty weights
+    Map<String, StructureSetInfo> structureSetInfo = new HashMap<>();
+    Map<String, StructureJarInfo> structureSetData = scanAllStructureSetFiles(dataRoot, modId, structureSetInfo);
+
+    // Then, scan individual structure files and merge with structure_set data
+    List<StructureJarInfo> structures = scanAllStructureFiles(dataRoot, modId, structureSetData);
+
+    // Debug: Log structure_sets found
+    if (!structureSetData.isEmpty()) {
+        MVSCommon.LOGGER.debug("[JAR-SCAN] Mod '{}' has {} structures in structure_sets", modId, structureSetData.size());
+    }
+
+    return new ScanCache.SourceScan(structures, structureSetInfo);
+}
+
+/**
+ * Merge one mod's scan into JAR data (no filtering) - later mods overwrite.
+ */
+static void mergeModScan(JarScanData result, ModScan scan) {
+    mergeStructureSetInfo(result.structureSetInfo, scan.structureSetInfo());
+    for (StructureJarInfo jarInfo : scan.structures()) {
+        putJarInfo(result.structures, jarInfo);
+    }
+}
+
+/**
+ * Merge one mod's structure_set metadata - later mods override the fields they define,
+ * as when every mod wrote into the same map.
+ */
+private static void mergeStructureSetInfo(Map<String, StructureSetInfo> target, Map<String, StructureSetInfo> source) {
+    for (StructureSetInfo info : source.values()) {
+        StructureSetInfo merged = target.computeIfAbsent(info.setId, StructureSetInfo::new);
+        if (info.emptyWeight != null) merged.emptyWeight = info.emptyWeight;
+        if (info.spacing != null) merged.spacing = info.spacing;
+        if (info.separation != null) merged.separation = info.separation;
+    }
+}
+
+/**
+ * Log total scan time and the slowest mods, so slow JARs can be identified.
+ */
+private static void logScanTimes(List<ModScan> scans, long totalNanos) {
+    List<ModScan> slowest = new ArrayList<>(scans);
+    slowest.sort(Comparator.comparingLong(ModScan::nanos).reversed());
+
+    StringBuilder summary = new StringBuilder();
+    for (int i = 0; i < Math.min(SLOWEST_MODS_LOGGED, slowest.size()); i++) {
+        if (i > 0) summary.append(", ");
+        summary.append(slowest.get(i).modId()).append(' ').append(slowest.get(i).nanos() / 1_000_000).append(" ms");
+    }
+    MVSCommon.LOGGER.info("[JAR-SCAN] Scanned {} mods in {} ms (slowest: {})",
+        scans.size(), totalNanos / 1_000_000, summary);
+
+    for (ModScan scan : scans) {
+        MVSCommon.LOGGER.debug("[JAR-SCAN] Mod '{}' scanned in {} ms ({} structures)",
+            scan.modId(), scan.nanos() / 1_000_000, scan.structures().size());
+    }
+}
+
 /**
  * Scan a mod file for ALL structure_set definitions and extract weights using Gson
  * Returns map of structure_id -> StructureJarInfo with weight and set info
@@ -1491,7 +1582,6 @@ public static Map<String, StructureJarInfo> scanAllStructureSetFiles(
             .filter(path -> path.toString().endsWith(".json"))
             .forEach(path -> {
                 try {
-                    String content = java.nio.file.Files.readString(path);
                     String relativePath = dataRoot.relativize(path).toString();
 
                     String[] parts = relativePath.split("/");
@@ -1500,46 +1590,38 @@ public static Map<String, StructureJarInfo> scanAllStructureSetFiles(
                         String setName = path.getFileName().toString().replace(".json", "");
                         String setId = namespace + ":" + setName;
 
-                        // Parse JSON using Gson
-                        JsonObject root = JsonParser.parseString(content).getAsJsonObject();
-                        if (root.has("structures")) {
-                            JsonArray structures = root.getAsJsonArray("structures");
-
-                            for (JsonElement element : structures) {
-                                JsonObject structureEntry = element.getAsJsonObject();
-
-                                if (structureEntry.has("structure")) {
-                                    String structureId = structureEntry.get("structure").getAsString();
-                                    Integer weight = structureEntry.has("weight") ?
-                                        structureEntry.get("weight").getAsInt() : null;
-
-                                    // Store structure_set info
-                                    StructureJarInfo info = structureSetData.computeIfAbsent(structureId,
-                                        k -> new StructureJarInfo(k, finalModId));
-                                    info.structureSet = setId;
-                                    info.weight = weight;
-                                    info.foundInStructureSet = true;
-                                } else if (structureEntry.has("weight")) {
-                                    // Empty entry! Track empty weight for this structure_set
-                                    Integer emptyWeight = structureEntry.get("weight").getAsInt();
-                                    StructureSetInfo setInfo = structureSetInfo.computeIfAbsent(setId,
-                                        k -> new StructureSetInfo(k));
-                                    setInfo.emptyWeight = emptyWeight;
-                                }
+                        // Read structures / placement (streaming, other fields skipped)
+                        StructureJson.StructureSet set = readStructureSet(path);
+                        for (StructureJson.SetEntry structureEntry : set.structures()) {
+                            if (structureEntry.structure() != null) {
+                                String structureId = structureEntry.structure();
+                                Integer weight = structureEntry.weight();
+
+                                // Store structure_set info
+                                StructureJarInfo info = structureSetData.computeIfAbsent(structureId,
+                                    k -> new StructureJarInfo(k, finalModId));
+                                info.structureSet = setId;
+                                info.weight = weight;
+                                info.foundInStructureSet = true;
+                            } else if (structureEntry.weight() != null) {
+                                // Empty entry! Track empty weight for this structure_set
+                                Integer emptyWeight = structureEntry.weight();
+                                StructureSetInfo setInfo = structureSetInfo.computeIfAbsent(setId,
+                                    k -> new StructureSetInfo(k));
+                                setInfo.emptyWeight = emptyWeight;
                             }
                         }
 
                         // Extract spacing/separation from placement
-                        if (root.has("placement")) {
-                            JsonObject placement = root.getAsJsonObject("placement");
+                        if (set.hasPlacement()) {
                             StructureSetInfo setInfo = structureSetInfo.computeIfAbsent(setId,
                                 k -> new StructureSetInfo(k));
 
-                            if (placement.has("spacing")) {
-                                setInfo.spacing = placement.get("spacing").getAsInt();
+                            if (set.spacing() != null) {
+                                setInfo.spacing = set.spacing();
                             }
-                            if (placement.has("separation")) {
-                                setInfo.separation = placement.get("separation").getAsInt();
+                            if (set.separation() != null) {
+                                setInfo.separation = set.separation();
                             }
                         }
                     }
@@ -1582,7 +1664,6 @@ public static List<StructureJarInfo> scanAllStructureFiles(
             .filter(path -> path.toString().endsWith(".json"))
             .forEach(path -> {
                 try {
-                    String content = java.nio.file.Files.readString(path);
                     String relativePath = dataRoot.relativize(path).toString();
 
                     // Extract namespace and structure name from path
@@ -1610,19 +1691,10 @@ public static List<StructureJarInfo> scanAllStructureFiles(
                             info = new StructureJarInfo(structureId, modId);
                         }
 
-                        // Extract biome tag from JSON
-                        if (content.contains("\"biomes\"")) {
-                            int biomeStart = content.indexOf("\"biomes\"");
-                            int colonPos = content.indexOf(":", biomeStart);
-                            if (colonPos > biomeStart) {
-                                int biomeEnd = content.indexOf(",", colonPos);
-                                if (biomeEnd == -1) biomeEnd = content.indexOf("}", colonPos);
-                                if (biomeEnd > colonPos) {
-                                    String biomeInfo = content.substring(colonPos + 1, Math.min(biomeEnd, colonPos + 100));
-                                    biomeInfo = biomeInfo.replace("\n", " ").replace("\"", "").replace("[", "").replace("]", "").trim();
-                                    info.biomeTag = biomeInfo;
-                                }
-                            }
+                        // Extract biome tag (streaming - stops at "biomes")
+                        String biomes = readBiomes(path);
+                        if (biomes != null) {
+                            info.biomeTag = biomes;
                         }
 
                         info.foundInStructureFile = true;
@@ -0,0 +1,182 @@
+package com.rhett.multivillageselector.util;
+
+/**
+ * Compiled wildcard pattern ("minecraft:village_*", "#*:is_ocean", "*craft*:*village*").
+ * Immutable - compile once, match many times from any thread.
+ *
+ * Only '*' is special (any run of characters, including none); everything else is literal.
+ * The pattern is split at '*' into literal segments and matched with startsWith / endsWith
+ * and left-to-right indexOf for the middle segments - no regex, no allocation per match.
+ * Greedy-leftmost placement of middle segments is exact for '*'-only patterns: if any
+ * placement works, the leftmost one does, since it leaves the most room for the rest.
+ *
+ * The # prefix must agree: tag patterns only match tag inputs and vice versa, so
+ * "*:*ocean*" does not match "#minecraft:is_ocean" even though '*' could absorb the '#'.
+ */
+public final class WildcardPattern {
+
+    private final String pattern;
+    private final boolean tag;
+    private final boolean literal;   // No '*' - plain equals
+    private final String prefix;     // Before the first '*'
+    private final String suffix;     // After the last '*'
+    private final String[] middle;   // Between '*'s, non-empty only
+    private final int minLength;     // Sum of literal segment lengths
+    private final int specificity;   // PatternMatcher.getSpecificity score
+
+    private WildcardPattern(String pattern) {
+        this.pattern = pattern;
+        this.tag = pattern.startsWith("#");
+        this.specificity = computeSpecificity(pattern);
+
+        int first = pattern.indexOf('*');
+        if (first < 0) {
+            this.literal = true;
+            this.prefix = pattern;
+            this.suffix = "";
+            this.middle = new String[0];
+            this.minLength = pattern.length();
+            return;
+        }
+
+        int last = pattern.lastIndexOf('*');
+        this.literal = false;
+        this.prefix = pattern.substring(0, first);
+        this.suffix = pattern.substring(last + 1);
+
+        java.util.List<String> segments = new java.util.ArrayList<>();
+        int start = first + 1;
+        while (start <= last) {
+            int end = pattern.indexOf('*', start);
+            if (end > start) {
+                segments.add(pattern.substring(start, end));
+            }
+            start = end + 1;
+        }
+        this.middle = segments.toArray(new String[0]);
+
+        int length = prefix.length() + suffix.length();
+        for (String segment : middle) {
+            length += segment.length();
+        }
+        this.minLength = length;
+    }
+
+    /**
+     * Compile a pattern. Prefer PatternMatcher.compile(), which caches by pattern string.
+     */
+    public static WildcardPattern compile(String pattern) {
+        return new WildcardPattern(pattern);
+    }
+
+    /**
+     * Whether the pattern contains a wildcard.
+     */
+    public boolean isLiteral() {
+        return literal;
+    }
+
+    /**
+     * Whether this is a tag pattern (# prefix).
+     */
+    public boolean isTag() {
+        return tag;
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Specificity score (see PatternMatcher.getSpecificity), computed at compile time.
+     */
+    public int getSpecificity() {
+        return specificity;
+    }
+
+    /**
+     * Check if the whole input matches.
+     */
+    public boolean matches(String input) {
+        if (literal) {
+            return pattern.equals(input);
+        }
+        if (input.startsWith("#") != tag) {
+            return false;
+        }
+        int length = input.length();
+        if (length < minLength || !input.startsWith(prefix) || !input.endsWith(suffix)) {
+            return false;
+        }
+
+        // Middle segments in order, between the prefix and the suffix
+        int from = prefix.length();
+        int limit = length - suffix.length();
+        for (String segment : middle) {
+            int at = input.indexOf(segment, from);
+            if (at < 0 || at + segment.length() > limit) {
+                return false;
+            }
+            from = at + segment.length();
+        }
+        return true;
+    }
+
+    /**
+     * Scoring rules documented on PatternMatcher.getSpecificity.
+     */
+    private static int computeSpecificity(String pattern) {
+        // Special cases for ultimate fallbacks
+        if (pattern.equals("*:*")) return -10;
+        if (pattern.equals("#*:*")) return -20;
+
+        int score = 20;
+
+        // No # prefix: +1
+        if (!pattern.startsWith("#")) score += 1;
+
+        // 2+ literal chars before / after the first colon: +2 each
+        int colon = pattern.indexOf(':');
+        int end = colon >= 0 ? colon : pattern.length();
+        if (hasLiteralRun(pattern, 0, end)) score += 2;
+        if (colon >= 0 && hasLiteralRun(pattern, colon + 1, pattern.length())) score += 2;
+
+        // Each wildcard: -5
+        for (int i = 0; i < pattern.length(); i++) {
+            if (pattern.charAt(i) == '*') score -= 5;
+        }
+
+        return score;
+    }
+
+    /**
+     * Whether [from, to) contains 2+ consecutive chars from [a-z0-9_/-].
+     */
+    private static boolean hasLiteralRun(String s, int from, int to) {
+        int run = 0;
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            boolean literal = (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '_' || c == '/' || c == '-';
+            run = literal ? run + 1 : 0;
+            if (run >= 2) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof WildcardPattern other && pattern.equals(other.pattern);
+    }
+
+    @Override
+    public int hashCode() {
+        return pattern.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+}
@@ -0,0 +1,79 @@
+package com.rhett.multivillageselector.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for ConfigDiff (per entry / per key changes between two parsed configs).
+ */
+class ConfigDiffTest {
+
+    private static MVSConfig.RawConfigEntry entry(String structure, int weight) {
+        return new MVSConfig.RawConfigEntry(false, structure, new LinkedHashMap<>(Map.of("#minecraft:is_plains", weight)));
+    }
+
+    private static PlacementRule spacing(int spacing) {
+        return new PlacementRule(spacing, 8, null, null, null, null);
+    }
+
+    @Test
+    @DisplayName("Identical configs: nothing changed")
+    void testUnchanged() {
+        ConfigState a = new ConfigState.Builder()
+            .structurePoolRaw(List.of(entry("minecraft:village_plains", 10), entry("ctov:*", 5)))
+            .placement(Map.of("minecraft:villages", spacing(34)))
+            .biomeFrequency(Map.of("#*:*", 0.5))
+            .biomeFrequencyBands(Map.of("#minecraft:is_ocean", new double[]{0.1, 0.2}))
+            .build();
+        ConfigState b = new ConfigState.Builder()
+            .structurePoolRaw(List.of(entry("minecraft:village_plains", 10), entry("ctov:*", 5)))
+            .placement(Map.of("minecraft:villages", spacing(34)))
+            .biomeFrequency(Map.of("#*:*", 0.5))
+            .biomeFrequencyBands(Map.of("#minecraft:is_ocean", new double[]{0.1, 0.2}))
+            .build();
+
+        ConfigDiff diff = ConfigDiff.between(a, b);
+        assertTrue(diff.isEmpty(), diff.summary());
+        assertEquals(2, diff.poolUnchanged);
+    }
+
+    @Test
+    @DisplayName("One weight, one placement key and one frequency rule edited")
+    void testChanges() {
+        ConfigState a = new ConfigState.Builder()
+            .structurePoolRaw(List.of(entry("minecraft:village_plains", 10), entry("ctov:*", 5), entry("bca:*", 1)))
+            .placement(Map.of("minecraft:villages", spacing(34), "ctov:villages", spacing(40)))
+            .biomeFrequency(Map.of("#*:*", 0.5, "#minecraft:is_ocean", 0.0))
+            .build();
+        ConfigState b = new ConfigState.Builder()
+            .structurePoolRaw(List.of(entry("minecraft:village_plains", 10), entry("ctov:*", 6)))
+            .placement(Map.of("minecraft:villages", spacing(34), "ctov:villages", spacing(48)))
+            .biomeFrequency(Map.of("#*:*", 0.5, "#minecraft:is_ocean", 0.1))
+            .build();
+
+        ConfigDiff diff = ConfigDiff.between(a, b);
+        assertEquals(1, diff.poolUnchanged);
+        assertEquals(1, diff.poolChanged);
+        assertEquals(2, diff.poolRemoved);
+        assertEquals(Set.of("ctov:villages"), diff.placementChanged);
+        assertEquals(Set.of("#minecraft:is_ocean"), diff.frequencyChanged);
+        assertFalse(diff.distanceBandsChanged);
+    }
+
+    @Test
+    @DisplayName("First load: everything counts as changed")
+    void testFirstLoad() {
+        ConfigState b = new ConfigState.Builder()
+            .structurePoolRaw(List.of(entry("minecraft:village_plains", 10)))
+            .build();
+
+        ConfigDiff diff = ConfigDiff.between(null, b);
+        assertEquals(1, diff.poolChanged);
+        assertEquals(0, diff.poolUnchanged);
+        assertFalse(diff.isEmpty());
+    }
+}
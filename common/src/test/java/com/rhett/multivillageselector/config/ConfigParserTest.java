@@ -305,6 +305,123 @@ class ConfigParserTest {
         assertEquals(2, entry.biomes.get("#minecraft:is_mountain"));
     }
 
+    @Test
+    @DisplayName("Structure pool: min_distance_same and min_distance_groups")
+    void testStructurePool_MinDistance() throws ConfigParser.ConfigParseException {
+        String json = """
+            {
+              intercept_structure_sets: ["minecraft:villages"],
+              structure_pool: [
+                { structure: "minecraft:village_plains", biomes: {"#minecraft:is_plains": 10}, min_distance_same: 48 },
+                { structure: "ctov:small/*", biomes: {"*:*": 5}, group: "CTOV" },
+                { structure: "minecraft:village_desert", biomes: {"#minecraft:is_desert": 10} }
+              ],
+              min_distance_groups: { "ctov": 40 }
+            }
+            """;
+
+        ConfigState result = ConfigParser.parse(json);
+
+        assertEquals(48, result.structurePoolRaw.get(0).minDistanceSame);
+        assertNull(result.structurePoolRaw.get(0).group);
+        assertEquals("ctov", result.structurePoolRaw.get(1).group);
+        assertEquals(0, result.structurePoolRaw.get(2).minDistanceSame);
+        assertEquals(40, result.minDistanceGroups.get("ctov"));
+        assertTrue(result.validationWarnings.stream().noneMatch(w -> w.contains("min_distance") || w.contains("group")));
+    }
+
+    @Test
+    @DisplayName("Structure pool: invalid min distance values produce warnings")
+    void testStructurePool_InvalidMinDistance() throws ConfigParser.ConfigParseException {
+        String json = """
+            {
+              intercept_structure_sets: ["minecraft:villages"],
+              structure_pool: [
+                { structure: "minecraft:village_plains", biomes: {"#minecraft:is_plains": 10}, min_distance_same: 1000 },
+                { structure: "minecraft:village_desert", biomes: {"#minecraft:is_desert": 10}, group: "deserts" }
+              ],
+              min_distance_groups: { "ctov": -5 }
+            }
+            """;
+
+        ConfigState result = ConfigParser.parse(json);
+
+        assertEquals(0, result.structurePoolRaw.get(0).minDistanceSame);
+        assertTrue(result.minDistanceGroups.isEmpty());
+        assertTrue(result.validationWarnings.stream().anyMatch(w -> w.contains("min_distance_same 1000 is invalid")));
+        assertTrue(result.validationWarnings.stream().anyMatch(w -> w.contains("min_distance_groups[ctov]")));
+        assertTrue(result.validationWarnings.stream().anyMatch(w -> w.contains("group 'deserts' has no min_distance_groups entry")));
+    }
+
+    @Test
+    @DisplayName("Distance bands: band_weights and per-band biome_frequency")
+    void testDistanceBands() throws ConfigParser.ConfigParseException {
+        String json = """
+            {
+              intercept_structure_sets: ["minecraft:villages"],
+              distance_bands: [64, 192],
+              structure_pool: [
+                { structure: "minecraft:village_plains", biomes: {"#minecraft:is_plains": 10}, band_weights: [1.0, 0.5, 0.1] },
+                { structure: "minecraft:village_desert", biomes: {"#minecraft:is_desert": 10} }
+              ],
+              biome_frequency: {
+                "#minecraft:is_plains": [1.0, 0.6, 0.3],
+                "#*:*": 0.5
+              }
+            }
+            """;
+
+        ConfigState result = ConfigParser.parse(json);
+
+        assertArrayEquals(new int[]{64, 192}, result.distanceBands);
+        assertArrayEquals(new double[]{1.0, 0.5, 0.1}, result.structurePoolRaw.get(0).bandWeights);
+        assertNull(result.structurePoolRaw.get(1).bandWeights);
+        assertArrayEquals(new double[]{1.0, 0.6, 0.3}, result.biomeFrequencyBands.get("#minecraft:is_plains"));
+        assertEquals(1.0, result.biomeFrequency.get("#minecraft:is_plains"), "Scalar map holds the first band");
+        assertEquals(0.5, result.biomeFrequency.get("#*:*"));
+        assertFalse(result.biomeFrequencyBands.containsKey("#*:*"));
+        assertTrue(result.validationWarnings.stream().noneMatch(w -> w.contains("band")));
+    }
+
+    @Test
+    @DisplayName("Distance bands: invalid bands and mismatched arrays produce warnings")
+    void testDistanceBands_Invalid() throws ConfigParser.ConfigParseException {
+        String json = """
+            {
+              intercept_structure_sets: ["minecraft:villages"],
+              distance_bands: [100],
+              structure_pool: [
+                { structure: "minecraft:village_plains", biomes: {"#minecraft:is_plains": 10}, band_weights: [1.0, 0.5, 0.1] }
+              ],
+              biome_frequency: { "#minecraft:is_plains": [1.0, 1.5] }
+            }
+            """;
+
+        ConfigState result = ConfigParser.parse(json);
+
+        assertNull(result.structurePoolRaw.get(0).bandWeights);
+        assertFalse(result.biomeFrequencyBands.containsKey("#minecraft:is_plains"));
+        assertTrue(result.validationWarnings.stream().anyMatch(w -> w.contains("band_weights must be an array of 2 values")));
+        assertTrue(result.validationWarnings.stream().anyMatch(w -> w.contains("biome_frequency pattern '#minecraft:is_plains'[1]")));
+
+        String unordered = """
+            {
+              intercept_structure_sets: ["minecraft:villages"],
+              distance_bands: [200, 100],
+              structure_pool: [
+                { structure: "minecraft:village_plains", biomes: {"#minecraft:is_plains": 10}, band_weights: [1.0, 0.5] }
+              ]
+            }
+            """;
+
+        ConfigState second = ConfigParser.parse(unordered);
+
+        assertEquals(0, second.distanceBands.length);
+        assertNull(second.structurePoolRaw.get(0).bandWeights);
+        assertTrue(second.validationWarnings.stream().anyMatch(w -> w.contains("distance_bands[1]")));
+        assertTrue(second.validationWarnings.stream().anyMatch(w -> w.contains("band_weights requires distance_bands")));
+    }
+
     // ============================================================
     // BIOME FREQUENCY VALIDATION
     // ============================================================
@@ -673,7 +790,7 @@ class ConfigParserTest {
     @Test
     @DisplayName("Placement: valid spreadType values accepted")
     void testPlacement_ValidSpreadTypes() throws ConfigParser.ConfigParseException {
-        String[] validTypes = {"linear", "triangular", "edge_biased", "corner_biased", "gaussian", "fixed_center"};
+        String[] validTypes = {"linear", "triangular", "edge_biased", "corner_biased", "gaussian", "fixed_center", "blue_noise"};
 
         for (String spreadType : validTypes) {
             String json = String.format("""
@@ -720,6 +837,142 @@ class ConfigParserTest {
         assertNull(result.placement.get("minecraft:villages").strategy);
     }
 
+    @Test
+    @DisplayName("Placement: concentric_rings with ring fields")
+    void testPlacement_ConcentricRings() throws ConfigParser.ConfigParseException {
+        String json = """
+            {
+              intercept_structure_sets: ["minecraft:villages"],
+              structure_pool: [
+                { structure: "minecraft:village_plains", biomes: {"#minecraft:is_plains": 10} }
+              ],
+              placement: {
+                "minecraft:villages": {
+                  strategy: "concentric_rings",
+                  distance: 16,
+                  spread: 6,
+                  count: 64
+                }
+              }
+            }
+            """;
+
+        ConfigState result = ConfigParser.parse(json);
+        PlacementRule rule = result.placement.get("minecraft:villages");
+
+        assertEquals("concentric_rings", rule.strategy);
+        assertEquals(16, rule.distance);
+        assertEquals(6, rule.spread);
+        assertEquals(64, rule.count);
+        assertTrue(result.validationWarnings.isEmpty(), "Unexpected warnings: " + result.validationWarnings);
+    }
+
+    @Test
+    @DisplayName("Placement: out-of-range ring fields generate warnings")
+    void testPlacement_InvalidRingFields() throws ConfigParser.ConfigParseException {
+        String json = """
+            {
+              intercept_structure_sets: ["minecraft:villages"],
+              structure_pool: [
+                { structure: "minecraft:village_plains", biomes: {"#minecraft:is_plains": 10} }
+              ],
+              placement: {
+                "minecraft:villages": {
+                  strategy: "concentric_rings",
+                  distance: 0,
+                  spread: "three",
+                  count: 5000
+                }
+              }
+            }
+            """;
+
+        ConfigState result = ConfigParser.parse(json);
+        PlacementRule rule = result.placement.get("minecraft:villages");
+
+        assertNull(rule.distance);
+        assertNull(rule.spread);
+        assertNull(rule.count);
+        assertTrue(result.validationWarnings.stream().anyMatch(w -> w.contains("distance") && w.contains("must be 1-1023")));
+        assertTrue(result.validationWarnings.stream().anyMatch(w -> w.contains("spread") && w.contains("expected integer")));
+        assertTrue(result.validationWarnings.stream().anyMatch(w -> w.contains("count") && w.contains("must be 1-4095")));
+    }
+
+    @Test
+    @DisplayName("Placement: hierarchical_grid with distance levels")
+    void testPlacement_HierarchicalGrid() throws ConfigParser.ConfigParseException {
+        String json = """
+            {
+              intercept_structure_sets: ["minecraft:villages"],
+              structure_pool: [
+                { structure: "minecraft:village_plains", biomes: {"#minecraft:is_plains": 10} }
+              ],
+              placement: {
+                "minecraft:villages": {
+                  strategy: "hierarchical_grid",
+                  super_cell: 136,
+                  grid_levels: [
+                    { spacing: 17, separation: 4 },
+                    { spacing: 34, separation: 8 }
+                  ],
+                  level_by: "distance",
+                  level_distances: [500]
+                }
+              }
+            }
+            """;
+
+        ConfigState result = ConfigParser.parse(json);
+        PlacementRule rule = result.placement.get("minecraft:villages");
+
+        assertTrue(rule.isHierarchicalGrid());
+        assertEquals(136, rule.grid.getSuperCell());
+        assertEquals(2, rule.grid.getLevelCount());
+        assertEquals(34, rule.grid.getSpacing(1));
+        assertFalse(rule.grid.isByHash());
+        assertTrue(result.validationWarnings.isEmpty(), "Unexpected warnings: " + result.validationWarnings);
+    }
+
+    @Test
+    @DisplayName("Placement: invalid hierarchical_grid falls back to inherited strategy")
+    void testPlacement_InvalidHierarchicalGrid() throws ConfigParser.ConfigParseException {
+        String json = """
+            {
+              intercept_structure_sets: ["minecraft:villages"],
+              structure_pool: [
+                { structure: "minecraft:village_plains", biomes: {"#minecraft:is_plains": 10} }
+              ],
+              placement: {
+                "minecraft:villages": {
+                  strategy: "hierarchical_grid",
+                  super_cell: 100,
+                  grid_levels: [
+                    { spacing: 17, separation: 4 },
+                    { spacing: 34, separation: 8 }
+                  ],
+                  level_by: "hash"
+                },
+                "minecraft:pillager_outposts": {
+                  super_cell: 68,
+                  grid_levels: [{ spacing: 34, separation: 8 }]
+                }
+              }
+            }
+            """;
+
+        ConfigState result = ConfigParser.parse(json);
+
+        PlacementRule villages = result.placement.get("minecraft:villages");
+        assertNull(villages.strategy);
+        assertNull(villages.grid);
+        assertTrue(result.validationWarnings.stream().anyMatch(w -> w.contains("not a multiple of level 0 spacing 17")));
+        assertTrue(result.validationWarnings.stream().anyMatch(w -> w.contains("requires a valid super_cell and grid_levels")));
+
+        PlacementRule outposts = result.placement.get("minecraft:pillager_outposts");
+        assertNull(outposts.grid);
+        assertTrue(result.validationWarnings.stream().anyMatch(w -> w.contains("only apply to strategy 'hierarchical_grid'")));
+    }
+
     @Test
     @DisplayName("Placement: multiple structure sets")
     void testPlacement_MultipleStructureSets() throws ConfigParser.ConfigParseException {
@@ -1008,4 +1261,79 @@ class ConfigParserTest {
         assertEquals("minecraft:villages", rule.exclusionZone.otherSet);
         assertEquals(10, rule.exclusionZone.chunkCount);
     }
+
+    // ============================================================
+    // SPREAD_TYPES (custom distributions)
+    // ============================================================
+
+    @Test
+    @DisplayName("SpreadTypes: weights and curve definitions compile, placement can reference them")
+    void testSpreadTypes_ValidDefinitions() throws ConfigParser.ConfigParseException {
+        String json = """
+            {
+              intercept_structure_sets: ["minecraft:villages"],
+              structure_pool: [
+                { structure: "minecraft:village_plains", biomes: {"#minecraft:is_plains": 10} }
+              ],
+              spread_types: {
+                "Ring": { weights: [0, 1, 3, 1, 0, 1, 3, 1, 0] },
+                "diagonal": { weights: [[4, 1, 0], [1, 4, 1], [0, 1, 4]] },
+                "soft_center": { curve: "gaussian" }
+              },
+              placement: {
+                "minecraft:villages": {
+                  spreadType: "ring"
+                }
+              }
+            }
+            """;
+
+        ConfigState result = ConfigParser.parse(json);
+
+        assertTrue(result.validationWarnings.isEmpty(), "Unexpected warnings: " + result.validationWarnings);
+        assertEquals(3, result.spreadTypes.size());
+        assertNotNull(result.spreadTypes.get("ring"), "Names should be lowercased");
+        assertNotNull(result.spreadTypes.get("diagonal"));
+        assertNotNull(result.spreadTypes.get("soft_center"));
+        assertEquals("ring", result.placement.get("minecraft:villages").spreadType);
+    }
+
+    @Test
+    @DisplayName("SpreadTypes: invalid definitions are skipped with warnings")
+    void testSpreadTypes_InvalidDefinitions() throws ConfigParser.ConfigParseException {
+        String json = """
+            {
+              intercept_structure_sets: ["minecraft:villages"],
+              structure_pool: [
+                { structure: "minecraft:village_plains", biomes: {"#minecraft:is_plains": 10} }
+              ],
+              spread_types: {
+                "linear": { weights: [1, 2, 1] },
+                "zeros": { weights: [0, 0, 0] },
+                "negative": { weights: [1, -1] },
+                "ragged": { weights: [[1, 2], [1]] },
+                "bad_curve": { curve: "spiral" },
+                "empty": {}
+              },
+              placement: {
+                "minecraft:villages": {
+                  spreadType: "zeros"
+                }
+              }
+            }
+            """;
+
+        ConfigState result = ConfigParser.parse(json);
+
+        assertTrue(result.spreadTypes.isEmpty());
+        assertTrue(result.validationWarnings.stream().anyMatch(w -> w.contains("spread_types[linear]") && w.contains("built-in")));
+        assertTrue(result.validationWarnings.stream().anyMatch(w -> w.contains("spread_types[zeros]")));
+        assertTrue(result.validationWarnings.stream().anyMatch(w -> w.contains("spread_types[negative]")));
+        assertTrue(result.validationWarnings.stream().anyMatch(w -> w.contains("spread_types[ragged]")));
+        assertTrue(result.validationWarnings.stream().anyMatch(w -> w.contains("spread_types[bad_curve]")));
+        assertTrue(result.validationWarnings.stream().anyMatch(w -> w.contains("spread_types[empty]")));
+
+        // Reference to a skipped custom type falls back to inherited
+        assertNull(result.placement.get("minecraft:villages").spreadType);
+    }
 }
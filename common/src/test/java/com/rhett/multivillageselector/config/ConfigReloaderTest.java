@@ -0,0 +1,163 @@
+package com.rhett.multivillageselector.config;
+
+import com.rhett.multivillageselector.util.RegistryGeneration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for ConfigReloader (background reload pipeline).
+ * Worker and server-thread tasks are queued by a scripted host and run step by step.
+ */
+class ConfigReloaderTest {
+
+    @AfterEach
+    void tearDown() {
+        ConfigReloader.cancel();
+    }
+
+    @Test
+    @DisplayName("Prepared reload is committed on the server thread")
+    void testCommit() {
+        MVSConfig.PreparedReload reload = mock(MVSConfig.PreparedReload.class);
+        ScriptedHost host = new ScriptedHost();
+        host.prepared.add(() -> reload);
+        RecordingListener listener = new RecordingListener();
+
+        assertTrue(ConfigReloader.start(host, listener));
+        host.runWorker();
+        assertTrue(host.committed.isEmpty(), "Nothing is live before the server thread commits");
+
+        host.runServerTasks();
+        assertEquals(List.of(reload), host.committed);
+        assertEquals(List.of(reload), listener.applied);
+    }
+
+    @Test
+    @DisplayName("Tags reloaded while preparing: the older read is discarded, not committed")
+    void testGenerationRecheck() {
+        MVSConfig.PreparedReload stale = mock(MVSConfig.PreparedReload.class);
+        MVSConfig.PreparedReload fresh = mock(MVSConfig.PreparedReload.class);
+        ScriptedHost host = new ScriptedHost();
+        host.prepared.add(() -> {
+            RegistryGeneration.bump(); // Tag reload lands while the first read is in progress
+            return stale;
+        });
+        host.prepared.add(() -> fresh);
+        RecordingListener listener = new RecordingListener();
+
+        assertTrue(ConfigReloader.start(host, listener));
+        host.runWorker();
+        host.runServerTasks();
+
+        assertTrue(host.committed.isEmpty(), "Read against old tags must not be committed");
+        assertFalse(ConfigReloader.start(host, listener), "Reload is still running (preparing again)");
+        assertEquals(1, host.workers.size(), "A new read is started");
+
+        host.runWorker();
+        host.runServerTasks();
+        assertEquals(List.of(fresh), host.committed);
+        assertEquals(List.of(fresh), listener.applied);
+        assertTrue(listener.progress.stream().anyMatch(message -> message.contains("rediscovering")));
+    }
+
+    @Test
+    @DisplayName("One reload at a time; a failure releases the lock and keeps the config")
+    void testFailureReleases() {
+        ScriptedHost host = new ScriptedHost();
+        host.prepared.add(() -> {
+            throw new IllegalStateException("broken config");
+        });
+        RecordingListener listener = new RecordingListener();
+
+        assertTrue(ConfigReloader.start(host, listener));
+        assertFalse(ConfigReloader.start(host, listener), "Second start while running");
+
+        host.runWorker();
+        host.runServerTasks();
+        assertTrue(host.committed.isEmpty());
+        assertEquals(1, listener.failed.size());
+
+        host.prepared.add(() -> mock(MVSConfig.PreparedReload.class));
+        assertTrue(ConfigReloader.start(host, listener), "Released after the failure was reported");
+    }
+
+    // ============================================================
+    // HELPERS
+    // ============================================================
+
+    @FunctionalInterface
+    private interface Prepare {
+        MVSConfig.PreparedReload prepare() throws Exception;
+    }
+
+    /**
+     * Host whose threads are queues - the test decides when each task runs.
+     */
+    private static final class ScriptedHost implements ConfigReloader.Host {
+        final Deque<Prepare> prepared = new ArrayDeque<>();
+        final Deque<Runnable> workers = new ArrayDeque<>();
+        final Deque<Runnable> serverTasks = new ArrayDeque<>();
+        final List<MVSConfig.PreparedReload> committed = new ArrayList<>();
+
+        @Override
+        public MVSConfig.PreparedReload prepare(Consumer<String> progress) throws Exception {
+            return prepared.removeFirst().prepare();
+        }
+
+        @Override
+        public void commit(MVSConfig.PreparedReload reload) {
+            committed.add(reload);
+        }
+
+        @Override
+        public void execute(Runnable task) {
+            serverTasks.addLast(task);
+        }
+
+        @Override
+        public void startWorker(Runnable task) {
+            workers.addLast(task);
+        }
+
+        void runWorker() {
+            workers.removeFirst().run();
+        }
+
+        void runServerTasks() {
+            while (!serverTasks.isEmpty()) {
+                serverTasks.removeFirst().run();
+            }
+        }
+    }
+
+    private static final class RecordingListener implements ConfigReloader.Listener {
+        final List<String> progress = new ArrayList<>();
+        final List<MVSConfig.PreparedReload> applied = new ArrayList<>();
+        final List<Exception> failed = new ArrayList<>();
+
+        @Override
+        public void progress(String message) {
+            progress.add(message);
+        }
+
+        @Override
+        public void applied(MVSConfig.PreparedReload reload) {
+            applied.add(reload);
+        }
+
+        @Override
+        public void failed(Exception e) {
+            failed.add(e);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.rhett.multivillageselector.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.Watchable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for ConfigWatcher's debounce loop.
+ * The WatchService is scripted: each step hands out a key with events, or a poll timeout
+ * (the file stayed quiet for DEBOUNCE_MS). When the script runs out the service is closed.
+ */
+class ConfigWatcherTest {
+
+    private static final Path CONFIG = Path.of("multivillageselector.json5");
+
+    @Test
+    @DisplayName("A burst of writes reloads once, after the file is quiet")
+    void testBurstDebounced() {
+        ScriptedWatchService service = new ScriptedWatchService();
+        service.steps.add(key(CONFIG));          // take(): first write
+        service.steps.add(key(CONFIG, CONFIG));  // poll(): more writes within the debounce window
+        service.steps.add(key(CONFIG));
+        service.steps.add(null);                 // poll(): quiet for DEBOUNCE_MS
+        List<Integer> reloads = new ArrayList<>();
+
+        ConfigWatcher.watch(service, CONFIG, () -> {
+            reloads.add(service.log.size());
+            return true;
+        });
+
+        assertEquals(List.of(4), reloads, "Exactly one reload, at the quiet poll");
+        assertEquals(List.of("take", "poll", "poll", "poll", "take"), service.log);
+        assertTrue(service.timeouts.stream().allMatch(ms -> ms == ConfigWatcher.DEBOUNCE_MS));
+    }
+
+    @Test
+    @DisplayName("Other files in the directory are ignored")
+    void testOtherFilesIgnored() {
+        ScriptedWatchService service = new ScriptedWatchService();
+        service.steps.add(key(Path.of("other_mod.json")));
+        service.steps.add(key(Path.of("multivillageselector.json5.tmp")));
+        List<Integer> reloads = new ArrayList<>();
+
+        ConfigWatcher.watch(service, CONFIG, () -> {
+            reloads.add(service.log.size());
+            return true;
+        });
+
+        assertTrue(reloads.isEmpty());
+        assertEquals(List.of("take", "take", "take"), service.log, "Never waits for a debounce");
+    }
+
+    @Test
+    @DisplayName("A reload that is already running is retried after another quiet period")
+    void testBusyRetried() {
+        ScriptedWatchService service = new ScriptedWatchService();
+        service.steps.add(key(CONFIG));
+        service.steps.add(null); // quiet, but a reload is running
+        service.steps.add(null); // quiet again - retried
+        int[] attempts = {0};
+
+        ConfigWatcher.watch(service, CONFIG, () -> ++attempts[0] > 1);
+
+        assertEquals(2, attempts[0]);
+        assertEquals(List.of("take", "poll", "poll", "take"), service.log);
+    }
+
+    // ============================================================
+    // HELPERS
+    // ============================================================
+
+    private static WatchKey key(Path... files) {
+        List<WatchEvent<?>> events = new ArrayList<>();
+        for (Path file : files) {
+            events.add(new WatchEvent<Path>() {
+                @Override
+                public Kind<Path> kind() {
+                    return StandardWatchEventKinds.ENTRY_MODIFY;
+                }
+
+                @Override
+                public int count() {
+                    return 1;
+                }
+
+                @Override
+                public Path context() {
+                    return file;
+                }
+            });
+        }
+        return new WatchKey() {
+            @Override
+            public boolean isValid() {
+                return true;
+            }
+
+            @Override
+            public List<WatchEvent<?>> pollEvents() {
+                return events;
+            }
+
+            @Override
+            public boolean reset() {
+                return true;
+            }
+
+            @Override
+            public void cancel() {
+            }
+
+            @Override
+            public Watchable watchable() {
+                return null;
+            }
+        };
+    }
+
+    /**
+     * WatchService replaying scripted steps; closed once they run out.
+     */
+    private static final class ScriptedWatchService implements WatchService {
+        final List<WatchKey> steps = new ArrayList<>(); // null = poll timeout
+        final List<String> log = new ArrayList<>();
+        final List<Long> timeouts = new ArrayList<>();
+        private int next;
+
+        @Override
+        public WatchKey take() {
+            log.add("take");
+            return next();
+        }
+
+        @Override
+        public WatchKey poll(long timeout, TimeUnit unit) {
+            log.add("poll");
+            timeouts.add(unit.toMillis(timeout));
+            return next();
+        }
+
+        @Override
+        public WatchKey poll() {
+            log.add("poll");
+            return next();
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private WatchKey next() {
+            if (next >= steps.size()) {
+                throw new ClosedWatchServiceException();
+            }
+            return steps.get(next++);
+        }
+    }
+}
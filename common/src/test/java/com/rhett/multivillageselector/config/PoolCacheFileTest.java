@@ -0,0 +1,153 @@
+package com.rhett.multivillageselector.config;
+
+import com.rhett.multivillageselector.util.BiomeTagTable;
+import com.rhett.multivillageselector.util.BiomeWeights;
+import net.minecraft.resources.ResourceLocation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for PoolCacheFile (discovery results on disk, keyed by mods and registries).
+ */
+class PoolCacheFileTest {
+
+    private static final List<String> MODS = List.of("ctov@3.4.3", "minecraft@1.21.1");
+    private static final List<ResourceLocation> STRUCTURES = List.of(
+        ResourceLocation.parse("minecraft:village_plains"), ResourceLocation.parse("ctov:village_plains"));
+
+    @TempDir
+    Path dir;
+
+    private static BiomeTagTable table(String... extraTags) {
+        List<ResourceLocation> plainsTags = new ArrayList<>(List.of(ResourceLocation.parse("minecraft:is_plains")));
+        for (String tag : extraTags) {
+            plainsTags.add(ResourceLocation.parse(tag));
+        }
+        return BiomeTagTable.EMPTY
+            .with(ResourceLocation.parse("minecraft:plains"), plainsTags)
+            .with(ResourceLocation.parse("minecraft:desert"), List.of(ResourceLocation.parse("minecraft:is_desert")));
+    }
+
+    private static Map<MVSConfig.RawConfigEntry, List<MVSConfig.ConfiguredStructure>> entries(BiomeTagTable table) {
+        MVSConfig.RawConfigEntry villages = new MVSConfig.RawConfigEntry(false, "*:village_plains",
+            new LinkedHashMap<>(Map.of("#minecraft:is_plains", 10)), 12, "villages", new double[]{1.0, 0.5});
+        MVSConfig.RawConfigEntry empty = new MVSConfig.RawConfigEntry(true, null,
+            new LinkedHashMap<>(Map.of("#minecraft:is_desert", 3)));
+        MVSConfig.RawConfigEntry missing = new MVSConfig.RawConfigEntry(false, "bca:*",
+            new LinkedHashMap<>(Map.of("#*:*", 1)));
+
+        BiomeWeights plains = BiomeWeights.of(table, Map.of("minecraft:plains", 10, "#c:is_modded", 2));
+        BiomeWeights desert = BiomeWeights.of(table, Map.of("minecraft:desert", 3));
+
+        Map<MVSConfig.RawConfigEntry, List<MVSConfig.ConfiguredStructure>> entries = new LinkedHashMap<>();
+        entries.put(villages, List.of(
+            MVSConfig.ConfiguredStructure.compact(STRUCTURES.get(0), villages.biomes, plains, 12, "villages", villages.bandWeights),
+            MVSConfig.ConfiguredStructure.compact(STRUCTURES.get(1), villages.biomes, plains, 12, "villages", villages.bandWeights)));
+        entries.put(empty, List.of(MVSConfig.ConfiguredStructure.compactEmpty(empty.biomes, desert)));
+        entries.put(missing, List.of());
+        return entries;
+    }
+
+    @Test
+    @DisplayName("Round trip: same raw entries, structures and biome weights")
+    void testRoundTrip() throws Exception {
+        BiomeTagTable table = table();
+        Path file = dir.resolve("pool.cache");
+        byte[] key = PoolCacheFile.key(MODS, STRUCTURES, table);
+        Map<MVSConfig.RawConfigEntry, List<MVSConfig.ConfiguredStructure>> written = entries(table);
+        PoolCacheFile.write(file, key, written);
+
+        Map<MVSConfig.RawConfigEntry, List<MVSConfig.ConfiguredStructure>> read = PoolCacheFile.read(file, key, table);
+        assertNotNull(read);
+        assertEquals(written.keySet(), read.keySet());
+
+        for (Map.Entry<MVSConfig.RawConfigEntry, List<MVSConfig.ConfiguredStructure>> entry : written.entrySet()) {
+            List<MVSConfig.ConfiguredStructure> expected = entry.getValue();
+            List<MVSConfig.ConfiguredStructure> actual = read.get(entry.getKey());
+            assertEquals(expected.size(), actual.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i).structure, actual.get(i).structure);
+                assertEquals(expected.get(i).isEmpty, actual.get(i).isEmpty);
+                assertEquals(expected.get(i).biomes, actual.get(i).biomes);
+                assertEquals(expected.get(i)._biomes, actual.get(i)._biomes);
+                assertEquals(expected.get(i).minDistanceSame, actual.get(i).minDistanceSame);
+                assertEquals(expected.get(i).group, actual.get(i).group);
+                assertArrayEquals(expected.get(i).bandWeights, actual.get(i).bandWeights);
+            }
+        }
+
+        // Structures of one raw entry share one BiomeWeights, as after discovery
+        MVSConfig.RawConfigEntry villages = written.keySet().iterator().next();
+        assertSame(read.get(villages).get(0).getBiomeWeights(), read.get(villages).get(1).getBiomeWeights());
+    }
+
+    @Test
+    @DisplayName("Round trip: unresolved patterns and null weights are kept")
+    void testUnresolvedWeights() throws Exception {
+        BiomeTagTable table = table();
+        Map<String, Integer> biomes = new LinkedHashMap<>();
+        biomes.put("minecraft:plains", 10);
+        biomes.put("#c:is_modded", 2);
+        biomes.put("minecraft:desert", null);
+        MVSConfig.RawConfigEntry rawEntry = new MVSConfig.RawConfigEntry(false, "*:village_plains",
+            new LinkedHashMap<>(biomes), 0, null, null);
+        BiomeWeights weights = BiomeWeights.of(table, biomes);
+        assertEquals(2, weights.unresolved().size());
+
+        Path file = dir.resolve("pool.cache");
+        byte[] key = PoolCacheFile.key(MODS, STRUCTURES, table);
+        PoolCacheFile.write(file, key, Map.of(rawEntry, List.of(
+            MVSConfig.ConfiguredStructure.compact(STRUCTURES.get(0), rawEntry.biomes, weights, 0, null, null))));
+
+        Map<MVSConfig.RawConfigEntry, List<MVSConfig.ConfiguredStructure>> read = PoolCacheFile.read(file, key, table);
+        assertNotNull(read);
+        assertEquals(Set.of(rawEntry), read.keySet());
+        MVSConfig.ConfiguredStructure structure = read.get(rawEntry).get(0);
+        assertEquals(rawEntry.biomes, structure.biomes);
+        assertEquals(weights.unresolved(), structure.getBiomeWeights().unresolved());
+        assertEquals(weights.asMap(), structure.getBiomeWeights().asMap());
+    }
+
+    @Test
+    @DisplayName("Key changes with mods, structures and biome tags; a different key is a miss")
+    void testKeyMismatch() throws Exception {
+        BiomeTagTable table = table();
+        byte[] key = PoolCacheFile.key(MODS, STRUCTURES, table);
+        assertArrayEquals(key, PoolCacheFile.key(MODS, List.of(STRUCTURES.get(1), STRUCTURES.get(0)), table));
+
+        byte[] otherMods = PoolCacheFile.key(List.of("ctov@3.5.0", "minecraft@1.21.1"), STRUCTURES, table);
+        byte[] otherStructures = PoolCacheFile.key(MODS, STRUCTURES.subList(0, 1), table);
+        byte[] otherTags = PoolCacheFile.key(MODS, STRUCTURES, table("c:is_modded"));
+        assertFalse(Arrays.equals(key, otherMods));
+        assertFalse(Arrays.equals(key, otherStructures));
+        assertFalse(Arrays.equals(key, otherTags));
+
+        Path file = dir.resolve("pool.cache");
+        PoolCacheFile.write(file, key, entries(table));
+        assertNull(PoolCacheFile.read(file, otherTags, table("c:is_modded")));
+    }
+
+    @Test
+    @DisplayName("Missing or damaged file is a miss")
+    void testDamagedFile() throws Exception {
+        BiomeTagTable table = table();
+        byte[] key = PoolCacheFile.key(MODS, STRUCTURES, table);
+        Path file = dir.resolve("pool.cache");
+        assertNull(PoolCacheFile.read(file, key, table));
+
+        PoolCacheFile.write(file, key, entries(table));
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 7));
+        assertNull(PoolCacheFile.read(file, key, table));
+
+        Files.write(file, new byte[]{1, 2, 3});
+        assertNull(PoolCacheFile.read(file, key, table));
+    }
+}
@@ -0,0 +1,168 @@
+package com.rhett.multivillageselector.config;
+
+import com.rhett.multivillageselector.placement.SpreadDistribution;
+import com.rhett.multivillageselector.util.BiomeTagTable;
+import com.rhett.multivillageselector.util.PatternMatcher;
+import com.rhett.multivillageselector.util.RegistryGeneration;
+import net.minecraft.core.Holder;
+import net.minecraft.core.Registry;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.level.biome.Biome;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for RuntimeConfig (immutable compiled snapshot behind MVSConfig.runtime()).
+ */
+class RuntimeConfigTest {
+
+    // MVSConfig statics as they were before each test (restored afterwards)
+    private boolean savedEnabled;
+    private List<String> savedBlockStructureSets;
+    private List<MVSConfig.ConfiguredStructure> savedStructurePool;
+    private Map<String, PlacementRule> savedPlacement;
+    private Map<String, SpreadDistribution> savedSpreadTypes;
+    private Map<String, Integer> savedMinDistanceGroups;
+
+    @BeforeEach
+    void setUp() {
+        savedEnabled = MVSConfig.enabled;
+        savedBlockStructureSets = MVSConfig.blockStructureSets;
+        savedStructurePool = MVSConfig.structurePool;
+        savedPlacement = MVSConfig.placement;
+        savedSpreadTypes = MVSConfig.spreadTypes;
+        savedMinDistanceGroups = MVSConfig.minDistanceGroups;
+
+        MVSConfig.enabled = true;
+        MVSConfig.blockStructureSets = new ArrayList<>(List.of("minecraft:pillager_outposts"));
+        MVSConfig.structurePool = new ArrayList<>();
+        MVSConfig.placement = new LinkedHashMap<>();
+        MVSConfig.refreshRuntime();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MVSConfig.enabled = savedEnabled;
+        MVSConfig.blockStructureSets = savedBlockStructureSets;
+        MVSConfig.structurePool = savedStructurePool;
+        MVSConfig.placement = savedPlacement;
+        MVSConfig.spreadTypes = savedSpreadTypes;
+        MVSConfig.minDistanceGroups = savedMinDistanceGroups;
+        MVSConfig.refreshRuntime();
+    }
+
+    @Test
+    @DisplayName("Snapshot is reused until it is republished")
+    void testRecompileOnRefresh() {
+        RuntimeConfig first = MVSConfig.runtime();
+        assertSame(first, MVSConfig.runtime());
+        assertSame(first.selector(), MVSConfig.getSelector());
+
+        // Replacing a field alone doesn't swap the published snapshot
+        MVSConfig.structurePool = new ArrayList<>(List.of(createStructure("minecraft:village_plains")));
+        assertSame(first, MVSConfig.runtime());
+
+        RuntimeConfig second = MVSConfig.refreshRuntime();
+        assertNotSame(first, second);
+        assertSame(second, MVSConfig.runtime());
+        assertTrue(first.structurePool.isEmpty());
+        assertEquals(1, second.structurePool.size());
+
+        MVSConfig.enabled = false;
+        assertFalse(MVSConfig.refreshRuntime().enabled);
+        assertTrue(second.enabled);
+    }
+
+    @Test
+    @DisplayName("Snapshot copies are immutable and unaffected by later edits")
+    void testSnapshotIsolation() {
+        RuntimeConfig config = MVSConfig.runtime();
+        MVSConfig.blockStructureSets.add("minecraft:villages");
+
+        assertEquals(List.of("minecraft:pillager_outposts"), config.blockStructureSets);
+        assertThrows(UnsupportedOperationException.class, () -> config.blockStructureSets.add("minecraft:villages"));
+        assertThrows(UnsupportedOperationException.class, () -> config.placement.put("minecraft:villages", null));
+    }
+
+    @Test
+    @DisplayName("Distance groups and spread types are part of the snapshot")
+    void testGroupsAndSpreadTypes() {
+        MVSConfig.minDistanceGroups = new LinkedHashMap<>(Map.of("ctov", 24));
+        MVSConfig.spreadTypes = new LinkedHashMap<>();
+        RuntimeConfig config = MVSConfig.refreshRuntime();
+
+        MVSConfig.minDistanceGroups = new LinkedHashMap<>(Map.of("ctov", 40));
+        assertEquals(24, config.groupDistance("ctov"));
+        assertEquals(40, MVSConfig.refreshRuntime().groupDistance("ctov"));
+        assertEquals(0, config.groupDistance(null));
+        assertTrue(config.spreadTypes.isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> config.minDistanceGroups.put("other", 1));
+    }
+
+    @Test
+    @DisplayName("Placement resolves once per structure set")
+    void testPlacementCached() {
+        RuntimeConfig config = MVSConfig.runtime();
+        RuntimeConfig.Placement villages = config.placement("minecraft:villages", null);
+
+        assertSame(villages, config.placement("minecraft:villages", null));
+        assertNotNull(villages.strategy());
+    }
+
+    @Test
+    @DisplayName("Registry generation bump rebuilds the biome table for the next snapshot")
+    @SuppressWarnings("unchecked")
+    void testRegistryGeneration() {
+        // One biome whose tag a datapack /reload rebinds
+        String[] tag = {"minecraft:is_plains"};
+        Holder.Reference<Biome> plains = mock(Holder.Reference.class);
+        when(plains.key()).thenReturn(ResourceKey.create(Registries.BIOME, ResourceLocation.parse("minecraft:plains")));
+        when(plains.tags()).thenAnswer(invocation -> Stream.of(TagKey.create(Registries.BIOME, ResourceLocation.parse(tag[0]))));
+        Registry<Biome> biomes = mock(Registry.class);
+        when(biomes.size()).thenReturn(1);
+        when(biomes.getHolder(0)).thenReturn(Optional.of(plains));
+
+        try {
+            PatternMatcher.useBiomeRegistry(biomes);
+            BiomeTagTable table = PatternMatcher.getBiomeTable();
+            RuntimeConfig config = MVSConfig.refreshRuntime();
+            assertSame(table, config.sources().biomeTable());
+
+            // Same generation - tags are not read again
+            tag[0] = "c:is_modded";
+            PatternMatcher.useBiomeRegistry(biomes);
+            assertSame(table, PatternMatcher.getBiomeTable());
+            assertSame(config, MVSConfig.runtime());
+
+            RegistryGeneration.bump();
+            PatternMatcher.useBiomeRegistry(biomes);
+            BiomeTagTable rebuilt = PatternMatcher.getBiomeTable();
+            assertNotSame(table, rebuilt);
+            assertEquals(ResourceLocation.parse("c:is_modded"), rebuilt.getTag(rebuilt.getTagIds(0)[0]));
+            assertSame(config, MVSConfig.runtime());
+
+            RuntimeConfig next = MVSConfig.refreshRuntime();
+            assertNotSame(config, next);
+            assertSame(rebuilt, next.sources().biomeTable());
+        } finally {
+            PatternMatcher.clearCaches();
+            MVSConfig.refreshRuntime();
+        }
+    }
+
+    private static MVSConfig.ConfiguredStructure createStructure(String id) {
+        Map<String, Integer> biomes = Map.of("#minecraft:is_plains", 10);
+        return new MVSConfig.ConfiguredStructure(ResourceLocation.parse(id), biomes, biomes);
+    }
+}
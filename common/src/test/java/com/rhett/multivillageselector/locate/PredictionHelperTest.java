@@ -44,6 +44,7 @@ class PredictionHelperTest {
         // Setup MVSConfig with test structures
         MVSConfig.structurePool = new ArrayList<>();
         MVSConfig.enabled = true;
+        MVSConfig.refreshRuntime();
     }
 
     // ============================================================
@@ -273,6 +274,7 @@ class PredictionHelperTest {
             createStructure("minecraft:village_plains", Map.of("#minecraft:is_plains", 50)),
             createStructure("ctov:village_plains", Map.of("#minecraft:is_plains", 50))
         );
+        MVSConfig.refreshRuntime();
 
         List<ChunkPrediction> predictions = PredictionHelper.predictChunks(
             BlockPos.ZERO, TEST_SEED, vanillaPlacement, plainsSampler, 50);
@@ -296,6 +298,7 @@ class PredictionHelperTest {
         MVSConfig.structurePool = List.of(
             createStructure("minecraft:village_desert", Map.of("#minecraft:is_desert", 100))
         );
+        MVSConfig.refreshRuntime();
 
         // But we sample plains biome
         List<ChunkPrediction> predictions = PredictionHelper.predictChunks(
@@ -477,6 +480,7 @@ class PredictionHelperTest {
             createStructure("minecraft:village_plains", Map.of("#minecraft:is_plains", 100)),
             createStructure("minecraft:village_desert", Map.of("#minecraft:is_desert", 100))
         );
+        MVSConfig.refreshRuntime();
 
         // Alternating biome sampler
         BiomeSampler alternatingSampler = (x, y, z) -> {
@@ -508,6 +512,7 @@ class PredictionHelperTest {
         MVSConfig.structurePool = List.of(
             createStructure("minecraft:village_plains", Map.of("#minecraft:is_plains", 100))
         );
+        MVSConfig.refreshRuntime();
     }
 
     private MVSConfig.ConfiguredStructure createStructure(String id, Map<String, Integer> biomes) {
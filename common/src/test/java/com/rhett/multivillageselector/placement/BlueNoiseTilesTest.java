@@ -0,0 +1,122 @@
+package com.rhett.multivillageselector.placement;
+
+import com.rhett.multivillageselector.util.LocateHelper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for BlueNoiseTiles (BLUE_NOISE spread type).
+ * Neighboring cells must keep the Poisson-disk distance for any corner coloring.
+ */
+class BlueNoiseTilesTest {
+
+    private static final long SEED = 12345L;
+    private static final int SALT = 10387312;
+
+    @Test
+    @DisplayName("Tile set: every point keeps MIN_DISTANCE to every compatible neighbor")
+    void testTileSetValid() {
+        // Checks the precomputed table itself, not a sample of the world
+        for (int tile = 0; tile < BlueNoiseTiles.TILE_TYPES; tile++) {
+            for (int v = 0; v < BlueNoiseTiles.VARIANTS; v++) {
+                int point = tile * BlueNoiseTiles.VARIANTS + v;
+                double distance = BlueNoiseTiles.minNeighborDistance(tile,
+                    BlueNoiseTiles.pointX(point), BlueNoiseTiles.pointZ(point));
+                assertTrue(distance >= BlueNoiseTiles.MIN_DISTANCE,
+                    String.format("Tile %d variant %d only %.3f from a neighbor", tile, v, distance));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("World: adjacent placements never closer than MIN_DISTANCE cells")
+    void testWorldMinimumDistance() {
+        int size = 64;
+        int spacing = 1000;
+        double[][] x = new double[size][size];
+        double[][] z = new double[size][size];
+
+        for (int cx = 0; cx < size; cx++) {
+            for (int cz = 0; cz < size; cz++) {
+                int[] chunk = LocateHelper.calculatePlacementChunk(cx, cz, SEED, SALT, spacing, 0,
+                    LocateHelper.SpreadType.BLUE_NOISE);
+                x[cx][cz] = chunk[0] / (double) spacing;
+                z[cx][cz] = chunk[1] / (double) spacing;
+            }
+        }
+
+        // Allow for the floor to whole chunks
+        double limit = BlueNoiseTiles.MIN_DISTANCE - 2.0 / spacing;
+        for (int cx = 1; cx < size - 1; cx++) {
+            for (int cz = 1; cz < size - 1; cz++) {
+                for (int dx = -1; dx <= 1; dx++) {
+                    for (int dz = -1; dz <= 1; dz++) {
+                        if (dx == 0 && dz == 0) {
+                            continue;
+                        }
+                        double d = Math.hypot(x[cx + dx][cz + dz] - x[cx][cz], z[cx + dx][cz + dz] - z[cx][cz]);
+                        assertTrue(d >= limit, String.format("Cells [%d,%d] and [%d,%d] only %.3f apart",
+                            cx, cz, cx + dx, cz + dz, d));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("World: positions vary between cells (not a grid)")
+    void testNotAGrid() {
+        Set<String> offsets = new HashSet<>();
+        for (int cx = 0; cx < 32; cx++) {
+            for (int cz = 0; cz < 32; cz++) {
+                int[] chunk = LocateHelper.calculatePlacementChunk(cx, cz, SEED, SALT, 34, 8,
+                    LocateHelper.SpreadType.BLUE_NOISE);
+                offsets.add((chunk[0] - cx * 34) + "," + (chunk[1] - cz * 34));
+            }
+        }
+        assertTrue(offsets.size() > 20, "Expected many distinct in-cell offsets, got " + offsets.size());
+    }
+
+    @Test
+    @DisplayName("Corner colors are shared: same corner gives same color from any cell")
+    void testCornerColorDeterministic() {
+        for (int i = -50; i <= 50; i++) {
+            int a = BlueNoiseTiles.cornerColor(i, -i, SEED + SALT);
+            int b = BlueNoiseTiles.cornerColor(i, -i, SEED + SALT);
+            assertEquals(a, b);
+            assertTrue(a >= 0 && a < BlueNoiseTiles.COLORS);
+        }
+    }
+
+    @Test
+    @DisplayName("Offsets stay within [0, maxOffset), including tiny ranges")
+    void testOffsetsInBounds() {
+        int[] out = new int[2];
+        for (int maxOffset : new int[]{1, 2, 3, 26, 1000}) {
+            for (int cell = -100; cell <= 100; cell++) {
+                Random random = new Random(cell * 31L);
+                BlueNoiseTiles.sample(cell, cell * 3, SEED, SALT, random, maxOffset, out);
+                assertTrue(out[0] >= 0 && out[0] < maxOffset);
+                assertTrue(out[1] >= 0 && out[1] < maxOffset);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Placement chunk works through MVSRandomSpreadStructurePlacement's delegate path")
+    void testDelegatesThroughCanonicalPath() {
+        LocateHelper.RandomSpreadPlacement placement =
+            LocateHelper.RandomSpreadPlacement.withSpread(34, 8, SALT, LocateHelper.SpreadType.BLUE_NOISE);
+
+        for (int cell = -10; cell <= 10; cell++) {
+            int[] chunk = placement.getPlacementChunkForCell(cell, cell, SEED);
+            assertTrue(placement.isPlacementChunk(chunk[0], chunk[1], SEED), "Cell " + cell);
+        }
+    }
+}
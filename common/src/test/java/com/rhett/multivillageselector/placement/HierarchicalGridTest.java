@@ -0,0 +1,123 @@
+package com.rhett.multivillageselector.placement;
+
+import com.rhett.multivillageselector.util.LocateHelper;
+import net.minecraft.core.Vec3i;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for HierarchicalGrid (hierarchical_grid placement).
+ * Levels must follow the coarse function, placements must stay inside their level cell,
+ * and nearest-first iteration must match a brute-force scan of the variable grid.
+ */
+class HierarchicalGridTest {
+
+    private static final long SEED = 12345L;
+    private static final int SALT = 10387312;
+
+    private static final HierarchicalGrid DISTANCE_GRID = new HierarchicalGrid(
+        136, new int[]{17, 34, 68}, new int[]{4, 8, 16}, false, new int[]{150, 400});
+
+    private static final HierarchicalGrid HASH_GRID = new HierarchicalGrid(
+        136, new int[]{17, 34, 68}, new int[]{4, 8, 16}, true, new int[0]);
+
+    @Test
+    @DisplayName("Distance levels: chosen by super-cell center distance")
+    void testDistanceLevels() {
+        assertEquals(0, DISTANCE_GRID.level(0, 0, SEED, SALT));   // center 68,68
+        assertEquals(1, DISTANCE_GRID.level(1, 0, SEED, SALT));   // center 204,68 (~215)
+        assertEquals(2, DISTANCE_GRID.level(3, 0, SEED, SALT));   // center 476,68
+        assertEquals(2, DISTANCE_GRID.level(-4, -4, SEED, SALT));
+        assertEquals(DISTANCE_GRID.level(0, 0, SEED, SALT), DISTANCE_GRID.levelAt(135, 135, SEED, SALT));
+    }
+
+    @Test
+    @DisplayName("Hash levels: deterministic and all levels used")
+    void testHashLevels() {
+        Set<Integer> seen = new HashSet<>();
+        for (int x = -10; x <= 10; x++) {
+            for (int z = -10; z <= 10; z++) {
+                int level = HASH_GRID.level(x, z, SEED, SALT);
+                assertEquals(level, HASH_GRID.level(x, z, SEED, SALT));
+                seen.add(level);
+            }
+        }
+        assertEquals(Set.of(0, 1, 2), seen);
+    }
+
+    @Test
+    @DisplayName("Placement: inside its level cell, same as random_spread on that level")
+    void testPlacementWithinCell() {
+        for (int chunkX = -600; chunkX <= 600; chunkX += 7) {
+            for (int chunkZ = -600; chunkZ <= 600; chunkZ += 11) {
+                int level = HASH_GRID.levelAt(chunkX, chunkZ, SEED, SALT);
+                int spacing = HASH_GRID.getSpacing(level);
+                int[] chunk = HASH_GRID.placementChunk(chunkX, chunkZ, SEED, SALT, LocateHelper.SpreadType.LINEAR);
+
+                assertEquals(Math.floorDiv(chunkX, spacing), Math.floorDiv(chunk[0], spacing));
+                assertEquals(Math.floorDiv(chunkZ, spacing), Math.floorDiv(chunk[1], spacing));
+
+                int[] vanilla = LocateHelper.RandomSpreadPlacement
+                    .withSpread(spacing, HASH_GRID.getSeparation(level), SALT, LocateHelper.SpreadType.LINEAR)
+                    .getPlacementChunkForCell(Math.floorDiv(chunkX, spacing), Math.floorDiv(chunkZ, spacing), SEED);
+                assertArrayEquals(vanilla, chunk);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("iteratePlacements: matches brute force, sorted by distance from start")
+    void testNearestMatchesBruteForce() {
+        LocateHelper.HierarchicalGridPlacement placement = new LocateHelper.HierarchicalGridPlacement(
+            DISTANCE_GRID, SALT, LocateHelper.SpreadType.TRIANGULAR, Vec3i.ZERO);
+        int[][] starts = {{0, 0}, {150, -40}, {-400, 300}, {-1, -1}};
+
+        for (int[] start : starts) {
+            int radius = 250;
+            List<int[]> found = new ArrayList<>();
+            for (int[] chunk : placement.iteratePlacements(start[0], start[1], SEED, radius)) {
+                found.add(chunk);
+            }
+
+            int expected = 0;
+            for (int x = start[0] - radius; x <= start[0] + radius; x++) {
+                for (int z = start[1] - radius; z <= start[1] + radius; z++) {
+                    if (placement.isPlacementChunk(x, z, SEED)) {
+                        expected++;
+                    }
+                }
+            }
+            assertEquals(expected, found.size(), "Start " + start[0] + "," + start[1]);
+
+            long previous = -1;
+            for (int[] chunk : found) {
+                assertTrue(placement.isPlacementChunk(chunk[0], chunk[1], SEED));
+                long dx = chunk[0] - start[0];
+                long dz = chunk[1] - start[1];
+                long d = dx * dx + dz * dz;
+                assertTrue(d >= previous, "Not nearest-first");
+                previous = d;
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Invalid grids are rejected")
+    void testValidation() {
+        assertThrows(IllegalArgumentException.class, () ->
+            new HierarchicalGrid(100, new int[]{17}, new int[]{4}, false, new int[0]));
+        assertThrows(IllegalArgumentException.class, () ->
+            new HierarchicalGrid(68, new int[]{34, 68}, new int[]{8, 16}, false, new int[0]));
+        assertThrows(IllegalArgumentException.class, () ->
+            new HierarchicalGrid(68, new int[]{34}, new int[]{34}, true, new int[0]));
+        assertThrows(IllegalArgumentException.class, () ->
+            new HierarchicalGrid(136, new int[]{17, 34, 68}, new int[]{4, 8, 16}, false, new int[]{400, 150}));
+    }
+}
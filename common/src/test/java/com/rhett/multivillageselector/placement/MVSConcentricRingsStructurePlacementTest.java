@@ -0,0 +1,83 @@
+package com.rhett.multivillageselector.placement;
+
+import com.rhett.multivillageselector.util.LocateHelper;
+import net.minecraft.core.Vec3i;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.chunk.ChunkGeneratorStructureState;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for MVSConcentricRingsStructurePlacement.
+ * The positions /locate and compasses get must be exactly the chunks MVS generates at.
+ */
+class MVSConcentricRingsStructurePlacementTest {
+
+    private static final long SEED = 12345L;
+
+    @Test
+    @DisplayName("Locate positions match generation positions")
+    void testLocateMatchesGeneration() {
+        LocateHelper.ConcentricRingsPlacement rings = new LocateHelper.ConcentricRingsPlacement(32, 3, 128, Vec3i.ZERO);
+        MVSConcentricRingsStructurePlacement placement = new MVSConcentricRingsStructurePlacement(rings, 0);
+
+        // What getRingPositionsFor() answers (locate, compasses, Eyes of Ender)
+        List<ChunkPos> located = placement.getRingPositions(SEED);
+        assertEquals(128, located.size());
+
+        // Every located chunk is one the StructureInterceptor generates at...
+        Set<Long> locatedChunks = new HashSet<>();
+        for (ChunkPos pos : located) {
+            assertTrue(rings.isPlacementChunk(pos.x, pos.z, SEED), "Located " + pos + " is not generated");
+            locatedChunks.add(pos.toLong());
+        }
+
+        // ...and every generated chunk in the inner rings is located
+        int generated = 0;
+        for (int x = -400; x <= 400; x++) {
+            for (int z = -400; z <= 400; z++) {
+                if (rings.isPlacementChunk(x, z, SEED)) {
+                    generated++;
+                    assertTrue(locatedChunks.contains(ChunkPos.asLong(x, z)), "Generated [" + x + "," + z + "] not located");
+                }
+            }
+        }
+        assertTrue(generated > 0);
+    }
+
+    @Test
+    @DisplayName("Placement check uses the level seed's ring positions")
+    void testPlacementChunk() {
+        LocateHelper.ConcentricRingsPlacement rings = new LocateHelper.ConcentricRingsPlacement(16, 6, 64, Vec3i.ZERO);
+        MVSConcentricRingsStructurePlacement placement = new MVSConcentricRingsStructurePlacement(rings, 0);
+        ChunkGeneratorStructureState state = mock(ChunkGeneratorStructureState.class);
+        when(state.getLevelSeed()).thenReturn(SEED);
+
+        RingPositions positions = rings.getPositions(SEED);
+        for (ChunkPos pos : placement.getRingPositions(SEED)) {
+            assertTrue(placement.isPlacementChunk(state, pos.x, pos.z));
+            for (int dx = -1; dx <= 1; dx++) {
+                assertEquals(positions.contains(pos.x + dx, pos.z + 1),
+                    placement.isPlacementChunk(state, pos.x + dx, pos.z + 1));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Positions follow the seed")
+    void testSeedChange() {
+        LocateHelper.ConcentricRingsPlacement rings = new LocateHelper.ConcentricRingsPlacement(32, 3, 128, Vec3i.ZERO);
+        MVSConcentricRingsStructurePlacement placement = new MVSConcentricRingsStructurePlacement(rings, 0);
+
+        List<ChunkPos> first = placement.getRingPositions(SEED);
+        assertSame(first, placement.getRingPositions(SEED));
+        assertNotEquals(first, placement.getRingPositions(SEED + 1));
+    }
+}
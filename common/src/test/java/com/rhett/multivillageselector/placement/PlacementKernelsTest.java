@@ -0,0 +1,141 @@
+package com.rhett.multivillageselector.placement;
+
+import com.rhett.multivillageselector.util.LocateHelper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Test suite for PlacementKernels.
+ * Batch output (vectorized or scalar) must be bit-identical to LocateHelper.calculatePlacementChunk.
+ */
+class PlacementKernelsTest {
+
+    private static final long[] SEEDS = { 0L, 12345L, -4172144997902289642L, Long.MAX_VALUE, Long.MIN_VALUE };
+
+    // {spacing, separation} - includes power-of-two offsets (32-16=16, 12-4=8) and vanilla (34-8=26)
+    private static final int[][] SPACINGS = { {34, 8}, {32, 16}, {12, 4}, {60, 20}, {2, 1}, {100, 3} };
+
+    @Test
+    @DisplayName("Vector API is resolved in the test JVM")
+    void testVectorAvailable() {
+        // With -Pmvs_vector=true build.gradle adds the kernels and --add-modules jdk.incubator.vector
+        // to tests. Without them every comparison below only exercises the scalar path.
+        assumeTrue(Boolean.parseBoolean(System.getProperty("mvs.placement.vector", "true"))
+                && ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent(),
+            "jdk.incubator.vector not resolved in this JVM");
+        assertTrue(PlacementKernels.isVectorAvailable(),
+            "Vector kernels should be active when jdk.incubator.vector is resolved");
+    }
+
+    @Test
+    @DisplayName("Batch: bit-identical to calculatePlacementChunk for every spread type")
+    void testBatchMatchesScalar() {
+        Random random = new Random(42L);
+        int count = 1037; // Not a multiple of any lane count - exercises the tail
+        int[] cellX = new int[count];
+        int[] cellZ = new int[count];
+        for (int i = 0; i < count; i++) {
+            cellX[i] = random.nextInt(200_001) - 100_000;
+            cellZ[i] = random.nextInt(200_001) - 100_000;
+        }
+        // Edge cells
+        cellX[0] = 0;                 cellZ[0] = 0;
+        cellX[1] = -1;                cellZ[1] = -1;
+        cellX[2] = Integer.MAX_VALUE; cellZ[2] = Integer.MIN_VALUE;
+
+        for (LocateHelper.SpreadType spreadType : LocateHelper.SpreadType.values()) {
+            for (long seed : SEEDS) {
+                for (int[] spacing : SPACINGS) {
+                    assertBatchMatches(cellX, cellZ, count, seed, 10387312, spacing[0], spacing[1], spreadType);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Batch: bit-identical for large offsets where nextInt may reject")
+    void testBatchMatchesScalarLargeBound() {
+        // Rejection probability grows with bound; a huge bound makes it likely to occur in-sample
+        int count = 4096;
+        int[] cellX = new int[count];
+        int[] cellZ = new int[count];
+        for (int i = 0; i < count; i++) {
+            cellX[i] = i - count / 2;
+            cellZ[i] = (i * 7) - count;
+        }
+
+        int spacing = 1_500_000_000;
+        int separation = 1;
+        for (LocateHelper.SpreadType spreadType : LocateHelper.SpreadType.values()) {
+            assertBatchMatches(cellX, cellZ, count, 98765L, 14357617, spacing, separation, spreadType);
+        }
+    }
+
+    @Test
+    @DisplayName("Batch: small counts below lane width")
+    void testBatchSmallCounts() {
+        for (int count = 0; count <= 9; count++) {
+            int[] cellX = new int[count];
+            int[] cellZ = new int[count];
+            for (int i = 0; i < count; i++) {
+                cellX[i] = i * 3 - 5;
+                cellZ[i] = -i;
+            }
+            assertBatchMatches(cellX, cellZ, count, 12345L, 10387312, 34, 8, LocateHelper.SpreadType.LINEAR);
+        }
+    }
+
+    @Test
+    @DisplayName("iteratePlacements: spiral order preserved with batched rings")
+    void testIteratePlacementsSpiralOrder() {
+        LocateHelper.RandomSpreadPlacement placement =
+            LocateHelper.RandomSpreadPlacement.withSpread(34, 8, 10387312, LocateHelper.SpreadType.TRIANGULAR);
+        long seed = 12345L;
+
+        // Expected: center, then ring 1 clockwise starting at the north-west corner
+        int[][] expectedCells = {
+            {0, 0},
+            {-1, -1}, {0, -1}, {1, -1},
+            {1, 0}, {1, 1},
+            {0, 1}, {-1, 1},
+            {-1, 0}
+        };
+
+        List<int[]> actual = new ArrayList<>();
+        for (int[] chunk : placement.iteratePlacements(0, 0, seed, 34)) {
+            actual.add(chunk);
+        }
+
+        // maxRadius 34 chunks → maxCellRadius 2 → 1 + 8 + 16 cells
+        assertEquals(25, actual.size());
+        for (int i = 0; i < expectedCells.length; i++) {
+            int[] expected = placement.getPlacementChunkForCell(expectedCells[i][0], expectedCells[i][1], seed);
+            assertArrayEquals(expected, actual.get(i), "Spiral position " + i);
+        }
+    }
+
+    private static void assertBatchMatches(int[] cellX, int[] cellZ, int count, long seed, int salt,
+                                           int spacing, int separation, LocateHelper.SpreadType spreadType) {
+        int[] outX = new int[count];
+        int[] outZ = new int[count];
+        PlacementKernels.calculatePlacementChunks(cellX, cellZ, count, seed, salt,
+            spacing, separation, spreadType, outX, outZ);
+
+        for (int i = 0; i < count; i++) {
+            int[] expected = LocateHelper.calculatePlacementChunk(
+                cellX[i], cellZ[i], seed, salt, spacing, separation, spreadType);
+            if (expected[0] != outX[i] || expected[1] != outZ[i]) {
+                fail(String.format("%s seed=%d spacing=%d/%d cell[%d,%d]: expected [%d,%d] got [%d,%d]",
+                    spreadType, seed, spacing, separation, cellX[i], cellZ[i],
+                    expected[0], expected[1], outX[i], outZ[i]));
+            }
+        }
+    }
+}
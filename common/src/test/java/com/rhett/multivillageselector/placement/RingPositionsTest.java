@@ -0,0 +1,169 @@
+package com.rhett.multivillageselector.placement;
+
+import com.rhett.multivillageselector.util.LocateHelper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for RingPositions (concentric_rings placement).
+ * Ring layouts must be deterministic, follow vanilla's ring structure, and answer
+ * membership and nearest-first queries consistently with the precomputed positions.
+ */
+class RingPositionsTest {
+
+    private static final long SEED = 12345L;
+
+    @Test
+    @DisplayName("Vanilla layout: same seed gives same positions")
+    void testDeterministic() {
+        RingPositions first = RingPositions.vanilla(SEED, 32, 3, 128);
+        RingPositions second = RingPositions.vanilla(SEED, 32, 3, 128);
+
+        assertEquals(128, first.size());
+        for (int i = 0; i < first.size(); i++) {
+            assertEquals(first.getX(i), second.getX(i));
+            assertEquals(first.getZ(i), second.getZ(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Vanilla layout: stronghold rings at vanilla distances")
+    void testVanillaRingStructure() {
+        RingPositions positions = RingPositions.vanilla(SEED, 32, 3, 128);
+
+        // Sorted by origin distance, so the first 3 are the first ring: 4*32 +- 1.25*32 chunks
+        for (int i = 0; i < 3; i++) {
+            double d = Math.hypot(positions.getX(i), positions.getZ(i));
+            assertTrue(d >= 88 && d <= 168, "First ring position " + i + " at " + d);
+        }
+        // The 4th is on the second ring: 10*32 +- 1.25*32 chunks
+        double fourth = Math.hypot(positions.getX(3), positions.getZ(3));
+        assertTrue(fourth >= 280 && fourth <= 360, "Second ring position at " + fourth);
+    }
+
+    @Test
+    @DisplayName("Different seeds give different layouts")
+    void testSeedChangesLayout() {
+        RingPositions a = RingPositions.vanilla(SEED, 32, 3, 128);
+        RingPositions b = RingPositions.vanilla(SEED + 1, 32, 3, 128);
+
+        boolean differs = false;
+        for (int i = 0; i < a.size() && !differs; i++) {
+            differs = a.getX(i) != b.getX(i) || a.getZ(i) != b.getZ(i);
+        }
+        assertTrue(differs);
+    }
+
+    @Test
+    @DisplayName("contains: true for every position, false elsewhere")
+    void testContains() {
+        RingPositions positions = RingPositions.vanilla(SEED, 16, 6, 200);
+
+        for (int i = 0; i < positions.size(); i++) {
+            assertTrue(positions.contains(positions.getX(i), positions.getZ(i)), "Position " + i);
+        }
+
+        int hits = 0;
+        for (int x = -200; x <= 200; x++) {
+            for (int z = -200; z <= 200; z++) {
+                if (positions.contains(x, z)) {
+                    hits++;
+                }
+            }
+        }
+        assertEquals(countWithin(positions, 200), hits);
+    }
+
+    @Test
+    @DisplayName("nearest: matches brute force, sorted by distance from start")
+    void testNearestMatchesBruteForce() {
+        RingPositions positions = RingPositions.vanilla(SEED, 16, 6, 300);
+        int[][] starts = {{0, 0}, {150, -40}, {-400, 300}, {900, 900}};
+
+        for (int[] start : starts) {
+            for (int radius : new int[]{50, 200, 600}) {
+                List<int[]> nearest = positions.nearest(start[0], start[1], radius);
+
+                List<int[]> expected = new ArrayList<>();
+                for (int i = 0; i < positions.size(); i++) {
+                    if (Math.abs(positions.getX(i) - start[0]) <= radius
+                            && Math.abs(positions.getZ(i) - start[1]) <= radius) {
+                        expected.add(new int[]{positions.getX(i), positions.getZ(i)});
+                    }
+                }
+                assertEquals(expected.size(), nearest.size(), "Start " + start[0] + "," + start[1] + " radius " + radius);
+
+                long previous = -1;
+                for (int[] pos : nearest) {
+                    long dx = pos[0] - start[0];
+                    long dz = pos[1] - start[1];
+                    long d = dx * dx + dz * dz;
+                    assertTrue(d >= previous, "Not nearest-first");
+                    previous = d;
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("ConcentricRingsPlacement: iteratePlacements yields placement chunks")
+    void testStrategyConsistent() {
+        LocateHelper.ConcentricRingsPlacement placement = LocateHelper.ConcentricRingsPlacement.strongholdDefaults();
+
+        int found = 0;
+        for (int[] chunk : placement.iteratePlacements(0, 0, SEED, 2000)) {
+            assertTrue(placement.isPlacementChunk(chunk[0], chunk[1], SEED));
+            found++;
+        }
+        assertEquals(128, found, "All strongholds are within 2000 chunks");
+    }
+
+    @Test
+    @DisplayName("Async cache: same layout shares one computation")
+    void testAsyncCacheShared() {
+        var first = RingPositions.vanillaAsync(SEED, 20, 4, 50);
+        var second = RingPositions.vanillaAsync(SEED, 20, 4, 50);
+
+        assertSame(first, second);
+        assertEquals(50, first.join().size());
+    }
+
+    @Test
+    @DisplayName("Async cache: a failed computation is not kept")
+    void testAsyncCacheDropsFailure() {
+        // Negative count fails while allocating the position arrays
+        var failed = RingPositions.vanillaAsync(SEED, 20, 4, -1);
+        assertThrows(CompletionException.class, failed::join);
+
+        var retried = RingPositions.vanillaAsync(SEED, 20, 4, -1);
+        assertNotSame(failed, retried);
+        assertThrows(CompletionException.class, retried::join);
+    }
+
+    @Test
+    @DisplayName("Strategy keeps the positions of the last seed")
+    void testStrategyKeepsPositions() {
+        LocateHelper.ConcentricRingsPlacement placement = new LocateHelper.ConcentricRingsPlacement(20, 4, 50, null);
+        RingPositions positions = placement.getPositions(SEED);
+
+        assertSame(positions, placement.getPositions(SEED));
+        assertNotSame(positions, placement.getPositions(SEED + 1));
+        assertSame(RingPositions.vanillaAsync(SEED, 20, 4, 50).join(), placement.getPositions(SEED));
+    }
+
+    private static int countWithin(RingPositions positions, int radius) {
+        int n = 0;
+        for (int i = 0; i < positions.size(); i++) {
+            if (Math.abs(positions.getX(i)) <= radius && Math.abs(positions.getZ(i)) <= radius) {
+                n++;
+            }
+        }
+        return n;
+    }
+}
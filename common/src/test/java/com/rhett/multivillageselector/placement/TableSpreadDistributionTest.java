@@ -0,0 +1,157 @@
+package com.rhett.multivillageselector.placement;
+
+import com.rhett.multivillageselector.util.AliasTable;
+import com.rhett.multivillageselector.util.LocateHelper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for TableSpreadDistribution and AliasTable.
+ * Custom spread distributions must stay in bounds, be deterministic, and follow their weights.
+ */
+class TableSpreadDistributionTest {
+
+    private static final int SAMPLES = 50_000;
+
+    @Test
+    @DisplayName("AliasTable: encoded probabilities match normalized weights")
+    void testAliasTableProbabilities() {
+        double[] weights = {1, 2, 3, 0, 4};
+        AliasTable table = AliasTable.build(weights);
+
+        for (int i = 0; i < weights.length; i++) {
+            assertEquals(weights[i] / 10.0, table.probability(i), 1e-6, "Outcome " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("AliasTable: zero-weight outcomes are never sampled")
+    void testAliasTableZeroWeight() {
+        AliasTable table = AliasTable.build(new double[]{0, 5, 0, 5});
+        Random random = new Random(42L);
+        for (int i = 0; i < SAMPLES; i++) {
+            int outcome = table.sample(random);
+            assertTrue(outcome == 1 || outcome == 3, "Sampled zero-weight outcome " + outcome);
+        }
+    }
+
+    @Test
+    @DisplayName("AliasTable: rejects invalid weights")
+    void testAliasTableInvalidWeights() {
+        assertThrows(IllegalArgumentException.class, () -> AliasTable.build(new double[0]));
+        assertThrows(IllegalArgumentException.class, () -> AliasTable.build(new double[]{0, 0}));
+        assertThrows(IllegalArgumentException.class, () -> AliasTable.build(new double[]{1, -1}));
+        assertThrows(IllegalArgumentException.class, () -> AliasTable.build(new double[]{1, Double.NaN}));
+    }
+
+    @Test
+    @DisplayName("Offsets stay within [0, maxOffset) for every shape and range")
+    void testOffsetsInBounds() {
+        SpreadDistribution[] distributions = {
+            TableSpreadDistribution.separable("peak", new double[]{0, 1, 0}),
+            TableSpreadDistribution.joint("corner", new double[][]{{1, 0}, {0, 0}}),
+            TableSpreadDistribution.curve("gauss", "gaussian"),
+            TableSpreadDistribution.curve("edge", "edge")
+        };
+        int[] out = new int[2];
+
+        for (SpreadDistribution distribution : distributions) {
+            for (int maxOffset : new int[]{1, 2, 26, 1000}) {
+                Random random = new Random(7L);
+                for (int i = 0; i < 5_000; i++) {
+                    distribution.sample(random, maxOffset, out);
+                    assertTrue(out[0] >= 0 && out[0] < maxOffset, distribution + " X out of range for " + maxOffset);
+                    assertTrue(out[1] >= 0 && out[1] < maxOffset, distribution + " Z out of range for " + maxOffset);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Same cell seed gives the same placement")
+    void testDeterministic() {
+        SpreadDistribution distribution = TableSpreadDistribution.curve("ring", "ring");
+
+        for (int cell = -20; cell <= 20; cell++) {
+            int[] first = LocateHelper.calculatePlacementChunk(cell, -cell, 12345L, 10387312, 34, 8, distribution);
+            int[] second = LocateHelper.calculatePlacementChunk(cell, -cell, 12345L, 10387312, 34, 8, distribution);
+            assertArrayEquals(first, second, "Cell " + cell);
+        }
+    }
+
+    @Test
+    @DisplayName("Separable weights: samples follow the weight curve")
+    void testSeparableFollowsWeights() {
+        // Mass only in the last quarter of the range
+        SpreadDistribution distribution = TableSpreadDistribution.separable("far", new double[]{0, 0, 0, 1});
+        Random random = new Random(1L);
+        int[] out = new int[2];
+        int maxOffset = 100;
+
+        for (int i = 0; i < SAMPLES; i++) {
+            distribution.sample(random, maxOffset, out);
+            // Interpolation ramps up from the 3rd point - nothing before the halfway mark
+            assertTrue(out[0] >= maxOffset / 2, "X offset " + out[0] + " below ramp");
+            assertTrue(out[1] >= maxOffset / 2, "Z offset " + out[1] + " below ramp");
+        }
+    }
+
+    @Test
+    @DisplayName("Joint weights: samples follow the 2D grid (rows = Z, columns = X)")
+    void testJointFollowsGrid() {
+        // Only the north-east quadrant (low Z, high X)
+        SpreadDistribution distribution = TableSpreadDistribution.joint("ne", new double[][]{
+            {0, 0, 1, 1},
+            {0, 0, 1, 1},
+            {0, 0, 0, 0},
+            {0, 0, 0, 0}
+        });
+        Random random = new Random(2L);
+        int[] out = new int[2];
+        int maxOffset = 64;
+
+        for (int i = 0; i < SAMPLES; i++) {
+            distribution.sample(random, maxOffset, out);
+            assertTrue(out[0] >= maxOffset / 4, "X offset " + out[0] + " should be east");
+            assertTrue(out[1] < maxOffset * 3 / 4, "Z offset " + out[1] + " should be north");
+        }
+    }
+
+    @Test
+    @DisplayName("Curve gaussian: centered like the GAUSSIAN spread type")
+    void testGaussianCurveCentered() {
+        SpreadDistribution distribution = TableSpreadDistribution.curve("gauss", "gaussian");
+        Random random = new Random(3L);
+        int[] out = new int[2];
+        int maxOffset = 26;
+        int central = 0;
+
+        for (int i = 0; i < SAMPLES; i++) {
+            distribution.sample(random, maxOffset, out);
+            if (Math.abs(out[0] - maxOffset / 2) <= maxOffset / 6) {
+                central++;
+            }
+        }
+
+        // ~68% within one sigma; allow for discretization
+        double fraction = (double) central / SAMPLES;
+        assertTrue(fraction > 0.6 && fraction < 0.8, "Fraction within one sigma: " + fraction);
+    }
+
+    @Test
+    @DisplayName("Built-in spread types are SpreadDistribution instances")
+    void testBuiltInsAreDistributions() {
+        for (LocateHelper.SpreadType spreadType : LocateHelper.SpreadType.values()) {
+            SpreadDistribution distribution = spreadType;
+            int[] out = new int[2];
+            distribution.sample(new Random(99L), 26, out);
+            assertTrue(out[0] >= 0 && out[0] < 26, spreadType + " X out of range");
+            assertTrue(out[1] >= 0 && out[1] < 26, spreadType + " Z out of range");
+            assertEquals(spreadType.name(), distribution.name());
+        }
+    }
+}
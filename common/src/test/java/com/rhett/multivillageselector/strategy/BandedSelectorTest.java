@@ -0,0 +1,226 @@
+package com.rhett.multivillageselector.strategy;
+
+import com.rhett.multivillageselector.config.MVSConfig;
+import com.rhett.multivillageselector.util.BiomeTagTable;
+import net.minecraft.core.Holder;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.level.biome.Biome;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for BandedSelector (compiled selection with distance bands).
+ * Without bands it must draw exactly like StructurePicker; with bands the
+ * band weights and per-band frequencies must apply by origin distance.
+ */
+class BandedSelectorTest {
+
+    private Holder<Biome> plains;
+    private List<MVSConfig.ConfiguredStructure> pool;
+
+    @BeforeEach
+    void setUp() {
+        plains = createMockBiome("minecraft:plains", "#minecraft:is_plains");
+        pool = List.of(
+            createStructure("minecraft:village_plains", Map.of("#minecraft:is_plains", 10), null),
+            createStructure("minecraft:village_desert", Map.of("#minecraft:is_desert", 10), null),
+            createStructure("minecraft:village_taiga", Map.of("#minecraft:is_plains", 3), null),
+            createStructure("ctov:small/village_plains", Map.of("minecraft:plains", 7), null)
+        );
+    }
+
+    @Test
+    @DisplayName("No bands: same draws as StructurePicker")
+    void testMatchesStructurePicker() {
+        BandedSelector selector = BandedSelector.compile(pool, new int[0], Map.of(), Map.of());
+        StructurePicker picker = new StructurePicker(pool);
+
+        for (long seed = 0; seed < 500; seed++) {
+            MVSConfig.ConfiguredStructure expected = picker.select(new Random(seed), plains);
+            MVSConfig.ConfiguredStructure actual = selector.select(new Random(seed), plains, 0);
+            assertSame(expected, actual, "Seed " + seed);
+        }
+    }
+
+    @Test
+    @DisplayName("band: boundaries are exclusive upper bounds in chunks")
+    void testBandBoundaries() {
+        BandedSelector selector = BandedSelector.compile(pool, new int[]{64, 192}, Map.of(), Map.of());
+
+        assertEquals(3, selector.getBandCount());
+        assertEquals(0, selector.band(0, 0));
+        assertEquals(0, selector.band(63, 0));
+        assertEquals(1, selector.band(64, 0));
+        assertEquals(1, selector.band(0, -191));
+        assertEquals(1, selector.band(135, 135)); // ~190.9 chunks
+        assertEquals(2, selector.band(136, 136)); // ~192.3 chunks
+        assertEquals(2, selector.band(-1_000_000, 1_000_000));
+    }
+
+    @Test
+    @DisplayName("band_weights: zero multiplier removes an entry from that band")
+    void testBandWeights() {
+        MVSConfig.ConfiguredStructure near = createStructure("minecraft:village_plains",
+            Map.of("#minecraft:is_plains", 10), new double[]{1.0, 0.0});
+        MVSConfig.ConfiguredStructure far = createStructure("ctov:large/village_plains",
+            Map.of("#minecraft:is_plains", 10), new double[]{0.0, 1.0});
+        BandedSelector selector = BandedSelector.compile(List.of(near, far), new int[]{100}, Map.of(), Map.of());
+
+        for (long seed = 0; seed < 100; seed++) {
+            assertSame(near, selector.select(new Random(seed), plains, 0));
+            assertSame(far, selector.select(new Random(seed), plains, 1));
+        }
+    }
+
+    @Test
+    @DisplayName("bandWeight: scales and never rounds a positive weight to zero")
+    void testBandWeightRounding() {
+        MVSConfig.ConfiguredStructure entry = createStructure("minecraft:village_plains",
+            Map.of("#minecraft:is_plains", 10), new double[]{0.01, 2.5, 0.0});
+
+        assertEquals(1, BandedSelector.bandWeight(10, entry, 0));
+        assertEquals(25, BandedSelector.bandWeight(10, entry, 1));
+        assertEquals(0, BandedSelector.bandWeight(10, entry, 2));
+        assertEquals(0, BandedSelector.bandWeight(0, entry, 1), "No biome match stays 0");
+    }
+
+    @Test
+    @DisplayName("band_weights: weights summing past int range are scaled, not overflowed")
+    void testLargeBandWeights() {
+        // 1.5e9 + 1.0e9 + 10 > Integer.MAX_VALUE in the far band
+        MVSConfig.ConfiguredStructure large = createStructure("minecraft:village_plains",
+            Map.of("#minecraft:is_plains", 10), new double[]{1.0, 1.5e8});
+        MVSConfig.ConfiguredStructure medium = createStructure("ctov:large/village_plains",
+            Map.of("#minecraft:is_plains", 10), new double[]{1.0, 1.0e8});
+        MVSConfig.ConfiguredStructure small = createStructure("ctov:small/village_plains",
+            Map.of("#minecraft:is_plains", 10), null);
+        BandedSelector selector = BandedSelector.compile(List.of(large, medium, small), new int[]{100}, Map.of(), Map.of());
+
+        int draws = 10_000;
+        int largeCount = 0;
+        for (long seed = 0; seed < draws; seed++) {
+            MVSConfig.ConfiguredStructure selected = selector.select(new Random(seed), plains, 1);
+            assertNotNull(selected);
+            if (selected == large) {
+                largeCount++;
+            }
+        }
+        // Ratio between the entries is kept (3:2)
+        assertEquals(0.6, largeCount / (double) draws, 0.03);
+    }
+
+    @Test
+    @DisplayName("Frequency: per-band values override scalar patterns")
+    void testFrequencyBands() {
+        Map<String, Double> frequency = new LinkedHashMap<>();
+        frequency.put("#*:*", 0.8);
+        frequency.put("#minecraft:is_plains", 1.0);
+        Map<String, double[]> frequencyBands = Map.of("#minecraft:is_plains", new double[]{1.0, 0.5, 0.25});
+
+        BandedSelector selector = BandedSelector.compile(pool, new int[]{64, 192}, frequency, frequencyBands);
+
+        assertTrue(selector.hasFrequency());
+        assertEquals(1.0, selector.frequency(plains, 0), 1e-9);
+        assertEquals(0.5, selector.frequency(plains, 1), 1e-9);
+        assertEquals(0.25, selector.frequency(plains, 2), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Frequency: flattened per-biome table equals pattern lookup")
+    void testFrequencyTable() {
+        Holder<Biome> desert = createMockBiome("minecraft:desert", "#minecraft:is_desert");
+        BiomeTagTable table = BiomeTagTable.EMPTY
+            .with(ResourceLocation.parse("minecraft:plains"), List.of(ResourceLocation.parse("minecraft:is_plains")))
+            .with(ResourceLocation.parse("minecraft:desert"), List.of(ResourceLocation.parse("minecraft:is_desert")));
+
+        Map<String, Double> frequency = new LinkedHashMap<>();
+        frequency.put("#*:*", 0.8);
+        frequency.put("minecraft:plains", 0.3);
+        Map<String, double[]> frequencyBands = Map.of("#minecraft:is_desert", new double[]{0.6, 0.1});
+
+        BandedSelector flattened = BandedSelector.compile(pool, new int[]{64}, frequency, frequencyBands, table);
+        BandedSelector patterns = BandedSelector.compile(pool, new int[]{64}, frequency, frequencyBands, BiomeTagTable.EMPTY);
+
+        for (int band = 0; band < 2; band++) {
+            assertEquals(patterns.frequency(plains, band), flattened.frequency(plains, band), 1e-9);
+            assertEquals(patterns.frequency(desert, band), flattened.frequency(desert, band), 1e-9);
+        }
+        assertEquals(0.3, flattened.frequency(plains, 1), 1e-9);
+        assertEquals(0.1, flattened.frequency(desert, 1), 1e-9);
+        assertSame(table, flattened.getBiomeTable());
+    }
+
+    @Test
+    @DisplayName("Pruning: never-drawable entries are left out, draws unchanged")
+    void testPruning() {
+        MVSConfig.ConfiguredStructure zeroWeight = createStructure("minecraft:village_snowy",
+            Map.of("#minecraft:is_plains", 0), null);
+        MVSConfig.ConfiguredStructure noBand = createStructure("ctov:large/village_plains",
+            Map.of("#minecraft:is_plains", 10), new double[]{0.0, 0.0});
+        List<MVSConfig.ConfiguredStructure> withDead = new ArrayList<>(pool);
+        withDead.add(1, zeroWeight);
+        withDead.add(noBand);
+
+        BandedSelector selector = BandedSelector.compile(withDead, new int[]{100}, Map.of(), Map.of());
+        BandedSelector reference = BandedSelector.compile(pool, new int[]{100}, Map.of(), Map.of());
+
+        assertEquals(pool, selector.getPool());
+        assertEquals(List.of(zeroWeight, noBand), selector.getPrunedEntries());
+        for (long seed = 0; seed < 200; seed++) {
+            for (int band = 0; band < 2; band++) {
+                assertSame(reference.select(new Random(seed), plains, band), selector.select(new Random(seed), plains, band));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("No match: returns null")
+    void testNoMatch() {
+        Holder<Biome> ocean = createMockBiome("minecraft:ocean", "#minecraft:is_ocean");
+        BandedSelector selector = BandedSelector.compile(pool, new int[0], Map.of(), Map.of());
+
+        assertNull(selector.select(new Random(1), ocean, 0));
+        assertFalse(selector.hasFrequency());
+        assertTrue(selector.rollFrequency(new Random(1), ocean, 0));
+    }
+
+    // ============================================================
+    // HELPERS
+    // ============================================================
+
+    private MVSConfig.ConfiguredStructure createStructure(String id, Map<String, Integer> biomes, double[] bandWeights) {
+        Map<String, Integer> biomeMap = new LinkedHashMap<>(biomes);
+        return new MVSConfig.ConfiguredStructure(ResourceLocation.parse(id), biomeMap, biomeMap, 0, null, bandWeights);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Holder<Biome> createMockBiome(String biomeId, String... tags) {
+        Holder<Biome> holder = mock(Holder.class);
+        ResourceKey<Biome> key = ResourceKey.create(
+            net.minecraft.core.registries.Registries.BIOME,
+            ResourceLocation.parse(biomeId)
+        );
+        when(holder.unwrapKey()).thenReturn(Optional.of(key));
+        when(holder.tags()).thenAnswer(invocation ->
+            Stream.of(tags)
+                .map(tagId -> (TagKey<Biome>) TagKey.create(
+                    net.minecraft.core.registries.Registries.BIOME,
+                    ResourceLocation.parse(tagId.substring(1))
+                ))
+        );
+        when(holder.is(any(TagKey.class))).thenAnswer(invocation -> {
+            TagKey<Biome> tag = invocation.getArgument(0);
+            return Stream.of(tags).anyMatch(t -> t.substring(1).equals(tag.location().toString()));
+        });
+        return holder;
+    }
+}
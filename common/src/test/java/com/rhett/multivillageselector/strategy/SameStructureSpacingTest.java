@@ -0,0 +1,262 @@
+package com.rhett.multivillageselector.strategy;
+
+import com.rhett.multivillageselector.config.MVSConfig;
+import com.rhett.multivillageselector.config.RuntimeConfig;
+import com.rhett.multivillageselector.util.LocateHelper;
+import net.minecraft.core.Holder;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.level.biome.Biome;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for SameStructureSpacing (min_distance_same / min_distance_groups).
+ * Surviving structures must respect the distance, and results must be deterministic.
+ */
+class SameStructureSpacingTest {
+
+    private static final long SEED = 12345L;
+
+    // Small spacing so many placements fall within the distance
+    private final LocateHelper.PlacementStrategy placement =
+        new LocateHelper.RandomSpreadPlacement(8, 3, 10387312, false);
+
+    private Holder<Biome> plains;
+
+    @BeforeEach
+    void setUp() {
+        plains = createMockBiome("minecraft:plains", "#minecraft:is_plains");
+        MVSConfig.structurePool = new ArrayList<>();
+        MVSConfig.minDistanceGroups = new LinkedHashMap<>();
+        MVSConfig.refreshRuntime();
+    }
+
+    @Test
+    @DisplayName("min_distance_same: no two survivors closer than the distance")
+    void testMinDistanceSame() {
+        MVSConfig.ConfiguredStructure spaced = createStructure("minecraft:village_plains", 20, null);
+        MVSConfig.ConfiguredStructure filler = createStructure("minecraft:village_desert", 0, null);
+        MVSConfig.structurePool = List.of(spaced, filler);
+        MVSConfig.refreshRuntime();
+
+        Map<String, List<int[]>> survivors = selectRegion(spaced, 150);
+        List<int[]> kept = survivors.getOrDefault("minecraft:village_plains", List.of());
+
+        assertFalse(kept.isEmpty(), "Some structures should survive");
+        assertFalse(survivors.getOrDefault("minecraft:village_desert", List.of()).isEmpty(),
+            "Suppressed chunks should fall back to unconstrained entries");
+        assertMinDistance(kept, 20);
+    }
+
+    @Test
+    @DisplayName("min_distance_groups: entries in a group keep the group distance")
+    void testGroupDistance() {
+        MVSConfig.minDistanceGroups = new LinkedHashMap<>(Map.of("ctov", 24));
+        MVSConfig.ConfiguredStructure a = createStructure("ctov:small/village_plains", 0, "ctov");
+        MVSConfig.ConfiguredStructure b = createStructure("ctov:small/village_taiga", 0, "ctov");
+        MVSConfig.structurePool = List.of(a, b);
+        MVSConfig.refreshRuntime();
+
+        // Raw picks alternate between the two group members
+        SameStructureSpacing.RawSelector raw = (x, z) ->
+            ((SameStructureSpacing.priority(x, z, SEED) & 1) == 0) ? a : b;
+
+        RuntimeConfig config = MVSConfig.runtime();
+        List<int[]> kept = new ArrayList<>();
+        for (int[] chunk : placement.iteratePlacements(0, 0, SEED, 150)) {
+            MVSConfig.ConfiguredStructure result = SameStructureSpacing.apply(config,
+                raw.select(chunk[0], chunk[1]), chunk[0], chunk[1], SEED, plains, placement, raw);
+            if (result != null) {
+                kept.add(chunk);
+            }
+        }
+
+        assertFalse(kept.isEmpty());
+        assertMinDistance(kept, 24);
+    }
+
+    @Test
+    @DisplayName("Deterministic: same seed and chunk give the same result")
+    void testDeterministic() {
+        MVSConfig.ConfiguredStructure spaced = createStructure("minecraft:village_plains", 20, null);
+        MVSConfig.structurePool = List.of(spaced, createStructure("minecraft:village_desert", 0, null));
+        MVSConfig.refreshRuntime();
+
+        Map<String, List<int[]>> first = selectRegion(spaced, 100);
+        Map<String, List<int[]>> second = selectRegion(spaced, 100);
+
+        assertEquals(first.keySet(), second.keySet());
+        for (String id : first.keySet()) {
+            assertEquals(first.get(id).size(), second.get(id).size());
+            for (int i = 0; i < first.get(id).size(); i++) {
+                assertArrayEquals(first.get(id).get(i), second.get(id).get(i));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("No rule: raw selection returned without evaluating neighbors")
+    void testNoRuleIsIdentity() {
+        MVSConfig.ConfiguredStructure free = createStructure("minecraft:village_plains", 0, null);
+        MVSConfig.structurePool = List.of(free);
+        MVSConfig.refreshRuntime();
+
+        RuntimeConfig config = MVSConfig.runtime();
+        assertFalse(SameStructureSpacing.isActive(config));
+        MVSConfig.ConfiguredStructure result = SameStructureSpacing.apply(config, free, 0, 0, SEED, plains, placement,
+            (SameStructureSpacing.RawSelector) (x, z) -> fail("Neighbors should not be evaluated"));
+        assertSame(free, result);
+    }
+
+    @Test
+    @DisplayName("No unconstrained fallback: suppressed chunk spawns nothing")
+    void testSuppressedWithoutFallback() {
+        MVSConfig.ConfiguredStructure spaced = createStructure("minecraft:village_plains", 30, null);
+        MVSConfig.structurePool = List.of(spaced);
+        MVSConfig.refreshRuntime();
+
+        assertTrue(SameStructureSpacing.isActive(MVSConfig.runtime()));
+        Map<String, List<int[]>> survivors = selectRegion(spaced, 100);
+
+        int placements = 0;
+        for (int[] ignored : placement.iteratePlacements(0, 0, SEED, 100)) {
+            placements++;
+        }
+        int kept = survivors.getOrDefault("minecraft:village_plains", List.of()).size();
+        assertTrue(kept > 0 && kept < placements, "Some but not all placements should be suppressed");
+        assertEquals(1, survivors.size(), "Nothing else can spawn");
+    }
+
+    @Test
+    @DisplayName("Rules belong to the snapshot: a config change does not affect an earlier snapshot")
+    void testRulesPerSnapshot() {
+        MVSConfig.minDistanceGroups = new LinkedHashMap<>(Map.of("ctov", 24));
+        MVSConfig.ConfiguredStructure grouped = createStructure("ctov:small/village_plains", 0, "ctov");
+        MVSConfig.structurePool = List.of(grouped);
+        MVSConfig.refreshRuntime();
+
+        RuntimeConfig before = MVSConfig.runtime();
+        MVSConfig.minDistanceGroups = new LinkedHashMap<>();
+        MVSConfig.refreshRuntime();
+        RuntimeConfig after = MVSConfig.runtime();
+
+        assertTrue(SameStructureSpacing.isActive(before));
+        assertEquals(24, before.ruleRadius(grouped));
+        assertFalse(SameStructureSpacing.isActive(after));
+        assertEquals(0, after.ruleRadius(grouped));
+    }
+
+    @Test
+    @DisplayName("Neighbor selections are cached per biome source, not shared across dimensions")
+    void testCachePerBiomeSource() {
+        MVSConfig.ConfiguredStructure spaced = createStructure("minecraft:village_plains", 20, null);
+        MVSConfig.structurePool = List.of(spaced);
+        MVSConfig.refreshRuntime();
+        RuntimeConfig config = MVSConfig.runtime();
+        SameStructureSpacing.clearCaches();
+
+        // Same seed and config, two sources: one all plains, one where nothing matches
+        Holder<Biome> ocean = createMockBiome("minecraft:ocean", "#minecraft:is_ocean");
+        Object plainsSource = new Object();
+        Object oceanSource = new Object();
+        LocateHelper.BiomeSampler plainsSampler = sampler(plainsSource, plains);
+        LocateHelper.BiomeSampler oceanSampler = sampler(oceanSource, ocean);
+
+        int suppressed = 0;
+        for (int[] chunk : placement.iteratePlacements(0, 0, SEED, 60)) {
+            if (SameStructureSpacing.apply(config, spaced, chunk[0], chunk[1], SEED, plains, placement, plainsSampler) == null) {
+                suppressed++;
+            }
+        }
+        assertTrue(suppressed > 0, "Plains neighbors should suppress some chunks");
+
+        // Ocean neighbors pick nothing - no chunk may be suppressed by the plains source's picks
+        for (int[] chunk : placement.iteratePlacements(0, 0, SEED, 60)) {
+            assertSame(spaced, SameStructureSpacing.apply(config, spaced, chunk[0], chunk[1], SEED, plains, placement, oceanSampler),
+                "Chunk [" + chunk[0] + "," + chunk[1] + "] used another source's neighbor selections");
+        }
+    }
+
+    // ============================================================
+    // HELPERS
+    // ============================================================
+
+    /**
+     * Every placement chunk picks {@code raw}; returns survivors by structure ID.
+     */
+    private Map<String, List<int[]>> selectRegion(MVSConfig.ConfiguredStructure raw, int radius) {
+        RuntimeConfig config = MVSConfig.runtime();
+        Map<String, List<int[]>> result = new TreeMap<>();
+        for (int[] chunk : placement.iteratePlacements(0, 0, SEED, radius)) {
+            MVSConfig.ConfiguredStructure selected = SameStructureSpacing.apply(config,
+                raw, chunk[0], chunk[1], SEED, plains, placement,
+                (SameStructureSpacing.RawSelector) (x, z) -> raw);
+            if (selected != null && !selected.isEmpty) {
+                result.computeIfAbsent(selected.structure.toString(), k -> new ArrayList<>()).add(chunk);
+            }
+        }
+        return result;
+    }
+
+    private static void assertMinDistance(List<int[]> chunks, int distance) {
+        for (int i = 0; i < chunks.size(); i++) {
+            for (int j = i + 1; j < chunks.size(); j++) {
+                long dx = chunks.get(i)[0] - chunks.get(j)[0];
+                long dz = chunks.get(i)[1] - chunks.get(j)[1];
+                assertTrue(dx * dx + dz * dz >= (long) distance * distance,
+                    "Chunks [" + chunks.get(i)[0] + "," + chunks.get(i)[1] + "] and ["
+                        + chunks.get(j)[0] + "," + chunks.get(j)[1] + "] closer than " + distance);
+            }
+        }
+    }
+
+    private static LocateHelper.BiomeSampler sampler(Object source, Holder<Biome> biome) {
+        return new LocateHelper.BiomeSampler() {
+            @Override
+            public Holder<Biome> getBiomeAt(int blockX, int blockY, int blockZ) {
+                return biome;
+            }
+
+            @Override
+            public Object source() {
+                return source;
+            }
+        };
+    }
+
+    private MVSConfig.ConfiguredStructure createStructure(String id, int minDistanceSame, String group) {
+        Map<String, Integer> biomes = new LinkedHashMap<>(Map.of("#minecraft:is_plains", 10));
+        return new MVSConfig.ConfiguredStructure(ResourceLocation.parse(id), biomes, biomes, minDistanceSame, group);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Holder<Biome> createMockBiome(String biomeId, String... tags) {
+        Holder<Biome> holder = mock(Holder.class);
+        ResourceKey<Biome> key = ResourceKey.create(
+            net.minecraft.core.registries.Registries.BIOME,
+            ResourceLocation.parse(biomeId)
+        );
+        when(holder.unwrapKey()).thenReturn(Optional.of(key));
+        when(holder.tags()).thenAnswer(invocation ->
+            Stream.of(tags)
+                .map(tagId -> (TagKey<Biome>) TagKey.create(
+                    net.minecraft.core.registries.Registries.BIOME,
+                    ResourceLocation.parse(tagId.substring(1))
+                ))
+        );
+        when(holder.is(any(TagKey.class))).thenAnswer(invocation -> {
+            TagKey<Biome> tag = invocation.getArgument(0);
+            return Stream.of(tags).anyMatch(t -> t.substring(1).equals(tag.location().toString()));
+        });
+        return holder;
+    }
+}
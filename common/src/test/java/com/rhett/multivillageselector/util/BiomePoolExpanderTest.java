@@ -39,8 +39,6 @@ public class BiomePoolExpanderTest {
 
     @BeforeEach
     void setUp() {
-        BiomePoolExpander.clearCaches();
-
         // Set up test biomes
         allBiomes = new HashSet<>();
         allBiomes.add(ResourceLocation.parse("minecraft:plains"));
@@ -463,6 +461,54 @@ public class BiomePoolExpanderTest {
         assertEquals(5, expanded.get("minecraft:desert"));
     }
 
+    // ========== BIOME UNIVERSE TESTS ==========
+
+    @Test
+    @DisplayName("Universe: one snapshot shared by many pattern maps, same results as one-off")
+    void sharedUniverseMatchesOneOff() {
+        BiomeUniverse universe = BiomeUniverse.of(allBiomes, allTags, biomeTags);
+
+        List<Map<String, Integer>> pools = List.of(
+            Map.of("#*:*", 1, "#minecraft:is_plains", 10),
+            Map.of("*:*ocean*", 4, "minecraft:ocean", 0),
+            Map.of("#minecraft:is_*", 3, "#*:*", 1, "terralith:*", 9),
+            Map.of("#minecraft:is_plains", 6)
+        );
+        for (Map<String, Integer> patterns : pools) {
+            assertEquals(BiomePoolExpander.expand(patterns, allBiomes, allTags, biomeTags),
+                BiomePoolExpander.expand(patterns, universe), "Patterns " + patterns);
+        }
+
+        // Expansions are cached on the snapshot
+        assertSame(universe.expand("#minecraft:is_plains"), universe.expand("#minecraft:is_plains"));
+        assertEquals(Set.of("minecraft:plains", "minecraft:sunflower_plains", "minecraft:snowy_plains"),
+            universe.expand("#minecraft:is_plains"));
+    }
+
+    @Test
+    @DisplayName("Universe: built from a BiomeTagTable")
+    void universeFromTagTable() {
+        BiomeTagTable table = BiomeTagTable.EMPTY;
+        for (ResourceLocation biome : allBiomes) {
+            List<ResourceLocation> tags = new ArrayList<>();
+            for (String tag : biomeTags.get(biome)) {
+                tags.add(ResourceLocation.parse(tag.substring(1)));
+            }
+            table = table.with(biome, tags);
+        }
+        BiomeUniverse universe = BiomeUniverse.of(table);
+
+        assertEquals(allBiomes.size(), universe.biomeCount());
+        assertEquals(allTags.size(), universe.tagCount());
+
+        Map<String, Integer> patterns = new LinkedHashMap<>();
+        patterns.put("#*:*", 1);
+        patterns.put("#minecraft:is_ocean", 4);
+        patterns.put("minecraft:deep_ocean", 0);
+        assertEquals(BiomePoolExpander.expand(patterns, allBiomes, allTags, biomeTags),
+            BiomePoolExpander.expand(patterns, universe));
+    }
+
     // ========== SPECIFICITY CALCULATION TESTS ==========
 
     @Test
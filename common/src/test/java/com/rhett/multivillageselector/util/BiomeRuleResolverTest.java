@@ -49,6 +49,7 @@ class BiomeRuleResolverTest {
     void tearDown() {
         // Restore original pool
         MVSConfig.structurePool = new ArrayList<>(originalPool);
+        MVSConfig.refreshRuntime();
     }
 
     // ============================================================
@@ -72,6 +73,7 @@ class BiomeRuleResolverTest {
         // when MVS config exists (MVS config takes precedence)
 
         // Execute
+        MVSConfig.refreshRuntime();
         BiomeRules rules = BiomeRuleResolver.getEffectiveRules(
             "minecraft:village_plains",
             mockRegistryAccess
@@ -101,6 +103,7 @@ class BiomeRuleResolverTest {
             .thenReturn(null);
 
         // Execute
+        MVSConfig.refreshRuntime();
         BiomeRules rules = BiomeRuleResolver.getEffectiveRules(
             "minecraft:village_plains",
             mockRegistryAccess
@@ -126,6 +129,7 @@ class BiomeRuleResolverTest {
         when(mockStructureRegistry.get(any(ResourceLocation.class))).thenReturn(null);
 
         // Execute
+        MVSConfig.refreshRuntime();
         BiomeRules rules = BiomeRuleResolver.getEffectiveRules(
             "unknown:structure",
             mockRegistryAccess
@@ -153,7 +157,8 @@ class BiomeRuleResolverTest {
         );
         MVSConfig.structurePool.add(structure);
 
-        // Execute & Verify
+        // Execute & Verify (after publishing the pool)
+        MVSConfig.refreshRuntime();
         assertTrue(BiomeRuleResolver.isMVSControlled("minecraft:village_plains"));
     }
 
@@ -163,7 +168,8 @@ class BiomeRuleResolverTest {
         // Empty pool
         MVSConfig.structurePool.clear();
 
-        // Execute & Verify
+        // Execute & Verify (after publishing the pool)
+        MVSConfig.refreshRuntime();
         assertFalse(BiomeRuleResolver.isMVSControlled("minecraft:village_plains"));
     }
 
@@ -179,6 +185,7 @@ class BiomeRuleResolverTest {
         MVSConfig.structurePool.add(structure);
 
         // Execute & Verify - should not crash, should return false
+        MVSConfig.refreshRuntime();
         assertFalse(BiomeRuleResolver.isMVSControlled("minecraft:village_plains"));
     }
 
@@ -197,6 +204,7 @@ class BiomeRuleResolverTest {
             .thenThrow(new IllegalArgumentException("Invalid resource location"));
 
         // Execute - should not crash
+        MVSConfig.refreshRuntime();
         BiomeRules rules = BiomeRuleResolver.getEffectiveRules(
             "invalid::#@!structure",
             mockRegistryAccess
@@ -218,6 +226,7 @@ class BiomeRuleResolverTest {
             .thenThrow(new IllegalStateException("Registry not available"));
 
         // Execute - should not crash
+        MVSConfig.refreshRuntime();
         BiomeRules rules = BiomeRuleResolver.getEffectiveRules(
             "minecraft:village_plains",
             mockRegistryAccess
@@ -250,6 +259,7 @@ class BiomeRuleResolverTest {
         ));
 
         // Execute - lookup middle structure
+        MVSConfig.refreshRuntime();
         BiomeRules rules = BiomeRuleResolver.getEffectiveRules(
             "minecraft:village_desert",
             mockRegistryAccess
@@ -276,6 +286,7 @@ class BiomeRuleResolverTest {
         ));
 
         // Execute
+        MVSConfig.refreshRuntime();
         BiomeRules rules = BiomeRuleResolver.getEffectiveRules(
             "minecraft:village_plains",
             mockRegistryAccess
@@ -0,0 +1,144 @@
+package com.rhett.multivillageselector.util;
+
+import net.minecraft.resources.ResourceLocation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for BiomeTagTable (biome id → tag ids, tag id → biome BitSet)
+ * and PatternRules lookups against it, which must agree with the string lookups.
+ */
+class BiomeTagTableTest {
+
+    private static final List<String> PATTERNS = List.of(
+        "minecraft:plains", "#minecraft:is_plains", "minecraft:*", "#minecraft:*", "*:*", "#*:*",
+        "*:*ocean*", "#*:*ocean*", "#*:is_beach", "*craft*:*village*", "#minecraft:is_*",
+        "ctov:*", "#c:*", "*:plains", "#*:is_plains", "terralith:*", "#minecraft:has_structure/village_plains"
+    );
+
+    private static final String[][] BIOMES = {
+        {"minecraft:plains", "minecraft:is_plains", "minecraft:has_structure/village_plains", "c:is_plains"},
+        {"minecraft:cold_ocean", "minecraft:is_ocean", "c:is_cold"},
+        {"minecraft:beach", "minecraft:is_beach"},
+        {"terralith:alpine_grove", "minecraft:is_mountain", "c:is_cold"},
+        {"ctov:village_plains"}
+    };
+
+    private static BiomeTagTable table() {
+        BiomeTagTable table = BiomeTagTable.EMPTY;
+        for (String[] biome : BIOMES) {
+            List<ResourceLocation> tags = new ArrayList<>();
+            for (int i = 1; i < biome.length; i++) {
+                tags.add(ResourceLocation.parse(biome[i]));
+            }
+            table = table.with(ResourceLocation.parse(biome[0]), tags);
+        }
+        return table;
+    }
+
+    private static Set<String> strings(String[] biome) {
+        Set<String> strings = new HashSet<>();
+        strings.add(biome[0]);
+        for (int i = 1; i < biome.length; i++) {
+            strings.add("#" + biome[i]);
+        }
+        return strings;
+    }
+
+    @Test
+    @DisplayName("Biomes and tags are indexed both ways")
+    void testIndex() {
+        BiomeTagTable table = table();
+        assertEquals(5, table.biomeCount());
+        assertEquals(7, table.tagCount());
+
+        int ocean = table.getBiomeId(ResourceLocation.parse("minecraft:cold_ocean"));
+        int grove = table.getBiomeId(ResourceLocation.parse("terralith:alpine_grove"));
+        int cold = table.getTagId(ResourceLocation.parse("c:is_cold"));
+        assertEquals(1, ocean);
+        assertEquals(-1, table.getBiomeId(ResourceLocation.parse("minecraft:desert")));
+        assertEquals(-1, table.getTagId(ResourceLocation.parse("minecraft:is_desert")));
+
+        BitSet coldBiomes = table.getBiomesWithTag(cold);
+        assertEquals(2, coldBiomes.cardinality());
+        assertTrue(coldBiomes.get(ocean) && coldBiomes.get(grove));
+
+        int[] tagIds = table.getTagIds(grove);
+        assertEquals(2, tagIds.length);
+        assertTrue(tagIds[0] < tagIds[1]);
+        assertEquals(0, table.getTagIds(table.getBiomeId(ResourceLocation.parse("ctov:village_plains"))).length);
+    }
+
+    @Test
+    @DisplayName("PatternRules: table lookups equal string lookups (random maps)")
+    void testRulesMatchStringLookup() {
+        BiomeTagTable table = table();
+        Random random = new Random(7);
+        for (int trial = 0; trial < 500; trial++) {
+            Map<String, Integer> map = new LinkedHashMap<>();
+            int size = 1 + random.nextInt(8);
+            for (int i = 0; i < size; i++) {
+                map.put(PATTERNS.get(random.nextInt(PATTERNS.size())), random.nextInt(5));
+            }
+
+            PatternRules<Integer> rules = PatternRules.compile(map);
+            for (String[] biome : BIOMES) {
+                int id = table.getBiomeId(ResourceLocation.parse(biome[0]));
+                Set<String> strings = strings(biome);
+                assertEquals(rules.getValue(strings, -1), rules.getValue(table, id, -1), "Map " + map + " biome " + biome[0]);
+                assertEquals(rules.getMatchingPattern(strings), rules.getMatchingPattern(table, id), "Map " + map + " biome " + biome[0]);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("PatternRules.flatten: one value per biome id, same as getValue")
+    void testFlatten() {
+        BiomeTagTable table = table();
+        Map<String, Double> map = new LinkedHashMap<>();
+        map.put("#*:*", 0.5);
+        map.put("#c:is_cold", 0.25);
+        map.put("minecraft:plains", 0.75);
+        map.put("ctov:*", 0.0);
+        PatternRules<Double> rules = PatternRules.compile(map);
+
+        double[] flat = rules.flatten(table, 1.0);
+        assertEquals(table.biomeCount(), flat.length);
+        for (int id = 0; id < flat.length; id++) {
+            assertEquals(rules.getValue(table, id, 1.0), flat[id], 1e-9);
+        }
+        assertEquals(0.75, flat[0], 1e-9);
+        assertEquals(0.25, flat[1], 1e-9);
+        assertEquals(0.5, flat[2], 1e-9);
+        assertEquals(0.0, flat[4], 1e-9);
+    }
+
+    @Test
+    @DisplayName("PatternRules: rebinds when given a new table snapshot")
+    void testRebind() {
+        Map<String, Double> map = new LinkedHashMap<>();
+        map.put("#c:is_cold", 0.25);
+        map.put("*:*", 1.0);
+        PatternRules<Double> rules = PatternRules.compile(map);
+
+        BiomeTagTable before = BiomeTagTable.EMPTY.with(ResourceLocation.parse("minecraft:snowy_plains"), List.of());
+        assertEquals(1.0, rules.getValue(before, 0, 0.0), 1e-9);
+
+        // Same id, now tagged - a stale binding would still answer 1.0
+        BiomeTagTable after = BiomeTagTable.EMPTY.with(ResourceLocation.parse("minecraft:snowy_plains"),
+            List.of(ResourceLocation.parse("c:is_cold")));
+        assertEquals(0.25, rules.getValue(after, 0, 0.0), 1e-9);
+        assertEquals("#c:is_cold", rules.getMatchingPattern(after, 0));
+    }
+}
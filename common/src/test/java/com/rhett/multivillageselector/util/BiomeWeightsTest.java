@@ -0,0 +1,148 @@
+package com.rhett.multivillageselector.util;
+
+import net.minecraft.core.Holder;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.level.biome.Biome;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for BiomeWeights (expanded biome weights as sorted biome-id / weight arrays).
+ * Lookups must give what the direct-ID-then-patterns lookup on the original map gave.
+ */
+class BiomeWeightsTest {
+
+    private static final List<String> KEYS = List.of(
+        "minecraft:plains", "minecraft:cold_ocean", "minecraft:beach", "terralith:alpine_grove",
+        "ctov:village_plains", "minecraft:desert", "plains", "#minecraft:is_plains", "#c:is_cold",
+        "*:*ocean*", "#*:is_beach", "terralith:*"
+    );
+
+    private static final String[][] BIOMES = {
+        {"minecraft:plains", "minecraft:is_plains", "c:is_plains"},
+        {"minecraft:cold_ocean", "minecraft:is_ocean", "c:is_cold"},
+        {"minecraft:beach", "minecraft:is_beach"},
+        {"terralith:alpine_grove", "minecraft:is_mountain", "c:is_cold"},
+        {"ctov:village_plains"}
+    };
+
+    private static BiomeTagTable table() {
+        BiomeTagTable table = BiomeTagTable.EMPTY;
+        for (String[] biome : BIOMES) {
+            List<ResourceLocation> tags = new ArrayList<>();
+            for (int i = 1; i < biome.length; i++) {
+                tags.add(ResourceLocation.parse(biome[i]));
+            }
+            table = table.with(ResourceLocation.parse(biome[0]), tags);
+        }
+        return table;
+    }
+
+    @Test
+    @DisplayName("Literal biome IDs are stored by id, everything else is kept as-is")
+    void testCompaction() {
+        BiomeTagTable table = table();
+        Map<String, Integer> map = new LinkedHashMap<>();
+        map.put("minecraft:beach", 3);
+        map.put("minecraft:plains", 10);
+        map.put("minecraft:desert", 7);      // Not in the table
+        map.put("plains", 4);                // Not a canonical ID - never matched directly
+        map.put("#c:is_cold", 2);
+
+        BiomeWeights weights = BiomeWeights.of(table, map);
+        assertEquals(5, weights.size());
+        assertEquals(0, weights.biomeIdAt(0));
+        assertEquals(10, weights.weightAt(0));
+        assertEquals(2, weights.biomeIdAt(1));
+        assertEquals(3, weights.weightAt(1));
+        assertEquals(-1, weights.indexOf(1));
+        assertEquals(-1, weights.indexOf(-1));
+        assertEquals(10, weights.maxWeight());
+        assertEquals(0, BiomeWeights.EMPTY.maxWeight());
+    }
+
+    @Test
+    @DisplayName("asMap: read-only view equal to the original map")
+    void testMapView() {
+        BiomeTagTable table = table();
+        Map<String, Integer> map = new LinkedHashMap<>();
+        map.put("terralith:alpine_grove", 1);
+        map.put("minecraft:cold_ocean", 2);
+        map.put("#minecraft:is_plains", 5);
+
+        Map<String, Integer> view = BiomeWeights.of(table, map).asMap();
+        assertEquals(map, view);
+        assertEquals(map.hashCode(), view.hashCode());
+        assertEquals(2, view.get("minecraft:cold_ocean"));
+        assertEquals(5, view.get("#minecraft:is_plains"));
+        assertNull(view.get("minecraft:plains"));
+        assertFalse(view.containsKey("minecraft:plains"));
+        assertEquals(List.of("minecraft:cold_ocean", "terralith:alpine_grove", "#minecraft:is_plains"),
+            new ArrayList<>(view.keySet()));
+        assertThrows(UnsupportedOperationException.class, () -> view.put("minecraft:plains", 1));
+    }
+
+    @Test
+    @DisplayName("getWeight: same result as direct lookup then patterns (random maps)")
+    void testMatchesMapLookup() {
+        BiomeTagTable table = table();
+        Random random = new Random(11);
+        for (int trial = 0; trial < 300; trial++) {
+            Map<String, Integer> map = new LinkedHashMap<>();
+            int size = 1 + random.nextInt(6);
+            for (int i = 0; i < size; i++) {
+                map.put(KEYS.get(random.nextInt(KEYS.size())), random.nextInt(5));
+            }
+
+            BiomeWeights weights = BiomeWeights.of(table, map);
+            for (String[] biome : BIOMES) {
+                assertEquals(referenceWeight(map, biome), weights.getWeight(createMockBiome(biome)),
+                    "Map " + map + " biome " + biome[0]);
+            }
+            String[] unknown = {"minecraft:desert", "c:is_cold"};
+            assertEquals(referenceWeight(map, unknown), weights.getWeight(createMockBiome(unknown)),
+                "Map " + map + " biome " + unknown[0]);
+        }
+    }
+
+    // ============================================================
+    // HELPER METHODS
+    // ============================================================
+
+    /**
+     * Lookup on the plain map, as BiomeRules did before compaction.
+     */
+    private static int referenceWeight(Map<String, Integer> map, String[] biome) {
+        Integer weight = map.get(biome[0]);
+        if (weight != null) {
+            return weight;
+        }
+        return PatternMatcher.getValueForBiome(map, createMockBiome(biome), 0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Holder<Biome> createMockBiome(String[] biome) {
+        Holder<Biome> holder = mock(Holder.class);
+        ResourceKey<Biome> key = ResourceKey.create(
+            net.minecraft.core.registries.Registries.BIOME,
+            ResourceLocation.parse(biome[0])
+        );
+        when(holder.unwrapKey()).thenReturn(Optional.of(key));
+        when(holder.tags()).thenAnswer(invocation -> Stream.of(biome).skip(1)
+            .map(tag -> TagKey.create(net.minecraft.core.registries.Registries.BIOME, ResourceLocation.parse(tag))));
+        return holder;
+    }
+}
@@ -35,6 +35,7 @@ class LocateHelperTest {
         // Clear MVSConfig for isolated tests
         MVSConfig.structurePool = new ArrayList<>();
         MVSConfig.enabled = true;
+        MVSConfig.refreshRuntime();
     }
 
     // ============================================================
@@ -187,6 +188,7 @@ class LocateHelperTest {
     @DisplayName("simulateSelection: returns null when pool is empty")
     void testSimulateSelection_EmptyPool() {
         MVSConfig.structurePool = new ArrayList<>();
+        MVSConfig.refreshRuntime();
 
         Holder<Biome> biome = createMockBiome("minecraft:plains", "#minecraft:is_plains");
 
@@ -204,6 +206,7 @@ class LocateHelperTest {
             createStructure("minecraft:village_plains", Map.of("#minecraft:is_plains", 50)),
             createStructure("minecraft:village_desert", Map.of("#minecraft:is_plains", 50))
         );
+        MVSConfig.refreshRuntime();
 
         Holder<Biome> biome = createMockBiome("minecraft:plains", "#minecraft:is_plains");
 
@@ -222,6 +225,7 @@ class LocateHelperTest {
             createStructure("structure1", Map.of("#test:biome", 50)),
             createStructure("structure2", Map.of("#test:biome", 50))
         );
+        MVSConfig.refreshRuntime();
 
         Holder<Biome> biome = createMockBiome("test:biome", "#test:biome");
 
@@ -248,6 +252,7 @@ class LocateHelperTest {
             createStructure("minecraft:village_plains", Map.of("#minecraft:is_plains", 100)),
             createStructure("minecraft:village_desert", Map.of("#minecraft:is_desert", 100))
         );
+        MVSConfig.refreshRuntime();
 
         Holder<Biome> plainsBiome = createMockBiome("minecraft:plains", "#minecraft:is_plains");
 
@@ -271,6 +276,7 @@ class LocateHelperTest {
         MVSConfig.structurePool = List.of(
             createStructure("minecraft:village_plains", Map.of("#minecraft:is_plains", 100))
         );
+        MVSConfig.refreshRuntime();
 
         LocateHelper.BiomeSampler sampler = (x, y, z) ->
             createMockBiome("minecraft:plains", "#minecraft:is_plains");
@@ -295,6 +301,7 @@ class LocateHelperTest {
         MVSConfig.structurePool = List.of(
             createStructure("minecraft:village_plains", Map.of("#minecraft:is_plains", 100))
         );
+        MVSConfig.refreshRuntime();
 
         // Sampler always returns plains biome
         LocateHelper.BiomeSampler sampler = (x, y, z) ->
@@ -321,6 +328,7 @@ class LocateHelperTest {
         MVSConfig.structurePool = List.of(
             createStructure("minecraft:village_plains", Map.of("#*:*", 100))
         );
+        MVSConfig.refreshRuntime();
 
         LocateHelper.BiomeSampler sampler = (x, y, z) ->
             createMockBiome("minecraft:plains", "#minecraft:is_plains");
@@ -355,6 +363,7 @@ class LocateHelperTest {
         MVSConfig.structurePool = List.of(
             createStructure("minecraft:village_plains", Map.of("#minecraft:is_plains", 100))
         );
+        MVSConfig.refreshRuntime();
 
         // But sampler always returns desert
         LocateHelper.BiomeSampler sampler = (x, y, z) ->
@@ -381,6 +390,7 @@ class LocateHelperTest {
             createStructure("minecraft:village_plains", Map.of("#minecraft:is_plains", 50)),
             createStructure("ctov:village_plains", Map.of("#minecraft:is_plains", 50))
         );
+        MVSConfig.refreshRuntime();
 
         LocateHelper.BiomeSampler sampler = (x, y, z) ->
             createMockBiome("minecraft:plains", "#minecraft:is_plains");
@@ -407,6 +417,7 @@ class LocateHelperTest {
         MVSConfig.structurePool = List.of(
             createStructure("minecraft:village_plains", Map.of("#*:*", 100))
         );
+        MVSConfig.refreshRuntime();
 
         LocateHelper.BiomeSampler sampler = (x, y, z) ->
             createMockBiome("minecraft:plains", "#minecraft:is_plains");
@@ -664,6 +675,7 @@ class LocateHelperTest {
         MVSConfig.structurePool = List.of(
             createStructure("minecraft:village_plains", Map.of("#*:*", 100))
         );
+        MVSConfig.refreshRuntime();
 
         LocateHelper.BiomeSampler sampler = (x, y, z) ->
             createMockBiome("minecraft:plains", "#minecraft:is_plains");
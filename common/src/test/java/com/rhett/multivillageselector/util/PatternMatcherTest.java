@@ -1,6 +1,8 @@
 package com.rhett.multivillageselector.util;
 
 import net.minecraft.core.Holder;
+import net.minecraft.core.Registry;
+import net.minecraft.core.registries.Registries;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.tags.TagKey;
@@ -320,6 +322,38 @@ class PatternMatcherTest {
         assertEquals(100, result);
     }
 
+    // ============================================================
+    // BIOME TABLE TESTS
+    // ============================================================
+
+    @Test
+    @DisplayName("Biome table: a new generation's table is built without installing it")
+    @SuppressWarnings("unchecked")
+    void testBiomeTableFor_NotInstalled() {
+        Holder.Reference<Biome> plains = mock(Holder.Reference.class);
+        when(plains.key()).thenReturn(ResourceKey.create(Registries.BIOME, ResourceLocation.parse("minecraft:plains")));
+        when(plains.tags()).thenAnswer(invocation ->
+            Stream.of(TagKey.create(Registries.BIOME, ResourceLocation.parse("minecraft:is_plains"))));
+        Registry<Biome> biomes = mock(Registry.class);
+        when(biomes.size()).thenReturn(1);
+        when(biomes.getHolder(0)).thenReturn(Optional.of(plains));
+
+        int generation = RegistryGeneration.current();
+        PatternMatcher.useBiomeRegistry(biomes);
+        BiomeTagTable installed = PatternMatcher.getBiomeTable();
+        assertSame(installed, PatternMatcher.biomeTableFor(biomes, generation));
+
+        // Next generation: built for the caller, the live table stays until useBiomeTable()
+        BiomeTagTable next = PatternMatcher.biomeTableFor(biomes, generation + 1);
+        assertNotSame(installed, next);
+        assertTrue(next.isSnapshotOf(biomes));
+        assertSame(installed, PatternMatcher.getBiomeTable());
+
+        PatternMatcher.useBiomeTable(next, generation + 1);
+        assertSame(next, PatternMatcher.getBiomeTable());
+        assertSame(next, PatternMatcher.biomeTableFor(biomes, generation + 1));
+    }
+
     // ============================================================
     // HELPER METHODS
     // ============================================================
@@ -0,0 +1,149 @@
+package com.rhett.multivillageselector.util;
+
+import net.minecraft.resources.ResourceLocation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for PatternRules (compiled, specificity-sorted pattern maps).
+ * Lookups must give exactly what the unsorted score-every-pattern scan gave,
+ * and precomputed specificity must equal the original regex-based scoring.
+ */
+class PatternRulesTest {
+
+    private static final List<String> PATTERNS = List.of(
+        "minecraft:plains", "#minecraft:is_plains", "minecraft:*", "#minecraft:*", "*:*", "#*:*",
+        "*:*ocean*", "#*:*ocean*", "#*:is_beach", "*craft*:*village*", "#minecraft:is_*",
+        "ctov:*", "#c:*", "*:plains", "#*:is_plains", "terralith:*", "#minecraft:has_structure/village_plains"
+    );
+
+    private static final List<Set<String>> BIOMES = List.of(
+        Set.of("minecraft:plains", "#minecraft:is_plains", "#minecraft:has_structure/village_plains", "#c:is_plains"),
+        Set.of("minecraft:cold_ocean", "#minecraft:is_ocean", "#c:is_cold"),
+        Set.of("minecraft:beach", "#minecraft:is_beach"),
+        Set.of("terralith:alpine_grove", "#minecraft:is_mountain"),
+        Set.of("ctov:village_plains")
+    );
+
+    @Test
+    @DisplayName("getValue: same result as scoring every pattern (random maps)")
+    void testMatchesUnsortedScan() {
+        Random random = new Random(42);
+        for (int trial = 0; trial < 500; trial++) {
+            Map<String, Integer> map = new LinkedHashMap<>();
+            int size = 1 + random.nextInt(8);
+            for (int i = 0; i < size; i++) {
+                map.put(PATTERNS.get(random.nextInt(PATTERNS.size())), random.nextInt(5));
+            }
+
+            PatternRules<Integer> rules = PatternRules.compile(map);
+            for (Set<String> biome : BIOMES) {
+                assertEquals(referenceValue(map, biome, -1), rules.getValue(biome, -1), "Map " + map + " biome " + biome);
+                assertEquals(referencePattern(map, biome), rules.getMatchingPattern(biome), "Map " + map + " biome " + biome);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Specificity: precomputed score equals the regex-based scoring")
+    void testSpecificityUnchanged() {
+        for (String pattern : PATTERNS) {
+            assertEquals(referenceSpecificity(pattern), PatternMatcher.getSpecificity(pattern), pattern);
+        }
+        for (String pattern : List.of("a:b", "ab", "A:BC", "x:y*z", "mod:a-b/c", "::", "#a:b:cd")) {
+            assertEquals(referenceSpecificity(pattern), PatternMatcher.getSpecificity(pattern), pattern);
+        }
+    }
+
+    @Test
+    @DisplayName("Same specificity: higher value wins, then map order")
+    void testTieBreak() {
+        Map<String, Double> map = new LinkedHashMap<>();
+        map.put("#minecraft:is_plains", 0.5);
+        map.put("#minecraft:has_structure/village_plains", 0.9);
+        map.put("#*:*", 0.1);
+
+        PatternRules<Double> rules = PatternRules.compile(map);
+        Set<String> plains = BIOMES.get(0);
+        assertEquals(0.9, rules.getValue(plains, 1.0), 1e-9);
+        assertEquals("#minecraft:is_plains", rules.getMatchingPattern(plains));
+        assertEquals(0.1, rules.getValue(BIOMES.get(2), 1.0), 1e-9);
+        assertTrue(PatternRules.compile(Map.<String, Double>of()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("unreachable: shadowed and non-matching rules, in lookup order")
+    void testUnreachable() {
+        BiomeTagTable table = BiomeTagTable.EMPTY
+            .with(ResourceLocation.parse("minecraft:plains"), List.of(ResourceLocation.parse("minecraft:is_plains")))
+            .with(ResourceLocation.parse("minecraft:ocean"), List.of(ResourceLocation.parse("minecraft:is_ocean")));
+
+        Map<String, Double> map = new LinkedHashMap<>();
+        map.put("minecraft:plains", 0.5);
+        map.put("#minecraft:is_plains", 0.7);  // Only plains, already decided
+        map.put("*:*", 0.2);                   // Still decides ocean
+        map.put("#*:*", 0.1);                  // Everything decided by *:*
+        map.put("terralith:*", 0.9);           // No biome
+
+        assertEquals(List.of("#minecraft:is_plains", "terralith:*", "#*:*"),
+            PatternRules.compile(map).unreachable(table));
+        assertEquals(List.of(), PatternRules.compile(Map.of("*:*", 1.0)).unreachable(table));
+    }
+
+    // ============================================================
+    // REFERENCE IMPLEMENTATIONS (pre-compilation behavior)
+    // ============================================================
+
+    private static <T extends Number> T referenceValue(Map<String, T> map, Set<String> strings, T defaultValue) {
+        T best = defaultValue;
+        int max = Integer.MIN_VALUE;
+        for (Map.Entry<String, T> entry : map.entrySet()) {
+            if (strings.stream().anyMatch(s -> PatternMatcher.matches(s, entry.getKey()))) {
+                int specificity = referenceSpecificity(entry.getKey());
+                if (specificity > max) {
+                    max = specificity;
+                    best = entry.getValue();
+                } else if (specificity == max && entry.getValue().doubleValue() > best.doubleValue()) {
+                    best = entry.getValue();
+                }
+            }
+        }
+        return best;
+    }
+
+    private static String referencePattern(Map<String, ?> map, Set<String> strings) {
+        String best = null;
+        int max = Integer.MIN_VALUE;
+        for (String pattern : map.keySet()) {
+            if (strings.stream().anyMatch(s -> PatternMatcher.matches(s, pattern))) {
+                int specificity = referenceSpecificity(pattern);
+                if (specificity > max) {
+                    max = specificity;
+                    best = pattern;
+                }
+            }
+        }
+        return best;
+    }
+
+    private static int referenceSpecificity(String pattern) {
+        if (pattern.equals("*:*")) return -10;
+        if (pattern.equals("#*:*")) return -20;
+        int score = 20;
+        if (!pattern.startsWith("#")) score += 1;
+        String[] parts = pattern.split(":", 2);
+        String afterColon = parts.length > 1 ? parts[1] : "";
+        if (parts[0].matches(".*[a-z0-9_/-]{2,}.*")) score += 2;
+        if (afterColon.matches(".*[a-z0-9_/-]{2,}.*")) score += 2;
+        score -= (pattern.chars().filter(c -> c == '*').count() * 5);
+        return score;
+    }
+}
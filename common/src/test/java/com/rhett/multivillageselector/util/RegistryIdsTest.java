@@ -0,0 +1,68 @@
+package com.rhett.multivillageselector.util;
+
+import net.minecraft.core.Holder;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.levelgen.structure.StructureSet;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Test suite for RegistryIds (dense ids for structures and structure sets).
+ */
+class RegistryIdsTest {
+
+    private static RegistryIds ids() {
+        return RegistryIds.of(
+            Arrays.asList(ResourceLocation.parse("minecraft:village_plains"), null,
+                ResourceLocation.parse("ctov:large/village_plains")),
+            List.of(ResourceLocation.parse("minecraft:villages"), ResourceLocation.parse("minecraft:pillager_outposts")));
+    }
+
+    @Test
+    @DisplayName("Ids and names map both ways; unused and unknown ids")
+    void testIdSpace() {
+        RegistryIds.IdSpace<?> structures = ids().structures();
+        assertEquals(3, structures.size());
+        assertEquals(2, structures.getId(ResourceLocation.parse("ctov:large/village_plains")));
+        assertEquals(2, structures.getId("ctov:large/village_plains"));
+        assertEquals("ctov:large/village_plains", structures.getName(2));
+        assertEquals(ResourceLocation.parse("minecraft:village_plains"), structures.get(0));
+        assertNull(structures.get(1));
+        assertNull(structures.getName(1));
+        assertEquals(-1, structures.getId("minecraft:village_desert"));
+        assertEquals(-1, structures.getId(ResourceLocation.parse("minecraft:village_desert")));
+    }
+
+    @Test
+    @DisplayName("Holders resolve by key; names are shared for known ids")
+    void testHolders() {
+        RegistryIds.IdSpace<StructureSet> sets = ids().structureSets();
+        Holder<StructureSet> outposts = createMockStructureSet("minecraft:pillager_outposts");
+        Holder<StructureSet> unknown = createMockStructureSet("ctov:villages");
+
+        assertEquals(1, sets.getId(outposts));
+        assertSame(sets.getName(1), sets.getName(outposts));
+        assertEquals(-1, sets.getId(unknown));
+        assertEquals("ctov:villages", sets.getName(unknown));
+        assertEquals(-1, RegistryIds.EMPTY.structureSets().getId(outposts));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Holder<StructureSet> createMockStructureSet(String id) {
+        Holder<StructureSet> holder = mock(Holder.class);
+        ResourceKey<StructureSet> key = ResourceKey.create(
+            net.minecraft.core.registries.Registries.STRUCTURE_SET,
+            ResourceLocation.parse(id)
+        );
+        when(holder.unwrapKey()).thenReturn(Optional.of(key));
+        return holder;
+    }
+}
@@ -0,0 +1,133 @@
+package com.rhett.multivillageselector.util;
+
+import com.rhett.multivillageselector.commands.model.CommandModels.StructureJarInfo;
+import com.rhett.multivillageselector.commands.model.CommandModels.StructureSetInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for ScanCache (per-source scan results on disk, keyed by file stamps).
+ */
+class ScanCacheTest {
+
+    @TempDir
+    Path dir;
+
+    private static ScanCache.SourceScan scan() {
+        StructureJarInfo plains = new StructureJarInfo("ctov:small/village_plains", "ctov");
+        plains.weight = 10;
+        plains.structureSet = "ctov:villages";
+        plains.biomeTag = "#minecraft:is_plains";
+        plains.foundInStructureSet = true;
+        plains.foundInStructureFile = true;
+        StructureJarInfo lone = new StructureJarInfo("ctov:lone", null);
+        lone.foundInStructureFile = true;
+
+        StructureSetInfo villages = new StructureSetInfo("ctov:villages");
+        villages.emptyWeight = 5;
+        villages.spacing = 40;
+        Map<String, StructureSetInfo> structureSetInfo = new LinkedHashMap<>();
+        structureSetInfo.put(villages.setId, villages);
+        return new ScanCache.SourceScan(List.of(plains, lone), structureSetInfo);
+    }
+
+    @Test
+    @DisplayName("Round trip: unchanged source is reused with the same results")
+    void testRoundTrip() throws Exception {
+        Path jar = Files.writeString(dir.resolve("ctov.jar"), "jar");
+        Path file = dir.resolve("scan.cache");
+        AtomicInteger scans = new AtomicInteger();
+
+        ScanCache first = ScanCache.open(file, false);
+        first.get("mod:ctov", List.of(jar), () -> { scans.incrementAndGet(); return scan(); });
+        first.save();
+
+        ScanCache second = ScanCache.open(file, false);
+        ScanCache.SourceScan read = second.get("mod:ctov", List.of(jar), () -> { scans.incrementAndGet(); return scan(); });
+        assertEquals(1, scans.get());
+        assertEquals(1, second.reusedCount());
+
+        ScanCache.SourceScan expected = scan();
+        assertEquals(expected.structures().size(), read.structures().size());
+        for (int i = 0; i < expected.structures().size(); i++) {
+            StructureJarInfo e = expected.structures().get(i);
+            StructureJarInfo a = read.structures().get(i);
+            assertEquals(e.name, a.name);
+            assertEquals(e.modId, a.modId);
+            assertEquals(e.weight, a.weight);
+            assertEquals(e.structureSet, a.structureSet);
+            assertEquals(e.biomeTag, a.biomeTag);
+            assertEquals(e.foundInStructureSet, a.foundInStructureSet);
+            assertEquals(e.foundInStructureFile, a.foundInStructureFile);
+        }
+        StructureSetInfo villages = read.structureSetInfo().get("ctov:villages");
+        assertEquals(5, villages.emptyWeight);
+        assertEquals(40, villages.spacing);
+        assertNull(villages.separation);
+    }
+
+    @Test
+    @DisplayName("Stamp: changes with file size, modification time and directory contents")
+    void testStamp() throws Exception {
+        Path jar = Files.writeString(dir.resolve("ctov.jar"), "jar");
+        String stamp = ScanCache.stamp(List.of(jar));
+        assertEquals(stamp, ScanCache.stamp(List.of(jar)));
+
+        Files.setLastModifiedTime(jar, FileTime.fromMillis(Files.getLastModifiedTime(jar).toMillis() + 2000));
+        assertNotEquals(stamp, ScanCache.stamp(List.of(jar)));
+        stamp = ScanCache.stamp(List.of(jar));
+        Files.writeString(jar, "jar2");
+        assertNotEquals(stamp, ScanCache.stamp(List.of(jar)));
+
+        Path pack = Files.createDirectories(dir.resolve("datapacks/dp/data/dp/worldgen/structure"));
+        Files.writeString(pack.resolve("town.json"), "{}");
+        String dirStamp = ScanCache.stamp(List.of(dir.resolve("datapacks/dp")));
+        Files.writeString(pack.resolve("castle.json"), "{}");
+        assertNotEquals(dirStamp, ScanCache.stamp(List.of(dir.resolve("datapacks/dp"))));
+
+        assertNull(ScanCache.stamp(List.of(dir.resolve("missing.jar"))));
+        assertNull(ScanCache.stamp(List.of()));
+    }
+
+    @Test
+    @DisplayName("Miss: changed source, rescan flag, unseen sources dropped, damaged file")
+    void testMisses() throws Exception {
+        Path jar = Files.writeString(dir.resolve("ctov.jar"), "jar");
+        Path other = Files.writeString(dir.resolve("bca.jar"), "jar");
+        Path file = dir.resolve("scan.cache");
+        AtomicInteger scans = new AtomicInteger();
+
+        ScanCache cache = ScanCache.open(file, false);
+        cache.get("mod:ctov", List.of(jar), () -> { scans.incrementAndGet(); return scan(); });
+        cache.get("mod:bca", List.of(other), () -> { scans.incrementAndGet(); return scan(); });
+        cache.save();
+
+        // Rescan ignores the file
+        cache = ScanCache.open(file, true);
+        cache.get("mod:ctov", List.of(jar), () -> { scans.incrementAndGet(); return scan(); });
+        assertEquals(3, scans.get());
+        cache.save(); // bca not seen - dropped
+
+        cache = ScanCache.open(file, false);
+        cache.get("mod:bca", List.of(other), () -> { scans.incrementAndGet(); return scan(); });
+        assertEquals(4, scans.get());
+
+        Files.writeString(jar, "changed");
+        cache.get("mod:ctov", List.of(jar), () -> { scans.incrementAndGet(); return scan(); });
+        assertEquals(5, scans.get());
+
+        Files.write(file, new byte[]{1, 2, 3});
+        cache = ScanCache.open(file, false);
+        cache.get("mod:ctov", List.of(jar), () -> { scans.incrementAndGet(); return scan(); });
+        assertEquals(6, scans.get());
+    }
+}
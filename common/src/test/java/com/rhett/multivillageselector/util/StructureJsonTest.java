@@ -0,0 +1,73 @@
+package com.rhett.multivillageselector.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for StructureJson (streaming structure / structure_set field extraction).
+ */
+class StructureJsonTest {
+
+    private static InputStream json(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("structure_set: entries, empty entries and placement, other fields skipped")
+    void testStructureSet() throws Exception {
+        StructureJson.StructureSet set = StructureJson.readStructureSet(json("""
+            {
+              "structures": [
+                {"structure": "ctov:small/village_plains", "weight": 10, "extra": {"a": [1, 2]}},
+                {"weight": 5},
+                {"structure": "ctov:small/village_desert"}
+              ],
+              "placement": {"type": "minecraft:random_spread", "salt": 10387312,
+                            "spacing": 40, "separation": "10"}
+            }
+            """));
+
+        assertEquals(3, set.structures().size());
+        assertEquals(new StructureJson.SetEntry("ctov:small/village_plains", 10), set.structures().get(0));
+        assertEquals(new StructureJson.SetEntry(null, 5), set.structures().get(1));
+        assertEquals(new StructureJson.SetEntry("ctov:small/village_desert", null), set.structures().get(2));
+        assertTrue(set.hasPlacement());
+        assertEquals(40, set.spacing());
+        assertEquals(10, set.separation()); // Numbers as strings, as with JsonParser
+    }
+
+    @Test
+    @DisplayName("structure_set: no placement, malformed files throw")
+    void testStructureSetEdges() throws Exception {
+        StructureJson.StructureSet set = StructureJson.readStructureSet(json("{\"structures\": []}"));
+        assertTrue(set.structures().isEmpty());
+        assertFalse(set.hasPlacement());
+        assertNull(set.spacing());
+
+        assertThrows(Exception.class, () -> StructureJson.readStructureSet(json("{\"structures\": [")));
+        assertThrows(Exception.class, () -> StructureJson.readStructureSet(json("{\"structures\": 3}")));
+    }
+
+    @Test
+    @DisplayName("structure: biomes as tag, list, empty list, missing or malformed")
+    void testBiomes() throws Exception {
+        assertEquals("#minecraft:is_plains", StructureJson.readBiomes(json(
+            "{\"type\": \"minecraft:jigsaw\", \"start_pool\": {\"x\": [1]}, \"biomes\": \"#minecraft:is_plains\"}")));
+        assertEquals("minecraft:desert", StructureJson.readBiomes(json(
+            "{\"biomes\": [\"minecraft:desert\", \"minecraft:badlands\"]}")));
+        assertEquals("", StructureJson.readBiomes(json("{\"biomes\": []}")));
+        assertNull(StructureJson.readBiomes(json("{\"type\": \"minecraft:jigsaw\"}")));
+        assertNull(StructureJson.readBiomes(json("{\"biomes\": {\"a\": 1}}")));
+        assertNull(StructureJson.readBiomes(json("{\"type\": ")));
+
+        // Read stops at biomes - whatever follows is never parsed
+        assertEquals("#minecraft:is_taiga", StructureJson.readBiomes(json(
+            "{\"biomes\": \"#minecraft:is_taiga\", \"spawn_overrides\": {{{")));
+    }
+}
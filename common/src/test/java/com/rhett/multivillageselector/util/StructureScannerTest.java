@@ -3,10 +3,18 @@ package com.rhett.multivillageselector.util;
 import com.rhett.multivillageselector.commands.model.CommandModels.*;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -314,10 +322,101 @@ class StructureScannerTest {
         assertFalse(StructureScanner.isUnlikelyByName("bca:village/default_mid"));
     }
 
+    // ============================================================
+    // CONCURRENT SCAN TESTS
+    // ============================================================
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Concurrent mod scan: merged in mod order, same as a sequential scan")
+    void testConcurrentScanOrder() throws Exception {
+        // "a" is the largest JAR (tends to finish last); later mods override its set and structure
+        Map<String, String> a = new LinkedHashMap<>();
+        a.put("a/worldgen/structure_set/villages.json", "{\"structures\": [{\"structure\": \"shared:village\", \"weight\": 10},"
+            + " {\"weight\": 5}], \"placement\": {\"spacing\": 34, \"separation\": 8}}");
+        a.put("shared/worldgen/structure/village.json", "{\"biomes\": \"#minecraft:is_plains\"}");
+        for (int i = 0; i < 200; i++) {
+            a.put("a/worldgen/structure/house_" + i + ".json", "{\"biomes\": \"#minecraft:is_forest\"}");
+        }
+        Map<String, String> b = Map.of(
+            "a/worldgen/structure_set/villages.json", "{\"structures\": [{\"structure\": \"shared:village\", \"weight\": 3}],"
+                + " \"placement\": {\"spacing\": 40}}",
+            "shared/worldgen/structure/village.json", "{\"biomes\": \"#minecraft:is_desert\"}");
+        Map<String, String> c = Map.of(
+            "shared/worldgen/structure/village.json", "{\"biomes\": \"#minecraft:is_taiga\"}",
+            "c/worldgen/structure/tower.json", "{\"biomes\": \"#minecraft:is_taiga\"}");
+
+        List<FileSystem> jars = new ArrayList<>();
+        try {
+            List<StructureScanner.ModSource> mods = List.of(mod("a", a, jars), mod("b", b, jars),
+                new StructureScanner.ModSource("d", null, List.of()), mod("c", c, jars));
+
+            // Reference: one mod after another, structure_set info written into one shared map
+            JarScanData sequential = new JarScanData();
+            for (StructureScanner.ModSource mod : mods) {
+                Map<String, StructureJarInfo> setData = StructureScanner.scanAllStructureSetFiles(
+                    mod.dataRoot(), mod.modId(), sequential.structureSetInfo);
+                List<StructureJarInfo> structures = StructureScanner.scanAllStructureFiles(mod.dataRoot(), mod.modId(), setData);
+                StructureScanner.mergeModScan(sequential, new StructureScanner.ModScan(mod.modId(), structures, Map.of(), 0));
+            }
+
+            List<StructureScanner.ModScan> scans = StructureScanner.scanModsConcurrently(mods, null);
+            assertEquals(List.of("a", "b", "d", "c"), scans.stream().map(StructureScanner.ModScan::modId).toList());
+            JarScanData concurrent = new JarScanData();
+            for (StructureScanner.ModScan scan : scans) {
+                StructureScanner.mergeModScan(concurrent, scan);
+            }
+            assertEquals(describe(sequential), describe(concurrent));
+
+            // Later mods win per field
+            assertEquals(202, concurrent.structures.size());
+            StructureInfo village = concurrent.structures.get("shared:village");
+            assertEquals("#minecraft:is_taiga", village.jarBiome);
+            assertEquals("structure_file", village.jarSource);
+            StructureSetInfo villages = concurrent.structureSetInfo.get("a:villages");
+            assertEquals(40, villages.spacing);
+            assertEquals(8, villages.separation);
+            assertEquals(5, villages.emptyWeight);
+        } finally {
+            for (FileSystem jar : jars) {
+                jar.close();
+            }
+        }
+    }
+
     // ============================================================
     // HELPER METHODS
     // ============================================================
 
+    /**
+     * A mod JAR with the given files under data/, opened for scanning (closed by the caller).
+     */
+    private StructureScanner.ModSource mod(String modId, Map<String, String> dataFiles, List<FileSystem> open)
+            throws IOException {
+        Path jar = dir.resolve(modId + ".jar");
+        try (FileSystem fs = FileSystems.newFileSystem(jar, Map.of("create", "true"))) {
+            for (Map.Entry<String, String> file : dataFiles.entrySet()) {
+                Path path = fs.getPath("data", file.getKey());
+                Files.createDirectories(path.getParent());
+                Files.writeString(path, file.getValue());
+            }
+        }
+        FileSystem fs = FileSystems.newFileSystem(jar);
+        open.add(fs);
+        return new StructureScanner.ModSource(modId, fs.getPath("data"), List.of(jar));
+    }
+
+    private static String describe(JarScanData data) {
+        StringBuilder out = new StringBuilder();
+        new TreeMap<>(data.structures).forEach((id, info) -> out.append(id).append('=').append(info.jarWeight)
+            .append(',').append(info.jarSet).append(',').append(info.jarBiome).append(',').append(info.jarSource).append('\n'));
+        new TreeMap<>(data.structureSetInfo).forEach((id, info) -> out.append(id).append(':').append(info.emptyWeight)
+            .append(',').append(info.spacing).append(',').append(info.separation).append('\n'));
+        return out.toString();
+    }
+
     private StructureInfo createStructure(String id, Integer weight) {
         StructureInfo info = new StructureInfo(id);
         info.jarWeight = weight;
@@ -0,0 +1,89 @@
+package com.rhett.multivillageselector.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for WildcardPattern (compiled '*' matcher behind PatternMatcher).
+ * Results must agree with the previous regex implementation for every
+ * ResourceLocation-shaped input, including the # prefix rule.
+ */
+class WildcardPatternTest {
+
+    private static final List<String> PATTERNS = List.of(
+        "minecraft:plains", "#minecraft:is_plains", "minecraft:*", "#minecraft:*", "*:*", "#*:*",
+        "*:village_*", "*:*ocean*", "#*:*ocean*", "*craft*:*village*", "#*:is_beach",
+        "ctov:*/village_*", "*_*", "a*a", "*", "#*", "minecraft:village_plains*",
+        "*:*a*a*a*", "mine*craft:*", "*:*/*"
+    );
+
+    private static final List<String> INPUTS = List.of(
+        "minecraft:plains", "#minecraft:is_plains", "minecraft:village_plains", "minecraft:cold_ocean",
+        "#minecraft:is_ocean", "minecraft:beach", "#minecraft:is_beach", "ctov:small/village_plains",
+        "ctov:large/village_taiga", "towns_and_towers:village_plains", "a", "aa", "aba", "#", "",
+        "minecraft:banana", "mineXcraft:x", "minecraft:", ":", "minecraft:village_plains_2"
+    );
+
+    @Test
+    @DisplayName("Agrees with the regex implementation on every pattern/input pair")
+    void testMatchesRegexReference() {
+        for (String pattern : PATTERNS) {
+            WildcardPattern compiled = WildcardPattern.compile(pattern);
+            for (String input : INPUTS) {
+                assertEquals(regexMatches(input, pattern), compiled.matches(input),
+                    "'" + input + "' vs '" + pattern + "'");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("# prefix must agree even when '*' could absorb it")
+    void testTagPrefix() {
+        assertFalse(WildcardPattern.compile("*:*ocean*").matches("#minecraft:is_ocean"));
+        assertFalse(WildcardPattern.compile("*").matches("#minecraft:is_ocean"));
+        assertTrue(WildcardPattern.compile("#*").matches("#minecraft:is_ocean"));
+        assertFalse(WildcardPattern.compile("#*:is_beach").matches("minecraft:beach"));
+    }
+
+    @Test
+    @DisplayName("Segments may not overlap the prefix or suffix")
+    void testNoOverlap() {
+        assertFalse(WildcardPattern.compile("ab*ba").matches("aba"));
+        assertTrue(WildcardPattern.compile("ab*ba").matches("abba"));
+        assertFalse(WildcardPattern.compile("*ab*ab").matches("ab"));
+        assertTrue(WildcardPattern.compile("*ab*ab").matches("xabab"));
+    }
+
+    @Test
+    @DisplayName("Only '*' is special - regex metacharacters are literal")
+    void testLiteralMetacharacters() {
+        assertTrue(WildcardPattern.compile("mod:a+b*").matches("mod:a+b_c"));
+        assertFalse(WildcardPattern.compile("mod:a+b*").matches("mod:aab_c"));
+        assertFalse(WildcardPattern.compile("mod:a.c").matches("mod:abc"));
+    }
+
+    @Test
+    @DisplayName("PatternMatcher.compile caches one instance per pattern")
+    void testCompileCached() {
+        PatternMatcher.clearCaches();
+        assertSame(PatternMatcher.compile("minecraft:*"), PatternMatcher.compile("minecraft:*"));
+        assertTrue(PatternMatcher.compile("minecraft:plains").isLiteral());
+        assertFalse(PatternMatcher.compile("minecraft:*").isLiteral());
+    }
+
+    /**
+     * The regex implementation PatternMatcher used before WildcardPattern.
+     */
+    private static boolean regexMatches(String input, String pattern) {
+        if (input.startsWith("#") != pattern.startsWith("#")) {
+            return false;
+        }
+        String regex = pattern.replace(".", "\\.").replace("*", ".*");
+        return Pattern.compile("^" + regex + "$").matcher(input).matches();
+    }
+}
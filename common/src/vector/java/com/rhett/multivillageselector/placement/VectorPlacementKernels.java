@@ -0,0 +1,216 @@
+package com.rhett.multivillageselector.placement;
+
+import com.rhett.multivillageselector.util.LocateHelper;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD placement kernels built on the JDK Vector API.
+ * Lives in the optional vector source set (built with -Pmvs_vector=true) and is
+ * loaded reflectively by PlacementKernels - it only links when the JVM resolves
+ * jdk.incubator.vector.
+ *
+ * Each lane replays java.util.Random exactly:
+ * - new Random(s):   state = (s ^ 0x5DEECE66D) & (2^48 - 1)
+ * - next(31):        state = (state * 0x5DEECE66D + 0xB) & (2^48 - 1); return state >>> 17
+ * - nextInt(bound):  power of two → (bound * r) >> 31, otherwise r % bound with rejection
+ *
+ * The rejection branch of nextInt (probability ~bound / 2^31 per draw) is not
+ * replayed in-lane. A block where any lane would reject is recomputed on the
+ * scalar path instead, keeping the output bit-identical.
+ */
+final class VectorPlacementKernels implements PlacementKernels.VectorKernel {
+
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+
+    private static final long MULTIPLIER = 0x5DEECE66DL;
+    private static final long ADDEND = 0xBL;
+    private static final long MASK = (1L << 48) - 1;
+
+    // Vanilla cell seed multipliers (WorldgenRandom.setLargeFeatureWithSalt)
+    private static final long CELL_X_MULTIPLIER = 341873128712L;
+    private static final long CELL_Z_MULTIPLIER = 132897987541L;
+
+    VectorPlacementKernels() {
+    }
+
+    @Override
+    public int lanes() {
+        return SPECIES.length();
+    }
+
+    @Override
+    public int calculate(int[] cellX, int[] cellZ, int count,
+                         long seed, int salt, int spacing, int separation,
+                         LocateHelper.SpreadType spreadType,
+                         int[] outX, int[] outZ) {
+        int lanes = SPECIES.length();
+        int upperBound = count - (count % lanes);
+        if (upperBound == 0) {
+            return 0;
+        }
+
+        int bound = spacing - separation;
+        boolean powerOfTwo = (bound & (bound - 1)) == 0;
+        long seedPlusSalt = seed + (long) salt;
+
+        long[] laneX = new long[lanes];
+        long[] laneZ = new long[lanes];
+        long[] resultX = new long[lanes];
+        long[] resultZ = new long[lanes];
+
+        for (int i = 0; i < upperBound; i += lanes) {
+            for (int j = 0; j < lanes; j++) {
+                laneX[j] = cellX[i + j];
+                laneZ[j] = cellZ[i + j];
+            }
+            LongVector cx = LongVector.fromArray(SPECIES, laneX, 0);
+            LongVector cz = LongVector.fromArray(SPECIES, laneZ, 0);
+
+            boolean ok = computeBlock(cx, cz, seedPlusSalt, spacing, bound, powerOfTwo, spreadType,
+                resultX, resultZ);
+
+            if (ok) {
+                for (int j = 0; j < lanes; j++) {
+                    outX[i + j] = (int) resultX[j];
+                    outZ[i + j] = (int) resultZ[j];
+                }
+            } else {
+                PlacementKernels.calculateScalar(cellX, cellZ, i, i + lanes, seed, salt,
+                    spacing, separation, spreadType, outX, outZ);
+            }
+        }
+
+        return upperBound;
+    }
+
+    /**
+     * Compute one lane block.
+     *
+     * @return false if any lane needs nextInt's rejection loop (results must be discarded)
+     */
+    private static boolean computeBlock(LongVector cx, LongVector cz, long seedPlusSalt,
+                                        int spacing, int bound, boolean powerOfTwo,
+                                        LocateHelper.SpreadType spreadType,
+                                        long[] resultX, long[] resultZ) {
+        // Cell seed, then Random's initial scramble
+        LongVector state = cx.mul(CELL_X_MULTIPLIER)
+            .add(cz.mul(CELL_Z_MULTIPLIER))
+            .add(seedPlusSalt)
+            .lanewise(VectorOperators.XOR, MULTIPLIER)
+            .and(MASK);
+
+        VectorMask<Long> rejected = SPECIES.maskAll(false);
+        LongVector offsetX;
+        LongVector offsetZ;
+        long half = bound / 2;
+
+        switch (spreadType) {
+            case TRIANGULAR -> {
+                state = advance(state);
+                LongVector x1 = nextInt(state, bound, powerOfTwo);
+                rejected = rejected.or(rejects(state, x1, bound, powerOfTwo));
+                state = advance(state);
+                LongVector x2 = nextInt(state, bound, powerOfTwo);
+                rejected = rejected.or(rejects(state, x2, bound, powerOfTwo));
+                state = advance(state);
+                LongVector z1 = nextInt(state, bound, powerOfTwo);
+                rejected = rejected.or(rejects(state, z1, bound, powerOfTwo));
+                state = advance(state);
+                LongVector z2 = nextInt(state, bound, powerOfTwo);
+                rejected = rejected.or(rejects(state, z2, bound, powerOfTwo));
+
+                // (a + b) / 2 on non-negative ints
+                offsetX = x1.add(x2).lanewise(VectorOperators.ASHR, 1);
+                offsetZ = z1.add(z2).lanewise(VectorOperators.ASHR, 1);
+            }
+            case EDGE_BIASED -> {
+                state = advance(state);
+                LongVector rawX = nextInt(state, bound, powerOfTwo);
+                rejected = rejected.or(rejects(state, rawX, bound, powerOfTwo));
+                state = advance(state);
+                LongVector rawZ = nextInt(state, bound, powerOfTwo);
+                rejected = rejected.or(rejects(state, rawZ, bound, powerOfTwo));
+                state = advance(state);
+                LongVector altX = nextInt(state, bound, powerOfTwo);
+                rejected = rejected.or(rejects(state, altX, bound, powerOfTwo));
+                state = advance(state);
+                LongVector altZ = nextInt(state, bound, powerOfTwo);
+                rejected = rejected.or(rejects(state, altZ, bound, powerOfTwo));
+
+                // raw > half ? max(raw, alt) : min(raw, alt)
+                offsetX = rawX.min(altX).blend(rawX.max(altX), rawX.compare(VectorOperators.GT, half));
+                offsetZ = rawZ.min(altZ).blend(rawZ.max(altZ), rawZ.compare(VectorOperators.GT, half));
+            }
+            case CORNER_BIASED -> {
+                state = advance(state);
+                LongVector x1 = nextInt(state, bound, powerOfTwo);
+                rejected = rejected.or(rejects(state, x1, bound, powerOfTwo));
+                state = advance(state);
+                LongVector x2 = nextInt(state, bound, powerOfTwo);
+                rejected = rejected.or(rejects(state, x2, bound, powerOfTwo));
+                state = advance(state);
+                LongVector z1 = nextInt(state, bound, powerOfTwo);
+                rejected = rejected.or(rejects(state, z1, bound, powerOfTwo));
+                state = advance(state);
+                LongVector z2 = nextInt(state, bound, powerOfTwo);
+                rejected = rejected.or(rejects(state, z2, bound, powerOfTwo));
+
+                // |a - half| > |b - half| ? a : b
+                offsetX = x2.blend(x1, x1.sub(half).abs().compare(VectorOperators.GT, x2.sub(half).abs()));
+                offsetZ = z2.blend(z1, z1.sub(half).abs().compare(VectorOperators.GT, z2.sub(half).abs()));
+            }
+            default -> {
+                // LINEAR
+                state = advance(state);
+                offsetX = nextInt(state, bound, powerOfTwo);
+                rejected = rejected.or(rejects(state, offsetX, bound, powerOfTwo));
+                state = advance(state);
+                offsetZ = nextInt(state, bound, powerOfTwo);
+                rejected = rejected.or(rejects(state, offsetZ, bound, powerOfTwo));
+            }
+        }
+
+        if (rejected.anyTrue()) {
+            return false;
+        }
+
+        // cell * spacing + offset; low 32 bits match int arithmetic
+        cx.mul(spacing).add(offsetX).intoArray(resultX, 0);
+        cz.mul(spacing).add(offsetZ).intoArray(resultZ, 0);
+        return true;
+    }
+
+    /**
+     * One LCG step (Random.next's state update).
+     */
+    private static LongVector advance(LongVector state) {
+        return state.mul(MULTIPLIER).add(ADDEND).and(MASK);
+    }
+
+    /**
+     * Random.nextInt(bound) for an already-advanced state, ignoring rejection.
+     */
+    private static LongVector nextInt(LongVector state, int bound, boolean powerOfTwo) {
+        LongVector r = state.lanewise(VectorOperators.LSHR, 17); // next(31)
+        if (powerOfTwo) {
+            return r.mul(bound).lanewise(VectorOperators.ASHR, 31);
+        }
+        return r.sub(r.div(bound).mul(bound));
+    }
+
+    /**
+     * Lanes where Random.nextInt(bound) would reject and draw again:
+     * (r - value + (bound - 1)) overflows int.
+     */
+    private static VectorMask<Long> rejects(LongVector state, LongVector value, int bound, boolean powerOfTwo) {
+        if (powerOfTwo) {
+            return SPECIES.maskAll(false);
+        }
+        LongVector r = state.lanewise(VectorOperators.LSHR, 17);
+        return r.sub(value).add(bound - 1L).compare(VectorOperators.GT, Integer.MAX_VALUE);
+    }
+}
@@ -1,6 +1,7 @@
 package com.rhett.multivillageselector;
 
 import net.fabricmc.api.ModInitializer;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
 
 /**
  * Fabric entry point for Multi Village Selector.
@@ -10,5 +11,12 @@ public class MultiVillageSelectorFabric implements ModInitializer {
     @Override
     public void onInitialize() {
         MVSCommon.init();
+
+        // Datapack /reload rebinds registry tags (no Architectury event for this)
+        ServerLifecycleEvents.END_DATA_PACK_RELOAD.register((server, resourceManager, success) -> {
+            if (success) {
+                TagReloadHandler.onTagsReloaded(server);
+            }
+        });
     }
 }
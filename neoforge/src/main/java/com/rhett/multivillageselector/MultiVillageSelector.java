@@ -1,6 +1,9 @@
 package com.rhett.multivillageselector;
 
 import net.neoforged.fml.common.Mod;
+import net.neoforged.neoforge.common.NeoForge;
+import net.neoforged.neoforge.event.TagsUpdatedEvent;
+import net.neoforged.neoforge.server.ServerLifecycleHooks;
 
 /**
  * NeoForge entry point for Multi Village Selector.
@@ -10,5 +13,14 @@ import net.neoforged.fml.common.Mod;
 public class MultiVillageSelector {
     public MultiVillageSelector() {
         MVSCommon.init();
+
+        // Datapack /reload rebinds registry tags (no Architectury event for this)
+        NeoForge.EVENT_BUS.addListener(MultiVillageSelector::onTagsUpdated);
+    }
+
+    private static void onTagsUpdated(TagsUpdatedEvent event) {
+        if (event.getUpdateCause() == TagsUpdatedEvent.UpdateCause.SERVER_DATA_LOAD) {
+            TagReloadHandler.onTagsReloaded(ServerLifecycleHooks.getCurrentServer());
+        }
     }
 }